@@ -36,9 +36,11 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.catalog.common.CatalogHelper;
 import org.apache.camel.language.csimple.CSimpleCodeGenerator;
 import org.apache.camel.language.csimple.CSimpleGeneratedCode;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.parser.RouteBuilderParser;
 import org.apache.camel.parser.XmlRouteParser;
 import org.apache.camel.parser.model.CamelCSimpleExpressionDetails;
+import org.apache.camel.parser.model.CamelSimpleExpressionDetails;
 import org.apache.camel.tooling.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.StringHelper;
@@ -58,7 +60,8 @@ import static org.apache.camel.catalog.common.CatalogHelper.findJavaRouteBuilder
 import static org.apache.camel.catalog.common.CatalogHelper.findXmlRouters;
 
 /**
- * Parses the source code and generates source code for the csimple language.
+ * Parses the source code and generates source code for the csimple language, and optionally also for the simple
+ * language.
  */
 @Mojo(name = "generate", threadSafe = true, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME,
       defaultPhase = LifecyclePhase.GENERATE_SOURCES)
@@ -66,6 +69,7 @@ public class GenerateMojo extends AbstractExecMojo {
 
     public static final String GENERATED_MSG = "Generated by camel build tools - do NOT edit this file!";
     public static final String RESOURCE_FILE = "META-INF/services/org/apache/camel/csimple.properties";
+    public static final String SIMPLE_RESOURCE_FILE = SimpleLanguage.PRE_COMPILED_FILE;
 
     /**
      * The output directory for generated source files
@@ -103,6 +107,14 @@ public class GenerateMojo extends AbstractExecMojo {
     @Parameter(property = "camel.includeTest", defaultValue = "false")
     private boolean includeTest;
 
+    /**
+     * Whether to also compile the simple language expressions ahead of time, so the simple language calls the compiled
+     * expressions at runtime instead of parsing them. Expressions which would not evaluate the same when compiled (such
+     * as calling methods via OGNL) are not compiled, and are parsed at runtime as usual.
+     */
+    @Parameter(property = "camel.includeSimple", defaultValue = "false")
+    private boolean includeSimple;
+
     /**
      * To filter the names of java and xml files to only include files matching any of the given list of patterns
      * (wildcard and regular expression). Multiple values can be separated by comma.
@@ -134,6 +146,10 @@ public class GenerateMojo extends AbstractExecMojo {
         generator.setImports(imports);
 
         doExecuteRoutes(generator);
+
+        if (includeSimple) {
+            doExecuteSimpleRoutes(generator);
+        }
     }
 
     protected void doExecuteRoutes(CSimpleCodeGenerator generator) {
@@ -170,11 +186,49 @@ public class GenerateMojo extends AbstractExecMojo {
 
     }
 
+    protected void doExecuteSimpleRoutes(CSimpleCodeGenerator generator) {
+        List<CamelSimpleExpressionDetails> simpleExpressions = new ArrayList<>();
+        Set<File> javaFiles = new LinkedHashSet<>();
+        Set<File> xmlFiles = new LinkedHashSet<>();
+
+        // find all java route builder classes
+        findJavaRouteBuilderClasses(javaFiles, includeJava, includeTest, project);
+
+        // find all xml routes
+        findXmlRouters(xmlFiles, includeXml, includeTest, project);
+
+        for (File file : javaFiles) {
+            addJavaSimpleFiles(file, simpleExpressions);
+        }
+        for (File file : xmlFiles) {
+            addXmlSimpleFiles(file, simpleExpressions);
+        }
+
+        if (!simpleExpressions.isEmpty()) {
+            getLog().info("Discovered " + simpleExpressions.size() + " simple expressions");
+
+            final List<CSimpleGeneratedCode> classes = new ArrayList<>();
+            // the same expression may be used many times
+            final Set<String> generated = new TreeSet<>();
+
+            for (CamelSimpleExpressionDetails cs : simpleExpressions) {
+                doGenerateSimple(generator, cs, classes, generated);
+            }
+            if (!classes.isEmpty()) {
+                getLog().info("Compiled " + classes.size() + " simple expressions ahead of time");
+                generatePropertiesFile(classes, SIMPLE_RESOURCE_FILE);
+            }
+        }
+    }
+
     private void generatePropertiesFile(List<CSimpleGeneratedCode> classes) {
+        generatePropertiesFile(classes, RESOURCE_FILE);
+    }
+
+    private void generatePropertiesFile(List<CSimpleGeneratedCode> classes, String fileName) {
         StringBuilder w = new StringBuilder(4096);
         w.append("# ").append(GENERATED_MSG).append("\n");
         classes.forEach(c -> w.append(c.getFqn()).append("\n"));
-        String fileName = RESOURCE_FILE;
         outputResourceDir.mkdirs();
         boolean saved = updateResource(outputResourceDir.toPath().resolve(fileName), w.toString());
         if (saved) {
@@ -210,6 +264,80 @@ public class GenerateMojo extends AbstractExecMojo {
         }
     }
 
+    private void doGenerateSimple(
+            CSimpleCodeGenerator generator, CamelSimpleExpressionDetails cs, List<CSimpleGeneratedCode> classes,
+            Set<String> generated) {
+        String script = cs.getSimple();
+        if (script == null || script.startsWith("resource:")) {
+            return;
+        }
+        // the simple language looks up the compiled expression by its text as single line
+        String key = (cs.isPredicate() ? "predicate:" : "expression:") + script.replace("\n", "").trim();
+        if (!generated.add(key)) {
+            return;
+        }
+        String fqn = cs.getClassName();
+        if (fqn == null) {
+            // its from XML file so use a pseduo fqn name instead
+            fqn = "org.apache.camel.language.csimple.XmlRouteBuilder";
+        }
+        CSimpleGeneratedCode code;
+        if (cs.isPredicate()) {
+            code = generator.generateSimplePredicate(fqn, script);
+        } else {
+            code = generator.generateSimpleExpression(fqn, script);
+        }
+        if (code == null) {
+            getLog().debug("Cannot compile simple expression ahead of time: " + script);
+            return;
+        }
+        classes.add(code);
+        if (getLog().isDebugEnabled()) {
+            getLog().debug("Generated source code:\n\n\n" + code.getCode() + "\n\n\n");
+        }
+        String fileName = code.getFqn().replace('.', '/') + ".java";
+        outputDir.mkdirs();
+        boolean saved = updateResource(outputDir.toPath().resolve(fileName), code.getCode());
+        if (saved) {
+            getLog().info("Generated simple source code file: " + fileName);
+        }
+    }
+
+    private void addXmlSimpleFiles(File file, List<CamelSimpleExpressionDetails> simpleExpressions) {
+        if (matchRouteFile(file)) {
+            try (InputStream is = new FileInputStream(file)) {
+                List<CamelSimpleExpressionDetails> fileSimpleExpressions = new ArrayList<>();
+                // parse the xml source code and find Camel routes
+                String fqn = file.getPath();
+                String baseDir = ".";
+                XmlRouteParser.parseXmlRouteSimpleExpressions(is, baseDir, fqn, fileSimpleExpressions);
+                simpleExpressions.addAll(fileSimpleExpressions);
+            } catch (Exception e) {
+                getLog().warn("Error parsing xml file " + file + " code due " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void addJavaSimpleFiles(File file, List<CamelSimpleExpressionDetails> simpleExpressions) {
+        if (matchRouteFile(file)) {
+            try {
+                List<CamelSimpleExpressionDetails> fileSimpleExpressions = new ArrayList<>();
+
+                // parse the java source code and find Camel RouteBuilder classes
+                String fqn = file.getPath();
+                String baseDir = ".";
+                JavaType<?> out = Roaster.parse(file);
+                // we should only parse java classes (not interfaces and enums etc)
+                if (out instanceof JavaClassSource clazz) {
+                    RouteBuilderParser.parseRouteBuilderSimpleExpressions(clazz, baseDir, fqn, fileSimpleExpressions);
+                    simpleExpressions.addAll(fileSimpleExpressions);
+                }
+            } catch (Exception e) {
+                getLog().warn("Error parsing java file " + file + " code due " + e.getMessage(), e);
+            }
+        }
+    }
+
     private void addXmlFiles(File file, List<CamelCSimpleExpressionDetails> csimpleExpressions) {
         if (matchRouteFile(file)) {
             try (InputStream is = new FileInputStream(file)) {
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a class generated with {@link LambdaMetafactory} instead of reflection.
+ * <p/>
+ * Each method has its own generated class, which implements one of the functional interfaces below, that invoke the
+ * method from a default {@link #invoke(Object, Object[])} method. This allows the JIT compiler to inline the bean
+ * method when a call site of the invoker only sees a few bean methods. The class is generated as a nestmate of the
+ * declaring class of the method, so it is defined by the classloader of the bean, and is unloaded together with the
+ * bean class.
+ * <p/>
+ * Only public instance methods with up to {@link #MAX_PARAMETERS} parameters, where the declaring class is public and
+ * can see the functional interfaces of camel-bean, are supported. Other methods return <tt>null</tt> from
+ * {@link #lookup(Method)} and should be invoked using reflection.
+ * <p/>
+ * The invoker is generated at first use of the method, and cached per method.
+ */
+@FunctionalInterface
+interface BeanMethodInvoker {
+
+    int MAX_PARAMETERS = 3;
+
+    /**
+     * Invokes the method
+     *
+     * @param  pojo      the bean
+     * @param  arguments the arguments, which must match the parameter types of the method
+     * @return           the result, or <tt>null</tt> if the method is void
+     * @throws Throwable is thrown if the method failed
+     */
+    Object invoke(Object pojo, Object[] arguments) throws Throwable;
+
+    /**
+     * Gets (or creates at first use) the invoker for the given method.
+     *
+     * @param  method the method
+     * @return        the invoker, or <tt>null</tt> if the method is not supported and must be invoked using reflection
+     */
+    static BeanMethodInvoker lookup(Method method) {
+        BeanMethodInvoker answer = Factory.INVOKERS.get(method.getDeclaringClass())
+                .computeIfAbsent(method, Factory::create);
+        return answer == Factory.UNSUPPORTED ? null : answer;
+    }
+
+    @FunctionalInterface
+    interface Function0 extends BeanMethodInvoker {
+        Object apply(Object pojo);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            return apply(pojo);
+        }
+    }
+
+    @FunctionalInterface
+    interface Function1 extends BeanMethodInvoker {
+        Object apply(Object pojo, Object arg1);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            return apply(pojo, arguments[0]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Function2 extends BeanMethodInvoker {
+        Object apply(Object pojo, Object arg1, Object arg2);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            return apply(pojo, arguments[0], arguments[1]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Function3 extends BeanMethodInvoker {
+        Object apply(Object pojo, Object arg1, Object arg2, Object arg3);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            return apply(pojo, arguments[0], arguments[1], arguments[2]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Consumer0 extends BeanMethodInvoker {
+        void accept(Object pojo);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            accept(pojo);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Consumer1 extends BeanMethodInvoker {
+        void accept(Object pojo, Object arg1);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            accept(pojo, arguments[0]);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Consumer2 extends BeanMethodInvoker {
+        void accept(Object pojo, Object arg1, Object arg2);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            accept(pojo, arguments[0], arguments[1]);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Consumer3 extends BeanMethodInvoker {
+        void accept(Object pojo, Object arg1, Object arg2, Object arg3);
+
+        @Override
+        default Object invoke(Object pojo, Object[] arguments) {
+            accept(pojo, arguments[0], arguments[1], arguments[2]);
+            return null;
+        }
+    }
+
+    final class Factory {
+
+        private static final Logger LOG = LoggerFactory.getLogger(BeanMethodInvoker.class);
+
+        static final BeanMethodInvoker UNSUPPORTED = (pojo, arguments) -> {
+            throw new UnsupportedOperationException();
+        };
+
+        // cached per declaring class so the invokers can be unloaded together with the bean classes
+        static final ClassValue<Map<Method, BeanMethodInvoker>> INVOKERS = new ClassValue<>() {
+            @Override
+            protected Map<Method, BeanMethodInvoker> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+        private Factory() {
+        }
+
+        static BeanMethodInvoker create(Method method) {
+            if (!isSupported(method)) {
+                return UNSUPPORTED;
+            }
+            try {
+                return doCreate(method);
+            } catch (Throwable e) {
+                LOG.debug("Cannot create invoker for method: {} (will use reflection) due to: {}", method, e.getMessage(), e);
+                return UNSUPPORTED;
+            }
+        }
+
+        private static boolean isSupported(Method method) {
+            int modifiers = method.getModifiers();
+            if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.isBridge()
+                    || method.getParameterCount() > MAX_PARAMETERS) {
+                return false;
+            }
+            Class<?> type = method.getDeclaringClass();
+            return Modifier.isPublic(type.getModifiers())
+                    && isVisible(functionType(method.getParameterCount(), method.getReturnType() == void.class), type);
+        }
+
+        /**
+         * The generated class is defined in the classloader of the bean class, so the functional interface it
+         * implements must be the same interface when loaded from that classloader.
+         */
+        private static boolean isVisible(Class<?> functionType, Class<?> beanType) {
+            ClassLoader classLoader = beanType.getClassLoader();
+            if (classLoader == null) {
+                return false;
+            }
+            try {
+                return Class.forName(functionType.getName(), false, classLoader) == functionType;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+
+        private static BeanMethodInvoker doCreate(Method method) throws Throwable {
+            // generate the class as a nestmate of the bean class (requires the package to be open to camel-bean)
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+            MethodHandle handle = lookup.unreflect(method);
+            boolean isVoid = method.getReturnType() == void.class;
+            int count = method.getParameterCount();
+
+            // the pojo and the arguments are objects, and primitive values are boxed
+            MethodType instantiatedType = handle.type().wrap();
+            MethodType interfaceType = MethodType.genericMethodType(count + 1);
+            if (isVoid) {
+                instantiatedType = instantiatedType.changeReturnType(void.class);
+                interfaceType = interfaceType.changeReturnType(void.class);
+            }
+            Class<?> functionType = functionType(count, isVoid);
+            CallSite site = LambdaMetafactory.metafactory(lookup, isVoid ? "accept" : "apply",
+                    MethodType.methodType(functionType), interfaceType, handle, instantiatedType);
+            return (BeanMethodInvoker) site.getTarget().invoke();
+        }
+
+        private static Class<?> functionType(int count, boolean isVoid) {
+            switch (count) {
+                case 0:
+                    return isVoid ? Consumer0.class : Function0.class;
+                case 1:
+                    return isVoid ? Consumer1.class : Function1.class;
+                case 2:
+                    return isVoid ? Consumer2.class : Function2.class;
+                default:
+                    return isVoid ? Consumer3.class : Function3.class;
+            }
+        }
+    }
+}
@@ -86,6 +86,10 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile boolean invokerResolved;
+    private BeanMethodInvoker invoker;
+    private Class<?>[] invokerParameterTypes;
+    private Class<?>[] invokerWrapperTypes;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -492,6 +496,16 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            BeanMethodInvoker target = resolveInvoker();
+            if (target != null && isInvokable(pojo, arguments)) {
+                try {
+                    return target.invoke(pojo, arguments);
+                } catch (Throwable e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -505,6 +519,50 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Resolves the invoker which invokes the method without reflection, at first use of the method
+     */
+    private BeanMethodInvoker resolveInvoker() {
+        if (!invokerResolved) {
+            BeanMethodInvoker answer = BeanMethodInvoker.lookup(method);
+            if (answer != null) {
+                Class<?>[] types = method.getParameterTypes();
+                Class<?>[] wrapperTypes = new Class<?>[types.length];
+                for (int i = 0; i < types.length; i++) {
+                    wrapperTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(types[i]);
+                }
+                invokerParameterTypes = types;
+                invokerWrapperTypes = wrapperTypes;
+                invoker = answer;
+            }
+            invokerResolved = true;
+        }
+        return invoker;
+    }
+
+    /**
+     * Whether the invoker can be used with the given pojo and arguments. Otherwise, the method is invoked using
+     * reflection, which fails the same way as before when the arguments do not match the method.
+     */
+    private boolean isInvokable(Object pojo, Object[] arguments) {
+        if (!method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        Class<?>[] types = invokerWrapperTypes;
+        int count = arguments != null ? arguments.length : 0;
+        if (count != types.length) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            Object arg = arguments[i];
+            // null is not allowed for primitive types
+            if (arg == null ? invokerParameterTypes[i].isPrimitive() : !types[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.csimple.joor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.csimple.CSimpleCodeGenerator;
+import org.apache.camel.language.csimple.CSimpleExpression;
+import org.apache.camel.language.csimple.CSimpleGeneratedCode;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.joor.Reflect;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The simple language uses the code generated for pre compiled expressions instead of parsing the expressions, so
+ * they must evaluate the same.
+ */
+public class SimplePreCompiledParityTest extends CamelTestSupport {
+
+    private static final List<Object> BODIES = Arrays.asList(null, "", "Camel", "10", 10, 5L, 1.5d, true);
+    private static final List<Object> HEADERS = Arrays.asList(null, "gold", "GOLD", "10", 123);
+
+    private static final String[] EXPRESSIONS = {
+            "${body}", "${in.body}", "${header.foo}", "${headers.foo}", "${in.header.foo}", "${exchangeProperty.bar}",
+            "${variable.baz}", "${exchangeId}", "${camelId}", "${routeId}", "Hello World", "${null}" };
+
+    private static final String[] PREDICATES = {
+            "${body}", "${header.foo}", "${body} == 'Camel'", "${body} != null", "${body} == null", "${body} == ''",
+            "${header.foo} == 'gold'", "${header.foo} =~ 'gold'", "${header.foo} != 'gold'", "${body} == 10",
+            "${body} == -1", "${body} == 1.5",
+            "${body} == true", "${body} contains 'am'", "${body} ~~ 'AM'", "${body} !contains 'am'",
+            "${body} startsWith 'Ca'", "${body} endsWith 'el'", "${body} range '1..10'",
+            "${body} !range '1..10'", "${body} == ${header.foo}",
+            "${exchangeProperty.bar} == 'x'", "${variable.baz} == 'y'", "${exchangeId} != null",
+            "${camelId} == 'camel-1'", "${routeId} == null",
+            "${header.foo} == 'gold' && ${body} != null && ${body} != 10",
+            "${header.foo} == 'gold' || ${header.foo} == 123 || ${body} == 5" };
+
+    private final CSimpleCodeGenerator generator = new CSimpleCodeGenerator();
+
+    @Test
+    public void testExpressions() throws Exception {
+        generator.setCamelContext(context);
+        Language simple = context.resolveLanguage("simple");
+
+        for (String text : EXPRESSIONS) {
+            CSimpleGeneratedCode code = generator.generateSimpleExpression(nextFqn(), text);
+            assertNotNull(code, text);
+            CSimpleExpression compiled = compile(code);
+            Expression expression = simple.createExpression(text);
+            expression.init(context);
+
+            for (Object body : BODIES) {
+                for (Object header : HEADERS) {
+                    Exchange exchange = createExchange(body, header);
+                    assertEquals(evaluate(() -> expression.evaluate(exchange, Object.class)),
+                            evaluate(() -> compiled.evaluate(exchange, Object.class)),
+                            text + " with body: " + body + " and header: " + header);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPredicates() throws Exception {
+        generator.setCamelContext(context);
+        Language simple = context.resolveLanguage("simple");
+
+        for (String text : PREDICATES) {
+            CSimpleGeneratedCode code = generator.generateSimplePredicate(nextFqn(), text);
+            assertNotNull(code, text);
+            CSimpleExpression compiled = compile(code);
+            Predicate predicate = simple.createPredicate(text);
+            predicate.init(context);
+
+            for (Object body : BODIES) {
+                for (Object header : HEADERS) {
+                    Exchange exchange = createExchange(body, header);
+                    assertEquals(evaluate(() -> predicate.matches(exchange)), evaluate(() -> compiled.matches(exchange)),
+                            text + " with body: " + body + " and header: " + header);
+                }
+            }
+        }
+    }
+
+    private Exchange createExchange(Object body, Object header) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        exchange.getMessage().setHeader("foo", header);
+        exchange.setProperty("bar", header != null ? "x" : null);
+        exchange.setVariable("baz", body != null ? "y" : null);
+        return exchange;
+    }
+
+    private CSimpleExpression compile(CSimpleGeneratedCode code) {
+        CSimpleExpression answer = Reflect.compile(code.getFqn(), code.getCode()).create().get();
+        answer.init(context);
+        return answer;
+    }
+
+    private static Object evaluate(Callable<Object> callable) {
+        try {
+            return callable.call();
+        } catch (Exception e) {
+            // both must fail the same way
+            return e.getClass();
+        }
+    }
+
+    private static String nextFqn() {
+        return "org.apache.camel.language.csimple.joor.compiled.SimplePreCompiledParity" + System.nanoTime();
+    }
+}
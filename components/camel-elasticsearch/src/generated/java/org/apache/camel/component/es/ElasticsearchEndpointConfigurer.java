@@ -23,6 +23,8 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         ElasticsearchEndpoint target = (ElasticsearchEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": target.getConfiguration().setBatchGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "certificatepath":
         case "certificatePath": target.getConfiguration().setCertificatePath(property(camelContext, java.lang.String.class, value)); return true;
         case "connectiontimeout":
@@ -68,6 +70,8 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return boolean.class;
         case "certificatepath":
         case "certificatePath": return java.lang.String.class;
         case "connectiontimeout":
@@ -114,6 +118,8 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         ElasticsearchEndpoint target = (ElasticsearchEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return target.getConfiguration().isBatchGroupedExchanges();
         case "certificatepath":
         case "certificatePath": return target.getConfiguration().getCertificatePath();
         case "connectiontimeout":
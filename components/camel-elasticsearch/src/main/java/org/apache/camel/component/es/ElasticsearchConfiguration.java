@@ -77,6 +77,8 @@ public class ElasticsearchConfiguration {
     private int sniffAfterFailureDelay = ElasticsearchConstants.DEFAULT_AFTER_FAILURE_DELAY;
     @UriParam(label = "advanced", defaultValue = "ObjectNode")
     private Class<?> documentClass = ObjectNode.class;
+    @UriParam(label = "producer,advanced")
+    private boolean batchGroupedExchanges;
 
     /**
      * Starting index of the response.
@@ -347,4 +349,17 @@ public class ElasticsearchConfiguration {
     public void setEnableDocumentOnlyMode(boolean enableDocumentOnlyMode) {
         this.enableDocumentOnlyMode = enableDocumentOnlyMode;
     }
+
+    /**
+     * Whether to index a list of exchanges (such as the grouped exchanges from the aggregator) with one bulk request.
+     * The id of the indexed document is set on each of the exchanges, and the exchange with the list fails if any of
+     * the documents failed to be indexed.
+     */
+    public boolean isBatchGroupedExchanges() {
+        return batchGroupedExchanges;
+    }
+
+    public void setBatchGroupedExchanges(boolean batchGroupedExchanges) {
+        this.batchGroupedExchanges = batchGroupedExchanges;
+    }
 }
@@ -20,6 +20,8 @@ import java.io.InputStream;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.SSLContext;
@@ -41,6 +43,8 @@ import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.UpdateRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexResponse;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
@@ -52,6 +56,7 @@ import co.elastic.clients.transport.rest_client.RestClientTransport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProducer;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -77,7 +82,7 @@ import static org.apache.camel.component.es.ElasticsearchConstants.PARAM_SCROLL_
 /**
  * Represents an Elasticsearch producer.
  */
-class ElasticsearchProducer extends DefaultAsyncProducer {
+class ElasticsearchProducer extends DefaultAsyncProducer implements BatchProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchProducer.class);
 
@@ -140,10 +145,7 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
             if (configuration.isDisconnect() && client == null) {
                 startClient();
             }
-            final ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-            RestClientOptions options = new RestClientOptions(RequestOptions.DEFAULT, true);
-            ElasticsearchTransport transport = new RestClientTransport(client, new JacksonJsonpMapper(mapper), options);
+            ElasticsearchTransport transport = createTransport();
             // 2. Index and type will be set by:
             // a. If the incoming body is already an action request
             // b. If the body is not an action request we will use headers if they
@@ -277,6 +279,95 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
         return false;
     }
 
+    @Override
+    public boolean isBatchEnabled() {
+        return configuration.isBatchGroupedExchanges();
+    }
+
+    /**
+     * Indexes the documents of the exchanges in a single bulk request, and sets the id of the indexed document (or the
+     * error) on each exchange. The exchanges are processed one by one when not all of them are index operations.
+     */
+    @Override
+    public void sendBatch(Exchange exchange, List<Exchange> exchanges) throws Exception {
+        for (Exchange item : exchanges) {
+            if (resolveOperation(item) != ElasticsearchOperation.Index) {
+                for (Exchange e : exchanges) {
+                    try {
+                        process(e);
+                    } catch (Exception ex) {
+                        e.setException(ex);
+                    }
+                }
+                return;
+            }
+        }
+
+        if (configuration.isDisconnect() && client == null) {
+            startClient();
+        }
+        ElasticsearchTransport transport = createTransport();
+        try {
+            List<BulkOperation> operations = new ArrayList<>(exchanges.size());
+            for (Exchange item : exchanges) {
+                Message message = item.getIn();
+                boolean configIndexName = false;
+                if (message.getHeader(ElasticsearchConstants.PARAM_INDEX_NAME) == null) {
+                    message.setHeader(ElasticsearchConstants.PARAM_INDEX_NAME, configuration.getIndexName());
+                    configIndexName = true;
+                }
+                boolean configWaitForActiveShards = false;
+                if (message.getHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS) == null) {
+                    message.setHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS,
+                            configuration.getWaitForActiveShards());
+                    configWaitForActiveShards = true;
+                }
+                IndexRequest<?> request = message.getMandatoryBody(IndexRequest.Builder.class).build();
+                operations.add(BulkOperation.of(b -> b.index(i -> i.index(request.index()).id(request.id())
+                        .document(request.document()))));
+                if (configIndexName) {
+                    message.removeHeader(ElasticsearchConstants.PARAM_INDEX_NAME);
+                }
+                if (configWaitForActiveShards) {
+                    message.removeHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS);
+                }
+            }
+
+            BulkResponse response = new ElasticsearchClient(transport).bulk(b -> b.operations(operations));
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < exchanges.size(); i++) {
+                Exchange item = exchanges.get(i);
+                BulkResponseItem result = i < items.size() ? items.get(i) : null;
+                if (result == null) {
+                    item.setException(new CamelExchangeException(
+                            "No result in the bulk response for the document", item));
+                } else if (result.error() != null) {
+                    item.setException(new CamelExchangeException(
+                            "An error occurred while indexing the document: " + result.error().reason(), item));
+                } else {
+                    item.getIn().setBody(result.id());
+                }
+            }
+        } finally {
+            if (configuration.isDisconnect()) {
+                IOHelper.close(transport);
+                if (configuration.isEnableSniffer()) {
+                    IOHelper.close(sniffer);
+                    sniffer = null;
+                }
+                IOHelper.close(client);
+                client = null;
+            }
+        }
+    }
+
+    ElasticsearchTransport createTransport() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        RestClientOptions options = new RestClientOptions(RequestOptions.DEFAULT, true);
+        return new RestClientTransport(client, new JacksonJsonpMapper(mapper), options);
+    }
+
     /**
      * Executes asynchronously a ping to the Elastic cluster.
      */
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.es;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.IndexRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ElasticsearchBatchTest extends CamelTestSupport {
+
+    @Test
+    public void testBatchEnabled() {
+        ElasticsearchEndpoint endpoint = context.getEndpoint(
+                "elasticsearch:test-cluster?hostAddresses=localhost:9200&operation=Index", ElasticsearchEndpoint.class);
+        assertFalse(new ElasticsearchProducer(endpoint, endpoint.getConfiguration()).isBatchEnabled());
+
+        endpoint.getConfiguration().setBatchGroupedExchanges(true);
+        assertTrue(new ElasticsearchProducer(endpoint, endpoint.getConfiguration()).isBatchEnabled());
+    }
+
+    @Test
+    public void testBatchPartialFailure() throws Exception {
+        BulkResponse response = BulkResponse.of(b -> b.errors(true).took(1).items(
+                BulkResponseItem.of(i -> i.operationType(OperationType.Index).index("twitter").id("1").status(201)),
+                BulkResponseItem.of(i -> i.operationType(OperationType.Index).index("twitter").id("2").status(409)
+                        .error(e -> e.type("version_conflict_engine_exception").reason("document already exists"))),
+                BulkResponseItem.of(i -> i.operationType(OperationType.Index).index("twitter").id("3").status(201))));
+        FakeTransport transport = new FakeTransport(response);
+
+        ElasticsearchEndpoint endpoint = context.getEndpoint(
+                "elasticsearch:test-cluster?hostAddresses=localhost:9200&operation=Index&indexName=twitter"
+                                                             + "&batchGroupedExchanges=true",
+                ElasticsearchEndpoint.class);
+        ElasticsearchProducer producer = new ElasticsearchProducer(endpoint, endpoint.getConfiguration()) {
+            @Override
+            ElasticsearchTransport createTransport() {
+                return transport;
+            }
+        };
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (String id : List.of("1", "2", "3")) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(new IndexRequest.Builder<>().index("twitter").id(id).document(Map.of("id", id)));
+            exchanges.add(exchange);
+        }
+        producer.sendBatch(new DefaultExchange(context), exchanges);
+
+        // all the documents are sent in one bulk request
+        BulkRequest request = assertInstanceOf(BulkRequest.class, transport.request);
+        assertEquals(3, request.operations().size());
+        assertEquals("2", request.operations().get(1).index().id());
+
+        assertNull(exchanges.get(0).getException());
+        assertEquals("1", exchanges.get(0).getIn().getBody());
+        CamelExchangeException cause = assertInstanceOf(CamelExchangeException.class, exchanges.get(1).getException());
+        assertTrue(cause.getMessage().contains("document already exists"));
+        assertNull(exchanges.get(2).getException());
+        assertEquals("3", exchanges.get(2).getIn().getBody());
+    }
+
+    private static final class FakeTransport implements ElasticsearchTransport {
+
+        private final Object response;
+        private Object request;
+
+        FakeTransport(Object response) {
+            this.response = response;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+                RequestT request, Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options) {
+            this.request = request;
+            return (ResponseT) response;
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+                RequestT request, Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options) {
+            return CompletableFuture.completedFuture(performRequest(request, endpoint, options));
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return new JacksonJsonpMapper();
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            // noop
+        }
+    }
+}
@@ -93,6 +93,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "forcewrites":
         case "forceWrites": target.setForceWrites(property(camelContext, boolean.class, value)); return true;
         case "greedy": target.setGreedy(property(camelContext, boolean.class, value)); return true;
+        case "hardlink":
+        case "hardLink": target.setHardLink(property(camelContext, boolean.class, value)); return true;
         case "idempotent": target.setIdempotent(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "idempotenteager":
         case "idempotentEager": target.setIdempotentEager(property(camelContext, java.lang.Boolean.class, value)); return true;
@@ -135,6 +137,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": target.setOnCompletionExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "parallelscanthreads":
+        case "parallelScanThreads": target.setParallelScanThreads(property(camelContext, int.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
         case "premove":
@@ -206,6 +210,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "usewatchservice":
+        case "useWatchService": target.setUseWatchService(property(camelContext, boolean.class, value)); return true;
+        case "watchservicerescandelay":
+        case "watchServiceRescanDelay": target.setWatchServiceRescanDelay(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -283,6 +291,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "forcewrites":
         case "forceWrites": return boolean.class;
         case "greedy": return boolean.class;
+        case "hardlink":
+        case "hardLink": return boolean.class;
         case "idempotent": return java.lang.Boolean.class;
         case "idempotenteager":
         case "idempotentEager": return java.lang.Boolean.class;
@@ -325,6 +335,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return boolean.class;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
+        case "parallelscanthreads":
+        case "parallelScanThreads": return int.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
         case "premove":
@@ -396,6 +408,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "usewatchservice":
+        case "useWatchService": return boolean.class;
+        case "watchservicerescandelay":
+        case "watchServiceRescanDelay": return long.class;
         default: return null;
         }
     }
@@ -474,6 +490,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "forcewrites":
         case "forceWrites": return target.isForceWrites();
         case "greedy": return target.isGreedy();
+        case "hardlink":
+        case "hardLink": return target.isHardLink();
         case "idempotent": return target.getIdempotent();
         case "idempotenteager":
         case "idempotentEager": return target.getIdempotentEager();
@@ -516,6 +534,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return target.isNoop();
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return target.getOnCompletionExceptionHandler();
+        case "parallelscanthreads":
+        case "parallelScanThreads": return target.getParallelScanThreads();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
         case "premove":
@@ -587,6 +607,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "usewatchservice":
+        case "useWatchService": return target.isUseWatchService();
+        case "watchservicerescandelay":
+        case "watchServiceRescanDelay": return target.getWatchServiceRescanDelay();
         default: return null;
         }
     }
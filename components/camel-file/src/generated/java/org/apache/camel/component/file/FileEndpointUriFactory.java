@@ -24,7 +24,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(101);
+        Set<String> props = new HashSet<>(105);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -65,6 +65,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("flatten");
         props.add("forceWrites");
         props.add("greedy");
+        props.add("hardLink");
         props.add("idempotent");
         props.add("idempotentEager");
         props.add("idempotentKey");
@@ -88,6 +89,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelScanThreads");
         props.add("pollStrategy");
         props.add("preMove");
         props.add("preSort");
@@ -126,6 +128,8 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("tempPrefix");
         props.add("timeUnit");
         props.add("useFixedDelay");
+        props.add("useWatchService");
+        props.add("watchServiceRescanDelay");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         ENDPOINT_IDENTITY_PROPERTY_NAMES = Collections.emptySet();
@@ -19,15 +19,30 @@ package org.apache.camel.component.file;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
 import org.apache.camel.Exchange;
@@ -48,12 +63,18 @@ import org.slf4j.LoggerFactory;
 /**
  * File consumer.
  */
-public class FileConsumer extends GenericFileConsumer<File> implements ResumeAware<ResumeStrategy> {
+public class FileConsumer extends GenericFileConsumer<File>
+        implements ResumeAware<ResumeStrategy>, GenericFileStreamingConsumer<File> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private volatile ForkJoinPool scanPool;
+    private volatile DirectoryWatcher watcher;
+    private DirectoryWatcher pollWatcher;
+    private Map<File, Integer> candidates;
+    private boolean doneFileMissing;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -75,6 +96,35 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return exchange;
     }
 
+    @Override
+    protected int poll(Exchange dynamic) throws Exception {
+        // the watcher is cleared when the consumer is stopped, which may happen while polling
+        DirectoryWatcher watcher = this.watcher;
+        if (dynamic != null || watcher == null) {
+            return super.poll(dynamic);
+        }
+
+        pollWatcher = watcher;
+        try {
+            if (watcher.isRescanDue()) {
+                LOG.debug("Rescanning directory: {}", endpointPath);
+                watcher.rescan();
+                return super.poll(null);
+            }
+
+            // only poll the files we have been notified about since the last poll
+            Map<File, Integer> found = watcher.takeCandidates();
+            if (found.isEmpty()) {
+                return 0;
+            }
+            candidates = found;
+            return super.poll(null);
+        } finally {
+            candidates = null;
+            pollWatcher = null;
+        }
+    }
+
     private boolean pollDirectory(Exchange dynamic, File directory, List<GenericFile<File>> fileList, int depth) {
         depth++;
 
@@ -115,15 +165,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             Supplier<GenericFile<File>> gf = Suppliers.memorize(
                     () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
 
-            if (resumeStrategy != null) {
-                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
-                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (directoryEntriesResumeAdapter.resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
-                    }
-                }
+            if (isResumed(file, gf)) {
+                continue;
             }
 
             if (processEntry(dynamic, fileList, depth, file, gf, files)) {
@@ -133,6 +176,20 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return false;
     }
 
+    private boolean isResumed(File file, Supplier<GenericFile<File>> gf) {
+        if (resumeStrategy != null) {
+            final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+            if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
+                LOG.trace("Running the resume process for file {}", file);
+                if (directoryEntriesResumeAdapter.resume(file)) {
+                    LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private boolean processEntry(
             Exchange dynamic,
             List<GenericFile<File>> fileList, int depth, File file, Supplier<GenericFile<File>> gf, File[] files) {
@@ -145,7 +202,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return false;
     }
 
-    private void processFileEntry(
+    private boolean processFileEntry(
             Exchange dynamic,
             List<GenericFile<File>> fileList, int depth, File file, Supplier<GenericFile<File>> gf, File[] files) {
         // Windows can report false to a file on a share so regard it
@@ -167,7 +224,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 }
                 fileList.add(gf.get());
             }
+            return valid;
         }
+        return false;
     }
 
     private boolean processDirectoryEntry(
@@ -201,6 +260,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     protected boolean pollDirectory(Exchange dynamic, String fileName, List<GenericFile<File>> fileList, int depth) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
 
+        if (candidates != null) {
+            return pollCandidates(dynamic, fileList);
+        }
+
         File directory = new File(fileName);
         if (!directory.exists() || !directory.isDirectory()) {
             LOG.debug("Cannot poll as directory does not exist or its not a directory: {}", directory);
@@ -213,6 +276,351 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return pollDirectory(dynamic, directory, fileList, depth);
     }
 
+    /**
+     * Polls the files the watch service has notified about, with the depth of each file
+     */
+    private boolean pollCandidates(Exchange dynamic, List<GenericFile<File>> fileList) {
+        Map<File, Integer> pending = candidates;
+        Map<File, File[]> listings = new HashMap<>();
+        if (getEndpoint().getDoneFileName() != null) {
+            // a file is picked up when its done file is written, so poll all the files in the notified directories
+            pending = new LinkedHashMap<>();
+            for (Map.Entry<File, Integer> entry : candidates.entrySet()) {
+                File directory = entry.getKey().getAbsoluteFile().getParentFile();
+                if (!listings.containsKey(directory)) {
+                    File[] files = listFiles(directory);
+                    listings.put(directory, files);
+                    if (files != null) {
+                        for (File file : files) {
+                            pending.put(file, entry.getValue());
+                        }
+                    }
+                }
+            }
+            candidates = pending;
+        }
+
+        List<File> polled = new ArrayList<>();
+        for (Map.Entry<File, Integer> entry : pending.entrySet()) {
+            if (!canPollMoreFiles(fileList)) {
+                // leave the remaining files for the next poll
+                pending.keySet().removeAll(polled);
+                pollWatcher.requeue(pending);
+                return false;
+            }
+            File file = entry.getKey();
+            polled.add(file);
+
+            // the file may have been moved or deleted after the notification
+            if (!file.isFile()) {
+                continue;
+            }
+            File[] files = listings.get(file.getAbsoluteFile().getParentFile());
+            if (files == null) {
+                files = new File[] { file };
+            }
+
+            Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                    () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(),
+                            getEndpoint().isProbeContentType()));
+            if (isResumed(file, gf)) {
+                continue;
+            }
+            doneFileMissing = false;
+            boolean valid = processFileEntry(dynamic, fileList, entry.getValue(), file, gf, files);
+            if (!valid && entry.getValue() >= endpoint.minDepth
+                    && (doneFileMissing || endpoint.getInProgressRepository().contains(file.getAbsolutePath()))) {
+                // the file may not be notified again while it is in progress or its done file is not written yet,
+                // so check the file again on the next poll (other files, such as excluded files, are not valid until
+                // they are changed, and are notified again when changed)
+                pollWatcher.requeue(Map.of(file, entry.getValue()));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean processExchange(Exchange exchange) {
+        DirectoryWatcher watcher = pollWatcher;
+        GenericFile<File> target = watcher != null ? getExchangeFileProperty(exchange) : null;
+        boolean processed = super.processExchange(exchange);
+        if (!processed && target != null && target.getFile().isFile()) {
+            // the read lock could not be acquired, so check the file again on the next poll (also when found by a
+            // rescan, as there may be no further notifications for the file)
+            int depth = Path.of(target.getRelativeFilePath()).getNameCount();
+            watcher.requeue(Map.of(target.getFile(), depth));
+        }
+        return processed;
+    }
+
+    /**
+     * Watches the directories for new and changed files using the file system {@link WatchService}, and collects the
+     * files (with their depth) as candidates for the next poll. Only used by the thread polling the consumer.
+     */
+    private final class DirectoryWatcher {
+
+        private final WatchService watchService;
+        private final long rescanDelay;
+        private final Map<WatchKey, Integer> keys = new HashMap<>();
+        private final Map<File, Integer> candidates = new LinkedHashMap<>();
+        private long nextRescan;
+        private boolean register = true;
+
+        private DirectoryWatcher(WatchService watchService, long rescanDelay) {
+            this.watchService = watchService;
+            this.rescanDelay = rescanDelay;
+        }
+
+        boolean isRescanDue() {
+            return System.currentTimeMillis() >= nextRescan;
+        }
+
+        /**
+         * Prepares for listing the directories, which covers the files notified until now
+         */
+        void rescan() {
+            drainEvents();
+            candidates.clear();
+            if (register) {
+                try {
+                    registerDirectory(getEndpoint().getFile(), 0, false);
+                    register = false;
+                } catch (IOException | ClosedWatchServiceException e) {
+                    LOG.debug("Cannot watch directory: {} due to: {}. Will try again on next rescan.", endpointPath,
+                            e.getMessage(), e);
+                }
+            }
+            nextRescan = System.currentTimeMillis() + rescanDelay;
+        }
+
+        /**
+         * Takes the files notified since the last poll, without waiting for more notifications as the scheduler delays
+         * the next poll.
+         */
+        Map<File, Integer> takeCandidates() {
+            drainEvents();
+            Map<File, Integer> answer = new LinkedHashMap<>(candidates);
+            candidates.clear();
+            return answer;
+        }
+
+        void requeue(Map<File, Integer> files) {
+            files.forEach(candidates::putIfAbsent);
+        }
+
+        void close() throws IOException {
+            watchService.close();
+        }
+
+        private void drainEvents() {
+            try {
+                WatchKey key;
+                while ((key = watchService.poll()) != null) {
+                    onEvents(key);
+                }
+            } catch (ClosedWatchServiceException e) {
+                LOG.debug("Watch service closed as the consumer is stopping: {}", endpointPath);
+            }
+        }
+
+        private void onEvents(WatchKey key) {
+            Integer depth = keys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    LOG.debug("Lost file system notifications for directory: {}. Will rescan the directory.",
+                            endpointPath);
+                    nextRescan = 0;
+                    register = true;
+                    continue;
+                }
+                if (depth == null) {
+                    continue;
+                }
+                File file = ((Path) key.watchable()).resolve((Path) event.context()).toFile();
+                if (!file.isDirectory()) {
+                    candidates.put(file, depth + 1);
+                } else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && isWatchedDirectory(file, depth + 1)) {
+                    try {
+                        // the directory may already have files before it was registered
+                        registerDirectory(file, depth + 1, true);
+                    } catch (IOException e) {
+                        LOG.debug("Cannot watch directory: {} due to: {}. Will rescan the directory.", file,
+                                e.getMessage(), e);
+                        nextRescan = 0;
+                        register = true;
+                    }
+                }
+            }
+            if (!key.reset()) {
+                keys.remove(key);
+            }
+        }
+
+        private void registerDirectory(File directory, int depth, boolean addFiles) throws IOException {
+            LOG.trace("Watching directory: {}", directory);
+            WatchKey key = directory.toPath().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            keys.put(key, depth);
+
+            File[] files = listFiles(directory);
+            if (files == null) {
+                return;
+            }
+            for (File file : files) {
+                if (!file.isDirectory()) {
+                    if (addFiles) {
+                        candidates.put(file, depth + 1);
+                    }
+                } else if (isWatchedDirectory(file, depth + 1)) {
+                    registerDirectory(file, depth + 1, addFiles);
+                }
+            }
+        }
+
+        private boolean isWatchedDirectory(File directory, int depth) {
+            if (!endpoint.isRecursive() || depth >= endpoint.getMaxDepth()) {
+                return false;
+            }
+            Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                    () -> asGenericFile(endpointPath, directory, getEndpoint().getCharset(),
+                            getEndpoint().isProbeContentType()));
+            return isValidFile(null, gf, directory.getName(), directory.getAbsolutePath(),
+                    getRelativeFilePath(endpointPath, null, null, directory), true, new File[] { directory });
+        }
+    }
+
+    @Override
+    public boolean isStreamingPoll() {
+        return scanPool != null && candidates == null;
+    }
+
+    @Override
+    public Future<?> pollDirectoryStreaming(String fileName, StreamingPoll<File> poll) {
+        LOG.trace("pollDirectoryStreaming from fileName: {}", fileName);
+
+        File directory = new File(fileName);
+        if (!directory.exists() || !directory.isDirectory()) {
+            LOG.debug("Cannot poll as directory does not exist or its not a directory: {}", directory);
+            if (getEndpoint().isDirectoryMustExist()) {
+                throw new GenericFileOperationFailedException("Directory does not exist: " + directory);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // the pool is cleared when the consumer is stopped, which may happen while polling
+        ForkJoinPool pool = scanPool;
+        if (pool == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return pool.submit(new DirectoryScanTask(directory, 0, poll));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Cannot poll directory: {} as the consumer is stopping", directory);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Lists a directory, and adds the valid files to the streaming poll, while the sub directories are polled in
+     * parallel by new tasks.
+     */
+    private final class DirectoryScanTask extends RecursiveAction {
+
+        private final File directory;
+        private final int depth;
+        private final StreamingPoll<File> poll;
+
+        private DirectoryScanTask(File directory, int depth, StreamingPoll<File> poll) {
+            this.directory = directory;
+            this.depth = depth;
+            this.poll = poll;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                doCompute();
+            } catch (InterruptedException e) {
+                poll.stop();
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                poll.stop();
+                throw e;
+            }
+        }
+
+        private void doCompute() throws InterruptedException {
+            int depth = this.depth + 1;
+
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+            }
+            final File[] files = streamFiles(directory);
+            if (files == null || files.length == 0) {
+                return;
+            }
+
+            if (getEndpoint().isPreSort()) {
+                Arrays.sort(files, preSortComparator(getEndpoint().getPreSort()));
+            }
+
+            List<DirectoryScanTask> tasks = new ArrayList<>();
+            List<GenericFile<File>> fileList = new ArrayList<>(1);
+            for (File file : files) {
+                if (poll.isStopped()) {
+                    break;
+                }
+
+                Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                        () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(),
+                                getEndpoint().isProbeContentType()));
+                if (isResumed(file, gf)) {
+                    continue;
+                }
+
+                if (file.isDirectory()) {
+                    if (endpoint.isRecursive() && depth < endpoint.getMaxDepth()
+                            && isValidFile(null, gf, file.getName(), file.getAbsolutePath(),
+                                    getRelativeFilePath(endpointPath, null, null, file), true, files)) {
+                        DirectoryScanTask task = new DirectoryScanTask(file, depth, poll);
+                        task.fork();
+                        tasks.add(task);
+                    }
+                } else {
+                    processFileEntry(null, fileList, depth, file, gf, files);
+                    for (GenericFile<File> found : fileList) {
+                        poll.add(found);
+                    }
+                    fileList.clear();
+                }
+            }
+
+            for (DirectoryScanTask task : tasks) {
+                task.join();
+            }
+        }
+    }
+
+    private File[] streamFiles(File directory) {
+        if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
+            return null;
+        }
+        List<File> answer = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                answer.add(new File(directory, path.getFileName().toString()));
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot list directory: {} due to: {}", directory.getPath(), e.getMessage(), e);
+            return null;
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found {} in directory: {}", answer.size(), directory.getPath());
+        }
+        return answer.toArray(new File[0]);
+    }
+
     private File[] listFiles(File directory) {
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
@@ -273,6 +681,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             }
         }
         LOG.trace("Done file: {} does not exist", doneFileName);
+        if (candidates != null) {
+            doneFileMissing = true;
+        }
         return false;
     }
 
@@ -421,6 +832,22 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             }
             // ensure directory can be read
             tryReadingStartDirectory(file);
+
+            // the watch service is not used when polling on demand
+            if (watcher == null && startScheduler && getEndpoint().isUseWatchService()) {
+                watcher = new DirectoryWatcher(
+                        getEndpoint().getFile().toPath().getFileSystem().newWatchService(),
+                        getEndpoint().getWatchServiceRescanDelay());
+            }
+
+            if (scanPool == null && getEndpoint().getParallelScanThreads() > 0) {
+                scanPool = new ForkJoinPool(getEndpoint().getParallelScanThreads(), pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(getEndpoint().getCamelContext().getExecutorServiceManager()
+                            .resolveThreadName("FileParallelScan"));
+                    return thread;
+                }, null, false);
+            }
         } finally {
             if (startScheduler) {
                 setStartScheduler(true);
@@ -431,6 +858,20 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (scanPool != null) {
+            scanPool.shutdownNow();
+            scanPool = null;
+        }
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
@@ -22,6 +22,7 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Category;
 import org.apache.camel.Component;
@@ -29,6 +30,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.file.strategy.FileMoveExistingStrategy;
 import org.apache.camel.component.file.strategy.FileProcessStrategyFactory;
 import org.apache.camel.spi.Metadata;
@@ -46,6 +49,7 @@ import org.slf4j.LoggerFactory;
  */
 @UriEndpoint(firstVersion = "1.0.0", scheme = "file", title = "File", syntax = "file:directoryName",
              category = { Category.FILE, Category.CORE }, headersClass = FileConstants.class)
+@ManagedResource(description = "Managed FileEndpoint")
 public class FileEndpoint extends GenericFileEndpoint<File> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileEndpoint.class);
@@ -57,6 +61,7 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     public static final String PARAM_FILE = "file";
 
     private final FileOperations operations = new FileOperations(this);
+    private final LongAdder zeroCopyBytes = new LongAdder();
 
     @UriPath(name = "directoryName")
     @Metadata(required = true)
@@ -81,10 +86,18 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private int parallelScanThreads;
+    @UriParam(label = "consumer,advanced")
+    private boolean useWatchService;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchServiceRescanDelay = 60000;
     @Deprecated
     @UriParam(label = "producer,advanced", defaultValue = "false")
     private boolean forceWrites;
     @UriParam(label = "producer,advanced")
+    private boolean hardLink;
+    @UriParam(label = "producer,advanced")
     private String chmod;
     @UriParam(label = "producer,advanced")
     private String chmodDirectory;
@@ -107,6 +120,11 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
             throw new IllegalArgumentException("You cannot set both delete=true and move options");
         }
 
+        if (getParallelScanThreads() > 0 && (getSorter() != null || getSortBy() != null || isShuffle())) {
+            throw new IllegalArgumentException(
+                    "You cannot set parallelScanThreads together with sorter, sortBy or shuffle options");
+        }
+
         // if noop= true, then idempotent should also be configured
         if (isNoop() && !isIdempotentSet()) {
             LOG.info("Endpoint is configured with noop=true so forcing endpoint to be idempotent as well");
@@ -378,6 +396,34 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.forceWrites = forceWrites;
     }
 
+    public boolean isHardLink() {
+        return hardLink;
+    }
+
+    /**
+     * Whether to write a file based message body by creating a hard link to the source file, instead of copying the
+     * content of the file. The source and the target files then share the same content, so any later change to one of
+     * the files is visible in the other file. If the hard link cannot be created (such as when the files are on
+     * different file systems) then the content is copied. This option is not in use when appending to existing files,
+     * or when the chmod option is set.
+     */
+    public void setHardLink(boolean hardLink) {
+        this.hardLink = hardLink;
+    }
+
+    /**
+     * Number of bytes the producer has written without copying the content through the JVM heap, by transferring
+     * between file channels, renaming local work files, or creating hard links.
+     */
+    @ManagedAttribute(description = "Number of bytes written without copying the content through the JVM heap")
+    public long getZeroCopyBytes() {
+        return zeroCopyBytes.sum();
+    }
+
+    void addZeroCopyBytes(long bytes) {
+        zeroCopyBytes.add(bytes);
+    }
+
     public boolean isProbeContentType() {
         return probeContentType;
     }
@@ -403,6 +449,51 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public int getParallelScanThreads() {
+        return parallelScanThreads;
+    }
+
+    /**
+     * Number of threads used for polling the directories in parallel. When enabled, the directory and its sub
+     * directories (when recursive) are listed in parallel, and the files are processed as they are found, instead of
+     * gathering all the files before processing. This can reduce the time before the first file is processed when
+     * polling directories with many files, such as on network file systems. The files are not sorted, so the sorter,
+     * sortBy and shuffle options cannot be used. The filter, antFilter, filterDirectory, filterFile and idempotentKey
+     * options are evaluated concurrently by the fork-join threads listing the directories, so a custom filter or
+     * expression must be thread-safe. The default is 0 which means the directories are polled by the consumer thread.
+     */
+    public void setParallelScanThreads(int parallelScanThreads) {
+        this.parallelScanThreads = parallelScanThreads;
+    }
+
+    public boolean isUseWatchService() {
+        return useWatchService;
+    }
+
+    /**
+     * Whether to use the file system {@link java.nio.file.WatchService} to be notified about new and changed files,
+     * instead of listing the directories on every poll. The consumer then only picks up the files it has been notified
+     * about (and processes them with the same options such as read lock, move, idempotent and done files), and lists
+     * the directories periodically (see watchServiceRescanDelay) as a safety net, for files the notifications did not
+     * cover. This reduces the IO on large directories, but not the latency, as the files are still picked up by the
+     * next poll.
+     */
+    public void setUseWatchService(boolean useWatchService) {
+        this.useWatchService = useWatchService;
+    }
+
+    public long getWatchServiceRescanDelay() {
+        return watchServiceRescanDelay;
+    }
+
+    /**
+     * Milliseconds between listing the directories when using useWatchService=true, as a safety net for files the
+     * file system notifications did not cover.
+     */
+    public void setWatchServiceRescanDelay(long watchServiceRescanDelay) {
+        this.watchServiceRescanDelay = watchServiceRescanDelay;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -28,6 +28,7 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
@@ -285,14 +286,10 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset & no checksum must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append
-                    && endpoint.getChecksumFileAlgorithm() == null) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null && endpoint.getChecksumFileAlgorithm() == null) {
+                // if no charset, then we can try using file directly (optimized)
                 final Object body = extractBodyFromExchange(exchange);
                 if (body instanceof File fileBody) {
                     source = fileBody;
@@ -300,7 +297,13 @@ public class FileOperations implements GenericFileOperations<File> {
                 }
             }
 
-            if (fileBased) {
+            if (fileBased && endpoint.getFileExist() == GenericFileExist.Append) {
+                // the local work file cannot be renamed when appending,
+                // so append the content by transferring between the file channels
+                if (handleFileAsAppendSource(exchange, file, source)) {
+                    return true;
+                }
+            } else if (fileBased) {
                 // okay we know the body is a file based
 
                 // so try to see if we can optimize by renaming the local work
@@ -402,8 +405,10 @@ public class FileOperations implements GenericFileOperations<File> {
         if (local != null) {
             File f = new File(local);
             if (f.exists()) {
+                long length = f.length();
                 boolean renamed = writeFileByLocalWorkPath(f, file);
                 if (renamed) {
+                    endpoint.addZeroCopyBytes(length);
                     // try to keep last modified timestamp if configured to
                     // do so
                     keepLastModified(exchange, file);
@@ -431,6 +436,19 @@ public class FileOperations implements GenericFileOperations<File> {
         return false;
     }
 
+    private boolean handleFileAsAppendSource(Exchange exchange, File file, File source) throws IOException {
+        // the size of a FIFO or device (such as /dev/stdin) is not known, so it is appended as a stream
+        if (source == null || !Files.isRegularFile(source.toPath())) {
+            return false;
+        }
+        writeFileByFileAppend(source, file, exchange);
+        // try to keep last modified timestamp if configured to do so
+        keepLastModified(exchange, file);
+        // set permissions if the chmod option was set
+        setPermissions(file);
+        return true;
+    }
+
     private static Object extractBodyFromExchange(Exchange exchange) {
         Object body = exchange.getIn().getBody();
         if (body instanceof WrappedFile<?> wrapped) {
@@ -513,46 +531,128 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        if (endpoint.isHardLink() && ObjectHelper.isEmpty(endpoint.getChmod()) && Files.isRegularFile(source.toPath())
+                && writeFileByHardLink(source, target)) {
+            return;
+        }
+
         // in case we are using file locks as read-locks then we need to use
         // file channels for copying to support this
-        String path = source.getAbsolutePath();
-        FileChannel channel
-                = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
+        FileChannel channel = getReadLockChannel(source, exchange);
         if (channel != null) {
             try (FileOutputStream fos = new FileOutputStream(target);
                  FileChannel out = fos.getChannel()) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                long size = channel.size();
-                long position = 0;
-                while (position < size) {
-                    position += channel.transferTo(position, size - position, out);
-                }
+                transferFrom(channel, 0, out);
             }
         } else {
-            // use regular file copy
+            // use regular file copy, which copies the content within the operating system
             LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
             Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            endpoint.addZeroCopyBytes(target.length());
+        }
+    }
+
+    private boolean writeFileByHardLink(File source, File target) throws IOException {
+        if (target.exists() && Files.isSameFile(source.toPath(), target.toPath())) {
+            return false;
+        }
+        // the target is to be replaced, as when copying the file
+        Files.deleteIfExists(target.toPath());
+        try {
+            LOG.trace("writeFileByFile using hard link: {} -> {}", source, target);
+            Files.createLink(target.toPath(), source.toPath());
+            endpoint.addZeroCopyBytes(source.length());
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            // such as when the files are on different file systems
+            LOG.debug("Cannot create hard link: {} -> {} (will copy the file instead) due to: {}", source, target,
+                    e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void writeFileByFileAppend(File source, File target, Exchange exchange) throws IOException {
+        FileChannel channel = getReadLockChannel(source, exchange);
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            LOG.trace("writeFileByFileAppend using FileChannel: {} -> {}", source, target);
+            if (channel != null) {
+                transferFrom(channel, 0, out);
+            } else {
+                try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                    transferFrom(in, 0, out);
+                }
+            }
+
+            if (endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        }
+    }
+
+    private static FileChannel getReadLockChannel(File source, Exchange exchange) {
+        String path = source.getAbsolutePath();
+        return exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
+    }
+
+    /**
+     * Transfers the remainder of the input channel from the given position, which lets the operating system copy the
+     * content directly between the files (zero-copy), and returns the position the transfer ended at.
+     */
+    private long transferFrom(FileChannel in, long position, WritableByteChannel out) throws IOException {
+        long size = in.size();
+        long start = position;
+        while (position < size) {
+            position += in.transferTo(position, size - position, out);
+        }
+        endpoint.addZeroCopyBytes(position - start);
+        return position;
+    }
+
+    private void writeStream(InputStream in, WritableByteChannel out) throws IOException {
+        int size = endpoint.getBufferSize();
+        byte[] buffer = new byte[size];
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        int bytesRead;
+        while ((bytesRead = in.read(buffer)) != -1) {
+            if (bytesRead < size) {
+                ((Buffer) byteBuffer).limit(bytesRead);
+            }
+            out.write(byteBuffer);
+            ((Buffer) byteBuffer).clear();
+        }
+    }
+
+    /**
+     * Whether the channel reads a regular file, as the path of a {@link FileInputStream} is not known. A FIFO cannot be
+     * positioned, and a device (such as /dev/stdin) or pseudo file (such as in /proc) has no size, so their content
+     * must be read as a stream.
+     */
+    private static boolean isRegularFile(FileChannel channel) {
+        try {
+            return channel.size() > channel.position();
+        } catch (IOException e) {
+            return false;
         }
     }
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
-            LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
-                    ((Buffer) byteBuffer).limit(bytesRead);
-                }
-                out.write(byteBuffer);
-                ((Buffer) byteBuffer).clear();
+            if (in instanceof FileInputStream fis && out instanceof FileChannel && isRegularFile(fis.getChannel())) {
+                // the stream is reading from a file, so we can transfer the content between the channels
+                LOG.debug("Using FileChannel to write file: {}", target);
+                FileChannel channel = fis.getChannel();
+                // and read any content appended to the file after the transfer as a stream
+                channel.position(transferFrom(channel, channel.position(), out));
+            } else {
+                LOG.debug("Using InputStream to write file: {}", target);
             }
+            writeStream(in, out);
 
             boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+                ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
                 out.write(byteBuffer);
                 Buffer buf = byteBuffer;
                 buf.clear();
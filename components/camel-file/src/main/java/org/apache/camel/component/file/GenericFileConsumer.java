@@ -23,6 +23,14 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -136,6 +144,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             return 0;
         }
 
+        // process the files while the directory is being polled
+        if (dynamic == null && this instanceof GenericFileStreamingConsumer<?> streaming && streaming.isStreamingPoll()) {
+            return pollStreaming();
+        }
+
         // gather list of files to process
         List<GenericFile<T>> files = new ArrayList<>();
         String name = endpoint.getConfiguration().getDirectory();
@@ -216,6 +229,110 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return polledMessages;
     }
 
+    /**
+     * Polls the directory in the background, and processes the files as they are found, instead of gathering all the
+     * files before processing. The files are therefore not sorted.
+     */
+    @SuppressWarnings("unchecked")
+    private int pollStreaming() throws Exception {
+        GenericFileStreamingConsumer<T> streaming = (GenericFileStreamingConsumer<T>) this;
+        String name = endpoint.getConfiguration().getDirectory();
+        StreamingPoll<T> poll = new StreamingPoll<>(maxMessagesPerPoll, file -> removeExcessiveInProgressFiles(List.of(file)));
+
+        StopWatch stop = new StopWatch();
+        Future<?> scan = streaming.pollDirectoryStreaming(name, poll);
+
+        int answer = 0;
+        int index = 0;
+        Exchange pending = null;
+        boolean interrupted = false;
+        try {
+            while (true) {
+                GenericFile<T> file = poll.queue.poll(100, TimeUnit.MILLISECONDS);
+                // the scan is complete when it's done and all the files has been taken from the queue
+                boolean complete = file == null && scan.isDone() && poll.queue.isEmpty();
+                if (file == null && !complete) {
+                    continue;
+                }
+                // process the previous file, now that we know whether it's the last file
+                if (pending != null) {
+                    if (processStreamingExchange(pending, index++, poll.found.get(), complete)) {
+                        answer++;
+                    }
+                    pending = null;
+                }
+                if (complete) {
+                    break;
+                }
+                if (!isBatchAllowed()) {
+                    removeExcessiveInProgressFiles(List.of(file));
+                    break;
+                }
+                pending = createExchange(file);
+                endpoint.configureExchange(pending);
+                endpoint.configureMessage(file, pending.getIn());
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        } finally {
+            poll.stop();
+            if (pending != null) {
+                removeExcessiveInProgressFiles(new ArrayDeque<>(List.of(pending)), 0);
+            }
+        }
+
+        try {
+            if (interrupted) {
+                // do not wait for the scan, as the files it still finds are released by the threads polling the
+                // directory once the poll is closed
+                Thread.currentThread().interrupt();
+            } else {
+                scan.get();
+            }
+        } catch (ExecutionException e) {
+            LOG.debug("Error occurred during poll directory: {} due {}", name, e.getCause().getMessage());
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (CancellationException e) {
+            LOG.debug("Poll directory: {} cancelled as the consumer is stopping", name);
+        } finally {
+            // release the files which was found but not processed
+            poll.close();
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Took {} to poll and process {} files: {}", TimeUtils.printDuration(stop.taken(), true), answer,
+                    name);
+        }
+        if (poll.isLimitHit()) {
+            LOG.debug("Limiting maximum messages to poll at {} files as there were more messages in this poll.",
+                    maxMessagesPerPoll);
+        }
+
+        postPollCheck(answer);
+
+        return answer;
+    }
+
+    private boolean processStreamingExchange(Exchange exchange, int index, int found, boolean complete) {
+        // the total number of files is not known until the directory has been polled
+        exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+        exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, complete ? index + 1 : found);
+        exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, complete);
+        pendingExchanges = found - index - 1;
+
+        boolean started;
+        if (customProcessor != null) {
+            started = customProcessExchange(exchange, customProcessor);
+        } else {
+            started = processExchange(exchange);
+        }
+        if (!started) {
+            // this exchange was not started processing so release it
+            removeExcessiveInProgressFiles(new ArrayDeque<>(List.of(exchange)), 0);
+        }
+        return started;
+    }
+
     @Override
     public int processBatch(Queue<Object> exchanges) {
         int total = exchanges.size();
@@ -885,8 +1002,93 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return result;
     }
 
+    /**
+     * The files found by a streaming poll, which are handed over from the threads polling the directory to the consumer
+     * thread processing the files.
+     */
+    protected static final class StreamingPoll<T> {
+
+        private static final int QUEUE_SIZE = 1000;
+
+        private final BlockingQueue<GenericFile<T>> queue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+        private final AtomicInteger found = new AtomicInteger();
+        private final int maxMessagesPerPoll;
+        private final Consumer<GenericFile<T>> release;
+        private volatile boolean stopped;
+        private volatile boolean closed;
+        private volatile boolean limitHit;
+
+        StreamingPoll(int maxMessagesPerPoll, Consumer<GenericFile<T>> release) {
+            this.maxMessagesPerPoll = maxMessagesPerPoll;
+            this.release = release;
+        }
+
+        /**
+         * Adds a valid file to be processed, waiting if the consumer is behind.
+         *
+         * @return <tt>true</tt> if added, <tt>false</tt> if the poll is stopped, such as when the maxMessagesPerPoll
+         *         limit has been hit
+         */
+        public boolean add(GenericFile<T> file) throws InterruptedException {
+            if (maxMessagesPerPoll > 0 && found.getAndIncrement() >= maxMessagesPerPoll) {
+                found.decrementAndGet();
+                limitHit = true;
+                stopped = true;
+            } else if (maxMessagesPerPoll <= 0) {
+                found.incrementAndGet();
+            }
+            // the file is marked as in-progress so it must be released if not added
+            try {
+                while (!stopped) {
+                    if (queue.offer(file, 100, TimeUnit.MILLISECONDS)) {
+                        // the poll may have been closed before the file was added, in which case whoever takes the
+                        // file back from the queue releases it
+                        if (closed && queue.remove(file)) {
+                            release.accept(file);
+                            return false;
+                        }
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                release.accept(file);
+                throw e;
+            }
+            release.accept(file);
+            return false;
+        }
+
+        /**
+         * Whether to stop polling, such as when the maxMessagesPerPoll limit has been hit, or the consumer is stopping
+         */
+        public boolean isStopped() {
+            return stopped;
+        }
+
+        public void stop() {
+            stopped = true;
+        }
+
+        /**
+         * Closes the poll when the consumer no longer takes files, and releases the files which was added but not taken.
+         * Files which are added while or after closing are released by the threads adding them.
+         */
+        void close() {
+            stopped = true;
+            closed = true;
+            GenericFile<T> file;
+            while ((file = queue.poll()) != null) {
+                release.accept(file);
+            }
+        }
+
+        boolean isLimitHit() {
+            return limitHit;
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    private GenericFile<T> getExchangeFileProperty(Exchange exchange) {
+    protected GenericFile<T> getExchangeFileProperty(Exchange exchange) {
         return (GenericFile<T>) exchange.getProperty(ExchangePropertyKey.FILE_EXCHANGE_FILE);
     }
 
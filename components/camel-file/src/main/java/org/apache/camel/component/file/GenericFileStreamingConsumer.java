@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.Future;
+
+import org.apache.camel.component.file.GenericFileConsumer.StreamingPoll;
+
+/**
+ * A {@link GenericFileConsumer} which can poll the directory in the background, and process the files as they are
+ * found (streaming), instead of gathering all the files before processing.
+ */
+interface GenericFileStreamingConsumer<T> {
+
+    /**
+     * Whether to poll the directory in the background, and process the files as they are found, for the current poll.
+     */
+    boolean isStreamingPoll();
+
+    /**
+     * Polls the given directory for files to process in the background, where the valid files are added to the poll
+     * as they are found.
+     *
+     * @param  fileName the directory
+     * @param  poll     the poll to add the files to
+     * @return          a future which is done when the directory has been polled
+     */
+    Future<?> pollDirectoryStreaming(String fileName, StreamingPoll<T> poll);
+
+}
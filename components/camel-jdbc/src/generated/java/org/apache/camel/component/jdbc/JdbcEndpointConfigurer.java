@@ -25,6 +25,8 @@ public class JdbcEndpointConfigurer extends PropertyConfigurerSupport implements
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allownamedparameters":
         case "allowNamedParameters": target.setAllowNamedParameters(property(camelContext, boolean.class, value)); return true;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": target.setBatchGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "beanrowmapper":
         case "beanRowMapper": target.setBeanRowMapper(property(camelContext, org.apache.camel.component.jdbc.BeanRowMapper.class, value)); return true;
         case "connectionstrategy":
@@ -58,6 +60,8 @@ public class JdbcEndpointConfigurer extends PropertyConfigurerSupport implements
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allownamedparameters":
         case "allowNamedParameters": return boolean.class;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return boolean.class;
         case "beanrowmapper":
         case "beanRowMapper": return org.apache.camel.component.jdbc.BeanRowMapper.class;
         case "connectionstrategy":
@@ -92,6 +96,8 @@ public class JdbcEndpointConfigurer extends PropertyConfigurerSupport implements
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allownamedparameters":
         case "allowNamedParameters": return target.isAllowNamedParameters();
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return target.isBatchGroupedExchanges();
         case "beanrowmapper":
         case "beanRowMapper": return target.getBeanRowMapper();
         case "connectionstrategy":
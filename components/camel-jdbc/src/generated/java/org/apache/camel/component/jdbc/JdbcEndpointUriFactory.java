@@ -24,8 +24,9 @@ public class JdbcEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(15);
+        Set<String> props = new HashSet<>(16);
         props.add("allowNamedParameters");
+        props.add("batchGroupedExchanges");
         props.add("beanRowMapper");
         props.add("connectionStrategy");
         props.add("dataSourceName");
@@ -69,6 +69,8 @@ public class JdbcEndpoint extends DefaultEndpoint {
     private BeanRowMapper beanRowMapper = new DefaultBeanRowMapper();
     @UriParam(label = "advanced")
     private ConnectionStrategy connectionStrategy = new DefaultConnectionStrategy();
+    @UriParam(label = "producer,advanced")
+    private boolean batchGroupedExchanges;
 
     public JdbcEndpoint() {
     }
@@ -280,6 +282,19 @@ public class JdbcEndpoint extends DefaultEndpoint {
         this.connectionStrategy = connectionStrategy;
     }
 
+    public boolean isBatchGroupedExchanges() {
+        return batchGroupedExchanges;
+    }
+
+    /**
+     * Whether to execute a list of exchanges (such as the grouped exchanges from the aggregator) as one JDBC batch. The
+     * update count is set on each of the exchanges, and the exchange with the list fails if any of the statements
+     * failed.
+     */
+    public void setBatchGroupedExchanges(boolean batchGroupedExchanges) {
+        this.batchGroupedExchanges = batchGroupedExchanges;
+    }
+
     @Override
     protected String createEndpointUri() {
         return dataSourceName != null ? "jdbc:" + dataSourceName : "jdbc";
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.jdbc;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -27,9 +28,11 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.BatchProducer;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultProducer;
 import org.apache.camel.support.PropertyBindingSupport;
@@ -38,7 +41,7 @@ import org.apache.camel.support.SynchronizationAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class JdbcProducer extends DefaultProducer {
+public class JdbcProducer extends DefaultProducer implements BatchProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(JdbcProducer.class);
 
@@ -73,6 +76,141 @@ public class JdbcProducer extends DefaultProducer {
         }
     }
 
+    @Override
+    public boolean isBatchEnabled() {
+        return getEndpoint().isBatchGroupedExchanges();
+    }
+
+    /**
+     * Executes the SQL of the exchanges as one JDBC batch, and sets the update count of each exchange as the
+     * {@link JdbcConstants#JDBC_UPDATE_COUNT} header. When using headers as parameters, then all the exchanges must
+     * have the same SQL, which is executed as a batch of prepared statements.
+     * <p/>
+     * Exchanges that cannot be combined into a single JDBC batch (such as queries with a result set in streaming mode,
+     * or retrieving generated keys) are processed one by one.
+     * <p/>
+     * When resetting auto commit, then the batch is executed in one transaction, which is rolled back if any statement
+     * fails. Otherwise the statements that failed are set as exception on their exchange.
+     */
+    @Override
+    public void sendBatch(Exchange exchange, List<Exchange> exchanges) throws Exception {
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        String sql = exchanges.get(0).getIn().getBody(String.class);
+        boolean single = getEndpoint().getOutputType() == JdbcOutputType.StreamList;
+        for (Exchange item : exchanges) {
+            single |= item.getIn().getHeader(JdbcConstants.JDBC_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+            if (getEndpoint().isUseHeadersAsParameters()) {
+                single |= !Objects.equals(sql, item.getIn().getBody(String.class));
+            }
+        }
+        if (single) {
+            for (Exchange item : exchanges) {
+                try {
+                    process(item);
+                } catch (Exception e) {
+                    item.setException(e);
+                }
+            }
+            return;
+        }
+
+        boolean commit = getEndpoint().isResetAutoCommit();
+        Connection conn = null;
+        Statement stmt = null;
+        boolean autoCommit = false;
+        try {
+            conn = connectionStrategy.getConnection(dataSource);
+            if (commit) {
+                autoCommit = conn.getAutoCommit();
+                if (autoCommit) {
+                    conn.setAutoCommit(false);
+                }
+            }
+            stmt = createBatchStatement(exchanges, sql, conn);
+
+            LOG.debug("Executing JDBC batch of {} statements", exchanges.size());
+            try {
+                int[] updateCounts = stmt.executeBatch();
+                for (int i = 0; i < exchanges.size() && i < updateCounts.length; i++) {
+                    exchanges.get(i).getMessage().setHeader(JdbcConstants.JDBC_UPDATE_COUNT, updateCounts[i]);
+                }
+            } catch (BatchUpdateException e) {
+                if (commit) {
+                    // all the exchanges are rolled back
+                    throw e;
+                }
+                // map the result back to each exchange, as the driver may continue after a failed statement
+                int[] updateCounts = e.getUpdateCounts();
+                for (int i = 0; i < exchanges.size(); i++) {
+                    if (updateCounts != null && i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+                        exchanges.get(i).getMessage().setHeader(JdbcConstants.JDBC_UPDATE_COUNT, updateCounts[i]);
+                    } else {
+                        exchanges.get(i).setException(e);
+                    }
+                }
+            }
+            if (commit) {
+                conn.commit();
+            }
+        } catch (Exception e) {
+            try {
+                if (commit && conn != null) {
+                    conn.rollback();
+                }
+            } catch (Exception sqle) {
+                LOG.warn("Error occurred during JDBC rollback. This exception will be ignored.", sqle);
+            }
+            throw e;
+        } finally {
+            closeQuietly(stmt);
+            if (commit) {
+                resetAutoCommit(conn, autoCommit);
+            }
+            // a transactional connection is closed by the transaction manager
+            if (commit || !connectionStrategy.isConnectionTransactional(conn, dataSource)) {
+                closeQuietly(conn);
+            }
+        }
+    }
+
+    private Statement createBatchStatement(List<Exchange> exchanges, String sql, Connection conn) throws Exception {
+        if (getEndpoint().isUseHeadersAsParameters()) {
+            JdbcPrepareStatementStrategy strategy = getEndpoint().getPrepareStatementStrategy();
+            String preparedQuery = strategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters());
+            PreparedStatement ps = conn.prepareStatement(preparedQuery);
+            try {
+                bindParameters(exchanges.get(0), ps);
+                int expectedCount = ps.getParameterMetaData().getParameterCount();
+                for (Exchange exchange : exchanges) {
+                    if (expectedCount > 0) {
+                        Iterator<?> it = strategy.createPopulateIterator(sql, preparedQuery, expectedCount, exchange,
+                                exchange.getIn().getBody());
+                        strategy.populateStatement(ps, it, expectedCount);
+                    }
+                    ps.addBatch();
+                }
+            } catch (Exception e) {
+                closeQuietly(ps);
+                throw e;
+            }
+            return ps;
+        } else {
+            Statement stmt = conn.createStatement();
+            try {
+                bindParameters(exchanges.get(0), stmt);
+                for (Exchange exchange : exchanges) {
+                    stmt.addBatch(exchange.getIn().getBody(String.class));
+                }
+            } catch (Exception e) {
+                closeQuietly(stmt);
+                throw e;
+            }
+            return stmt;
+        }
+    }
+
     private void processingSqlBySettingAutoCommit(Exchange exchange) throws Exception {
         String sql = exchange.getIn().getBody(String.class);
         Connection conn = null;
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.sql.BatchUpdateException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JdbcBatchTest extends AbstractJdbcTestSupport {
+
+    @Test
+    public void testBatch() {
+        List<Exchange> exchanges = createExchanges("insert into customer values('cust4','claus')",
+                "insert into customer values('cust5','davsclaus')", "update customer set name = 'james' where id = 'cust1'");
+
+        Exchange out = template.send("direct:batch", e -> e.getMessage().setBody(exchanges));
+
+        assertNull(out.getException());
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals(1, exchange.getMessage().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+        }
+        assertEquals(5, countRows("customer"));
+    }
+
+    @Test
+    public void testBatchPartialFailure() {
+        List<Exchange> exchanges = createExchanges("insert into tableWithAutoIncr values (10, 'value10')",
+                "insert into tableWithAutoIncr values (1, 'value1')", "insert into tableWithAutoIncr values (11, 'value11')");
+
+        Exchange out = template.send("direct:batchNoCommit", e -> e.getMessage().setBody(exchanges));
+
+        // the statement with the duplicate key fails, but the other statements are executed
+        CamelExchangeException cause = assertInstanceOf(CamelExchangeException.class, out.getException());
+        assertInstanceOf(BatchUpdateException.class, cause.getCause());
+        assertEquals(1, exchanges.get(0).getMessage().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+        assertInstanceOf(BatchUpdateException.class, exchanges.get(1).getException());
+        assertEquals(1, exchanges.get(2).getMessage().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+        assertEquals(3, countRows("tableWithAutoIncr"));
+    }
+
+    @Test
+    public void testBatchFailureRollback() {
+        List<Exchange> exchanges = createExchanges("insert into tableWithAutoIncr values (10, 'value10')",
+                "insert into tableWithAutoIncr values (1, 'value1')");
+
+        Exchange out = template.send("direct:batch", e -> e.getMessage().setBody(exchanges));
+
+        // the batch is executed in one transaction which is rolled back
+        assertInstanceOf(BatchUpdateException.class, out.getException());
+        assertEquals(1, countRows("tableWithAutoIncr"));
+    }
+
+    private List<Exchange> createExchanges(String... sqls) {
+        List<Exchange> answer = new ArrayList<>();
+        for (String sql : sqls) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody(sql);
+            answer.add(exchange);
+        }
+        return answer;
+    }
+
+    private int countRows(String table) {
+        return new JdbcTemplate(db).queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:batch").to("jdbc:testdb?batchGroupedExchanges=true");
+                from("direct:batchNoCommit").to("jdbc:testdb?batchGroupedExchanges=true&resetAutoCommit=false");
+            }
+        };
+    }
+}
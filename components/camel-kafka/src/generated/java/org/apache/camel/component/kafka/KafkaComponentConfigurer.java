@@ -42,6 +42,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": getOrCreateConfiguration(target).setBatchGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": getOrCreateConfiguration(target).setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
         case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
@@ -162,6 +164,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "oauthTokenEndpointUri": getOrCreateConfiguration(target).setOauthTokenEndpointUri(property(camelContext, java.lang.String.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": getOrCreateConfiguration(target).setParallelProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": getOrCreateConfiguration(target).setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -304,6 +310,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return boolean.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
         case "batching": return boolean.class;
@@ -424,6 +432,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "oauthTokenEndpointUri": return java.lang.String.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -562,6 +574,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return getOrCreateConfiguration(target).isBatchGroupedExchanges();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return getOrCreateConfiguration(target).isBatchWithIndividualHeaders();
         case "batching": return getOrCreateConfiguration(target).isBatching();
@@ -682,6 +696,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "oauthTokenEndpointUri": return getOrCreateConfiguration(target).getOauthTokenEndpointUri();
         case "offsetrepository":
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return getOrCreateConfiguration(target).getParallelProcessingOrdering();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return getOrCreateConfiguration(target).getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
@@ -33,6 +33,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": target.getConfiguration().setAutoCommitIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": target.getConfiguration().setBatchGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": target.getConfiguration().setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
         case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
@@ -148,6 +150,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "oauthTokenEndpointUri": target.getConfiguration().setOauthTokenEndpointUri(property(camelContext, java.lang.String.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": target.getConfiguration().setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": target.getConfiguration().setParallelProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": target.getConfiguration().setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -273,6 +279,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return java.lang.Integer.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return boolean.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
         case "batching": return boolean.class;
@@ -388,6 +396,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "oauthTokenEndpointUri": return java.lang.String.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -514,6 +526,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return target.getConfiguration().getAutoCommitIntervalMs();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return target.getConfiguration().isBatchGroupedExchanges();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return target.getConfiguration().isBatchWithIndividualHeaders();
         case "batching": return target.getConfiguration().isBatching();
@@ -629,6 +643,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "oauthTokenEndpointUri": return target.getConfiguration().getOauthTokenEndpointUri();
         case "offsetrepository":
         case "offsetRepository": return target.getConfiguration().getOffsetRepository();
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return target.getConfiguration().getParallelProcessingOrdering();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return target.getConfiguration().getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
         case "partitionkey":
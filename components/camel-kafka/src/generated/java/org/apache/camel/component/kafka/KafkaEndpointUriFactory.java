@@ -24,12 +24,13 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(121);
+        Set<String> props = new HashSet<>(124);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
         props.add("autoCommitIntervalMs");
         props.add("autoOffsetReset");
+        props.add("batchGroupedExchanges");
         props.add("batchWithIndividualHeaders");
         props.add("batching");
         props.add("batchingIntervalMs");
@@ -89,6 +90,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("oauthScope");
         props.add("oauthTokenEndpointUri");
         props.add("offsetRepository");
+        props.add("parallelProcessingOrdering");
+        props.add("parallelProcessingThreads");
         props.add("partitionAssignor");
         props.add("partitionKey");
         props.add("partitioner");
@@ -238,6 +238,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private Integer sendBufferBytes = 131072;
     @UriParam(label = "producer,advanced")
     private boolean recordMetadata;
+    @UriParam(label = "producer,advanced")
+    private boolean batchGroupedExchanges;
     // max.in.flight.requests.per.connection
     @UriParam(label = "producer", defaultValue = "5")
     private Integer maxInFlightRequest = 5;
@@ -403,6 +405,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean batching;
     @UriParam(label = "consumer")
     private Integer batchingIntervalMs;
+    @UriParam(label = "consumer", defaultValue = "0")
+    private int parallelProcessingThreads;
+    @UriParam(label = "consumer", defaultValue = "key", enums = "key,partition")
+    private String parallelProcessingOrdering = "key";
 
     @UriParam(label = "producer")
     private String transactionalId;
@@ -2067,6 +2073,20 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.recordMetadata = recordMetadata;
     }
 
+    public boolean isBatchGroupedExchanges() {
+        return batchGroupedExchanges;
+    }
+
+    /**
+     * Whether to send a list of exchanges (such as the grouped exchanges from the aggregator) as a record for each
+     * exchange, and wait for all of them to be acknowledged. The record metadata is set on each of the exchanges, and
+     * the exchange with the list fails if any of the records could not be sent. When using transactions, then the
+     * records are sent in the transaction of the exchange with the list.
+     */
+    public void setBatchGroupedExchanges(boolean batchGroupedExchanges) {
+        this.batchGroupedExchanges = batchGroupedExchanges;
+    }
+
     public String getInterceptorClasses() {
         return interceptorClasses;
     }
@@ -2272,6 +2292,40 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.batchingIntervalMs = batchingIntervalMs;
     }
 
+    public int getParallelProcessingThreads() {
+        return parallelProcessingThreads;
+    }
+
+    /**
+     * Number of worker threads to process the records from each poll in parallel, while keeping the ordering per key or
+     * per partition (see parallelProcessingOrdering). This allows processing with more concurrency than the number of
+     * partitions of the topic. The default is 0, which processes the records one by one on the consumer thread.
+     *
+     * The worker threads are shared by all the consumers (see consumersCount). The next poll happens when all the
+     * records of the current poll have been processed, so increase maxPollRecords to keep the worker threads busy. The
+     * offsets are committed up to the last record of each partition, where the record and all records before are
+     * processed. This cannot be used together with batching or allowManualCommit.
+     */
+    public void setParallelProcessingThreads(int parallelProcessingThreads) {
+        this.parallelProcessingThreads = parallelProcessingThreads;
+    }
+
+    public String getParallelProcessingOrdering() {
+        return parallelProcessingOrdering;
+    }
+
+    /**
+     * In parallel processing mode (see parallelProcessingThreads), then this option is specifying the ordering to keep
+     * when processing the records in parallel.
+     *
+     * With key, then the records with the same key in a partition are processed in order, and records with different
+     * keys are processed in parallel. With partition, then the records of a partition are processed in order, and the
+     * records of different partitions are processed in parallel.
+     */
+    public void setParallelProcessingOrdering(String parallelProcessingOrdering) {
+        this.parallelProcessingOrdering = parallelProcessingOrdering;
+    }
+
     public boolean isTransacted() {
         return transacted;
     }
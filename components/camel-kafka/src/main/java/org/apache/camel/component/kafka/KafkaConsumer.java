@@ -57,6 +57,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService parallelProcessingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -146,6 +147,17 @@ public class KafkaConsumer extends DefaultConsumer
         }
 
         executor = endpoint.createExecutor(this);
+        if (endpoint.getConfiguration().getParallelProcessingThreads() > 0) {
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException("The option parallelProcessingThreads cannot be used with batching");
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                // the offsets are committed up to the watermark of the processed records, not by the worker threads
+                throw new IllegalArgumentException(
+                        "The option parallelProcessingThreads cannot be used with allowManualCommit");
+            }
+            parallelProcessingExecutor = endpoint.createParallelProcessingExecutor(this);
+        }
 
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
@@ -219,6 +231,11 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (parallelProcessingExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(parallelProcessingExecutor);
+            parallelProcessingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -228,6 +245,13 @@ public class KafkaConsumer extends DefaultConsumer
         super.doStop();
     }
 
+    /**
+     * The worker threads to process the records in parallel, or <tt>null</tt> if not using parallel processing
+     */
+    public ExecutorService getParallelProcessingExecutor() {
+        return parallelProcessingExecutor;
+    }
+
     @Override
     protected void doSuspend() throws Exception {
         for (KafkaFetchRecords task : tasks) {
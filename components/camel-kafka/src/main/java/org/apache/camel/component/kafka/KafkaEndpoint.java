@@ -209,6 +209,11 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
                 "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumersCount());
     }
 
+    public ExecutorService createParallelProcessingExecutor(Object source) {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(source,
+                "KafkaParallelProcessing[" + configuration.getTopic() + "]", configuration.getParallelProcessingThreads());
+    }
+
     public ExecutorService createProducerExecutor(Object source) {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
@@ -37,6 +37,7 @@ import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFac
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.component.kafka.consumer.support.TopicHelper;
 import org.apache.camel.component.kafka.consumer.support.batching.KafkaRecordBatchingProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.parallel.KafkaRecordParallelProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.resume.ResumeRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordStreamingProcessorFacade;
@@ -418,6 +419,9 @@ public class KafkaFetchRecords implements Runnable {
         if (configuration.isBatching()) {
             return new KafkaRecordBatchingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
+        } else if (kafkaConsumer.getParallelProcessingExecutor() != null) {
+            return new KafkaRecordParallelProcessorFacade(
+                    kafkaConsumer, threadId, commitManager, consumerListener);
         } else {
             return new KafkaRecordStreamingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
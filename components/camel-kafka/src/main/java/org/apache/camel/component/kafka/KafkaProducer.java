@@ -29,6 +29,7 @@ import java.util.concurrent.Future;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProducer;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -63,7 +64,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.component.kafka.producer.support.ProducerUtil.tryConvertToSerializedType;
 
-public class KafkaProducer extends DefaultAsyncProducer implements RouteIdAware {
+public class KafkaProducer extends DefaultAsyncProducer implements BatchProducer, RouteIdAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaProducer.class);
 
@@ -500,6 +501,58 @@ public class KafkaProducer extends DefaultAsyncProducer implements RouteIdAware
         return true;
     }
 
+    @Override
+    public boolean isBatchEnabled() {
+        return configuration.isBatchGroupedExchanges();
+    }
+
+    /**
+     * Sends a record for each of the exchanges, and waits for all of them to be acknowledged, so the records are sent
+     * to the brokers in as few requests as the producer batching allows. The record metadata of each exchange is set as
+     * the {@link KafkaConstants#KAFKA_RECORD_META} header, or the exception if the record could not be sent.
+     * <p/>
+     * When using transactions, then all the records are sent in the Kafka transaction of the unit of work of the
+     * exchange, which is aborted when the exchange fails because any of the records failed.
+     */
+    @Override
+    public void sendBatch(Exchange exchange, List<Exchange> exchanges) throws Exception {
+        if (transactionId != null) {
+            startKafkaTransaction(exchange);
+        }
+
+        List<Future<RecordMetadata>> futures = new ArrayList<>(exchanges.size());
+        for (Exchange item : exchanges) {
+            try {
+                ProducerRecord<Object, Object> record = createRecord(item, item.getMessage());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Sending message to topic: {}, partition: {}, key: {}", record.topic(),
+                            record.partition(), record.key());
+                }
+                futures.add(kafkaProducer.send(record));
+            } catch (Exception e) {
+                item.setException(e);
+                futures.add(null);
+            }
+        }
+
+        // wait for them all to be sent, and map the result back to each exchange
+        for (int i = 0; i < exchanges.size(); i++) {
+            Future<RecordMetadata> future = futures.get(i);
+            if (future == null) {
+                continue;
+            }
+            Exchange item = exchanges.get(i);
+            try {
+                RecordMetadata metadata = future.get();
+                if (configuration.isRecordMetadata()) {
+                    ProducerUtil.setRecordMetadata(item, Collections.singletonList(metadata));
+                }
+            } catch (ExecutionException e) {
+                item.setException(e.getCause());
+            }
+        }
+    }
+
     private void processIterableAsync(Exchange exchange, KafkaProducerCallBack producerCallBack, Message message) {
         final Iterator<KeyValueHolder<Object, ProducerRecord<Object, Object>>> c = createRecordIterable(exchange, message);
 
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a single record on a worker thread. Unlike the streaming processor, the offset is not recorded here, as
+ * the records are completed out of order, but by the facade when all the records before are completed.
+ */
+final class KafkaRecordParallelProcessor extends KafkaRecordProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessor.class);
+
+    private final boolean autoCommitEnabled;
+    private final KafkaConfiguration configuration;
+    private final Processor processor;
+
+    KafkaRecordParallelProcessor(KafkaConfiguration configuration, Processor processor) {
+        this.autoCommitEnabled = configuration.isAutoCommitEnable();
+        this.configuration = configuration;
+        this.processor = processor;
+    }
+
+    ProcessingResult processExchange(
+            KafkaConsumer camelKafkaConsumer, TopicPartition topicPartition, boolean lastRecord,
+            ConsumerRecord<Object, Object> consumerRecord) {
+
+        final Exchange exchange = camelKafkaConsumer.createExchange(false);
+
+        Message message = exchange.getMessage();
+
+        setupExchangeMessage(message, consumerRecord);
+
+        propagateHeaders(configuration, consumerRecord, exchange);
+
+        // if not auto commit then we have additional information on the exchange
+        if (!autoCommitEnabled) {
+            message.setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, lastRecord);
+            message.setHeader(KafkaConstants.LAST_POLL_RECORD, lastRecord);
+        }
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        boolean breakOnErrorExit = false;
+        boolean failed = exchange.getException() != null;
+        if (failed) {
+            LOG.debug("An exception was thrown for consumerRecord at partition {} and offset {}",
+                    consumerRecord.partition(), consumerRecord.offset());
+            if (configuration.isBreakOnFirstError()) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Error during processing {} from topic: {} due to {}", exchange, topicPartition.topic(),
+                            exchange.getException().getMessage());
+                }
+                breakOnErrorExit = true;
+            } else {
+                // will handle/log the exception and then continue to next
+                camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                        exchange.getException());
+            }
+        }
+
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        return new ProcessingResult(
+                breakOnErrorExit, failed, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records from a poll in parallel on the worker threads of the consumer, while keeping the ordering per
+ * key or per partition.
+ * <p/>
+ * The records that must be processed in order (same key, or same partition) are chained, so a record is processed when
+ * the previous record has been processed, while records with different keys are processed in parallel. When all the
+ * records of the poll have been processed, then the offset of each partition is recorded and committed up to the last
+ * record where the record and all records before have been processed (the watermark), so records that were skipped
+ * (such as when stopping or after an error with breakOnFirstError) are consumed again. When a record was not processed,
+ * then a break result is returned so the consumer reconnects and consumes again from the committed offsets.
+ * <p/>
+ * Manual commits are not supported, as the offsets are committed by the facade.
+ */
+public class KafkaRecordParallelProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessorFacade.class);
+
+    private final KafkaRecordParallelProcessor kafkaRecordProcessor;
+    private final ExecutorService executorService;
+    private final boolean orderingByKey;
+    private volatile boolean breakOnErrorHit;
+
+    public KafkaRecordParallelProcessorFacade(
+                                              KafkaConsumer camelKafkaConsumer, String threadId,
+                                              CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.kafkaRecordProcessor = new KafkaRecordParallelProcessor(configuration, camelKafkaConsumer.getProcessor());
+        this.executorService = camelKafkaConsumer.getParallelProcessingExecutor();
+        this.orderingByKey = !"partition".equalsIgnoreCase(configuration.getParallelProcessingOrdering());
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        if (allRecords.isEmpty()) {
+            return result;
+        }
+        breakOnErrorHit = false;
+
+        // dispatch the records to the worker threads, chaining the records to process in order
+        Map<TopicPartition, List<RecordTask>> tasks = new LinkedHashMap<>();
+        Map<Object, CompletableFuture<Void>> lanes = new HashMap<>();
+        try {
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+                logRecordsInPartition(partitionRecords, partition);
+
+                List<RecordTask> partitionTasks = new ArrayList<>(partitionRecords.size());
+                for (int i = 0; i < partitionRecords.size(); i++) {
+                    ConsumerRecord<Object, Object> consumerRecord = partitionRecords.get(i);
+                    RecordTask task = new RecordTask(partition, consumerRecord, i == partitionRecords.size() - 1);
+                    partitionTasks.add(task);
+
+                    Object lane = orderingByKey ? new OrderingKey(partition, keyOf(consumerRecord)) : partition;
+                    CompletableFuture<Void> previous = lanes.get(lane);
+                    lanes.put(lane, previous != null
+                            ? previous.thenRunAsync(task, executorService)
+                            : CompletableFuture.runAsync(task, executorService));
+                }
+                tasks.put(partition, partitionTasks);
+            }
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Worker threads rejected the record as the consumer is stopping");
+        }
+
+        LOG.debug("Dispatched records on {} partitions to {} lanes", tasks.size(), lanes.size());
+
+        // wait for all the records to be processed
+        try {
+            CompletableFuture.allOf(lanes.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            LOG.debug("Error waiting for the records to be processed: {}", e.getMessage(), e);
+        }
+
+        // record and commit the offsets up to the watermark of each partition
+        ProcessingResult breakResult = null;
+        for (Map.Entry<TopicPartition, List<RecordTask>> entry : tasks.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            for (RecordTask task : entry.getValue()) {
+                ProcessingResult taskResult = task.result;
+                if (taskResult == null) {
+                    // not processed so the watermark ends here, and as the consumer has already fetched the records
+                    // after it, then break to reconnect and consume again from the committed offset
+                    if (breakResult == null && !isStopping()) {
+                        LOG.debug("Record on partition {} with offset {} was not processed. Will consume again",
+                                partition.partition(), task.consumerRecord.offset());
+                        breakResult = new ProcessingResult(
+                                true, true, partition.topic(), partition.partition(), task.consumerRecord.offset());
+                    }
+                    break;
+                }
+                result = taskResult;
+                if (result.isBreakOnErrorHit()) {
+                    breakResult = result;
+                    break;
+                }
+                commitManager.recordOffset(partition, result.getOffset());
+
+                if (consumerListener != null) {
+                    if (!consumerListener.afterProcess(result)) {
+                        commitManager.commit(partition);
+                        return result;
+                    }
+                }
+            }
+
+            LOG.debug("Committing offset of processed records on partition {}", partition.partition());
+            commitManager.commit(partition);
+        }
+
+        return breakResult != null ? breakResult : result;
+    }
+
+    private static Object keyOf(ConsumerRecord<Object, Object> consumerRecord) {
+        Object key = consumerRecord.key();
+        // byte arrays do not implement equals/hashCode
+        if (key instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes);
+        }
+        return key;
+    }
+
+    /**
+     * The records with the same ordering key are processed in order
+     */
+    private record OrderingKey(TopicPartition partition, Object key) {
+    }
+
+    private final class RecordTask implements Runnable {
+        private final TopicPartition partition;
+        private final ConsumerRecord<Object, Object> consumerRecord;
+        private final boolean lastRecord;
+        private volatile ProcessingResult result;
+
+        RecordTask(TopicPartition partition, ConsumerRecord<Object, Object> consumerRecord, boolean lastRecord) {
+            this.partition = partition;
+            this.consumerRecord = consumerRecord;
+            this.lastRecord = lastRecord;
+        }
+
+        @Override
+        public void run() {
+            // skip the record when stopping or breaking on error, so it is consumed again
+            if (isStopping() || breakOnErrorHit) {
+                return;
+            }
+
+            logRecord(consumerRecord);
+            try {
+                result = kafkaRecordProcessor.processExchange(camelKafkaConsumer, partition, lastRecord, consumerRecord);
+                if (result.isBreakOnErrorHit()) {
+                    breakOnErrorHit = true;
+                }
+            } catch (Exception e) {
+                LOG.warn("Error processing record on partition {} with offset {} due to {}. The record will be consumed again.",
+                        consumerRecord.partition(), consumerRecord.offset(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+public class KafkaProducerBatchTest extends CamelTestSupport {
+
+    @EndpointInject("mock:done")
+    protected MockEndpoint doneEndpoint;
+
+    // fails to acknowledge the records with the value fail
+    private final MockProducer<String, String> mockProducer
+            = new MockProducer<>(true, null, new StringSerializer(), new StringSerializer()) {
+                @Override
+                public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record, Callback callback) {
+                    Future<RecordMetadata> answer = super.send(record, callback);
+                    return "fail".equals(record.value())
+                            ? CompletableFuture.failedFuture(new KafkaException("Failed to send " + record.value())) : answer;
+                }
+            };
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+
+        KafkaClientFactory kcf = Mockito.mock(KafkaClientFactory.class);
+        Mockito.when(kcf.getProducer(any(Properties.class))).thenReturn(mockProducer);
+
+        KafkaComponent kafka = new KafkaComponent();
+        kafka.getConfiguration().setBrokers("broker1:1234,broker2:4567");
+        kafka.getConfiguration().setRecordMetadata(true);
+        kafka.setKafkaClientFactory(kcf);
+
+        context.addComponent("kafka", kafka);
+
+        return context;
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        doneEndpoint.expectedMessageCount(1);
+
+        template.sendBody("direct:start", "a");
+        template.sendBody("direct:start", "b");
+        template.sendBody("direct:start", "c");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(3, mockProducer.history().size());
+        List<?> exchanges = doneEndpoint.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        for (Object o : exchanges) {
+            Exchange exchange = (Exchange) o;
+            assertNull(exchange.getException());
+            List<?> metadata = exchange.getMessage().getHeader(KafkaConstants.KAFKA_RECORD_META, List.class);
+            assertEquals(1, metadata.size());
+        }
+    }
+
+    @Test
+    public void testBatchPartialFailureInTransaction() {
+        List<Exchange> exchanges = new ArrayList<>();
+        for (String body : List.of("a", "fail", "c")) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody(body);
+            exchanges.add(exchange);
+        }
+
+        Exchange out = template.send("direct:transacted", e -> e.getMessage().setBody(exchanges));
+
+        // the records are sent in the transaction of the exchange, which is aborted as a record failed
+        CamelExchangeException cause = assertInstanceOf(CamelExchangeException.class, out.getException());
+        assertInstanceOf(KafkaException.class, cause.getCause());
+        assertEquals(1, exchanges.get(0).getMessage().getHeader(KafkaConstants.KAFKA_RECORD_META, List.class).size());
+        assertInstanceOf(KafkaException.class, exchanges.get(1).getException());
+        assertEquals(1, exchanges.get(2).getMessage().getHeader(KafkaConstants.KAFKA_RECORD_META, List.class).size());
+        assertTrue(mockProducer.transactionAborted());
+        assertFalse(mockProducer.transactionCommitted());
+        assertEquals(0, mockProducer.history().size());
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(constant(true)).completionSize(3).aggregationStrategy(AggregationStrategies.groupedExchange())
+                        .to("kafka:batch?batchGroupedExchanges=true")
+                        .to("mock:done");
+
+                from("direct:transacted")
+                        .to("kafka:batch?batchGroupedExchanges=true&additional-properties[transactional.id]=1234"
+                            + "&additional-properties[enable.idempotence]=true&additional-properties[retries]=5");
+            }
+        };
+    }
+}
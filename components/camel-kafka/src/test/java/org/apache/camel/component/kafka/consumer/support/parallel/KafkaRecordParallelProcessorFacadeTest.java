@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaRecordParallelProcessorFacadeTest {
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final KafkaConsumer kafkaConsumer = mock(KafkaConsumer.class);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private final TopicPartition partition0 = new TopicPartition("test-topic", 0);
+    private final TopicPartition partition1 = new TopicPartition("test-topic", 1);
+    private final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setup() {
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(kafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(kafkaConsumer.getParallelProcessingExecutor()).thenReturn(executorService);
+        when(kafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(kafkaConsumer.createExchange(false)).thenAnswer(i -> new DefaultExchange(context));
+
+        configuration.setParallelProcessingThreads(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void processRecordsInOrderPerKey() {
+        when(kafkaConsumer.getProcessor()).thenReturn(recordingProcessor(-1));
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(kafkaConsumer, "0", commitManager, null);
+        ProcessingResult result = facade.processPolledRecords(records());
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertEquals(6, processed.size());
+        // records with the same key are processed in the order of their offsets
+        assertEquals(List.of("a-0", "a-2"), processed.stream().filter(s -> s.startsWith("a-")).toList());
+        assertEquals(List.of("b-10", "b-12"), processed.stream().filter(s -> s.startsWith("b-")).toList());
+
+        verify(commitManager).recordOffset(partition0, 2L);
+        verify(commitManager).recordOffset(partition1, 12L);
+        verify(commitManager).commit(partition0);
+        verify(commitManager).commit(partition1);
+    }
+
+    @Test
+    void commitUpToWatermarkOnBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+        configuration.setParallelProcessingOrdering("partition");
+        when(kafkaConsumer.getProcessor()).thenReturn(recordingProcessor(1));
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(kafkaConsumer, "0", commitManager, null);
+        ProcessingResult result = facade.processPolledRecords(records());
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(1, result.getOffset());
+
+        // the failed record and the records after it in the partition are consumed again
+        verify(commitManager).recordOffset(partition0, 0L);
+        verify(commitManager, never()).recordOffset(eq(partition0), eq(1L));
+        verify(commitManager, never()).recordOffset(eq(partition0), eq(2L));
+        verify(commitManager).commit(partition0);
+        assertFalse(processed.contains("a-2"));
+    }
+
+    @Test
+    void breakWhenRecordNotProcessed() {
+        configuration.setParallelProcessingOrdering("partition");
+        when(kafkaConsumer.getProcessor()).thenReturn(recordingProcessor(1));
+        // the record cannot be processed as handling the error fails
+        ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+        doThrow(new IllegalStateException("Forced")).when(exceptionHandler).handleException(any(), any(), any());
+        when(kafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(kafkaConsumer, "0", commitManager, null);
+        ProcessingResult result = facade.processPolledRecords(records());
+
+        // the consumer reconnects to consume the record and the records after it in the partition again
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(0, result.getPartition());
+        assertEquals(1, result.getOffset());
+
+        verify(commitManager).recordOffset(partition0, 0L);
+        verify(commitManager, never()).recordOffset(eq(partition0), eq(2L));
+        verify(commitManager).recordOffset(partition1, 12L);
+        verify(commitManager).commit(partition0);
+        verify(commitManager).commit(partition1);
+    }
+
+    private Processor recordingProcessor(long failOffset) {
+        return exchange -> {
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            if (offset == failOffset) {
+                throw new IllegalStateException("Forced");
+            }
+            processed.add(exchange.getMessage().getHeader(KafkaConstants.KEY) + "-" + offset);
+        };
+    }
+
+    private ConsumerRecords<Object, Object> records() {
+        List<ConsumerRecord<Object, Object>> records0 = List.of(
+                new ConsumerRecord<>("test-topic", 0, 0L, "a", "v0"),
+                new ConsumerRecord<>("test-topic", 0, 1L, "c", "v1"),
+                new ConsumerRecord<>("test-topic", 0, 2L, "a", "v2"));
+        List<ConsumerRecord<Object, Object>> records1 = List.of(
+                new ConsumerRecord<>("test-topic", 1, 10L, "b", "v10"),
+                new ConsumerRecord<>("test-topic", 1, 11L, "d", "v11"),
+                new ConsumerRecord<>("test-topic", 1, 12L, "b", "v12"));
+        return new ConsumerRecords<>(Map.of(partition0, records0, partition1, records1), Map.of());
+    }
+}
@@ -16,12 +16,16 @@
  */
 package org.apache.camel.component.mina;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.Category;
 import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.EndpointServiceLocation;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
@@ -33,10 +37,12 @@ import org.apache.camel.util.ObjectHelper;
  */
 @UriEndpoint(firstVersion = "2.10.0", scheme = "mina", title = "Mina", syntax = "mina:protocol:host:port",
              category = { Category.NETWORKING }, headersClass = MinaConstants.class)
+@ManagedResource(description = "Managed MinaEndpoint")
 public class MinaEndpoint extends DefaultEndpoint implements MultipleConsumersSupport, EndpointServiceLocation {
 
     @UriParam
     private MinaConfiguration configuration;
+    private final LongAdder zeroCopyBytes = new LongAdder();
 
     public MinaEndpoint() {
     }
@@ -63,6 +69,19 @@ public class MinaEndpoint extends DefaultEndpoint implements MultipleConsumersSu
         return !configuration.isSync();
     }
 
+    /**
+     * Number of bytes the producer has sent without copying the content through the JVM heap, by sending file bodies
+     * directly from the file system to the socket.
+     */
+    @ManagedAttribute(description = "Number of bytes sent without copying the content through the JVM heap")
+    public long getZeroCopyBytes() {
+        return zeroCopyBytes.sum();
+    }
+
+    void addZeroCopyBytes(long bytes) {
+        zeroCopyBytes.add(bytes);
+    }
+
     @Override
     public Producer createProducer() throws Exception {
         ObjectHelper.notNull(configuration, "configuration");
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.mina;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -29,10 +32,14 @@ import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultProducer;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.mina.core.file.DefaultFileRegion;
+import org.apache.mina.core.file.FileRegion;
 import org.apache.mina.core.filterchain.DefaultIoFilterChainBuilder;
 import org.apache.mina.core.filterchain.IoFilter;
 import org.apache.mina.core.future.CloseFuture;
@@ -165,7 +172,21 @@ public class MinaProducer extends DefaultProducer {
             LOG.debug("Writing body: {}", out);
         }
         // write the body
-        MinaHelper.writeBody(session, body, exchange, writeTimeout);
+        FileChannel fileChannel = null;
+        try {
+            File file = isFileRegionSupported() ? getFileBody(body) : null;
+            if (file != null) {
+                // send the file directly from the file system to the socket (zero-copy)
+                fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                body = new DefaultFileRegion(fileChannel, 0, fileChannel.size());
+            }
+            MinaHelper.writeBody(session, body, exchange, writeTimeout);
+            if (body instanceof FileRegion region) {
+                getEndpoint().addZeroCopyBytes(region.getWrittenBytes());
+            }
+        } finally {
+            IOHelper.close(fileChannel);
+        }
 
         if (sync) {
             // wait for response, consider timeout
@@ -204,6 +225,27 @@ public class MinaProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Whether a file body can be sent as a {@link DefaultFileRegion}, which sends the file directly from the file
+     * system to the socket. This requires TCP without SSL, codecs or custom filters, as the codecs are not in use for
+     * file regions.
+     */
+    protected boolean isFileRegionSupported() {
+        return "tcp".equals(configuration.getProtocol()) && configuration.getCodec() == null
+                && !configuration.isAllowDefaultCodec() && !configuration.isTransferExchange()
+                && configuration.getSslContextParameters() == null && ObjectHelper.isEmpty(configuration.getFilters());
+    }
+
+    private static File getFileBody(Object body) {
+        if (body instanceof WrappedFile<?> wrapped) {
+            body = wrapped.getFile();
+        }
+        if (body instanceof File file && file.isFile()) {
+            return file;
+        }
+        return null;
+    }
+
     protected void maybeDisconnectOnDone(Exchange exchange) throws InterruptedException {
         if (session == null) {
             return;
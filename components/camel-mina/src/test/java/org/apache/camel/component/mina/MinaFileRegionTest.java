@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mina;
+
+import java.io.File;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MinaFileRegionTest extends BaseMinaTest {
+
+    private int textlinePort;
+
+    @Test
+    public void testFileRegion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        String uri = "mina:tcp://localhost:" + getPort() + "?sync=false&allowDefaultCodec=false";
+        template.sendBody(uri, new File("src/test/data/message1.txt"));
+
+        mock.assertIsSatisfied();
+        assertEquals(11, context.getEndpoint(uri, MinaEndpoint.class).getZeroCopyBytes());
+    }
+
+    @Test
+    public void testFileWithCodec() throws Exception {
+        // the file is not sent as a file region, as the codec is not in use for file regions
+        MockEndpoint mock = getMockEndpoint("mock:textline");
+        mock.expectedBodiesReceived("Hello World");
+
+        String uri = "mina:tcp://localhost:" + textlinePort + "?sync=false&textline=true";
+        template.sendBody(uri, new File("src/test/data/message1.txt"));
+
+        mock.assertIsSatisfied();
+        assertEquals(0, context.getEndpoint(uri, MinaEndpoint.class).getZeroCopyBytes());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        textlinePort = getNextPort();
+        return new RouteBuilder() {
+
+            public void configure() {
+                fromF("mina:tcp://localhost:%1$s?sync=false&allowDefaultCodec=false", getPort())
+                        .convertBodyTo(String.class).to("mock:result");
+
+                fromF("mina:tcp://localhost:%1$s?sync=false&textline=true", textlinePort)
+                        .to("mock:textline");
+            }
+        };
+    }
+}
@@ -27,6 +27,8 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "appName": target.setAppName(property(camelContext, java.lang.String.class, value)); return true;
         case "authsource":
         case "authSource": target.setAuthSource(property(camelContext, java.lang.String.class, value)); return true;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": target.setBatchGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "changestreamtoken":
@@ -141,6 +143,8 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "appName": return java.lang.String.class;
         case "authsource":
         case "authSource": return java.lang.String.class;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return boolean.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "changestreamtoken":
@@ -256,6 +260,8 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "appName": return target.getAppName();
         case "authsource":
         case "authSource": return target.getAuthSource();
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return target.isBatchGroupedExchanges();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "changestreamtoken":
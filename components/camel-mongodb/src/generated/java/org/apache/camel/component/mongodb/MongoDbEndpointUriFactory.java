@@ -24,9 +24,10 @@ public class MongoDbEndpointUriFactory extends org.apache.camel.support.componen
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(59);
+        Set<String> props = new HashSet<>(60);
         props.add("appName");
         props.add("authSource");
+        props.add("batchGroupedExchanges");
         props.add("bridgeErrorHandler");
         props.add("changeStreamToken");
         props.add("changeStreamTokenRepository");
@@ -102,6 +102,8 @@ public class MongoDbEndpoint extends DefaultEndpoint implements EndpointServiceL
     private boolean dynamicity;
     @UriParam(label = "advanced")
     private boolean writeResultAsHeader;
+    @UriParam(label = "producer,advanced")
+    private boolean batchGroupedExchanges;
     @UriParam(label = "consumer", enums = "tailable,changeStreams", defaultValue = "tailable")
     private String consumerType;
     @UriParam(label = "advanced", defaultValue = "1000", javaType = "java.time.Duration")
@@ -741,6 +743,19 @@ public class MongoDbEndpoint extends DefaultEndpoint implements EndpointServiceL
         this.writeResultAsHeader = writeResultAsHeader;
     }
 
+    public boolean isBatchGroupedExchanges() {
+        return batchGroupedExchanges;
+    }
+
+    /**
+     * Whether to insert a list of exchanges (such as the grouped exchanges from the aggregator) with one unordered
+     * insertMany. The id of the inserted document is set on each of the exchanges, and the exchange with the list fails
+     * if any of the documents failed to be inserted.
+     */
+    public void setBatchGroupedExchanges(boolean batchGroupedExchanges) {
+        this.batchGroupedExchanges = batchGroupedExchanges;
+    }
+
     public MongoDbOutputType getOutputType() {
         return outputType;
     }
@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
@@ -36,6 +38,7 @@ import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndReplaceOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.UpdateOptions;
@@ -43,6 +46,7 @@ import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.client.result.UpdateResult;
+import org.apache.camel.BatchProducer;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Processor;
@@ -82,7 +86,7 @@ import static org.apache.camel.component.mongodb.MongoDbConstants.WRITERESULT;
 /**
  * The MongoDb producer.
  */
-public class MongoDbProducer extends DefaultProducer {
+public class MongoDbProducer extends DefaultProducer implements BatchProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(MongoDbProducer.class);
 
@@ -116,7 +120,92 @@ public class MongoDbProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        MongoDbOperation operation = resolveOperation(exchange);
+
+        try {
+            invokeOperation(operation, exchange);
+        } catch (Exception e) {
+            throw MongoDbComponent.wrapInCamelMongoDbException(e);
+        }
+    }
+
+    @Override
+    public boolean isBatchEnabled() {
+        return endpoint.isBatchGroupedExchanges();
+    }
+
+    /**
+     * Inserts the documents of the exchanges with a single insertMany, and sets the id of the inserted document (or the
+     * error) on each exchange. The exchanges are processed one by one when not all of them are insert operations into
+     * the endpoint collection.
+     */
+    @Override
+    public void sendBatch(Exchange exchange, List<Exchange> exchanges) throws Exception {
+        boolean insertMany = true;
+        for (Exchange item : exchanges) {
+            if (resolveOperation(item) != MongoDbOperation.insert
+                    || endpoint.isDynamicity() && (item.getIn().getHeader(DATABASE) != null
+                            || item.getIn().getHeader(COLLECTION) != null)) {
+                insertMany = false;
+                break;
+            }
+        }
+        if (!insertMany) {
+            for (Exchange item : exchanges) {
+                try {
+                    process(item);
+                } catch (Exception e) {
+                    item.setException(e);
+                }
+            }
+            return;
+        }
+
+        // the exchanges with a document to insert
+        List<Exchange> inserts = new ArrayList<>(exchanges.size());
+        List<Document> documents = new ArrayList<>(exchanges.size());
+        for (Exchange item : exchanges) {
+            Object body = item.getIn().getBody();
+            Document document = body instanceof Document doc
+                    ? doc : item.getContext().getTypeConverter().tryConvertTo(Document.class, item, body);
+            if (document == null) {
+                item.setException(new CamelMongoDbException(
+                        "MongoDB operation = insert, Body is not conversible to type Document"));
+            } else {
+                inserts.add(item);
+                documents.add(document);
+            }
+        }
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, BulkWriteError> errors = Collections.emptyMap();
+        try {
+            calculateCollection(inserts.get(0)).insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            errors = e.getWriteErrors().stream().collect(Collectors.toMap(BulkWriteError::getIndex, Function.identity()));
+        }
+
+        for (int i = 0; i < inserts.size(); i++) {
+            Exchange item = inserts.get(i);
+            BulkWriteError error = errors.get(i);
+            if (error != null) {
+                item.setException(new CamelMongoDbException(
+                        "MongoDB operation = insert, Error inserting document: " + error.getMessage()));
+            } else {
+                Document document = documents.get(i);
+                item.getIn().setHeader(OID, document.get(MONGO_ID));
+                copyHeaders(item);
+                moveBodyToOutIfResultIsReturnedAsHeader(item, MongoDbOperation.insert);
+                processAndTransferResult(document, item, MongoDbOperation.insert);
+            }
+        }
+    }
+
+    private MongoDbOperation resolveOperation(Exchange exchange) throws CamelMongoDbException {
         MongoDbOperation operation = endpoint.getOperation();
+
         Object header = exchange.getIn().getHeader(OPERATION_HEADER);
         if (header != null) {
             LOG.debug("Overriding default operation with operation specified on header: {}", header);
@@ -131,13 +220,7 @@ public class MongoDbProducer extends DefaultProducer {
                 throw new CamelMongoDbException("Operation specified on header is not supported. Value: " + header, e);
             }
         }
-
-        try {
-            invokeOperation(operation, exchange);
-        } catch (Exception e) {
-            throw MongoDbComponent.wrapInCamelMongoDbException(e);
-        }
-
+        return operation;
     }
 
     /**
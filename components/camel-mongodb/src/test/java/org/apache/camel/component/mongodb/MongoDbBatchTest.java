@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MongoDbBatchTest extends CamelTestSupport {
+
+    private final List<List<Document>> inserts = new ArrayList<>();
+    private int failingIndex = -1;
+
+    @Override
+    protected void bindToRegistry(Registry registry) {
+        registry.bind("myDb", proxy(MongoClient.class, (name, args) -> name.equals("getDatabase")
+                ? proxy(MongoDatabase.class, (dbName, dbArgs) -> dbName.equals("getCollection")
+                        ? proxy(MongoCollection.class, this::collection) : null)
+                : null));
+    }
+
+    @Test
+    void testBatch() {
+        List<Exchange> exchanges = createExchanges("a", "b", "c");
+
+        Exchange out = template.send("direct:insert", e -> e.getIn().setBody(exchanges));
+
+        assertNull(out.getException());
+        // all the documents are inserted with one insertMany
+        assertEquals(1, inserts.size());
+        assertEquals(3, inserts.get(0).size());
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            assertNull(exchange.getException());
+            assertEquals("id" + i, exchange.getMessage().getHeader(MongoDbConstants.OID));
+        }
+    }
+
+    @Test
+    void testBatchPartialFailure() {
+        failingIndex = 1;
+        List<Exchange> exchanges = createExchanges("a", "b", "c");
+
+        Exchange out = template.send("direct:insert", e -> e.getIn().setBody(exchanges));
+
+        // the document with the duplicate key fails, but the other documents are inserted
+        CamelExchangeException cause = assertInstanceOf(CamelExchangeException.class, out.getException());
+        assertInstanceOf(CamelMongoDbException.class, cause.getCause());
+        assertEquals("id0", exchanges.get(0).getMessage().getHeader(MongoDbConstants.OID));
+        CamelMongoDbException error = assertInstanceOf(CamelMongoDbException.class, exchanges.get(1).getException());
+        assertTrue(error.getMessage().contains("duplicate key"));
+        assertEquals("id2", exchanges.get(2).getMessage().getHeader(MongoDbConstants.OID));
+    }
+
+    private List<Exchange> createExchanges(String... names) {
+        List<Exchange> answer = new ArrayList<>();
+        for (String name : names) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(new Document("name", name));
+            answer.add(exchange);
+        }
+        return answer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object collection(String name, Object[] args) {
+        if (name.equals("withWriteConcern")) {
+            return proxy(MongoCollection.class, this::collection);
+        } else if (name.equals("insertMany")) {
+            List<Document> documents = (List<Document>) args[0];
+            inserts.add(documents);
+            for (int i = 0; i < documents.size(); i++) {
+                documents.get(i).putIfAbsent("_id", "id" + i);
+            }
+            if (failingIndex >= 0) {
+                BulkWriteError error = new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), failingIndex);
+                throw new MongoBulkWriteException(
+                        BulkWriteResult.acknowledged(documents.size() - 1, 0, 0, null, Collections.emptyList(),
+                                Collections.emptyList()),
+                        List.of(error), null, new ServerAddress(), Set.of());
+            }
+        }
+        return null;
+    }
+
+    private static <T> T proxy(Class<T> type, ProxyHandler handler) {
+        return type.cast(Proxy.newProxyInstance(MongoDbBatchTest.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName();
+                    default -> handler.invoke(method.getName(), args);
+                }));
+    }
+
+    @FunctionalInterface
+    private interface ProxyHandler {
+        Object invoke(String name, Object[] args);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:insert")
+                        .to("mongodb:myDb?database=test&collection=test&operation=insert&batchGroupedExchanges=true");
+            }
+        };
+    }
+}
@@ -20,6 +20,7 @@ import java.math.BigInteger;
 import java.security.Principal;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
@@ -32,6 +33,8 @@ import org.apache.camel.Consumer;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.EndpointServiceLocation;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
@@ -44,12 +47,14 @@ import org.apache.camel.util.ObjectHelper;
  */
 @UriEndpoint(firstVersion = "2.14.0", scheme = "netty", title = "Netty", syntax = "netty:protocol://host:port",
              category = { Category.NETWORKING }, headersClass = NettyConstants.class)
+@ManagedResource(description = "Managed NettyEndpoint")
 public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint, EndpointServiceLocation {
     @UriParam
     private NettyConfiguration configuration;
     @UriParam(defaultValue = "false", label = "advanced",
               description = "Sets whether synchronous processing should be strictly used")
     private boolean synchronous;
+    private final LongAdder zeroCopyBytes = new LongAdder();
 
     public NettyEndpoint(String endpointUri, NettyComponent component, NettyConfiguration configuration) {
         super(endpointUri, component);
@@ -77,6 +82,19 @@ public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint, End
         this.synchronous = synchronous;
     }
 
+    /**
+     * Number of bytes the producer has sent without copying the content through the JVM heap, by sending file bodies
+     * directly from the file system to the socket.
+     */
+    @ManagedAttribute(description = "Number of bytes sent without copying the content through the JVM heap")
+    public long getZeroCopyBytes() {
+        return zeroCopyBytes.sum();
+    }
+
+    void addZeroCopyBytes(long bytes) {
+        zeroCopyBytes.add(bytes);
+    }
+
     @Override
     public Consumer createConsumer(Processor processor) throws Exception {
         Consumer answer = new NettyConsumer(this, processor, configuration);
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.File;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
@@ -33,7 +34,9 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.FileRegion;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
@@ -47,6 +50,8 @@ import io.netty.channel.kqueue.KQueueSocketChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.bytes.ByteArrayEncoder;
+import io.netty.handler.codec.string.StringEncoder;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
@@ -57,6 +62,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
@@ -87,6 +93,7 @@ public class NettyProducer extends DefaultAsyncProducer {
     private EventLoopGroup workerGroup;
     private volatile ObjectPool<ChannelFuture> pool;
     private NettyCamelStateCorrelationManager correlationManager;
+    private boolean defaultEncoders;
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint);
@@ -112,8 +119,37 @@ public class NettyProducer extends DefaultAsyncProducer {
         return configuration.getProtocol().equalsIgnoreCase("tcp");
     }
 
+    /**
+     * Whether a file body can be sent as a {@link DefaultFileRegion}, which sends the file directly from the file
+     * system to the socket (zero-copy). This requires the body to be sent as raw bytes using TCP without SSL, and
+     * without custom encoders (such as a LengthFieldPrepender) as they would be bypassed.
+     */
+    protected boolean isFileRegionSupported() {
+        return isTcp() && configuration.isUseByteBuf() && !configuration.isTransferExchange()
+                && !configuration.isTextline() && !configuration.isSsl() && configuration.getSslHandler() == null
+                && configuration.getSslContextParameters() == null && configuration.getClientInitializerFactory() == null
+                && defaultEncoders;
+    }
+
+    /**
+     * Whether there are no encoders, or only the default codec, which encode strings and byte arrays and pass a
+     * {@link FileRegion} through as-is.
+     */
+    private boolean isDefaultEncoders() {
+        for (ChannelHandler encoder : configuration.getEncodersAsList()) {
+            ChannelHandler handler
+                    = encoder instanceof ChannelHandlerFactory factory ? factory.newChannelHandler() : encoder;
+            if (!(handler instanceof StringEncoder) && !(handler instanceof ByteArrayEncoder)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected void doStart() throws Exception {
+        defaultEncoders = isDefaultEncoders();
+
         if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPoolConfig config = new GenericObjectPoolConfig();
@@ -389,6 +425,10 @@ public class NettyProducer extends DefaultAsyncProducer {
                     return;
                 }
 
+                if (body instanceof FileRegion region) {
+                    getEndpoint().addZeroCopyBytes(region.count());
+                }
+
                 // if we do not expect any reply then signal callback to continue routing
                 if (!configuration.isSync()) {
                     try {
@@ -433,6 +473,15 @@ public class NettyProducer extends DefaultAsyncProducer {
      * @throws Exception is thrown if error getting the request body
      */
     protected Object getRequestBody(Exchange exchange) throws Exception {
+        if (isFileRegionSupported()) {
+            // send the file as-is instead of reading it into a ByteBuf
+            File file = getFileBody(exchange);
+            if (file != null) {
+                LOG.trace("Sending file: {} using DefaultFileRegion", file);
+                return new DefaultFileRegion(file, 0, file.length());
+            }
+        }
+
         Object body = NettyPayloadHelper.getIn(getEndpoint(), exchange);
         if (body == null) {
             return null;
@@ -447,6 +496,17 @@ public class NettyProducer extends DefaultAsyncProducer {
         return body;
     }
 
+    private static File getFileBody(Exchange exchange) {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile<?> wrapped) {
+            body = wrapped.getFile();
+        }
+        if (body instanceof File file && file.isFile()) {
+            return file;
+        }
+        return null;
+    }
+
     protected EventLoopGroup getWorkerGroup() {
         // prefer using explicit configured thread pools
         EventLoopGroup wg = configuration.getWorkerGroup();
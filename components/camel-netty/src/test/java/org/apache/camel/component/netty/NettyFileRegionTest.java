@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.io.File;
+
+import io.netty.handler.codec.LengthFieldPrepender;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyFileRegionTest extends BaseNettyTest {
+
+    @BindToRegistry("length-encoder")
+    private LengthFieldPrepender lengthEncoder = new LengthFieldPrepender(4);
+
+    @Test
+    public void testFileRegion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", new File("src/test/data/message1.txt"));
+
+        mock.assertIsSatisfied();
+        assertEquals(11, getZeroCopyBytes("netty:tcp://localhost:{{port}}?sync=false&useByteBuf=true"));
+    }
+
+    @Test
+    public void testFileWithEncoders() {
+        // the file is not sent as a file region, as the encoder would be bypassed
+        String uri = "netty:tcp://localhost:{{port}}?sync=false&useByteBuf=true&encoders=#length-encoder";
+        template.sendBody(uri, new File("src/test/data/message1.txt"));
+
+        assertEquals(0, getZeroCopyBytes(uri));
+    }
+
+    private long getZeroCopyBytes(String uri) {
+        return context.getEndpoint(uri, NettyEndpoint.class).getZeroCopyBytes();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?sync=false")
+                        .to("mock:result");
+
+                from("direct:start")
+                        .to("netty:tcp://localhost:{{port}}?sync=false&useByteBuf=true");
+            }
+        };
+    }
+}
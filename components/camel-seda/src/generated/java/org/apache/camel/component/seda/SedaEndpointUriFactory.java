@@ -24,7 +24,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(21);
+        Set<String> props = new HashSet<>(22);
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
@@ -39,6 +39,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("multipleConsumers");
         props.add("name");
         props.add("offerTimeout");
+        props.add("pinnedThreadDetection");
         props.add("pollTimeout");
         props.add("purgeWhenStopping");
         props.add("queue");
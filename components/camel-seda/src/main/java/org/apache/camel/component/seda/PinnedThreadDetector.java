@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the number of times the virtual threads of a {@link ThreadPerTaskSedaConsumer} are pinned to their carrier
+ * thread while blocking, such as when blocking inside a synchronized block or calling native code.
+ * <p/>
+ * The detection uses the JDK Flight Recorder {@code jdk.VirtualThreadPinned} event (JDK 21+), which by default is only
+ * emitted when the thread has been pinned for at least 20 milliseconds. If the JDK Flight Recorder is not available then
+ * the detection is disabled.
+ */
+final class PinnedThreadDetector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PinnedThreadDetector.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final String threadName;
+    private final LongAdder pinnedCount = new LongAdder();
+    private volatile RecordingStream stream;
+
+    PinnedThreadDetector(String threadName) {
+        this.threadName = threadName;
+    }
+
+    void start() {
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.enable(PINNED_EVENT);
+            rs.onEvent(PINNED_EVENT, this::onPinned);
+            rs.startAsync();
+            stream = rs;
+            LOG.debug("Started pinned thread detection for threads: {}", threadName);
+        } catch (Exception | LinkageError e) {
+            LOG.warn("Cannot start pinned thread detection for threads: {} due to: {}. This exception is ignored.",
+                    threadName, e.getMessage());
+        }
+    }
+
+    void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String name = thread != null ? thread.getJavaName() : null;
+        if (name != null && name.contains(threadName)) {
+            pinnedCount.increment();
+        }
+    }
+}
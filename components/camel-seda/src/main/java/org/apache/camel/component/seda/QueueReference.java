@@ -35,6 +35,7 @@ public final class QueueReference {
     private final BlockingQueue<Exchange> queue;
     private Integer size;
     private Boolean multipleConsumers;
+    private volatile boolean trackEnqueueTime;
 
     private final Lock lock = new ReentrantLock();
     private final List<SedaEndpoint> endpoints = new LinkedList<>();
@@ -94,6 +95,38 @@ public final class QueueReference {
         return multipleConsumers;
     }
 
+    /**
+     * Whether the producers should keep track of the time the exchanges are added to the queue
+     */
+    public boolean isTrackEnqueueTime() {
+        return trackEnqueueTime;
+    }
+
+    void setTrackEnqueueTime(boolean trackEnqueueTime) {
+        this.trackEnqueueTime = trackEnqueueTime;
+    }
+
+    /**
+     * Keeps track of the time the exchanges are added to the queue only while a thread-per-task consumer is consuming
+     * from the queue
+     */
+    void updateTrackEnqueueTime() {
+        lock.lock();
+        try {
+            for (SedaEndpoint endpoint : endpoints) {
+                for (SedaConsumer consumer : endpoint.getConsumers()) {
+                    if (consumer instanceof ThreadPerTaskSedaConsumer) {
+                        trackEnqueueTime = true;
+                        return;
+                    }
+                }
+            }
+            trackEnqueueTime = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Gets the queue
      */
@@ -21,6 +21,8 @@ public final class SedaConstants {
     public static final int MAX_CONCURRENT_CONSUMERS = 500;
     public static final int CONCURRENT_CONSUMERS = 1;
     public static final int QUEUE_SIZE = 1000;
+    // internal exchange property with the time (System.nanoTime) the exchange was added to the queue
+    static final String ENQUEUE_TIME = "CamelSedaEnqueueTime";
 
     private SedaConstants() {
     }
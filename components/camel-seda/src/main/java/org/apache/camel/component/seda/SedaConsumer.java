@@ -257,6 +257,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @param exchange the exchange to process
      */
     protected void processPolledExchange(Exchange exchange) {
+        // the enqueue time is only used by the thread-per-task consumer, and must not leak into the exchange
+        exchange.removeProperty(SedaConstants.ENQUEUE_TIME);
         final Exchange original = exchange;
         // prepare the exchange before sending to consumer
         final Exchange prepared = prepareExchange(exchange);
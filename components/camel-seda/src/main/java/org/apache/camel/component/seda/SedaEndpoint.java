@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.AsyncEndpoint;
 import org.apache.camel.AsyncProcessor;
@@ -107,6 +108,11 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
                             + "The concurrentConsumers option becomes a limit on max concurrent tasks (0 = unlimited). "
                             + "Requires virtual threads to be enabled via camel.threads.virtual.enabled=true.")
     private boolean virtualThreadPerTask;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether to detect when the virtual threads used by virtualThreadPerTask are pinned to their carrier thread"
+                            + " while blocking. The detection uses the JDK Flight Recorder (JDK 21+) and the number of pinned threads"
+                            + " is available as a JMX attribute on the endpoint.")
+    private boolean pinnedThreadDetection;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected",
               description = "Option to specify whether the caller should wait for the async task to complete or not before continuing. The"
@@ -553,6 +559,66 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.virtualThreadPerTask = virtualThreadPerTask;
     }
 
+    @ManagedAttribute
+    public boolean isPinnedThreadDetection() {
+        return pinnedThreadDetection;
+    }
+
+    /**
+     * Whether to detect when the virtual threads used by virtualThreadPerTask are pinned to their carrier thread while
+     * blocking. The detection uses the JDK Flight Recorder (JDK 21+) and the number of pinned threads is available as a
+     * JMX attribute on the endpoint.
+     */
+    public void setPinnedThreadDetection(boolean pinnedThreadDetection) {
+        this.pinnedThreadDetection = pinnedThreadDetection;
+    }
+
+    @ManagedAttribute(description = "Number of exchanges currently being processed by the thread-per-task consumers")
+    public long getInflightTasks() {
+        long answer = 0;
+        for (SedaConsumer consumer : consumers) {
+            if (consumer instanceof ThreadPerTaskSedaConsumer tpc) {
+                answer += tpc.getActiveTaskCount();
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of times the thread-per-task consumer threads has been pinned to their carrier thread")
+    public long getPinnedThreadCount() {
+        long answer = 0;
+        for (SedaConsumer consumer : consumers) {
+            if (consumer instanceof ThreadPerTaskSedaConsumer tpc) {
+                answer += tpc.getPinnedThreadCount();
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Mean time (in millis) exchanges has been waiting in the queue for the thread-per-task consumers")
+    public long getMeanQueueWaitTime() {
+        long count = 0;
+        long total = 0;
+        for (SedaConsumer consumer : consumers) {
+            if (consumer instanceof ThreadPerTaskSedaConsumer tpc) {
+                count += tpc.getQueueWaitCount();
+                total += tpc.getTotalQueueWaitTime();
+            }
+        }
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(total / count) : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum time (in millis) an exchange has been waiting in the queue for the thread-per-task consumers")
+    public long getMaxQueueWaitTime() {
+        long answer = 0;
+        for (SedaConsumer consumer : consumers) {
+            if (consumer instanceof ThreadPerTaskSedaConsumer tpc) {
+                answer = Math.max(answer, tpc.getMaxQueueWaitTime());
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(answer);
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
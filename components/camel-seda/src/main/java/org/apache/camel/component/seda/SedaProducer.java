@@ -223,6 +223,10 @@ public class SedaProducer extends DefaultAsyncProducer {
             }
         }
 
+        if (queueReference.isTrackEnqueueTime()) {
+            target.setProperty(SedaConstants.ENQUEUE_TIME, System.nanoTime());
+        }
+
         LOG.trace("Adding Exchange to queue: {}", target);
         if (discardWhenFull) {
             try {
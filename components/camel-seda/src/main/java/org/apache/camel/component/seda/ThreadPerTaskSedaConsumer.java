@@ -18,8 +18,10 @@ package org.apache.camel.component.seda;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
@@ -39,6 +41,8 @@ import org.slf4j.LoggerFactory;
  * <li>A single coordinator thread polls the queue</li>
  * <li>Each message is processed in its own task/thread</li>
  * <li>The concurrentConsumers setting becomes a concurrency limit (0 = unlimited)</li>
+ * <li>A permit is held until the exchange is completely done (also when continued asynchronously), so when the limit
+ * is reached the coordinator stops polling and the messages are kept on the queue (backpressure)</li>
  * </ul>
  * <p>
  * When virtual threads are enabled via {@code camel.threads.virtual.enabled=true}, the cached thread pool will use
@@ -51,8 +55,14 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
     private final int maxConcurrentTasks;
     private final LongAdder activeTasks = new LongAdder();
 
+    private final LongAdder queueWaitTime = new LongAdder();
+    private final LongAdder queueWaitCount = new LongAdder();
+    private final AtomicLong maxQueueWaitTime = new AtomicLong();
+
     private volatile ExecutorService taskExecutor;
     private volatile Semaphore concurrencyLimiter;
+    private volatile PinnedThreadDetector pinnedThreadDetector;
+    private volatile QueueReference queueReference;
 
     public ThreadPerTaskSedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -79,6 +89,32 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
         // task executor (via a Semaphore), not as the number of polling threads.
         // Override the latch to match the actual coordinator thread count (1).
         latch = new CountDownLatch(1);
+
+        // let the producers stamp the time the exchanges are added to the queue, so we can measure the queue wait time
+        queueReference = getEndpoint().getQueueReference();
+        if (queueReference != null) {
+            queueReference.setTrackEnqueueTime(true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        untrackEnqueueTime();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        untrackEnqueueTime();
+    }
+
+    private void untrackEnqueueTime() {
+        // the producers should only stamp the enqueue time while a thread-per-task consumer is left on the queue
+        if (queueReference != null) {
+            queueReference.updateTrackEnqueueTime();
+            queueReference = null;
+        }
     }
 
     @Override
@@ -93,6 +129,11 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
             LOG.debug("Using concurrency limit of {} for thread-per-task consumer", maxConcurrentTasks);
         }
 
+        if (getEndpoint().isPinnedThreadDetection()) {
+            pinnedThreadDetector = new PinnedThreadDetector(getEndpoint().getEndpointUri() + "-task");
+            pinnedThreadDetector.start();
+        }
+
         // Call parent to create the coordinator executor and start it
         super.setupTasks();
 
@@ -103,6 +144,10 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
     @Override
     protected void shutdownExecutor() {
         super.shutdownExecutor();
+        if (pinnedThreadDetector != null) {
+            pinnedThreadDetector.stop();
+            pinnedThreadDetector = null;
+        }
         if (taskExecutor != null) {
             getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(taskExecutor);
             taskExecutor = null;
@@ -128,34 +173,62 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
 
     @Override
     protected void processPolledExchange(Exchange exchange) {
-        // Dispatch to task executor for processing
-        taskExecutor.execute(() -> {
-            activeTasks.increment();
-            try {
-                // Prepare the exchange
-                Exchange prepared = prepareExchange(exchange);
-
-                // Process asynchronously
-                AsyncCallback callback = doneSync -> {
-                    try {
-                        onProcessingDone(exchange, prepared);
-                    } finally {
-                        if (prepared.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", prepared,
-                                    prepared.getException());
-                        }
+        activeTasks.increment();
+        try {
+            // Dispatch to task executor for processing
+            taskExecutor.execute(() -> processTask(exchange));
+        } catch (RejectedExecutionException e) {
+            onTaskDone();
+            throw e;
+        }
+    }
+
+    private void processTask(Exchange exchange) {
+        recordQueueWaitTime(exchange);
+        boolean dispatched = false;
+        try {
+            // Prepare the exchange
+            Exchange prepared = prepareExchange(exchange);
+
+            // Process asynchronously, and keep the task (and its permit) active until the exchange is done,
+            // so the concurrency limit also applies to exchanges continued by asynchronous components
+            AsyncCallback callback = doneSync -> {
+                try {
+                    onProcessingDone(exchange, prepared);
+                } finally {
+                    if (prepared.getException() != null) {
+                        getExceptionHandler().handleException("Error processing exchange", prepared,
+                                prepared.getException());
                     }
-                };
-                sendToConsumers(prepared, callback);
-            } catch (Exception e) {
-                getExceptionHandler().handleException("Error processing exchange", exchange, e);
-            } finally {
-                activeTasks.decrement();
-                if (concurrencyLimiter != null) {
-                    concurrencyLimiter.release();
+                    onTaskDone();
                 }
+            };
+            sendToConsumers(prepared, callback);
+            dispatched = true;
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        } finally {
+            if (!dispatched) {
+                onTaskDone();
             }
-        });
+        }
+    }
+
+    private void onTaskDone() {
+        activeTasks.decrement();
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private void recordQueueWaitTime(Exchange exchange) {
+        Object enqueued = exchange.removeProperty(SedaConstants.ENQUEUE_TIME);
+        if (enqueued instanceof Long time) {
+            long elapsed = System.nanoTime() - time;
+            queueWaitTime.add(elapsed);
+            queueWaitCount.increment();
+            maxQueueWaitTime.accumulateAndGet(elapsed, Math::max);
+        }
     }
 
     @Override
@@ -195,4 +268,34 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
     public int getMaxConcurrentTasks() {
         return maxConcurrentTasks;
     }
+
+    /**
+     * Returns the number of exchanges which has been taken from the queue and measured for queue wait time.
+     */
+    public long getQueueWaitCount() {
+        return queueWaitCount.sum();
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) the measured exchanges have been waiting in the queue.
+     */
+    public long getTotalQueueWaitTime() {
+        return queueWaitTime.sum();
+    }
+
+    /**
+     * Returns the maximum time (in nanoseconds) an exchange has been waiting in the queue.
+     */
+    public long getMaxQueueWaitTime() {
+        return maxQueueWaitTime.get();
+    }
+
+    /**
+     * Returns the number of times a task thread has been detected as pinned to its carrier thread, or 0 if pinned
+     * thread detection is not enabled.
+     */
+    public long getPinnedThreadCount() {
+        PinnedThreadDetector detector = pinnedThreadDetector;
+        return detector != null ? detector.getPinnedCount() : 0;
+    }
 }
@@ -36,6 +36,8 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": target.setBatch(property(camelContext, boolean.class, value)); return true;
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": target.setBatchAutoCommitDisabled(property(camelContext, boolean.class, value)); return true;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": target.setBatchGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": target.setBreakBatchOnConsumeFail(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -136,6 +138,8 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": return boolean.class;
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": return boolean.class;
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return boolean.class;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return boolean.class;
         case "bridgeerrorhandler":
@@ -232,6 +236,8 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": return target.isBatch();
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": return target.isBatchAutoCommitDisabled();
+        case "batchgroupedexchanges":
+        case "batchGroupedExchanges": return target.isBatchGroupedExchanges();
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return target.isBreakBatchOnConsumeFail();
         case "bridgeerrorhandler":
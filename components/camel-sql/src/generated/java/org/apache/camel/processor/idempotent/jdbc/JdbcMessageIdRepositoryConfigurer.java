@@ -23,6 +23,8 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         org.apache.camel.processor.idempotent.jdbc.JdbcMessageIdRepository target = (org.apache.camel.processor.idempotent.jdbc.JdbcMessageIdRepository) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "browsestring":
+        case "browseString": target.setBrowseString(property(camelContext, java.lang.String.class, value)); return true;
         case "clearstring":
         case "clearString": target.setClearString(property(camelContext, java.lang.String.class, value)); return true;
         case "createstring":
@@ -52,6 +54,8 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "browsestring":
+        case "browseString": return java.lang.String.class;
         case "clearstring":
         case "clearString": return java.lang.String.class;
         case "createstring":
@@ -82,6 +86,8 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         org.apache.camel.processor.idempotent.jdbc.JdbcMessageIdRepository target = (org.apache.camel.processor.idempotent.jdbc.JdbcMessageIdRepository) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "browsestring":
+        case "browseString": return target.getBrowseString();
         case "clearstring":
         case "clearString": return target.getClearString();
         case "createstring":
@@ -40,6 +40,9 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriParam(label = "producer", defaultValue = "true",
               description = "Whether to optimize batch by turning off auto-commit which can dramatic improve performance, and instead execute as a manual commit after the entire batch operation is complete")
     private boolean batchAutoCommitDisabled = true;
+    @UriParam(label = "producer,advanced",
+              description = "Whether to execute a list of exchanges (such as the grouped exchanges from the aggregator) as one JDBC batch. The update count is set on each of the exchanges, and the exchange with the list fails if any of the statements failed.")
+    private boolean batchGroupedExchanges;
 
     public SqlEndpoint() {
     }
@@ -109,4 +112,17 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public void setBatchAutoCommitDisabled(boolean batchAutoCommitDisabled) {
         this.batchAutoCommitDisabled = batchAutoCommitDisabled;
     }
+
+    public boolean isBatchGroupedExchanges() {
+        return batchGroupedExchanges;
+    }
+
+    /**
+     * Whether to execute a list of exchanges (such as the grouped exchanges from the aggregator) as one JDBC batch. The
+     * update count is set on each of the exchanges, and the exchange with the list fails if any of the statements
+     * failed.
+     */
+    public void setBatchGroupedExchanges(boolean batchGroupedExchanges) {
+        this.batchGroupedExchanges = batchGroupedExchanges;
+    }
 }
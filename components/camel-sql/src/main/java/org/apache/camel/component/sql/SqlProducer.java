@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.sql;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
@@ -28,6 +29,7 @@ import java.util.List;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.BatchProducer;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultProducer;
 import org.apache.camel.support.ResourceHelper;
@@ -41,7 +43,7 @@ import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends DefaultProducer implements BatchProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlProducer.class);
 
@@ -147,6 +149,110 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    @Override
+    public boolean isBatchEnabled() {
+        return getEndpoint().isBatchGroupedExchanges();
+    }
+
+    /**
+     * Sends the exchanges as one JDBC batch, using the message body of each exchange as the parameters. The update
+     * count of each exchange is set as the {@link SqlConstants#SQL_UPDATE_COUNT} header.
+     * <p/>
+     * Exchanges that cannot be combined into a single JDBC batch (such as when the query is the message body, a
+     * different query is given as header, or when the endpoint is in batch mode already) are processed one by one.
+     * <p/>
+     * When the batch is executed with a manual commit, then it is rolled back if any statement fails. Otherwise the
+     * statements that failed are set as exception on their exchange.
+     */
+    @Override
+    public void sendBatch(Exchange exchange, List<Exchange> exchanges) throws Exception {
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        boolean single = batch || useMessageBodyForSql || getEndpoint().getOutputType() == SqlOutputType.StreamList;
+        for (Exchange item : exchanges) {
+            single |= item.getIn().getHeader(SqlConstants.SQL_QUERY) != null
+                    || item.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class)
+                    || item.getMessage().getHeader(SqlConstants.SQL_DATA_SOURCE) != null;
+        }
+        if (single) {
+            for (Exchange item : exchanges) {
+                try {
+                    process(item);
+                } catch (Exception e) {
+                    item.setException(e);
+                }
+            }
+            return;
+        }
+
+        final Exchange first = exchanges.get(0);
+        final String sql = resolvedQuery;
+        final String preparedQuery
+                = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), first);
+        final boolean commit = !exchange.isTransacted() && manualCommit;
+
+        LOG.trace("jdbcTemplate.execute batch of {} exchanges: {}", exchanges.size(), preparedQuery);
+        jdbcTemplate.execute(con -> con.prepareStatement(preparedQuery), (PreparedStatementCallback<Object>) ps -> {
+            int expected;
+            if (parametersCount > 0) {
+                expected = parametersCount;
+            } else {
+                ParameterMetaData meta = ps.getParameterMetaData();
+                expected = meta != null ? meta.getParameterCount() : 0;
+            }
+            for (Exchange item : exchanges) {
+                Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected,
+                        item, item.getIn().getBody());
+                sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                ps.addBatch();
+            }
+
+            boolean restoreAutoCommit = true;
+            if (commit) {
+                // optimize batch by turning off auto-commit
+                restoreAutoCommit = ps.getConnection().getAutoCommit();
+                ps.getConnection().setAutoCommit(false);
+            }
+            try {
+                int[] updateCounts = ps.executeBatch();
+                for (int i = 0; i < exchanges.size() && i < updateCounts.length; i++) {
+                    exchanges.get(i).getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                }
+                if (commit) {
+                    ps.getConnection().commit();
+                }
+            } catch (BatchUpdateException e) {
+                if (commit) {
+                    // we failed so rollback (all the exchanges failed)
+                    ps.getConnection().rollback();
+                    throw e;
+                }
+                // map the result back to each exchange, as the driver may continue after a failed statement
+                int[] updateCounts = e.getUpdateCounts();
+                for (int i = 0; i < exchanges.size(); i++) {
+                    if (updateCounts != null && i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+                        exchanges.get(i).getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                    } else {
+                        exchanges.get(i).setException(e);
+                    }
+                }
+            } catch (Exception e) {
+                if (commit) {
+                    ps.getConnection().rollback();
+                }
+                throw e;
+            } finally {
+                if (commit && restoreAutoCommit) {
+                    // restore auto commit on connection as it may be used
+                    // in another kind of query (connection pooling)
+                    ps.getConnection().setAutoCommit(true);
+                }
+            }
+            return null;
+        });
+    }
+
     private Object processInternal(
             Exchange exchange, PreparedStatementCreator statementCreator,
             String sql, String preparedQuery, Boolean shouldRetrieveGeneratedKeys) {
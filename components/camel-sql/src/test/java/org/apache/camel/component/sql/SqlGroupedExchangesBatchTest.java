@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.BatchUpdateException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SqlGroupedExchangesBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start", Arrays.asList(6, "abc", "def"));
+        template.sendBody("direct:start", Arrays.asList(7, "ghi", "jkl"));
+        template.sendBody("direct:start", Arrays.asList(8, "mno", "pqr"));
+
+        mock.assertIsSatisfied();
+
+        List<?> exchanges = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(3, exchanges.size());
+        for (Object o : exchanges) {
+            Exchange exchange = (Exchange) o;
+            assertNull(exchange.getException());
+            assertEquals(1, exchange.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+
+        assertEquals("abc", jdbcTemplate.queryForObject("select project from projects where id = 6", String.class));
+        assertEquals("ghi", jdbcTemplate.queryForObject("select project from projects where id = 7", String.class));
+        assertEquals("pqr", jdbcTemplate.queryForObject("select license from projects where id = 8", String.class));
+    }
+
+    @Test
+    public void testBatchPartialFailure() {
+        List<Exchange> exchanges = createExchanges(Arrays.asList(6, "abc", "def"), Arrays.asList(1, "Camel", "ASF"),
+                Arrays.asList(8, "mno", "pqr"));
+
+        Exchange out = template.send("direct:autoCommit", e -> e.getIn().setBody(exchanges));
+
+        // the insert with the duplicate key fails, but the other inserts are executed
+        CamelExchangeException cause = assertInstanceOf(CamelExchangeException.class, out.getException());
+        assertInstanceOf(BatchUpdateException.class, cause.getCause());
+        assertEquals(1, exchanges.get(0).getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertInstanceOf(BatchUpdateException.class, exchanges.get(1).getException());
+        assertEquals(1, exchanges.get(2).getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(5, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testBatchFailureRollback() {
+        List<Exchange> exchanges = createExchanges(Arrays.asList(6, "abc", "def"), Arrays.asList(1, "Camel", "ASF"));
+
+        Exchange out = template.send("direct:batch", e -> e.getIn().setBody(exchanges));
+
+        // the batch is committed manually so all the inserts are rolled back
+        assertInstanceOf(DataAccessException.class, out.getException());
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    private List<Exchange> createExchanges(List<?>... bodies) {
+        List<Exchange> answer = new ArrayList<>();
+        for (List<?> body : bodies) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(body);
+            answer.add(exchange);
+        }
+        return answer;
+    }
+
+    @Override
+    public void doPreSetup() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+    }
+
+    @Override
+    public void doPostTearDown() throws Exception {
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                errorHandler(noErrorHandler());
+
+                from("direct:start")
+                        .aggregate(constant(true)).completionSize(3).aggregationStrategy(AggregationStrategies.groupedExchange())
+                        .to("direct:batch");
+
+                from("direct:batch")
+                        .to("sql:insert into projects values (#, #, #)?batchGroupedExchanges=true")
+                        .to("mock:result");
+
+                from("direct:autoCommit")
+                        .to("sql:insert into projects values (#, #, #)?batchGroupedExchanges=true&batchAutoCommitDisabled=false");
+            }
+        };
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.processor.idempotent.jdbc;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -81,6 +82,25 @@ public class JdbcMessageIdRepositoryTest extends CamelSpringTestSupport {
         assertTrue(receivedMessageIds.contains("3"));
     }
 
+    @Test
+    public void testForEachKey() throws Exception {
+        resultEndpoint.expectedBodiesReceived("one", "two");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        JdbcMessageIdRepository repo = context.getRegistry().lookupByNameAndType("messageIdRepository",
+                JdbcMessageIdRepository.class);
+        List<String> keys = new ArrayList<>();
+        repo.forEachKey(keys::add);
+
+        assertEquals(2, keys.size());
+        assertTrue(keys.contains("1"));
+        assertTrue(keys.contains("2"));
+    }
+
     @Test
     public void testFailedExchangesNotAdded() throws Exception {
         RouteBuilder interceptor = new RouteBuilder(context) {
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+import java.util.List;
+
+/**
+ * A {@link Producer} that can send a list of {@link Exchange}s to an {@link Endpoint} in a single batch, such as a JDBC
+ * batch or a bulk request, rather than one at a time.
+ * <p/>
+ * When batching is enabled, then the send processor uses the batch producer when the message body is a list of
+ * exchanges, such as the grouped exchanges from the aggregator with the {@code GroupedExchangeAggregationStrategy}.
+ *
+ * @see BatchConsumer
+ */
+public interface BatchProducer extends Producer {
+
+    /**
+     * Whether to send the grouped exchanges in a batch, which is turned on by an option on the endpoint. When not
+     * enabled, then the list of exchanges is sent as the message body as usual.
+     */
+    boolean isBatchEnabled();
+
+    /**
+     * Sends the list of {@link org.apache.camel.Exchange} objects in a batch.
+     * <p/>
+     * The result of each item in the batch is set on its exchange, such as the message body and headers when the item
+     * succeeded, or the exception when the item failed. Failing items should not fail the other items in the batch,
+     * unless the batch is sent in a transaction. The send processor fails the exchange if any of the items failed.
+     *
+     * @param  exchange  the exchange with the list of exchanges as message body, which is used for the unit of work
+     *                   such as transactions
+     * @param  exchanges list of exchanges in this batch
+     * @throws Exception if the batch as a whole could not be sent
+     */
+    void sendBatch(Exchange exchange, List<Exchange> exchanges) throws Exception;
+}
@@ -1547,6 +1547,26 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     void setSourceLocationEnabled(Boolean sourceLocationEnabled);
 
+    /**
+     * Whether pipeline fusion is enabled.
+     *
+     * @since 4.22
+     */
+    Boolean isPipelineFusion();
+
+    /**
+     * Whether to fuse the synchronous steps of the pipelines in the routes.
+     *
+     * When enabled, then a pipeline calls the steps that always complete synchronously (such as setHeader, setBody,
+     * transform, and custom processors) directly in the current thread, one after the other, instead of routing the
+     * exchange through the error handler and the reactive executor for every step. The message history, tracing and JMX
+     * statistics of the steps are kept. Steps that are intercepted, or use redelivery, transactions or debugging are not
+     * fused.
+     *
+     * @since 4.22
+     */
+    void setPipelineFusion(Boolean pipelineFusion);
+
     /**
      * Whether to support JBang style //DEPS to specify additional dependencies when running Camel CLI
      *
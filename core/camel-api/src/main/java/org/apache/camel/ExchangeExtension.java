@@ -353,6 +353,18 @@ public interface ExchangeExtension {
      */
     Exchange createCopyWithProperties(CamelContext context);
 
+    /**
+     * Creates a lazy copy of the current message exchange, where the copy shares the exchange properties with this
+     * exchange until either of the exchanges modifies the properties (copy-on-write). The message headers are shared in
+     * the same way as with {@link Exchange#copy()}.
+     * <p/>
+     * This is used by EIPs such as Multicast, Recipient List and Wire Tap to avoid copying data which is never modified
+     * by the sub exchanges.
+     * <p/>
+     * This method is only intended for Camel internally.
+     */
+    Exchange lazyCopy();
+
     /**
      * Returns true if this exchange is an external initiated redelivered message (such as a JMS broker).
      * <p/>
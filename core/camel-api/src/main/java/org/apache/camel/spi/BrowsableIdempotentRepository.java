@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.function.Consumer;
+
+/**
+ * A {@link IdempotentRepository} which can iterate the keys it contains.
+ * <p/>
+ * This allows pre-loading a cache or filter in front of the repository with the existing keys.
+ *
+ * @since 4.22
+ */
+public interface BrowsableIdempotentRepository extends IdempotentRepository {
+
+    /**
+     * Iterates the keys in the repository.
+     * <p/>
+     * Keys added or removed while iterating may or may not be included.
+     *
+     * @param action the action to call with each key
+     */
+    void forEachKey(Consumer<String> action);
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Marker interface for an {@link AsyncProcessor} that always completes synchronously.
+ * <p/>
+ * The {@link AsyncProcessor#process(Exchange, AsyncCallback)} method must call the callback with <tt>true</tt> before
+ * returning, and must set any failure on the exchange instead of throwing it. This allows pipelines with pipeline fusion
+ * enabled to call the processor directly in the current thread.
+ *
+ * @see   org.apache.camel.CamelContext#setPipelineFusion(Boolean)
+ * @since 4.22
+ */
+public interface FusableProcessor {
+
+}
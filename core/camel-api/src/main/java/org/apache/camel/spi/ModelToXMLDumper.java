@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.NamedNode;
+import org.apache.camel.RoutesBuilder;
 
 /**
  * SPI that serialises Camel route model definitions to their XML DSL representation.
@@ -94,4 +95,20 @@ public interface ModelToXMLDumper {
      */
     String dumpDataFormatsAsXml(CamelContext context, Map<String, Object> dataFormats) throws Exception;
 
+    /**
+     * Dumps the routes from the routes builder as XML, which can be loaded again by the XML DSL.
+     * <p/>
+     * This is used for caching routes which has been parsed from other DSLs, such as YAML. The routes builder is
+     * configured (if not already configured), and the routes are only dumped if the builder contains nothing else
+     * than routes (such as route templates, rests, or interceptors).
+     *
+     * @param  context   the CamelContext
+     * @param  builder   the routes builder
+     * @return           the routes in XML, or <tt>null</tt> if the builder cannot be dumped as XML
+     * @throws Exception is throw if error configuring the routes or marshalling to XML
+     */
+    default String dumpRoutesBuilderAsXml(CamelContext context, RoutesBuilder builder) throws Exception {
+        return null;
+    }
+
 }
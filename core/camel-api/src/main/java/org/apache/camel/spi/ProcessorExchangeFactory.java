@@ -78,6 +78,20 @@ public interface ProcessorExchangeFactory extends PooledObjectFactory<Exchange>,
      */
     Exchange createCorrelatedCopy(Exchange exchange, boolean handover);
 
+    /**
+     * Gets a copy of the given {@link Exchange} and the copy is correlated to the source
+     * <p/>
+     * Factories that reuse exchanges (pooled) may ignore the <tt>shareUnmodified</tt> option, and create a regular copy.
+     *
+     * @param exchange        original exchange
+     * @param handover        whether the on completion callbacks should be handed over to the new copy.
+     * @param shareUnmodified whether the copy should share the exchange properties with the original exchange until
+     *                        either of them modifies the properties (copy-on-write).
+     */
+    default Exchange createCorrelatedCopy(Exchange exchange, boolean handover, boolean shareUnmodified) {
+        return createCorrelatedCopy(exchange, handover);
+    }
+
     /**
      * Gets a new {@link Exchange}
      */
@@ -57,6 +57,67 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Gets the maximum number of routes that are started concurrently. The default is 0 which means routes are started
+     * one by one.
+     */
+    default int getStartupConcurrency() {
+        return 0;
+    }
+
+    /**
+     * Sets the maximum number of routes that are started concurrently (opt-in).
+     * <p/>
+     * When enabled, then routes that do not have an explicit {@code startupOrder} are warmed up and have their
+     * consumers started concurrently, using a thread pool bounded by this number. Routes with an explicit
+     * {@code startupOrder} are still started one by one in their order, and all routes are started in strict order
+     * between these groups. This can speed up startup when there are many routes with consumers that connect to
+     * remote systems.
+     * <p/>
+     * The default is 0 which means routes are started one by one.
+     */
+    default void setStartupConcurrency(int startupConcurrency) {
+        // noop
+    }
+
+    /**
+     * Pattern for filtering routes (by route id) which are lazy.
+     */
+    default String getLazyRoutes() {
+        return null;
+    }
+
+    /**
+     * Pattern for filtering routes (by route id) which are lazy, where the processors of the route are created on the
+     * first message processed by the route, instead of when the route is created. This reduces startup time and memory
+     * usage when there are many routes which are rarely used, such as routes consuming from direct endpoints.
+     * <p/>
+     * Multiple patterns can be separated by comma, and <tt>*</tt> matches all routes. Routes with route scoped error
+     * handling (onException), onCompletion or interceptors are not lazy.
+     * <p/>
+     * The processors of lazy routes are not enlisted in JMX.
+     */
+    default void setLazyRoutes(String lazyRoutes) {
+        // noop
+    }
+
+    /**
+     * Pattern for filtering lazy routes (by route id) which are warmed up.
+     */
+    default String getLazyRoutesWarmUp() {
+        return null;
+    }
+
+    /**
+     * Pattern for filtering lazy routes (by route id) which are warmed up, where the processors of the route are created
+     * in the background after Camel has been started, so the first message processed by these routes is not delayed.
+     * <p/>
+     * Multiple patterns can be separated by comma, and <tt>*</tt> matches all lazy routes.
+     */
+    default void setLazyRoutesWarmUp(String lazyRoutesWarmUp) {
+        // noop
+    }
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
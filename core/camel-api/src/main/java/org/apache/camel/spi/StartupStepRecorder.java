@@ -140,6 +140,22 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step as a child of the given parent step, which can be called from other threads than the thread that
+     * began the parent step, such as when starting routes concurrently. The steps which are then begun without a parent
+     * by the same thread are children of this step.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} from the same thread to end the step.
+     *
+     * @param parent      the parent step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -41,6 +42,8 @@ import org.jspecify.annotations.Nullable;
  * preventing out-of-memory errors for large payloads.</li>
  * <li>{@link #setBufferSize(int)} — the internal read-buffer size when copying bytes to the spool file.</li>
  * <li>{@link #setSpoolDirectory(java.io.File)} — the directory where spool files are written.</li>
+ * <li>{@link #setOffHeapArenaSize(long)} — the size of an optional off-heap memory arena that streams over the spool
+ * threshold use before they are spooled to disk.</li>
  * </ul>
  * Statistics about in-memory vs. on-disk cache usage are available via {@link #getStatistics()}.
  *
@@ -83,6 +86,52 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         *
+         * @since 4.22
+         */
+        default long getCacheOffHeapCounter() {
+            return 0;
+        }
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         *
+         * @since 4.22
+         */
+        default long getCacheOffHeapSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         *
+         * @since 4.22
+         */
+        default long getCacheOffHeapAverageSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the number of bytes of the off-heap arena currently in use by stream caches.
+         *
+         * @since 4.22
+         */
+        default long getOffHeapArenaUsed() {
+            return 0;
+        }
+
+        /**
+         * Gets the counter for number of times the off-heap arena was exhausted, and stream caches had to be spooled
+         * to disk instead.
+         *
+         * @since 4.22
+         */
+        default long getOffHeapArenaExhaustedCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -271,6 +320,62 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    /**
+     * Sets the size in bytes of the off-heap memory arena to use for streams that are over the spool threshold, before
+     * they are spooled to disk. The arena is allocated as direct memory when stream caching is started, and divided
+     * into segments of {@link #setOffHeapSegmentSize(int)} bytes that are pooled and reused.
+     * <p/>
+     * Streams are only spooled to disk when the arena has no free segments. This avoids churning the old generation of
+     * the heap with large payloads, without paying for disk I/O.
+     * <p/>
+     * The default size is <tt>0</tt> which means the off-heap arena is not in use.
+     *
+     * @since 4.22
+     */
+    default void setOffHeapArenaSize(long size) {
+        // not supported by default
+    }
+
+    default long getOffHeapArenaSize() {
+        return 0;
+    }
+
+    /**
+     * Sets the size in bytes of each segment of the off-heap arena.
+     * <p/>
+     * The default size is 64kb.
+     *
+     * @since 4.22
+     */
+    default void setOffHeapSegmentSize(int size) {
+        // not supported by default
+    }
+
+    default int getOffHeapSegmentSize() {
+        return 0;
+    }
+
+    /**
+     * Acquires a free segment from the off-heap arena.
+     *
+     * @return the segment (cleared and ready for writing), or <tt>null</tt> if the arena is not in use or has no free
+     *         segments
+     * @since  4.22
+     */
+    default @Nullable ByteBuffer acquireOffHeapSegment() {
+        return null;
+    }
+
+    /**
+     * Releases a segment previously acquired by {@link #acquireOffHeapSegment()} back to the off-heap arena.
+     *
+     * @param segment the segment
+     * @since         4.22
+     */
+    default void releaseOffHeapSegment(ByteBuffer segment) {
+        // not supported by default
+    }
+
     /**
      * Sets whether if just any of the {@link org.apache.camel.spi.StreamCachingStrategy.SpoolRule} rules returns
      * <tt>true</tt> then {@link #shouldSpoolCache(long)} returns <tt>true</tt>. If this option is <tt>false</tt>, then
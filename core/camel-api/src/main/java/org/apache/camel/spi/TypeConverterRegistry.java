@@ -71,6 +71,14 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getHitCounter();
 
+        /**
+         * Number of successful conversions which used the fast path for common conversions between core types (such
+         * as String to int). These conversions are also included in the number of successful conversions.
+         */
+        default long getFastHitCounter() {
+            return 0;
+        }
+
         /**
          * Number of attempts which cannot be converted as no suitable type converter exists
          */
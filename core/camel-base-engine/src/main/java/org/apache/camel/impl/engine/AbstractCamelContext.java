@@ -287,6 +287,7 @@ public abstract class AbstractCamelContext extends BaseService
     private Boolean loadHealthChecks = Boolean.FALSE;
     private Boolean devConsole = Boolean.FALSE;
     private Boolean sourceLocationEnabled = Boolean.FALSE;
+    private Boolean pipelineFusion = Boolean.FALSE;
     private Boolean typeConverterStatisticsEnabled = Boolean.FALSE;
     private String dumpRoutes;
     @Deprecated(since = "4.19.0")
@@ -4062,6 +4063,16 @@ public abstract class AbstractCamelContext extends BaseService
         this.sourceLocationEnabled = sourceLocationEnabled;
     }
 
+    @Override
+    public Boolean isPipelineFusion() {
+        return pipelineFusion;
+    }
+
+    @Override
+    public void setPipelineFusion(Boolean pipelineFusion) {
+        this.pipelineFusion = pipelineFusion;
+    }
+
     @Override
     public void setTypeConverterStatisticsEnabled(Boolean typeConverterStatisticsEnabled) {
         this.typeConverterStatisticsEnabled = typeConverterStatisticsEnabled;
@@ -26,6 +26,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Channel;
 import org.apache.camel.DisabledAware;
@@ -64,6 +65,7 @@ import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggerHelper;
@@ -361,6 +363,67 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         return processNonTransacted(exchange, afterTask);
     }
 
+    /**
+     * Processes the exchange with a processor that always completes synchronously, as a fused step of a pipeline.
+     * <p/>
+     * The advices and the processor are called directly in the current thread, without any tasks or callbacks. If the
+     * processor failed, then the exchange is handed over to the failure processor (such as the error handler), and the
+     * callback is called when the failure processor and the after advices are done.
+     *
+     * @param  exchange         the exchange
+     * @param  target           the processor that always completes synchronously
+     * @param  failureProcessor optional processor to handle the exchange if the processor failed
+     * @param  callback         the callback, which is only called if this method returns <tt>false</tt>
+     * @return                  <tt>true</tt> if processed synchronously, or <tt>false</tt> if continued asynchronously
+     *                          and the callback will be called
+     */
+    protected boolean processFused(
+            Exchange exchange, AsyncProcessor target, AsyncProcessor failureProcessor, AsyncCallback callback) {
+        if (target instanceof DisabledAware da && da.isDisabled()) {
+            // skip because the processor is disabled at runtime (in dev mode)
+            return true;
+        }
+
+        final Object[] states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
+        for (int i = 0, j = 0; i < advices.size(); i++) {
+            CamelInternalProcessorAdvice<?> task = advices.get(i);
+            try {
+                Object state = task.before(exchange);
+                if (task.hasState()) {
+                    states[j++] = state;
+                }
+            } catch (Exception e) {
+                // error in before so break out
+                exchange.setException(e);
+                return true;
+            }
+        }
+
+        // ----------------------------------------------------------
+        // CAMEL END USER - DEBUG ME HERE +++ START +++
+        // ----------------------------------------------------------
+        target.process(exchange, EmptyAsyncCallback.get());
+        // ----------------------------------------------------------
+        // CAMEL END USER - DEBUG ME HERE +++ END +++
+        // ----------------------------------------------------------
+
+        if (failureProcessor != null && exchange.getException() != null) {
+            // let the failure processor handle the exchange, and continue from the after advices when it is done
+            CamelInternalTask afterTask = taskFactory != null ? taskFactory.acquire() : null;
+            if (afterTask == null) {
+                afterTask = new AsyncAfterTask(states);
+            } else {
+                System.arraycopy(states, 0, afterTask.getStates(), 0, states.length);
+            }
+            afterTask.prepare(exchange, callback);
+            failureProcessor.process(exchange, afterTask);
+            return false;
+        }
+
+        AdviceIterator.runAfterTasks(advices, states, exchange);
+        return true;
+    }
+
     private static boolean processShutdown(Exchange exchange, AsyncCallback originalCallback) {
         String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
                      + exchange;
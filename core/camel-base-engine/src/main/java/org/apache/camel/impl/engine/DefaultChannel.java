@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -35,11 +36,13 @@ import org.apache.camel.impl.debugger.DefaultBacklogDebugger;
 import org.apache.camel.spi.BacklogDebugger;
 import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.ErrorHandlerRedeliveryCustomizer;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.InterceptStrategy;
 import org.apache.camel.spi.InterceptableProcessor;
 import org.apache.camel.spi.ManagementInterceptStrategy;
 import org.apache.camel.spi.MessageHistoryFactory;
 import org.apache.camel.spi.Tracer;
+import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.WrapAwareProcessor;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.PatternHelper;
@@ -68,6 +71,7 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
     private Processor output;
     private ManagementInterceptStrategy.InstrumentationProcessor<?> instrumentationProcessor;
     private Route route;
+    private boolean debugging;
 
     public DefaultChannel(CamelContext camelContext) {
         super(camelContext);
@@ -121,6 +125,37 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
         return route;
     }
 
+    /**
+     * Whether this channel can be fused by a pipeline, which requires that the next processor always completes
+     * synchronously (see {@link FusableProcessor}), is not wrapped by interceptors, and that the route is not being
+     * debugged.
+     */
+    public boolean isFusable() {
+        return nextProcessor instanceof FusableProcessor && nextProcessor instanceof AsyncProcessor
+                && output == nextProcessor && !debugging;
+    }
+
+    /**
+     * Processes the exchange as a fused step of a pipeline, by calling the next processor directly in the current thread
+     * instead of via the error handler. If the exchange cannot be processed fused, such as when the exchange is
+     * transacted, then the exchange is processed by this channel as usual.
+     *
+     * @param  exchange         the exchange
+     * @param  failureProcessor optional processor to handle the exchange if the next processor failed
+     * @param  callback         the callback, which is only called if this method returns <tt>false</tt>
+     * @return                  <tt>true</tt> if processed synchronously, or <tt>false</tt> if continued asynchronously
+     *                          and the callback will be called
+     */
+    public boolean processFused(Exchange exchange, AsyncProcessor failureProcessor, AsyncCallback callback) {
+        UnitOfWork uow = exchange.getUnitOfWork();
+        if (exchange.isTransacted() || uow != null && uow.isBeforeAfterProcess()
+                || camelContext.getShutdownStrategy().isForceShutdown()) {
+            process(exchange, callback);
+            return false;
+        }
+        return processFused(exchange, (AsyncProcessor) nextProcessor, failureProcessor, callback);
+    }
+
     @Override
     protected void doStart() throws Exception {
         // do not call super as we want to be in control here of the lifecycle
@@ -175,7 +210,8 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
 
         // then wrap the output with the tracer and debugger (debugger first,
         // as we do not want regular tracer to trace the debugger)
-        if (camelContext.isDebugStandby() || route.isDebugging()) {
+        debugging = camelContext.isDebugStandby() || route.isDebugging();
+        if (debugging) {
             final Debugger customDebugger = camelContext.getDebugger();
             final MessageHistoryFactory messageHistoryFactory = camelContext.getMessageHistoryFactory();
             if (customDebugger != null) {
@@ -219,7 +255,6 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
         }
 
         // debugger will automatically include message history
-        boolean debugging = camelContext.isDebugStandby() || route.isDebugging();
         if (!debugging && route.isMessageHistory()) {
             final MessageHistoryFactory messageHistoryFactory = camelContext.getMessageHistoryFactory();
             // add message history advice (when not debugging)
@@ -42,6 +42,9 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     private CamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private int startupConcurrency;
+    private String lazyRoutes;
+    private String lazyRoutesWarmUp;
 
     public DefaultRouteController() {
         this(null);
@@ -75,6 +78,36 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    @Override
+    public int getStartupConcurrency() {
+        return startupConcurrency;
+    }
+
+    @Override
+    public void setStartupConcurrency(int startupConcurrency) {
+        this.startupConcurrency = startupConcurrency;
+    }
+
+    @Override
+    public String getLazyRoutes() {
+        return lazyRoutes;
+    }
+
+    @Override
+    public void setLazyRoutes(String lazyRoutes) {
+        this.lazyRoutes = lazyRoutes;
+    }
+
+    @Override
+    public String getLazyRoutesWarmUp() {
+        return lazyRoutesWarmUp;
+    }
+
+    @Override
+    public void setLazyRoutesWarmUp(String lazyRoutesWarmUp) {
+        this.lazyRoutesWarmUp = lazyRoutesWarmUp;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
@@ -195,6 +228,9 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
             // change current route controller to be supervising
             SupervisingRouteController src = new DefaultSupervisingRouteController();
             src.setCamelContext(camelContext);
+            src.setStartupConcurrency(startupConcurrency);
+            src.setLazyRoutes(lazyRoutes);
+            src.setLazyRoutesWarmUp(lazyRoutesWarmUp);
             camelContext.setRouteController(src);
             return src;
         }
@@ -16,33 +16,47 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.RouteConfigurationsBuilder;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.StartupStep;
 import org.apache.camel.StaticService;
 import org.apache.camel.spi.ExtendedRoutesBuilderLoader;
 import org.apache.camel.spi.FactoryFinder;
+import org.apache.camel.spi.ModelToXMLDumper;
 import org.apache.camel.spi.ModelineFactory;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.RoutesBuilderLoader;
 import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.ResolverHelper;
+import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,10 +72,19 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
      */
     public static final String ROUTES_LOADER_KEY_PREFIX = "routes-builder-loader-";
 
+    /**
+     * Name of the routes cache file in the routes cache directory.
+     */
+    public static final String ROUTES_CACHE_FILE = "camel-routes-cache.dat";
+
     private final Map<String, RoutesBuilderLoader> loaders;
+    // the entries in the routes cache which are used (or added) by this routes loader
+    private final Map<String, RoutesCacheFile.Entry> routesCacheEntries = new LinkedHashMap<>();
 
     private CamelContext camelContext;
     private boolean ignoreLoadingError;
+    private String routesCacheDir;
+    private RoutesCacheFile routesCache;
 
     public DefaultRoutesLoader() {
         this(null);
@@ -97,6 +120,20 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         this.ignoreLoadingError = ignoreLoadingError;
     }
 
+    public String getRoutesCacheDir() {
+        return routesCacheDir;
+    }
+
+    /**
+     * Directory where the routes parsed from YAML files are cached. On the next startup the routes are loaded from the
+     * cache (using the faster XML parser) for the YAML files which has not been changed.
+     * <p/>
+     * Only YAML files which only contain routes are cached, and this requires camel-xml-io-dsl on the classpath.
+     */
+    public void setRoutesCacheDir(String routesCacheDir) {
+        this.routesCacheDir = routesCacheDir;
+    }
+
     @Override
     public Collection<RoutesBuilder> findRoutesBuilders(Collection<Resource> resources) throws Exception {
         return findRoutesBuilders(resources, false);
@@ -119,10 +156,22 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
             return 0;
         });
 
+        // use the routes cache for the resources which has been cached (only during startup and not when reloading)
+        RoutesCache cache = null;
+        if (routesCacheDir != null && !camelContext.isStarted()) {
+            cache = initRoutesCache();
+        }
+        if (cache != null) {
+            for (int i = 0; i < sort.size(); i++) {
+                sort.set(i, cache.resolve(sort.get(i)));
+            }
+        }
+
         // group resources by loader (java, xml, yaml in their own group)
         Map<RoutesBuilderLoader, List<Resource>> groups = new LinkedHashMap<>();
         for (Resource resource : sort) {
-            RoutesBuilderLoader loader = resolveRoutesBuilderLoader(resource, optional);
+            RoutesBuilderLoader loader = cache != null && cache.isCached(resource)
+                    ? cache.xmlLoader : resolveRoutesBuilderLoader(resource, optional);
             if (loader != null) {
                 List<Resource> list = groups.getOrDefault(loader, new ArrayList<>());
                 list.add(resource);
@@ -162,7 +211,11 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
             } else {
                 for (Resource resource : entry.getValue()) {
                     try {
+                        long start = System.nanoTime();
                         loader.preParseRoute(resource);
+                        if (cache != null) {
+                            cache.addTime(resource, System.nanoTime() - start);
+                        }
                     } catch (Exception e) {
                         if (isIgnoreLoadingError()) {
                             LOG.warn("Loading resources error: {} due to: {}. This exception is ignored.", resource,
@@ -196,9 +249,13 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
             } else {
                 for (Resource resource : entry.getValue()) {
                     try {
+                        long start = System.nanoTime();
                         RoutesBuilder builder = loader.loadRoutesBuilder(resource);
                         if (builder != null) {
                             answer.add(builder);
+                            if (cache != null) {
+                                cache.loaded(resource, builder, start);
+                            }
                         }
                     } catch (Exception e) {
                         if (isIgnoreLoadingError()) {
@@ -212,6 +269,10 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
             }
         }
 
+        if (cache != null) {
+            cache.done();
+        }
+
         return answer;
     }
 
@@ -316,6 +377,184 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         return answer;
     }
 
+    /**
+     * Whether the routes from the resource can be cached in the routes cache. By default only YAML files can be cached.
+     *
+     * @param  resource the resource
+     * @return          <tt>true</tt> if the routes can be cached
+     */
+    protected boolean isRoutesCacheSupported(Resource resource) {
+        String ext = FileUtil.onlyExt(resource.getLocation(), false);
+        return "yaml".equals(ext) || "yml".equals(ext) || "camel.yaml".equals(ext);
+    }
+
+    /**
+     * Whether the routes from the resource with the given content can be cached in the routes cache. By default only
+     * YAML files, which only contain routes, can be cached.
+     *
+     * @param  resource the resource
+     * @param  content  the content of the resource
+     * @return          <tt>true</tt> if the routes can be cached
+     */
+    protected boolean isRoutesCacheSupported(Resource resource, String content) {
+        // other top level elements than routes (such as beans) are not cached
+        for (String line : content.split("\n")) {
+            if (line.startsWith("#") && line.contains("camel-k:")) {
+                // modeline
+                return false;
+            }
+            if (line.isBlank() || line.startsWith("#") || line.startsWith("---") || Character.isWhitespace(line.charAt(0))) {
+                continue;
+            }
+            String key = line.startsWith("-") ? line.substring(1).trim() : line;
+            if (!key.startsWith("route:") && !key.startsWith("from:")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private RoutesCache initRoutesCache() {
+        RoutesBuilderLoader xmlLoader;
+        ModelToXMLDumper dumper;
+        try {
+            xmlLoader = getRoutesLoader("xml");
+            dumper = PluginHelper.getModelToXMLDumper(camelContext);
+        } catch (Exception e) {
+            xmlLoader = null;
+            dumper = null;
+        }
+        if (xmlLoader == null || dumper == null) {
+            LOG.warn("Routes cache is disabled as camel-xml-io-dsl is not on the classpath");
+            routesCacheDir = null;
+            return null;
+        }
+        Path file = Path.of(routesCacheDir, ROUTES_CACHE_FILE);
+        if (routesCache == null) {
+            routesCache = new RoutesCacheFile();
+            try {
+                if (routesCache.load(file, camelContext.getVersion())) {
+                    LOG.debug("Loaded routes cache with {} entries from: {}", routesCache.size(), file);
+                }
+            } catch (IOException e) {
+                LOG.warn("Error loading routes cache from: {} due to: {}. The routes cache is not used.", file,
+                        e.getMessage());
+            }
+        }
+        return new RoutesCache(file, xmlLoader, dumper);
+    }
+
+    /**
+     * Uses the routes cache during one invocation of findRoutesBuilders
+     */
+    private final class RoutesCache {
+
+        private final Path file;
+        private final RoutesBuilderLoader xmlLoader;
+        private final ModelToXMLDumper dumper;
+        // the cached resources (which are loaded as XML)
+        private final Map<Resource, RoutesCacheFile.Entry> cached = new IdentityHashMap<>();
+        // the checksums of the resources which are not cached
+        private final Map<String, byte[]> missed = new HashMap<>();
+        private final Map<String, Long> times = new HashMap<>();
+        private long cachedParseTime;
+        private long cachedLoadTime;
+        private boolean changed;
+
+        RoutesCache(Path file, RoutesBuilderLoader xmlLoader, ModelToXMLDumper dumper) {
+            this.file = file;
+            this.xmlLoader = xmlLoader;
+            this.dumper = dumper;
+        }
+
+        /**
+         * Resolves the resource to use, which is the routes as XML if the resource is cached
+         */
+        Resource resolve(Resource resource) throws IOException {
+            if (!isRoutesCacheSupported(resource) || !resource.exists()) {
+                return resource;
+            }
+            byte[] content;
+            try (InputStream is = resource.getInputStream()) {
+                content = is.readAllBytes();
+            }
+            if (!isRoutesCacheSupported(resource, new String(content, StandardCharsets.UTF_8))) {
+                return resource;
+            }
+            byte[] checksum = checksum(content);
+            RoutesCacheFile.Entry entry = routesCache.get(resource.getLocation());
+            if (entry != null && entry.matches(checksum)) {
+                // keep the location so the routes refer to the original resource
+                Resource answer = ResourceHelper.fromBytes(resource.getLocation(), entry.xmlBytes());
+                cached.put(answer, entry);
+                routesCacheEntries.put(entry.location(), entry);
+                cachedParseTime += entry.parseTime();
+                return answer;
+            }
+            missed.put(resource.getLocation(), checksum);
+            return resource;
+        }
+
+        boolean isCached(Resource resource) {
+            return cached.containsKey(resource);
+        }
+
+        void addTime(Resource resource, long time) {
+            times.merge(resource.getLocation(), time, Long::sum);
+        }
+
+        void loaded(Resource resource, RoutesBuilder builder, long start) throws Exception {
+            String location = resource.getLocation();
+            if (cached.containsKey(resource)) {
+                cachedLoadTime += System.nanoTime() - start + times.getOrDefault(location, 0L);
+                return;
+            }
+            byte[] checksum = missed.get(location);
+            if (checksum == null) {
+                return;
+            }
+            // the routes are configured when dumped which is part of the parsing
+            String xml = dumper.dumpRoutesBuilderAsXml(camelContext, builder);
+            if (xml != null) {
+                long time = System.nanoTime() - start + times.getOrDefault(location, 0L);
+                ByteBuffer bytes = ByteBuffer.wrap(xml.getBytes(StandardCharsets.UTF_8));
+                routesCacheEntries.put(location, new RoutesCacheFile.Entry(location, checksum, time, bytes));
+                changed = true;
+            }
+        }
+
+        void done() {
+            if (!cached.isEmpty()) {
+                long parse = TimeUnit.NANOSECONDS.toMillis(cachedParseTime);
+                long load = TimeUnit.NANOSECONDS.toMillis(cachedLoadTime);
+                LOG.info("Loaded {} resources from routes cache in {} (parsing took {} when cached)", cached.size(),
+                        TimeUtils.printDuration(load, true), TimeUtils.printDuration(parse, true));
+                StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+                StartupStep step = recorder.beginStep(DefaultRoutesLoader.class, "routesCache",
+                        "Routes cache (" + cached.size() + " resources loaded in " + load + " ms, parsing took " + parse
+                                                                                          + " ms when cached)");
+                recorder.endStep(step);
+            }
+            if (changed) {
+                try {
+                    RoutesCacheFile.write(file, camelContext.getVersion(), routesCacheEntries.values());
+                    LOG.debug("Written routes cache with {} entries to: {}", routesCacheEntries.size(), file);
+                } catch (IOException e) {
+                    LOG.warn("Error writing routes cache to: {} due to: {}. This exception is ignored.", file,
+                            e.getMessage());
+                }
+            }
+        }
+
+        private static byte[] checksum(byte[] content) {
+            try {
+                return MessageDigest.getInstance("SHA-256").digest(content);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     protected RoutesBuilderLoader resolveRoutesBuilderLoader(Resource resource, boolean optional) throws Exception {
         RoutesBuilderLoader answer = null;
 
@@ -19,11 +19,14 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -35,6 +38,7 @@ import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.TempDirHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -53,6 +57,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
+    private static final int DEFAULT_OFF_HEAP_SEGMENT_SIZE = 64 * 1024;
 
     private CamelContext camelContext;
     private boolean enabled;
@@ -70,6 +75,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private volatile int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private long offHeapArenaSize;
+    private int offHeapSegmentSize = DEFAULT_OFF_HEAP_SEGMENT_SIZE;
+    private final Deque<ByteBuffer> offHeapSegments = new ConcurrentLinkedDeque<>();
+    private volatile boolean offHeapArena;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private volatile boolean anySpoolRules;
@@ -207,6 +216,50 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.removeSpoolDirectoryWhenStopping = removeSpoolDirectoryWhenStopping;
     }
 
+    @Override
+    public long getOffHeapArenaSize() {
+        return offHeapArenaSize;
+    }
+
+    @Override
+    public void setOffHeapArenaSize(long offHeapArenaSize) {
+        this.offHeapArenaSize = offHeapArenaSize;
+    }
+
+    @Override
+    public int getOffHeapSegmentSize() {
+        return offHeapSegmentSize;
+    }
+
+    @Override
+    public void setOffHeapSegmentSize(int offHeapSegmentSize) {
+        this.offHeapSegmentSize = offHeapSegmentSize;
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapSegment() {
+        if (!offHeapArena) {
+            return null;
+        }
+        // reuse the most recently released segment first
+        ByteBuffer answer = offHeapSegments.pollFirst();
+        if (answer != null) {
+            statistics.offHeapArenaUsed.addAndGet(answer.capacity());
+            answer.clear();
+        } else {
+            statistics.offHeapArenaExhaustedCounter.incrementAndGet();
+        }
+        return answer;
+    }
+
+    @Override
+    public void releaseOffHeapSegment(ByteBuffer segment) {
+        if (offHeapArena) {
+            statistics.offHeapArenaUsed.addAndGet(-segment.capacity());
+            offHeapSegments.addFirst(segment);
+        }
+    }
+
     @Override
     public boolean isAnySpoolRules() {
         return anySpoolRules;
@@ -350,7 +403,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private void computeStatistics(StreamCache cache) {
         try {
-            if (cache.inMemory()) {
+            if (cache instanceof ByteBufferInputStreamCache) {
+                statistics.updateOffHeap(cache.length());
+            } else if (cache.inMemory()) {
                 statistics.updateMemory(cache.length());
             } else {
                 statistics.updateSpool(cache.length());
@@ -450,6 +505,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (offHeapArenaSize > 0) {
+            createOffHeapArena();
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -473,9 +532,39 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             LOG.debug("Stopping StreamCachingStrategy with statistics: {}", statistics);
         }
 
+        // the direct memory of the arena is freed when the segments are garbage collected
+        offHeapArena = false;
+        offHeapSegments.clear();
+        statistics.offHeapArenaUsed.set(0);
+
         statistics.reset();
     }
 
+    private void createOffHeapArena() {
+        if (offHeapSegmentSize <= 0) {
+            throw new IllegalArgumentException("OffHeapSegmentSize must be positive, was: " + offHeapSegmentSize);
+        }
+        long count = offHeapArenaSize / offHeapSegmentSize;
+        if (count == 0) {
+            throw new IllegalArgumentException(
+                    "OffHeapArenaSize must be at least the OffHeapSegmentSize " + offHeapSegmentSize + ", was: "
+                                               + offHeapArenaSize);
+        }
+        // allocate the arena in chunks as a direct buffer is limited to 2gb
+        int perChunk = Integer.MAX_VALUE / offHeapSegmentSize;
+        while (count > 0) {
+            int n = (int) Math.min(perChunk, count);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(n * offHeapSegmentSize);
+            for (int i = 0; i < n; i++) {
+                offHeapSegments.add(chunk.slice(i * offHeapSegmentSize, offHeapSegmentSize));
+            }
+            count -= n;
+        }
+        offHeapArena = true;
+        LOG.debug("StreamCaching using off-heap arena of {} segments of {} bytes", offHeapSegments.size(),
+                offHeapSegmentSize);
+    }
+
     private boolean isSpoolRemovable() {
         return spoolThreshold > 0 && spoolDirectory != null && isRemoveSpoolDirectoryWhenStopping();
     }
@@ -489,6 +578,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", offHeapArenaSize=" + offHeapArenaSize
+               + ", offHeapSegmentSize=" + offHeapSegmentSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -568,6 +659,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private final AtomicLong spoolCounter = new AtomicLong();
         private final AtomicLong spoolSize = new AtomicLong();
         private final AtomicLong spoolAverageSize = new AtomicLong();
+        private final AtomicLong offHeapCounter = new AtomicLong();
+        private final AtomicLong offHeapSize = new AtomicLong();
+        private final AtomicLong offHeapAverageSize = new AtomicLong();
+        private final AtomicLong offHeapArenaUsed = new AtomicLong();
+        private final AtomicLong offHeapArenaExhaustedCounter = new AtomicLong();
 
         void updateMemory(long size) {
             lock.lock();
@@ -587,6 +683,15 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        void updateOffHeap(long size) {
+            lock.lock();
+            try {
+                offHeapAverageSize.set(offHeapSize.addAndGet(size) / offHeapCounter.incrementAndGet());
+            } finally {
+                lock.unlock();
+            }
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter.get();
@@ -617,6 +722,31 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize.get();
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter.get();
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize.get();
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize.get();
+        }
+
+        @Override
+        public long getOffHeapArenaUsed() {
+            return offHeapArenaUsed.get();
+        }
+
+        @Override
+        public long getOffHeapArenaExhaustedCounter() {
+            return offHeapArenaExhaustedCounter.get();
+        }
+
         @Override
         public void reset() {
             lock.lock();
@@ -627,6 +757,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 spoolCounter.set(0);
                 spoolSize.set(0);
                 spoolAverageSize.set(0);
+                offHeapCounter.set(0);
+                offHeapSize.set(0);
+                offHeapAverageSize.set(0);
+                offHeapArenaExhaustedCounter.set(0);
             } finally {
                 lock.unlock();
             }
@@ -645,8 +779,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s, offHeapArenaUsed=%s"
+                                 + ", offHeapArenaExhaustedCounter=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize, offHeapArenaUsed, offHeapArenaExhaustedCounter);
         }
     }
 
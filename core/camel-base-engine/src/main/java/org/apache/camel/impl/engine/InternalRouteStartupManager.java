@@ -23,6 +23,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -32,6 +35,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -40,6 +44,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -57,6 +62,7 @@ final class InternalRouteStartupManager {
     private static final Logger LOG = LoggerFactory.getLogger(InternalRouteStartupManager.class);
 
     private final Lock lock = new ReentrantLock();
+    private final Lock lifecycleLock = new ReentrantLock();
     private final ThreadLocal<Route> setupRoute = new ThreadLocal<>();
     private final CamelLogger routeLogger = new CamelLogger(LOG);
     private int defaultRouteStartupOrder = 1000;
@@ -300,10 +306,11 @@ final class InternalRouteStartupManager {
     }
 
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
-            throws FailedToStartRouteException {
+            throws Exception {
+        int concurrency = getStartupConcurrency(camelContext);
         // now prepare the routes by starting its services before we start the
         // input
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+        for (List<DefaultRouteStartupOrder> group : groupRoutes(inputs, concurrency)) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
             // all their processors and child services etc.
@@ -312,7 +319,11 @@ final class InternalRouteStartupManager {
             // routes as all routes
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
+            if (group.size() > 1) {
+                doWarmUpRoutesConcurrently(camelContext, group, concurrency, autoStartup);
+                continue;
+            }
+            RouteService routeService = group.get(0).getRouteService();
             StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
                     routeService.getId(),
                     "Warump Route");
@@ -329,6 +340,52 @@ final class InternalRouteStartupManager {
         }
     }
 
+    private void doWarmUpRoutesConcurrently(
+            AbstractCamelContext camelContext, List<DefaultRouteStartupOrder> group, int concurrency, boolean autoStartup)
+            throws Exception {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, null, "Warmup Routes");
+        try {
+            // setup the routes one by one
+            for (DefaultRouteStartupOrder order : group) {
+                RouteService routeService = order.getRouteService();
+                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+                try {
+                    setupRoute.set(routeService.getRoute());
+                    routeService.setUp();
+                } finally {
+                    setupRoute.remove();
+                }
+            }
+
+            // start the endpoints and services (such as producers) of the routes concurrently
+            runConcurrently(camelContext, group, concurrency, order -> {
+                RouteService routeService = order.getRouteService();
+                StartupStep routeStep = recorder.beginStep(step, Route.class, routeService.getId(), "Warmup Route");
+                try {
+                    setupRoute.set(routeService.getRoute());
+                    routeService.warmUpServices(routeStep, lifecycleLock);
+                } finally {
+                    setupRoute.remove();
+                    recorder.endStep(routeStep);
+                }
+            });
+
+            // and then complete the warmup one by one, which adds the routes to camel context in startup order
+            for (DefaultRouteStartupOrder order : group) {
+                RouteService routeService = order.getRouteService();
+                try {
+                    setupRoute.set(routeService.getRoute());
+                    routeService.warmUp();
+                } finally {
+                    setupRoute.remove();
+                }
+            }
+        } finally {
+            recorder.endStep(step);
+        }
+    }
+
     void doResumeRouteConsumers(
             AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
             throws Exception {
@@ -345,24 +402,31 @@ final class InternalRouteStartupManager {
         return camelContext.getRouteController().getLoggingLevel();
     }
 
+    private int getStartupConcurrency(AbstractCamelContext camelContext) {
+        return camelContext.getRouteController().getStartupConcurrency();
+    }
+
     private void doStartOrResumeRouteConsumers(
             AbstractCamelContext camelContext,
             Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
             throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
 
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            RouteService routeService = entry.getValue().getRouteService();
+        // resuming is quick, so only starting the consumers is done concurrently
+        int concurrency = resumeOnly ? 0 : getStartupConcurrency(camelContext);
+        for (List<DefaultRouteStartupOrder> group : groupRoutes(inputs, concurrency)) {
+            if (group.size() > 1) {
+                doStartRouteConsumersConcurrently(camelContext, group, concurrency, routeInputs, addingRoute);
+                continue;
+            }
+            DefaultRouteStartupOrder entry = group.get(0);
+            int order = entry.getStartupOrder();
+            Route route = entry.getRoute();
+            RouteService routeService = entry.getRouteService();
 
             // if we are starting camel, then skip routes which are configured
             // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log(
-                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
-                        getRouteLoggerLogLevel(camelContext));
+            if (isSkipRoute(camelContext, routeService, addingRoute)) {
                 continue;
             }
 
@@ -375,30 +439,7 @@ final class InternalRouteStartupManager {
             if (consumer != null) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
-
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : camelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                doCheckMultipleConsumers(camelContext, routeService, endpoint, routeInputs);
 
                 // start the consumer on the route
                 LOG.debug("Route: {} >>> {}", route.getId(), route);
@@ -421,54 +462,229 @@ final class InternalRouteStartupManager {
                     for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
                         strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
                     }
-                    try {
-                        camelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
-
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
+                    doStartConsumer(camelContext, route, consumer);
+                    logRouteStarted(camelContext, route, endpoint);
                 }
 
                 routeInputs.add(endpoint);
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
-                }
+                addRouteStartupOrder(camelContext, entry);
             }
 
             if (resumeOnly) {
                 routeService.resume();
             } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
+                doStartRouteService(route, routeService);
+            }
+
+            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+        }
+    }
+
+    private void doStartRouteConsumersConcurrently(
+            AbstractCamelContext camelContext, List<DefaultRouteStartupOrder> group, int concurrency,
+            List<Endpoint> routeInputs, boolean addingRoute)
+            throws Exception {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, null, "Start Routes");
+        try {
+            // do some preparation before starting the consumers on the routes one by one
+            List<DefaultRouteStartupOrder> routes = new ArrayList<>(group.size());
+            List<DefaultRouteStartupOrder> consumers = new ArrayList<>(group.size());
+            for (DefaultRouteStartupOrder entry : group) {
+                Route route = entry.getRoute();
+                RouteService routeService = entry.getRouteService();
+                if (isSkipRoute(camelContext, routeService, addingRoute)) {
+                    continue;
+                }
+                routes.add(entry);
+
+                Consumer consumer = routeService.getInput();
+                if (consumer != null) {
+                    Endpoint endpoint = consumer.getEndpoint();
+                    doCheckMultipleConsumers(camelContext, routeService, endpoint, routeInputs);
+                    routeInputs.add(endpoint);
+
+                    LOG.debug("Route: {} >>> {}", route.getId(), route);
+                    LOG.debug("Starting consumer (order: {}) on route: {}", entry.getStartupOrder(), route.getId());
+                    // when starting we should invoke the lifecycle strategies
+                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+                    }
+                    consumers.add(entry);
+                }
+            }
+
+            // start the consumers concurrently
+            runConcurrently(camelContext, consumers, concurrency, entry -> {
+                Route route = entry.getRoute();
+                StartupStep routeStep = recorder.beginStep(step, Route.class, route.getRouteId(), "Start Route");
                 try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
+                    doStartConsumer(camelContext, route, entry.getRouteService().getInput());
+                } finally {
+                    recorder.endStep(routeStep);
+                }
+            });
+
+            // and then start the routes one by one in the startup order
+            for (DefaultRouteStartupOrder entry : routes) {
+                Route route = entry.getRoute();
+                Consumer consumer = entry.getRouteService().getInput();
+                if (consumer != null) {
+                    logRouteStarted(camelContext, route, consumer.getEndpoint());
+                    addRouteStartupOrder(camelContext, entry);
                 }
+                doStartRouteService(route, entry.getRouteService());
             }
+        } finally {
+            recorder.endStep(step);
+        }
+    }
 
-            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+    private boolean isSkipRoute(AbstractCamelContext camelContext, RouteService routeService, boolean addingRoute) {
+        boolean autoStartup = routeService.isAutoStartup();
+        if (addingRoute && !autoStartup) {
+            routeLogger.log(
+                    "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                    getRouteLoggerLogLevel(camelContext));
+            return true;
+        }
+        return false;
+    }
+
+    private void doCheckMultipleConsumers(
+            AbstractCamelContext camelContext, RouteService routeService, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : camelContext.getRoutes()) {
+            if (routeService.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
+
+    private static void doStartConsumer(AbstractCamelContext camelContext, Route route, Consumer consumer)
+            throws Exception {
+        try {
+            camelContext.startService(consumer);
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+    }
+
+    private static void doStartRouteService(Route route, RouteService routeService) throws Exception {
+        // and start the route service (no need to start children as
+        // they are already warmed up)
+        try {
+            routeService.start();
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+    }
+
+    private void logRouteStarted(AbstractCamelContext camelContext, Route route, Endpoint endpoint) {
+        // use basic endpoint uri to not log verbose details or potential sensitive data
+        String uri = endpoint.getEndpointBaseUri();
+        uri = URISupport.sanitizeUri(uri);
+        routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                getRouteLoggerLogLevel(camelContext));
+    }
+
+    private static void addRouteStartupOrder(AbstractCamelContext camelContext, DefaultRouteStartupOrder entry) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(entry.getRoute().getId())) {
+                return;
+            }
+        }
+        camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry);
+    }
+
+    /**
+     * Groups the routes to be started. When starting routes concurrently, then the routes which do not have an
+     * explicit startupOrder are grouped together (between the routes which have), and can be started concurrently.
+     * Otherwise, each route is its own group, and the routes are started one by one.
+     */
+    private static List<List<DefaultRouteStartupOrder>> groupRoutes(
+            Map<Integer, DefaultRouteStartupOrder> inputs, int concurrency) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> group = null;
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            if (concurrency > 1 && order.getRoute().getStartupOrder() == null) {
+                if (group == null) {
+                    group = new ArrayList<>();
+                    answer.add(group);
+                }
+                group.add(order);
+            } else {
+                group = null;
+                answer.add(List.of(order));
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Runs the task for each of the routes concurrently, using a thread pool with at most the given number of threads,
+     * and waits for all the tasks to complete. If any task fails then the first failure (in startup order) is thrown.
+     */
+    private void runConcurrently(
+            AbstractCamelContext camelContext, List<DefaultRouteStartupOrder> routes, int concurrency,
+            RouteStartupTask task)
+            throws Exception {
+        if (routes.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = camelContext.getExecutorServiceManager()
+                .newFixedThreadPool(this, "RouteStartup", Math.min(concurrency, routes.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(routes.size());
+            for (DefaultRouteStartupOrder order : routes) {
+                futures.add(executor.submit(() -> {
+                    task.run(order);
+                    return null;
+                }));
+            }
+            Exception cause = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (cause == null) {
+                        cause = e.getCause() instanceof Exception ex ? ex : new RuntimeCamelException(e.getCause());
+                    }
+                }
+            }
+            if (cause != null) {
+                throw cause;
+            }
+        } finally {
+            camelContext.getExecutorServiceManager().shutdown(executor);
         }
     }
 
@@ -496,4 +712,9 @@ final class InternalRouteStartupManager {
         return defaultRouteStartupOrder++;
     }
 
+    @FunctionalInterface
+    private interface RouteStartupTask {
+        void run(DefaultRouteStartupOrder order) throws Exception;
+    }
+
 }
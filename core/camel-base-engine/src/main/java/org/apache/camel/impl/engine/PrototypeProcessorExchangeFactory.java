@@ -90,6 +90,11 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
         return ExchangeHelper.createCorrelatedCopy(exchange, handover);
     }
 
+    @Override
+    public Exchange createCorrelatedCopy(Exchange exchange, boolean handover, boolean shareUnmodified) {
+        return ExchangeHelper.createCorrelatedCopy(exchange, handover, false, shareUnmodified);
+    }
+
     @Override
     public Exchange create(Endpoint fromEndpoint, ExchangePattern exchangePattern) {
         return DefaultExchange.newFromEndpoint(fromEndpoint, exchangePattern);
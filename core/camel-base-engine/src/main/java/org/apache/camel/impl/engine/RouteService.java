@@ -67,6 +67,7 @@ public class RouteService extends ChildServiceSupport {
     private final Lock lock = new ReentrantLock();
     private final AtomicBoolean setUpDone = new AtomicBoolean();
     private final AtomicBoolean warmUpDone = new AtomicBoolean();
+    private final AtomicBoolean servicesDone = new AtomicBoolean();
     private final AtomicBoolean endpointDone = new AtomicBoolean();
 
     public RouteService(Route route) {
@@ -131,6 +132,22 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    /**
+     * Starts the endpoint and the services of the route (such as producers), which is the first part of warming up
+     * the route. This can be called concurrently for different routes, before the route is warmed up by
+     * {@link #warmUp()}, which then does the remainder that must be done one route at a time.
+     *
+     * @param parent        the startup step to record the starting of the services as child steps of
+     * @param lifecycleLock lock used when invoking the lifecycle strategies, as they are shared by all routes
+     */
+    public void warmUpServices(StartupStep parent, Lock lifecycleLock) throws FailedToStartRouteException {
+        try {
+            doWarmUpServices(parent, lifecycleLock);
+        } catch (Exception e) {
+            throw new FailedToStartRouteException(getId(), getLocation(), extractUsefulMessage(e), e);
+        }
+    }
+
     public void setUp() throws FailedToStartRouteException {
         if (setUpDone.compareAndSet(false, true)) {
             try {
@@ -220,7 +237,7 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
-    protected void doWarmUp() throws Exception {
+    protected void doWarmUpServices(StartupStep parent, Lock lifecycleLock) throws Exception {
         lock.lock();
         try {
             if (endpointDone.compareAndSet(false, true)) {
@@ -230,14 +247,28 @@ public class RouteService extends ChildServiceSupport {
                 ServiceHelper.startService(route.getEndpoint());
             }
 
-            if (warmUpDone.compareAndSet(false, true)) {
-
+            if (servicesDone.compareAndSet(false, true)) {
                 try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                     // warm up the route first
                     route.warmUp();
 
-                    startChildServices(route, childServices);
+                    startChildServices(route, childServices, parent, lifecycleLock);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    protected void doWarmUp() throws Exception {
+        lock.lock();
+        try {
+            // the endpoint and services may already have been started
+            doWarmUpServices(null, null);
+
+            if (warmUpDone.compareAndSet(false, true)) {
+
+                try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                     // fire event
                     EventHelper.notifyRouteAdded(camelContext, route);
                 }
@@ -324,6 +355,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        servicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
         setUpDone.set(false);
@@ -399,12 +431,19 @@ public class RouteService extends ChildServiceSupport {
     }
 
     private StartupStep beginStep(Service service, String description) {
+        return beginStep(null, service, description);
+    }
+
+    private StartupStep beginStep(StartupStep parent, Service service, String description) {
         Class<?> type = service instanceof Processor ? Processor.class : Service.class;
         description = description + " " + service.getClass().getSimpleName();
         String id = null;
         if (service instanceof IdAware idAware) {
             id = idAware.getId();
         }
+        if (parent != null) {
+            return startupStepRecorder.beginStep(parent, type, id, description);
+        }
         return startupStepRecorder.beginStep(type, id, description);
     }
 
@@ -428,6 +467,10 @@ public class RouteService extends ChildServiceSupport {
     }
 
     protected void startChildServices(Route route, List<Service> services) {
+        startChildServices(route, services, null, null);
+    }
+
+    private void startChildServices(Route route, List<Service> services, StartupStep parent, Lock lifecycleLock) {
         for (Service service : services) {
             StartupStep step = null;
             // skip internal services / route pipeline (starting point for route)
@@ -435,10 +478,19 @@ public class RouteService extends ChildServiceSupport {
                     // NOTE: RoutePipeline belong to dependency not visible by this class at build time.
                     = !(service instanceof InternalProcessor || "RoutePipeline".equals(service.getClass().getSimpleName())); // NOSONAR
             if (shouldRecord) {
-                step = beginStep(service, "Start");
+                step = beginStep(parent, service, "Start");
             }
-            for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                strategy.onServiceAdd(camelContext, service, route);
+            if (lifecycleLock != null) {
+                lifecycleLock.lock();
+            }
+            try {
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(camelContext, service, route);
+                }
+            } finally {
+                if (lifecycleLock != null) {
+                    lifecycleLock.unlock();
+                }
             }
             ServiceHelper.startService(service);
             if (step != null) {
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A file with the routes parsed from route resources (such as YAML files), stored as XML so they can be loaded by the
+ * faster XML DSL parser on the next startup.
+ * <p/>
+ * Each entry is keyed by the location of the resource, and holds a checksum of the resource content, so the entry is
+ * only used when the resource has not been changed. The file is a compact binary format which is memory mapped when
+ * loaded, so only the entries for the resources being loaded are read from disk.
+ * <p/>
+ * The file format is:
+ *
+ * <pre>
+ * int    magic
+ * string camel version
+ * int    number of entries
+ * entry: string location, 32 bytes SHA-256 checksum, long parse time (nanos), int length, bytes of the XML
+ * </pre>
+ *
+ * Where each string is an int length followed by the UTF-8 bytes.
+ */
+final class RoutesCacheFile {
+
+    private static final int MAGIC = 0x43524331;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * An entry in the cache
+     *
+     * @param location  location of the resource
+     * @param checksum  SHA-256 checksum of the content of the resource
+     * @param parseTime time taken to parse the resource when the entry was created (nanos)
+     * @param xml       the routes as XML
+     */
+    record Entry(String location, byte[] checksum, long parseTime, ByteBuffer xml) {
+
+        boolean matches(byte[] checksum) {
+            return Arrays.equals(this.checksum, checksum);
+        }
+
+        byte[] xmlBytes() {
+            byte[] answer = new byte[xml.remaining()];
+            xml.duplicate().get(answer);
+            return answer;
+        }
+    }
+
+    /**
+     * Loads the cache from the file. If the file does not exist, is corrupt, or has been written by another Camel
+     * version then the cache is empty.
+     *
+     * @return <tt>true</tt> if the cache was loaded, <tt>false</tt> if the cache is empty
+     */
+    boolean load(Path file, String version) throws IOException {
+        entries.clear();
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC || !readString(buffer).equals(String.valueOf(version))) {
+                return false;
+            }
+            int size = buffer.getInt();
+            for (int i = 0; i < size; i++) {
+                String location = readString(buffer);
+                byte[] checksum = new byte[32];
+                buffer.get(checksum);
+                long parseTime = buffer.getLong();
+                int length = buffer.getInt();
+                ByteBuffer xml = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                entries.put(location, new Entry(location, checksum, parseTime, xml));
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException e) {
+            // corrupt file
+            entries.clear();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the given entries to the file. The file is written to a temporary file first, which then replaces the
+     * existing file.
+     */
+    static void write(Path file, String version, Collection<Entry> entries) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                writeString(out, String.valueOf(version));
+                out.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    writeString(out, entry.location());
+                    out.write(entry.checksum());
+                    out.writeLong(entry.parseTime());
+                    byte[] xml = entry.xmlBytes();
+                    out.writeInt(xml.length);
+                    out.write(xml);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    Entry get(String location) {
+        return entries.get(location);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        byte[] data = new byte[length];
+        buffer.get(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.ContextValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} that balances the reactive work across all CPU cores using a work-stealing
+ * {@link ForkJoinPool}.
+ * <p/>
+ * The {@link DefaultReactiveExecutor} runs continuations on the thread that scheduled them, which means that a few
+ * threads (such as the I/O threads of asynchronous components) may end up doing all the routing work. This executor
+ * instead dispatches tasks from {@link #schedule(Runnable)} and {@link #scheduleMain(Runnable)} to per-core worker
+ * queues, where idle workers can steal pending tasks from busy workers.
+ * <p/>
+ * Tasks that must run on the current thread ({@link #scheduleSync(Runnable)} and {@link #scheduleQueue(Runnable)}, such
+ * as when routing transacted exchanges) are executed using a thread-local worker as in the {@link DefaultReactiveExecutor},
+ * and any work scheduled while such a task is running is kept on the same thread.
+ * <p/>
+ * The worker threads should not be blocked for long periods of time, so routes that call blocking APIs should
+ * offload this to a thread pool (such as with the Threads EIP).
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private CamelContext camelContext;
+    private int parallelism;
+    private ForkJoinPool pool;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningTasks = new LongAdder();
+
+    // executes the thread confined tasks (sync and queued tasks) on the current thread
+    private final DefaultReactiveExecutor confined = new DefaultReactiveExecutor();
+    // number of thread confined tasks currently running on the current thread
+    private final ContextValue<int[]> confinedDepth = ContextValue.newThreadLocal("CamelReactiveConfinedDepth", () -> new int[1]);
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads (0 = number of available processors)")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of worker threads. Is by default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        if (isConfined()) {
+            confined.schedule(new ConfinedTask(runnable));
+        } else {
+            pool.execute(new Task(runnable));
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        if (isConfined()) {
+            confined.scheduleMain(new ConfinedTask(runnable));
+        } else {
+            pool.execute(new Task(runnable));
+        }
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        confined.scheduleSync(new ConfinedTask(runnable));
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        confined.scheduleQueue(new ConfinedTask(runnable));
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return confined.executeFromQueue();
+    }
+
+    private boolean isConfined() {
+        // before the pool is started then all tasks run on the current thread
+        return pool == null || confinedDepth.get()[0] > 0;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.confined.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get() + confined.getCreatedWorkers();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        int answer = confined.getRunningWorkers();
+        if (pool != null) {
+            answer += pool.getActiveThreadCount();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        long answer = confined.getPendingTasks();
+        if (pool != null) {
+            answer += pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount();
+        }
+        return (int) Math.min(answer, Integer.MAX_VALUE);
+    }
+
+    @ManagedAttribute(description = "Number of tasks currently running on the worker threads")
+    public long getRunningTasks() {
+        return runningTasks.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from the queue of another worker thread")
+    public long getStealCount() {
+        return pool != null ? pool.getStealCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks queued in the worker thread queues")
+    public long getQueuedTaskCount() {
+        return pool != null ? pool.getQueuedTaskCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks submitted from threads that are not worker threads, and not yet running")
+    public int getQueuedSubmissionCount() {
+        return pool != null ? pool.getQueuedSubmissionCount() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(confined);
+        if (pool == null) {
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            // async mode (FIFO) as the tasks are event-style continuations that are never joined
+            pool = new ForkJoinPool(threads, this::newWorkerThread, null, true);
+            LOG.debug("Created work-stealing ForkJoinPool with parallelism: {}", threads);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug("Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {},"
+                      + " stealCount: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStealCount());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (pool != null) {
+            pool.shutdown();
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOG.debug("Forcing shutdown of WorkStealingReactiveExecutor with {} pending tasks", getPendingTasks());
+                pool.shutdownNow();
+            }
+            pool = null;
+        }
+        ServiceHelper.stopAndShutdownService(confined);
+        confinedDepth.remove();
+    }
+
+    private ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread answer = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        int number = createdWorkers.incrementAndGet();
+        if (camelContext != null) {
+            answer.setName(camelContext.getExecutorServiceManager().resolveThreadName("ReactiveWorker"));
+        } else {
+            answer.setName("Camel ReactiveWorker #" + number);
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor";
+    }
+
+    /**
+     * A task which runs on a worker thread.
+     */
+    private final class Task implements Runnable {
+
+        private final Runnable runnable;
+
+        Task(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            if (statisticsEnabled) {
+                runningTasks.increment();
+            }
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", runnable);
+                }
+                runnable.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            } finally {
+                if (statisticsEnabled) {
+                    runningTasks.decrement();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+
+    /**
+     * A task which must run on the current thread, and therefore any tasks it schedules must stay on the current thread
+     * as well.
+     */
+    private final class ConfinedTask implements Runnable {
+
+        private final Runnable runnable;
+
+        ConfinedTask(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            int[] depth = confinedDepth.get();
+            depth[0]++;
+            try {
+                runnable.run();
+            } finally {
+                depth[0]--;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+
+}
@@ -45,6 +45,11 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
      */
     void incrementHit();
 
+    /**
+     * Increment the count of conversions that hit the dispatch table for common conversions
+     */
+    void incrementFastHit();
+
     /**
      * Increment the count of conversions that missed the cache
      */
@@ -72,6 +72,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // the type converters for the most common conversions between core types
+    private final TypeConverterDispatchTable dispatchTable = new TypeConverterDispatchTable();
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -385,9 +387,28 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         // attempt bulk first which is the fastest (also taking into account primitives)
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
+
+        // fast path for common conversions between core types which avoids looking up the type converter in the map
+        final int index = TypeConverterDispatchTable.index(value.getClass(), aClass);
+        TypeConverter triedConverter = null;
+        if (index >= 0) {
+            final TypeConverter typeConverter = dispatchTable.get(index);
+            if (typeConverter != null) {
+                final Object ret = typeConverter.convertTo(type, exchange, value);
+                if (ret != null) {
+                    if (!tryConvert) {
+                        statistics.incrementFastHit();
+                    }
+                    return ret;
+                }
+                // the converter could not convert the value, so it is not tried again below
+                triedConverter = typeConverter;
+            }
+        }
+
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
-        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
+        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible, index, triedConverter);
         if (ret != null) {
             return ret;
         }
@@ -400,39 +421,49 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         final TypeConverter assignableConverter = tryAssignableFrom(typeConvertible, converters);
         if (assignableConverter != null) {
-            converters.put(typeConvertible, assignableConverter);
+            putConverter(typeConvertible, assignableConverter);
             return assignableConverter.convertTo(type, exchange, value);
         }
 
         // This is the last resort: if nothing else works, try to find something that converts from an Object to the target type
         final TypeConverter objConverter = converters.get(new TypeConvertible<>(Object.class, type));
         if (objConverter != null) {
-            converters.put(typeConvertible, objConverter);
+            putConverter(typeConvertible, objConverter);
             return objConverter.convertTo(type, exchange, value);
         }
 
         if (!tryConvert) {
-            converters.put(typeConvertible, MISS_CONVERTER);
+            putConverter(typeConvertible, MISS_CONVERTER);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
-    private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
-        final TypeConverter typeConverter = converters.get(typeConvertible);
+    private Object tryCachedConverters(
+            Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible, int index,
+            TypeConverter triedConverter) {
+        // the converter from the dispatch table is the cached converter, which has already been tried
+        final TypeConverter typeConverter = triedConverter == null ? converters.get(typeConvertible) : null;
         if (typeConverter != null) {
             final Object ret = typeConverter.convertTo(type, exchange, value);
             if (ret != null) {
+                if (index >= 0 && typeConverter != MISS_CONVERTER) {
+                    dispatchTable.set(index, typeConverter);
+                    // the converter may have been changed concurrently
+                    if (converters.get(typeConvertible) != typeConverter) {
+                        dispatchTable.set(index, null);
+                    }
+                }
                 return ret;
             }
         }
 
         final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
-        if (superConverterTc != null) {
+        if (superConverterTc != null && superConverterTc != triedConverter) {
             final Object ret = superConverterTc.convertTo(type, exchange, value);
             if (ret != null) {
-                converters.put(typeConvertible, superConverterTc);
+                putConverter(typeConvertible, superConverterTc);
                 return ret;
             }
         }
@@ -457,7 +488,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (rc != null) {
-                converters.put(typeConvertible, tc);
+                putConverter(typeConvertible, tc);
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
@@ -487,7 +518,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
-        converters.put(typeConvertible, typeConverter);
+        putConverter(typeConvertible, typeConverter);
     }
 
     @Override
@@ -507,7 +538,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
-            converters.put(typeConvertible, typeConverter);
+            putConverter(typeConvertible, typeConverter);
             return;
         }
 
@@ -524,11 +555,16 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (add) {
-                converters.put(typeConvertible, typeConverter);
+                putConverter(typeConvertible, typeConverter);
             }
         }
     }
 
+    private void putConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
+        converters.put(typeConvertible, typeConverter);
+        dispatchTable.remove(typeConvertible.getFrom(), typeConvertible.getTo());
+    }
+
     private boolean onTypeConverterExists(
             TypeConverter typeConverter, TypeConvertible<?, ?> typeConvertible, TypeConverter converter) {
         if (typeConverterExists == TypeConverterExists.Override) {
@@ -549,6 +585,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        dispatchTable.remove(fromType, toType);
         return removed != null;
     }
 
@@ -590,7 +627,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
-                converters.put(typeConvertible, converter);
+                putConverter(typeConvertible, converter);
             }
         }
         return converter;
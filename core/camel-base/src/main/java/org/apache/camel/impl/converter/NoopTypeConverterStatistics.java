@@ -73,6 +73,11 @@ final class NoopTypeConverterStatistics implements ConverterStatistics {
         // NO-OP
     }
 
+    @Override
+    public void incrementFastHit() {
+        // NO-OP
+    }
+
     @Override
     public void incrementMiss() {
         // NO-OP
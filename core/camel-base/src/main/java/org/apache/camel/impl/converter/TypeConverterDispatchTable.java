@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.TypeConverter;
+
+/**
+ * A table of the type converters for the most common conversions between a small set of core types (such as String,
+ * byte[] and the boxed primitive types), which is indexed by class ids.
+ * <p/>
+ * This allows {@link CoreTypeConverterRegistry} to find the type converter for these conversions without creating a
+ * {@link org.apache.camel.spi.TypeConvertible} key and looking it up in the map of all the type converters. The table
+ * is filled in when a type converter has been found in the map, and entries are removed when the type converter in
+ * the map changes.
+ */
+final class TypeConverterDispatchTable {
+
+    /**
+     * The core types in the table (the index is the class id). Primitive types are not in the table, as the value to
+     * convert is never primitive, and the registry converts a primitive type to convert to into its wrapper type
+     * before looking up the table. The table is indexed by the exact class of the value, so abstract types such as
+     * InputStream are not in the table.
+     */
+    private static final Class<?>[] TYPES = {
+            String.class, byte[].class, char[].class, Boolean.class, Integer.class, Long.class, Double.class,
+            Float.class, Short.class, Byte.class, Character.class, BigInteger.class, BigDecimal.class };
+
+    private static final ClassValue<Integer> CLASS_IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < TYPES.length; i++) {
+                if (TYPES[i] == type) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    };
+
+    private final AtomicReferenceArray<TypeConverter> converters
+            = new AtomicReferenceArray<>(TYPES.length * TYPES.length);
+
+    /**
+     * Gets the class id of the type, or <tt>-1</tt> if the type is not in the table
+     */
+    static int classId(Class<?> type) {
+        return CLASS_IDS.get(type);
+    }
+
+    /**
+     * Gets the index in the table for converting between the types, or <tt>-1</tt> if not in the table
+     *
+     * @param from the type to convert from
+     * @param to   the type to convert to (must not be a primitive type)
+     */
+    static int index(Class<?> from, Class<?> to) {
+        int fromId = classId(from);
+        if (fromId < 0) {
+            return -1;
+        }
+        int toId = classId(to);
+        if (toId < 0) {
+            return -1;
+        }
+        return fromId * TYPES.length + toId;
+    }
+
+    TypeConverter get(int index) {
+        return converters.get(index);
+    }
+
+    void set(int index, TypeConverter converter) {
+        converters.set(index, converter);
+    }
+
+    /**
+     * Removes the type converter for converting between the types (if in the table)
+     */
+    void remove(Class<?> from, Class<?> to) {
+        int index = index(from, to);
+        if (index >= 0) {
+            converters.set(index, null);
+        }
+    }
+
+}
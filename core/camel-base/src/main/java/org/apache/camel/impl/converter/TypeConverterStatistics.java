@@ -36,6 +36,7 @@ final class TypeConverterStatistics implements ConverterStatistics {
     private final LongAdder attemptCounter = new LongAdder();
     private final LongAdder missCounter = new LongAdder();
     private final LongAdder hitCounter = new LongAdder();
+    private final LongAdder fastHitCounter = new LongAdder();
     private final LongAdder failedCounter = new LongAdder();
 
     @Override
@@ -53,6 +54,11 @@ final class TypeConverterStatistics implements ConverterStatistics {
         return hitCounter.longValue();
     }
 
+    @Override
+    public long getFastHitCounter() {
+        return fastHitCounter.longValue();
+    }
+
     @Override
     public long getMissCounter() {
         return missCounter.longValue();
@@ -83,6 +89,11 @@ final class TypeConverterStatistics implements ConverterStatistics {
         hitCounter.increment();
     }
 
+    @Override
+    public void incrementFastHit() {
+        fastHitCounter.increment();
+    }
+
     @Override
     public void incrementMiss() {
         missCounter.increment();
@@ -98,6 +109,7 @@ final class TypeConverterStatistics implements ConverterStatistics {
         noopCounter.reset();
         attemptCounter.reset();
         hitCounter.reset();
+        fastHitCounter.reset();
         missCounter.reset();
         failedCounter.reset();
     }
@@ -126,8 +138,8 @@ final class TypeConverterStatistics implements ConverterStatistics {
         final AtomicInteger misses = computeCachedMisses(converters, missConverter);
 
         LOG.info(
-                "TypeConverterStatistics utilization[noop={}, attempts={}, hits={}, misses={}, failures={}] mappings[total={}, misses={}]",
-                getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), converters.size(),
-                misses);
+                "TypeConverterStatistics utilization[noop={}, attempts={}, hits={}, fastHits={}, misses={}, failures={}] mappings[total={}, misses={}]",
+                getNoopCounter(), getAttemptCounter(), getHitCounter(), getFastHitCounter(), getMissCounter(), getFailedCounter(),
+                converters.size(), misses);
     }
 }
@@ -157,6 +157,7 @@ public class RouteDevConsole extends AbstractDevConsole {
                 sb.append(String.format("%n    p50 Time: %s", TimeUtils.printDuration(mrb.getProcessingTimeP50(), true)));
                 sb.append(String.format("%n    p95 Time: %s", TimeUtils.printDuration(mrb.getProcessingTimeP95(), true)));
                 sb.append(String.format("%n    p99 Time: %s", TimeUtils.printDuration(mrb.getProcessingTimeP99(), true)));
+                sb.append(String.format("%n    p999 Time: %s", TimeUtils.printDuration(mrb.getProcessingTimeP999(), true)));
             }
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("%n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
@@ -493,6 +494,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("p50ProcessingTime", mrb.getProcessingTimeP50());
             stats.put("p95ProcessingTime", mrb.getProcessingTimeP95());
             stats.put("p99ProcessingTime", mrb.getProcessingTimeP99());
+            stats.put("p999ProcessingTime", mrb.getProcessingTimeP999());
         }
         if (mrb.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mrb.getLastProcessingTime());
@@ -273,6 +273,7 @@ public class TopDevConsole extends AbstractDevConsole {
             stats.put("p50ProcessingTime", mbean.getProcessingTimeP50());
             stats.put("p95ProcessingTime", mbean.getProcessingTimeP95());
             stats.put("p99ProcessingTime", mbean.getProcessingTimeP99());
+            stats.put("p999ProcessingTime", mbean.getProcessingTimeP999());
         }
         return stats;
     }
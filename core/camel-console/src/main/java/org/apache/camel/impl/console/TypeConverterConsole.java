@@ -45,6 +45,7 @@ public class TypeConverterConsole extends AbstractDevConsole {
 
         statistics.computeIfEnabled(statistics::getAttemptCounter, v -> sb.append(String.format("%n    Attempts: %s", v)));
         statistics.computeIfEnabled(statistics::getHitCounter, v -> sb.append(String.format("%n    Hit: %s", v)));
+        statistics.computeIfEnabled(statistics::getFastHitCounter, v -> sb.append(String.format("%n    Fast Hit: %s", v)));
         statistics.computeIfEnabled(statistics::getMissCounter, v -> sb.append(String.format("%n    Miss: %s", v)));
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> sb.append(String.format("%n    Failed: %s", v)));
         statistics.computeIfEnabled(statistics::getNoopCounter, v -> sb.append(String.format("%n    Noop: %s", v)));
@@ -66,6 +67,7 @@ public class TypeConverterConsole extends AbstractDevConsole {
 
         statistics.computeIfEnabled(statistics::getAttemptCounter, v -> props.put("attemptCounter", v));
         statistics.computeIfEnabled(statistics::getHitCounter, v -> props.put("hitCounter", v));
+        statistics.computeIfEnabled(statistics::getFastHitCounter, v -> props.put("fastHitCounter", v));
         statistics.computeIfEnabled(statistics::getMissCounter, v -> props.put("missCounter", v));
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> props.put("failedCounter", v));
         statistics.computeIfEnabled(statistics::getNoopCounter, v -> props.put("noopCounter", v));
@@ -90,6 +90,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "modeline": target.setModeline(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "namestrategy":
         case "nameStrategy": target.setNameStrategy(property(camelContext, org.apache.camel.spi.CamelContextNameStrategy.class, value)); return true;
+        case "pipelinefusion":
+        case "pipelineFusion": target.setPipelineFusion(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "propertiescomponent":
         case "propertiesComponent": target.setPropertiesComponent(property(camelContext, org.apache.camel.spi.PropertiesComponent.class, value)); return true;
         case "restconfiguration":
@@ -216,6 +218,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "modeline": return java.lang.Boolean.class;
         case "namestrategy":
         case "nameStrategy": return org.apache.camel.spi.CamelContextNameStrategy.class;
+        case "pipelinefusion":
+        case "pipelineFusion": return java.lang.Boolean.class;
         case "propertiescomponent":
         case "propertiesComponent": return org.apache.camel.spi.PropertiesComponent.class;
         case "restconfiguration":
@@ -343,6 +347,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "modeline": return target.isModeline();
         case "namestrategy":
         case "nameStrategy": return target.getNameStrategy();
+        case "pipelinefusion":
+        case "pipelineFusion": return target.isPipelineFusion();
         case "propertiescomponent":
         case "propertiesComponent": return target.getPropertiesComponent();
         case "restconfiguration":
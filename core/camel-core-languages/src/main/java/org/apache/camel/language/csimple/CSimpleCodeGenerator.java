@@ -21,6 +21,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -35,6 +37,16 @@ import org.apache.camel.util.StringHelper;
 public class CSimpleCodeGenerator implements CamelContextAware {
 
     private static final AtomicInteger UUID = new AtomicInteger();
+    // the tokens of the generated code: string literals, identifiers, number literals and the logical operators
+    private static final Pattern SIMPLE_TOKEN = Pattern.compile("\\s*(?:\"(?:\\\\.|[^\"\\\\])*\""
+                                                                + "|([a-zA-Z_$][\\w$]*(?:\\.[a-zA-Z_$][\\w$]*)*)"
+                                                                + "|-?\\d+(?:\\.\\d+)?[dL]?|&&|\\|\\||[(),!])");
+    // the functions and operators which the generated code evaluates the same as the simple language
+    private static final Set<String> SIMPLE_IDENTIFIERS = Set.of(
+            "body", "exchange", "message", "null", "true", "false",
+            "header", "exchangeProperty", "variable", "routeId", "exchange.getExchangeId", "context.getName",
+            "isEqualTo", "isEqualToIgnoreCase", "isNotEqualTo", "contains", "containsIgnoreCase", "range", "startsWith",
+            "endsWith");
 
     private CamelContext camelContext;
     private Set<String> imports = new TreeSet<>();
@@ -74,7 +86,83 @@ public class CSimpleCodeGenerator implements CamelContextAware {
         return generateCode(fqn, script, true);
     }
 
+    /**
+     * Generates source code for a simple language expression, which the simple language uses instead of parsing the
+     * expression at runtime.
+     * <p/>
+     * Only the functions and operators known to evaluate the same are supported, such as the message body, headers,
+     * exchange properties and variables, and the comparison operators.
+     *
+     * @return the generated code, or <tt>null</tt> if the compiled expression would not evaluate the same as the simple
+     *         language (such as calling methods via OGNL, or concatenating text with functions which may be null)
+     */
+    public CSimpleGeneratedCode generateSimpleExpression(String fqn, String script) {
+        return generateSimpleCode(fqn, script, false);
+    }
+
+    /**
+     * Generates source code for a simple language predicate, which the simple language uses instead of parsing the
+     * predicate at runtime.
+     * <p/>
+     * Only the functions and operators known to evaluate the same are supported, such as the message body, headers,
+     * exchange properties and variables, and the comparison and logical operators.
+     *
+     * @return the generated code, or <tt>null</tt> if the compiled predicate would not evaluate the same as the simple
+     *         language (such as calling methods via OGNL)
+     */
+    public CSimpleGeneratedCode generateSimplePredicate(String fqn, String script) {
+        return generateSimpleCode(fqn, script, true);
+    }
+
+    private CSimpleGeneratedCode generateSimpleCode(String fqn, String script, boolean predicate) {
+        String code;
+        try {
+            if (predicate) {
+                code = new CSimplePredicateParser().parsePredicate(camelContext, script.trim());
+            } else {
+                code = new CSimpleExpressionParser().parseExpression(camelContext, script.trim());
+            }
+        } catch (Exception e) {
+            // not supported by csimple
+            return null;
+        }
+        if (!isSimpleCode(code.trim())) {
+            return null;
+        }
+        // aliases are only for csimple
+        return generateCode(fqn, script, predicate, false);
+    }
+
+    private static boolean isSimpleCode(String code) {
+        // anything else, such as calling methods via OGNL, or concatenating text with functions which may be null,
+        // is not evaluated the same
+        Matcher matcher = SIMPLE_TOKEN.matcher(code);
+        boolean and = false;
+        boolean or = false;
+        int pos = 0;
+        while (pos < code.length()) {
+            matcher.region(pos, code.length());
+            if (!matcher.lookingAt()) {
+                return false;
+            }
+            String identifier = matcher.group(1);
+            if (identifier != null && !SIMPLE_IDENTIFIERS.contains(identifier)) {
+                return false;
+            }
+            String token = matcher.group().trim();
+            and |= "&&".equals(token);
+            or |= "||".equals(token);
+            pos = matcher.end();
+        }
+        // simple evaluates the logical operators from left to right, where java evaluates && before ||
+        return !and || !or;
+    }
+
     private CSimpleGeneratedCode generateCode(String fqn, String script, boolean predicate) {
+        return generateCode(fqn, script, predicate, true);
+    }
+
+    private CSimpleGeneratedCode generateCode(String fqn, String script, boolean predicate, boolean useAliases) {
         String text = script;
         // text should be single line and trimmed as it can be multi-lined
         text = text.replaceAll("\n", "");
@@ -85,7 +173,9 @@ public class CSimpleCodeGenerator implements CamelContextAware {
 
         // trim text
         script = script.trim();
-        script = alias(script);
+        if (useAliases) {
+            script = alias(script);
+        }
 
         //  wrap text into a class method we can call
         StringBuilder sb = new StringBuilder(4096);
@@ -27,6 +27,8 @@ public class FileLanguage extends SimpleLanguage {
     public FileLanguage() {
         // do not allow escaping, as Windows uses \ as path separator
         allowEscape = false;
+        // pre compiled expressions are only for the simple language
+        preCompiled = false;
     }
 
 }
@@ -16,13 +16,17 @@
  */
 package org.apache.camel.language.simple;
 
+import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StaticService;
+import org.apache.camel.language.csimple.CSimpleExpression;
 import org.apache.camel.spi.annotations.Language;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ExpressionAdapter;
@@ -32,6 +36,7 @@ import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.support.PredicateToExpressionAdapter;
 import org.apache.camel.support.ScriptHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +47,11 @@ import org.slf4j.LoggerFactory;
 @Language(value = "simple", functionsClass = SimpleConstants.class, operatorsClass = SimpleOperatorConstants.class)
 public class SimpleLanguage extends LanguageSupport implements StaticService {
 
+    /**
+     * Index of the simple expressions which has been compiled ahead of time by the camel-csimple-maven-plugin
+     */
+    public static final String PRE_COMPILED_FILE = "META-INF/services/org/apache/camel/simple-compiled.properties";
+
     private static final Logger LOG = LoggerFactory.getLogger(SimpleLanguage.class);
 
     // singleton for expressions without a result type
@@ -52,11 +62,16 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     boolean allowEscape = true;
     boolean skipFileFunctions;
+    boolean preCompiled = true;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
     private Map<String, Predicate> cachePredicate;
 
+    // expressions compiled ahead of time (keyed by the expression text as single line)
+    private Map<String, Expression> compiledExpressions;
+    private Map<String, Predicate> compiledPredicates;
+
     /**
      * Default constructor.
      */
@@ -68,6 +83,8 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
      */
     SimpleLanguage(boolean skipFileFunctions) {
         this.skipFileFunctions = skipFileFunctions;
+        // the expressions are compiled with the file functions
+        this.preCompiled = !skipFileFunctions;
     }
 
     @Override
@@ -83,6 +100,56 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
                 LOG.debug("Simple language disabled predicate/expression cache");
             }
         }
+        if (preCompiled && compiledExpressions == null && compiledPredicates == null && getCamelContext() != null) {
+            loadPreCompiled();
+        }
+    }
+
+    // the pre compiled expressions are generated as (deprecated) csimple expressions
+    @SuppressWarnings("deprecation")
+    private void loadPreCompiled() {
+        CamelContext camelContext = getCamelContext();
+        InputStream is = camelContext.getClassResolver().loadResourceAsStream(PRE_COMPILED_FILE);
+        if (is == null) {
+            return;
+        }
+        Map<String, Expression> expressions = new HashMap<>();
+        Map<String, Predicate> predicates = new HashMap<>();
+        try {
+            String text = IOHelper.loadText(is);
+            for (String fqn : text.split("\n")) {
+                fqn = fqn.trim();
+                // skip comments
+                if (fqn.startsWith("#") || fqn.isEmpty()) {
+                    continue;
+                }
+                Class<CSimpleExpression> clazz
+                        = camelContext.getClassResolver().resolveMandatoryClass(fqn, CSimpleExpression.class);
+                CSimpleExpression exp = clazz.getConstructor().newInstance();
+                exp.init(camelContext);
+                if (exp.isPredicate()) {
+                    predicates.put(exp.getText(), exp);
+                } else {
+                    expressions.put(exp.getText(), exp);
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeCamelException("Error loading pre compiled simple expressions from: " + PRE_COMPILED_FILE, e);
+        } finally {
+            IOHelper.close(is);
+        }
+        if (!expressions.isEmpty()) {
+            compiledExpressions = expressions;
+        }
+        if (!predicates.isEmpty()) {
+            compiledPredicates = predicates;
+        }
+        LOG.info("Loaded {} pre compiled simple expressions from classpath", expressions.size() + predicates.size());
+    }
+
+    private static String preCompiledKey(String expression) {
+        // the compiled expressions use the text as single line and trimmed
+        return expression.replace("\n", "").trim();
     }
 
     @Override
@@ -131,10 +198,16 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
                 key = CACHE_KEY_PREFIX + expression;
             }
 
-            // using the expression cache here with the predicate parser is okay
-            SimplePredicateParser parser
-                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, skipFileFunctions, cacheExpression);
-            answer = parser.parsePredicate();
+            if (compiledPredicates != null) {
+                answer = compiledPredicates.get(preCompiledKey(expression));
+            }
+            if (answer == null) {
+                // using the expression cache here with the predicate parser is okay
+                SimplePredicateParser parser
+                        = new SimplePredicateParser(
+                                getCamelContext(), expression, allowEscape, skipFileFunctions, cacheExpression);
+                answer = parser.parsePredicate();
+            }
 
             if (cachePredicate != null && answer != null) {
                 cachePredicate.put(key, answer);
@@ -193,11 +266,16 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
                 key = CACHE_KEY_PREFIX + expression;
             }
 
-            // only parse if there are simple functions
-            SimpleExpressionParser parser
-                    = new SimpleExpressionParser(
-                            getCamelContext(), expression, allowEscape, skipFileFunctions, cacheExpression);
-            answer = parser.parseExpression();
+            if (compiledExpressions != null) {
+                answer = compiledExpressions.get(preCompiledKey(expression));
+            }
+            if (answer == null) {
+                // only parse if there are simple functions
+                SimpleExpressionParser parser
+                        = new SimpleExpressionParser(
+                                getCamelContext(), expression, allowEscape, skipFileFunctions, cacheExpression);
+                answer = parser.parseExpression();
+            }
 
             if (cacheExpression != null && answer != null) {
                 cacheExpression.put(key, answer);
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Limits the number of concurrent messages with a limit that adapts to the latency and errors of the downstream systems
+ */
+@Metadata(label = "eip,flowcontrol,routing",
+          aliases = { "adaptive-concurrency", "throttle" },
+          description = "Limits the number of concurrent messages with a limit that is adjusted automatically from the observed round-trip time and error rate to avoid overloading downstream systems")
+@XmlRootElement(name = "adaptiveThrottle")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class AdaptiveThrottleDefinition extends NoOutputDefinition<AdaptiveThrottleDefinition> {
+
+    @XmlAttribute
+    @Metadata(defaultValue = "gradient", enums = "gradient,vegas",
+              description = "The algorithm used for adjusting the concurrency limit. gradient compares the round-trip time with a long-term average (inspired by Gradient2). vegas estimates the queue in the downstream system from the minimum round-trip time (inspired by TCP Vegas).")
+    private String algorithm;
+    @XmlAttribute
+    @Metadata(defaultValue = "20", javaType = "java.lang.Integer",
+              description = "The concurrency limit to start with.")
+    private String initialLimit;
+    @XmlAttribute
+    @Metadata(defaultValue = "1", javaType = "java.lang.Integer",
+              description = "The lowest concurrency limit.")
+    private String minLimit;
+    @XmlAttribute
+    @Metadata(defaultValue = "1000", javaType = "java.lang.Integer",
+              description = "The highest concurrency limit.")
+    private String maxLimit;
+    @XmlAttribute
+    @Metadata(defaultValue = "0", javaType = "java.lang.Integer",
+              description = "The maximum number of messages that can wait for a permit when the concurrency limit is exceeded."
+                            + " When the queue is full then the message is rejected with ThrottlerRejectedExecutionException."
+                            + " The default is 0 which means messages are rejected right away.")
+    private String maxQueueSize;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "10000", javaType = "java.time.Duration",
+              description = "The maximum time a message can wait in the queue for a permit before being rejected.")
+    private String queueTimeout;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "0.9", javaType = "java.lang.Double",
+              description = "The ratio the concurrency limit is multiplied with when a message failed, to back off when the error rate increases."
+                            + " Must be between 0 and 1.")
+    private String backoffRatio;
+
+    public AdaptiveThrottleDefinition() {
+    }
+
+    protected AdaptiveThrottleDefinition(AdaptiveThrottleDefinition source) {
+        super(source);
+        this.algorithm = source.algorithm;
+        this.initialLimit = source.initialLimit;
+        this.minLimit = source.minLimit;
+        this.maxLimit = source.maxLimit;
+        this.maxQueueSize = source.maxQueueSize;
+        this.queueTimeout = source.queueTimeout;
+        this.backoffRatio = source.backoffRatio;
+    }
+
+    @Override
+    public AdaptiveThrottleDefinition copyDefinition() {
+        return new AdaptiveThrottleDefinition(this);
+    }
+
+    @Override
+    public String getShortName() {
+        return "adaptiveThrottle";
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveThrottle[" + description() + "]";
+    }
+
+    protected String description() {
+        return (algorithm != null ? algorithm : "gradient") + " concurrency limit";
+    }
+
+    @Override
+    public String getLabel() {
+        return "adaptiveThrottle[" + description() + "]";
+    }
+
+    // Fluent API
+    // -------------------------------------------------------------------------
+
+    /**
+     * The algorithm used for adjusting the concurrency limit (gradient or vegas).
+     *
+     * @param  algorithm the algorithm
+     * @return           the builder
+     */
+    public AdaptiveThrottleDefinition algorithm(String algorithm) {
+        setAlgorithm(algorithm);
+        return this;
+    }
+
+    /**
+     * The concurrency limit to start with.
+     *
+     * @param  initialLimit the initial limit
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition initialLimit(int initialLimit) {
+        return initialLimit(Integer.toString(initialLimit));
+    }
+
+    /**
+     * The concurrency limit to start with.
+     *
+     * @param  initialLimit the initial limit
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition initialLimit(String initialLimit) {
+        setInitialLimit(initialLimit);
+        return this;
+    }
+
+    /**
+     * The lowest concurrency limit.
+     *
+     * @param  minLimit the minimum limit
+     * @return          the builder
+     */
+    public AdaptiveThrottleDefinition minLimit(int minLimit) {
+        return minLimit(Integer.toString(minLimit));
+    }
+
+    /**
+     * The lowest concurrency limit.
+     *
+     * @param  minLimit the minimum limit
+     * @return          the builder
+     */
+    public AdaptiveThrottleDefinition minLimit(String minLimit) {
+        setMinLimit(minLimit);
+        return this;
+    }
+
+    /**
+     * The highest concurrency limit.
+     *
+     * @param  maxLimit the maximum limit
+     * @return          the builder
+     */
+    public AdaptiveThrottleDefinition maxLimit(int maxLimit) {
+        return maxLimit(Integer.toString(maxLimit));
+    }
+
+    /**
+     * The highest concurrency limit.
+     *
+     * @param  maxLimit the maximum limit
+     * @return          the builder
+     */
+    public AdaptiveThrottleDefinition maxLimit(String maxLimit) {
+        setMaxLimit(maxLimit);
+        return this;
+    }
+
+    /**
+     * The maximum number of messages that can wait for a permit when the concurrency limit is exceeded. When the queue
+     * is full then the message is rejected with ThrottlerRejectedExecutionException.
+     * <p/>
+     * Is by default <tt>0</tt> which means messages are rejected right away.
+     *
+     * @param  maxQueueSize the maximum queue size
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition maxQueueSize(int maxQueueSize) {
+        return maxQueueSize(Integer.toString(maxQueueSize));
+    }
+
+    /**
+     * The maximum number of messages that can wait for a permit when the concurrency limit is exceeded. When the queue
+     * is full then the message is rejected with ThrottlerRejectedExecutionException.
+     * <p/>
+     * Is by default <tt>0</tt> which means messages are rejected right away.
+     *
+     * @param  maxQueueSize the maximum queue size
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition maxQueueSize(String maxQueueSize) {
+        setMaxQueueSize(maxQueueSize);
+        return this;
+    }
+
+    /**
+     * The maximum time in millis a message can wait in the queue for a permit before being rejected.
+     *
+     * @param  queueTimeout the timeout in millis
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition queueTimeout(long queueTimeout) {
+        return queueTimeout(Long.toString(queueTimeout));
+    }
+
+    /**
+     * The maximum time a message can wait in the queue for a permit before being rejected.
+     *
+     * @param  queueTimeout the timeout
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition queueTimeout(String queueTimeout) {
+        setQueueTimeout(queueTimeout);
+        return this;
+    }
+
+    /**
+     * The ratio the concurrency limit is multiplied with when a message failed, to back off when the error rate
+     * increases.
+     *
+     * @param  backoffRatio the ratio (between 0 and 1)
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition backoffRatio(double backoffRatio) {
+        return backoffRatio(Double.toString(backoffRatio));
+    }
+
+    /**
+     * The ratio the concurrency limit is multiplied with when a message failed, to back off when the error rate
+     * increases.
+     *
+     * @param  backoffRatio the ratio (between 0 and 1)
+     * @return              the builder
+     */
+    public AdaptiveThrottleDefinition backoffRatio(String backoffRatio) {
+        setBackoffRatio(backoffRatio);
+        return this;
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(String initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public String getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(String minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public String getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(String maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public String getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(String maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public String getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public void setQueueTimeout(String queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    public String getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(String backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+}
@@ -167,6 +167,13 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                             + " Default is 1000 (1 second).")
     private String completionTimeoutCheckerInterval;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean",
+              description = "Whether to use a hierarchical timing wheel to keep track of the completion timeouts, instead"
+                            + " of periodically scanning all the aggregated exchanges. This is recommended when there are"
+                            + " many correlation groups in progress. The completionTimeoutCheckerInterval is used as the"
+                            + " tick duration of the timing wheel.")
+    private String completionTimeoutTimingWheel;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean",
               description = "Enables batch completion mode where aggregation completes based on the total number"
                             + " of exchanges reported by a batch consumer. Cannot be used together with discardOnAggregationFailure.")
@@ -248,6 +255,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.completionInterval = source.completionInterval;
         this.completionTimeout = source.completionTimeout;
         this.completionTimeoutCheckerInterval = source.completionTimeoutCheckerInterval;
+        this.completionTimeoutTimingWheel = source.completionTimeoutTimingWheel;
         this.completionFromBatchConsumer = source.completionFromBatchConsumer;
         this.completionOnNewCorrelationGroup = source.completionOnNewCorrelationGroup;
         this.eagerCheckCompletion = source.eagerCheckCompletion;
@@ -459,6 +467,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public String getCompletionTimeoutTimingWheel() {
+        return completionTimeoutTimingWheel;
+    }
+
+    public void setCompletionTimeoutTimingWheel(String completionTimeoutTimingWheel) {
+        this.completionTimeoutTimingWheel = completionTimeoutTimingWheel;
+    }
+
     public ExpressionSubElementDefinition getCompletionPredicate() {
         return completionPredicate;
     }
@@ -869,6 +885,21 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Uses a hierarchical timing wheel to keep track of the completion timeouts, instead of periodically scanning all
+     * the aggregated exchanges for timeouts.
+     * <p/>
+     * Adding and removing a timeout is done in constant time, and the background task only visits the aggregated
+     * exchanges which are due, which is recommended when there are many correlation groups in progress. The
+     * completionTimeoutCheckerInterval is used as the tick duration of the timing wheel.
+     *
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutTimingWheel() {
+        setCompletionTimeoutTimingWheel(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the AggregationStrategy to use with a fluent builder.
      */
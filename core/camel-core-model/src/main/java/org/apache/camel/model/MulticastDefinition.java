@@ -111,6 +111,12 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
               description = "Shares the unit of work with the parent and each of the multicast exchanges."
                             + " By default each multicast exchange has its own individual unit of work.")
     private String shareUnitOfWork;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean",
+              description = "Whether each of the multicast exchanges share the exchange properties with the parent"
+                            + " exchange until either exchange modifies the properties (copy-on-write). By default the"
+                            + " properties are copied to each multicast exchange up front.")
+    private String shareUnmodified;
 
     public MulticastDefinition() {
     }
@@ -132,6 +138,7 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.executorService = source.executorService;
         this.onPrepare = source.onPrepare;
         this.shareUnitOfWork = source.shareUnitOfWork;
+        this.shareUnmodified = source.shareUnmodified;
     }
 
     @Override
@@ -500,6 +507,20 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Shares the exchange properties with the parent and each of the sub messages until either exchange modifies the
+     * properties (copy-on-write). Multicast will by default copy the properties to each multicasted exchange up front,
+     * which is wasteful if the sub exchanges only read the properties.
+     * <p/>
+     * The message headers are always shared in this way.
+     *
+     * @return the builder.
+     */
+    public MulticastDefinition shareUnmodified() {
+        setShareUnmodified(Boolean.toString(true));
+        return this;
+    }
+
     public AggregationStrategy getAggregationStrategyBean() {
         return aggregationStrategyBean;
     }
@@ -602,6 +623,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getShareUnmodified() {
+        return shareUnmodified;
+    }
+
+    public void setShareUnmodified(String shareUnmodified) {
+        this.shareUnmodified = shareUnmodified;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -2096,6 +2096,18 @@ public abstract class ProcessorDefinition<Type extends ProcessorDefinition<Type>
         return answer;
     }
 
+    /**
+     * Adaptive Throttler EIP: Creates a throttler that limits the number of concurrent messages, where the limit is
+     * adjusted automatically from the observed round-trip time and error rate of the downstream systems.
+     *
+     * @return the builder
+     */
+    public AdaptiveThrottleDefinition adaptiveThrottle() {
+        AdaptiveThrottleDefinition answer = new AdaptiveThrottleDefinition();
+        addOutput(answer);
+        return answer;
+    }
+
     /**
      * <a href="http://camel.apache.org/loop.html">Loop EIP:</a> Creates a loop allowing to process the a message a
      * number of times and possibly process them in a different way. Useful mostly for testing.
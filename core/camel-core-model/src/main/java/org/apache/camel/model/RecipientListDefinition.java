@@ -110,6 +110,10 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
               description = "Shares the UnitOfWork with the parent and each of the sub messages. Recipient List will by default not share unit of work between the parent exchange and each recipient exchange. This means each sub exchange has its own individual unit of work.")
     private String shareUnitOfWork;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean",
+              description = "Whether each of the recipient exchanges share the exchange properties with the parent exchange until either exchange modifies the properties (copy-on-write). By default the properties are copied to each recipient exchange up front.")
+    private String shareUnmodified;
+    @XmlAttribute
     @Metadata(label = "advanced,security",
               description = "Sets an optional comma-separated allow-list of component schemes that the dynamic recipient"
                             + " may resolve to (e.g. http,https). When set, a dynamic endpoint whose scheme is not in the"
@@ -140,6 +144,7 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
         this.onPrepare = source.onPrepare;
         this.cacheSize = source.cacheSize;
         this.shareUnitOfWork = source.shareUnitOfWork;
+        this.shareUnmodified = source.shareUnmodified;
         this.allowedSchemes = source.allowedSchemes;
     }
 
@@ -516,6 +521,20 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
         return this;
     }
 
+    /**
+     * Shares the exchange properties with the parent and each of the sub messages until either exchange modifies the
+     * properties (copy-on-write). Recipient List will by default copy the properties to each recipient exchange up
+     * front, which is wasteful if the sub exchanges only read the properties.
+     * <p/>
+     * The message headers are always shared in this way.
+     *
+     * @return the builder.
+     */
+    public RecipientListDefinition<Type> shareUnmodified() {
+        setShareUnmodified(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the maximum size used by the {@link org.apache.camel.spi.ProducerCache} which is used to cache and reuse
      * producers when using this recipient list, when uris are reused.
@@ -704,6 +723,14 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getShareUnmodified() {
+        return shareUnmodified;
+    }
+
+    public void setShareUnmodified(String shareUnmodified) {
+        this.shareUnmodified = shareUnmodified;
+    }
+
     public String getCacheSize() {
         return cacheSize;
     }
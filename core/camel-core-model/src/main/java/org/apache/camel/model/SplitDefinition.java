@@ -92,6 +92,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
                             + " as the splitter does not split all messages first.")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "Limits the number of split messages that are in-flight when using parallel processing."
+                            + " The splitter does not split further messages until the oldest in-flight messages"
+                            + " have completed, and the replies are aggregated in the same order as the messages"
+                            + " was split, also in streaming mode. Combined with streaming this bounds the memory"
+                            + " usage when splitting big payloads in parallel.")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean",
               description = "If enabled then stops further split processing if an exception or failure occurred"
                             + " during processing of a split message, and the caused exception will be thrown."
@@ -153,6 +161,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.parallelWindowSize = source.parallelWindowSize;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -468,6 +477,37 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Limits the number of split messages that are in-flight when using parallel processing. The splitter does not
+     * split further messages until the oldest in-flight messages have completed, which keeps at most the given number
+     * of split messages (and their replies) in memory.
+     * <p/>
+     * The replies are aggregated in the same order as the messages was split, also in streaming mode. Combined with
+     * streaming this allows splitting big payloads in parallel with bounded memory usage.
+     *
+     * @param  parallelWindowSize the maximum number of in-flight split messages
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Limits the number of split messages that are in-flight when using parallel processing. The splitter does not
+     * split further messages until the oldest in-flight messages have completed, which keeps at most the given number
+     * of split messages (and their replies) in memory.
+     * <p/>
+     * The replies are aggregated in the same order as the messages was split, also in streaming mode. Combined with
+     * streaming this allows splitting big payloads in parallel with bounded memory usage.
+     *
+     * @param  parallelWindowSize the maximum number of in-flight split messages
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -839,6 +879,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
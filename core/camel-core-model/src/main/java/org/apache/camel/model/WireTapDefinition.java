@@ -51,6 +51,10 @@ public class WireTapDefinition<Type extends ProcessorDefinition<Type>> extends T
               description = "Whether to use a copy of the original exchange.")
     private String copy;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean",
+              description = "Whether the copy of the original exchange shares the exchange properties with the original exchange until either exchange modifies the properties (copy-on-write). By default the properties are copied up front.")
+    private String shareUnmodified;
+    @XmlAttribute
     @Metadata(label = "advanced", defaultValue = "true", javaType = "java.lang.Boolean",
               description = "Whether the uri is dynamic or static. If dynamic then the simple language is used to evaluate a dynamic uri to use as the wire-tap destination, for each incoming message.")
     private String dynamicUri;
@@ -71,6 +75,7 @@ public class WireTapDefinition<Type extends ProcessorDefinition<Type>> extends T
         this.executorServiceBean = source.executorServiceBean;
         this.onPrepareProcessor = source.onPrepareProcessor;
         this.copy = source.copy;
+        this.shareUnmodified = source.shareUnmodified;
         this.dynamicUri = source.dynamicUri;
         this.onPrepare = source.onPrepare;
         this.executorService = source.executorService;
@@ -169,6 +174,18 @@ public class WireTapDefinition<Type extends ProcessorDefinition<Type>> extends T
         return this;
     }
 
+    /**
+     * Shares the exchange properties with the original exchange until either exchange modifies the properties
+     * (copy-on-write), instead of copying the properties to the tapped exchange up front. This option is only in use
+     * when copying the original exchange.
+     *
+     * @return the builder
+     */
+    public WireTapDefinition<Type> shareUnmodified() {
+        setShareUnmodified(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Whether the uri is dynamic or static. If the uri is dynamic then the simple language is used to evaluate a
      * dynamic uri to use as the wire-tap destination, for each incoming message. This works similar to how the
@@ -337,6 +354,14 @@ public class WireTapDefinition<Type extends ProcessorDefinition<Type>> extends T
         this.copy = copy;
     }
 
+    public String getShareUnmodified() {
+        return shareUnmodified;
+    }
+
+    public void setShareUnmodified(String shareUnmodified) {
+        this.shareUnmodified = shareUnmodified;
+    }
+
     public String getDynamicUri() {
         return dynamicUri;
     }
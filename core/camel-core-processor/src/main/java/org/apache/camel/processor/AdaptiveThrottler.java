@@ -0,0 +1,416 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Traceable;
+import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.StepIdAware;
+import org.apache.camel.spi.Synchronization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A throttler that limits the number of concurrent exchanges, where the limit is not static but adjusted automatically
+ * from the observed round-trip time (from a permit is acquired until the exchange is done) and the failures of the
+ * exchanges.
+ * <p/>
+ * The limit is estimated with one of the following algorithms:
+ * <ul>
+ * <li>gradient - compares the short-term round-trip time with a long-term average, and lowers the limit when the
+ * round-trip time increases (inspired by the Gradient2 algorithm from Netflix concurrency limits).</li>
+ * <li>vegas - estimates the queue in the downstream system from the minimum round-trip time (no load), and adjusts the
+ * limit to keep the queue small (inspired by TCP Vegas).</li>
+ * </ul>
+ * In both cases a failed exchange lowers the limit by the backoff ratio, so the limit backs off when the error rate
+ * increases.
+ * <p/>
+ * Exchanges exceeding the limit can wait in a queue for a permit (blocking the caller thread); if the queue is full, or
+ * no permit became available within the queue timeout, then the exchange is rejected with
+ * {@link ThrottlerRejectedExecutionException}.
+ */
+public class AdaptiveThrottler extends BaseProcessorSupport implements Traceable, IdAware, RouteIdAware, StepIdAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveThrottler.class);
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private final LongAdder rejected = new LongAdder();
+    private final String algorithm;
+    private final LimitAlgorithm limitAlgorithm;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final long queueTimeout;
+    private final double backoffRatio;
+    private String id;
+    private String routeId;
+    private String stepId;
+    private volatile double limit;
+    private volatile int inflight;
+    private volatile int queueSize;
+
+    public AdaptiveThrottler(String algorithm, int initialLimit, int minLimit, int maxLimit, int maxQueueSize,
+                             long queueTimeout, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "MinLimit must be positive and MaxLimit must be >= MinLimit, was: " + minLimit + "-" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("BackoffRatio must be between 0 and 1, was: " + backoffRatio);
+        }
+        if ("vegas".equalsIgnoreCase(algorithm)) {
+            this.algorithm = "vegas";
+            this.limitAlgorithm = new VegasLimit();
+        } else if (algorithm == null || "gradient".equalsIgnoreCase(algorithm)) {
+            this.algorithm = "gradient";
+            this.limitAlgorithm = new GradientLimit();
+        } else {
+            throw new IllegalArgumentException("Unknown algorithm: " + algorithm + ". Supported: gradient, vegas");
+        }
+        this.initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.queueTimeout = queueTimeout;
+        this.backoffRatio = backoffRatio;
+        this.limit = this.initialLimit;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+            if (!acquire()) {
+                rejected.increment();
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the adaptive concurrency limit of " + getCurrentLimit());
+            }
+            addSynchronization(exchange, System.nanoTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.setException(e);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inflight < (int) limit) {
+                inflight++;
+                return true;
+            }
+            if (queueSize >= maxQueueSize) {
+                return false;
+            }
+            // wait in the queue for a permit
+            queueSize++;
+            try {
+                long nanos = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+                while (inflight >= (int) limit) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = permitAvailable.awaitNanos(nanos);
+                }
+                inflight++;
+                return true;
+            } finally {
+                queueSize--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addSynchronization(Exchange exchange, long start) {
+        exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
+            @Override
+            public void onComplete(Exchange exchange) {
+                release(System.nanoTime() - start, false);
+            }
+
+            @Override
+            public void onFailure(Exchange exchange) {
+                release(System.nanoTime() - start, true);
+            }
+        });
+    }
+
+    private void release(long rtt, boolean failed) {
+        lock.lock();
+        try {
+            int current = inflight;
+            inflight = current - 1;
+            double newLimit = failed ? limit * backoffRatio : limitAlgorithm.update(limit, rtt, current);
+            newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            if (LOG.isTraceEnabled() && (int) newLimit != (int) limit) {
+                LOG.trace("Adaptive concurrency limit changed from {} to {} (rtt: {}ns, failed: {})", (int) limit,
+                        (int) newLimit, rtt, failed);
+            }
+            limit = newLimit;
+            if (queueSize > 0) {
+                permitAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "adaptiveThrottle[" + algorithm + "]";
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getRouteId() {
+        return routeId;
+    }
+
+    @Override
+    public void setRouteId(String routeId) {
+        this.routeId = routeId;
+    }
+
+    @Override
+    public String getStepId() {
+        return stepId;
+    }
+
+    @Override
+    public void setStepId(String stepId) {
+        this.stepId = stepId;
+    }
+
+    /**
+     * The algorithm used for adjusting the limit (gradient or vegas)
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * The current concurrency limit
+     */
+    public int getCurrentLimit() {
+        return (int) limit;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Number of exchanges currently holding a permit
+     */
+    public int getInflight() {
+        return inflight;
+    }
+
+    /**
+     * Number of exchanges currently waiting in the queue for a permit
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Number of exchanges rejected because the limit was exceeded
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        lock.lock();
+        try {
+            limit = initialLimit;
+            limitAlgorithm.reset();
+        } finally {
+            lock.unlock();
+        }
+        rejected.reset();
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    /**
+     * Algorithm that calculates the new limit from a sample. Only called while holding the lock.
+     */
+    private interface LimitAlgorithm {
+
+        /**
+         * Calculates the new limit
+         *
+         * @param  limit    the current limit
+         * @param  rtt      the round-trip time of the sample in nanos
+         * @param  inflight the number of exchanges in flight when the sample was taken
+         * @return          the new limit
+         */
+        double update(double limit, long rtt, int inflight);
+
+        void reset();
+    }
+
+    /**
+     * Compares the round-trip time of the sample with a long-term exponential average. When the round-trip time is
+     * higher than the average (with some tolerance), the gradient is below 1 and the limit is lowered. A queue size of
+     * the square root of the limit is added so the limit keeps probing for more capacity.
+     */
+    private static final class GradientLimit implements LimitAlgorithm {
+
+        private static final int WARMUP = 10;
+        private static final double SMOOTHING = 0.2;
+        private static final double TOLERANCE = 1.5;
+        private static final double LONG_WINDOW_FACTOR = 2.0 / (600 + 1);
+
+        private double longRtt;
+        private int samples;
+
+        @Override
+        public double update(double limit, long rtt, int inflight) {
+            if (rtt <= 0) {
+                return limit;
+            }
+            if (samples < WARMUP) {
+                samples++;
+                longRtt = longRtt + (rtt - longRtt) / samples;
+            } else {
+                longRtt = longRtt * (1 - LONG_WINDOW_FACTOR) + rtt * LONG_WINDOW_FACTOR;
+            }
+            // recover faster when the downstream system has recovered (such as after a brownout)
+            if (longRtt / rtt > 2) {
+                longRtt = longRtt * 0.95;
+            }
+            // do not increase the limit when not using it
+            if (inflight < limit / 2) {
+                return limit;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rtt));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            return limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        }
+
+        @Override
+        public void reset() {
+            longRtt = 0;
+            samples = 0;
+        }
+    }
+
+    /**
+     * Estimates the number of exchanges queued in the downstream system from the ratio between the minimum round-trip
+     * time (no load) and the round-trip time of the sample, and increases the limit when the queue is small, and lowers
+     * the limit when the queue is large. The minimum round-trip time is measured again periodically so the limit
+     * adapts when the downstream system changes.
+     */
+    private static final class VegasLimit implements LimitAlgorithm {
+
+        private static final int PROBE_SAMPLES = 1000;
+
+        private long rttNoLoad;
+        private int samples;
+
+        @Override
+        public double update(double limit, long rtt, int inflight) {
+            if (rtt <= 0) {
+                return limit;
+            }
+            if (++samples >= PROBE_SAMPLES) {
+                samples = 0;
+                rttNoLoad = rtt;
+                return limit;
+            }
+            if (rttNoLoad == 0 || rtt < rttNoLoad) {
+                rttNoLoad = rtt;
+                return limit;
+            }
+            // do not increase the limit when not using it
+            if (inflight * 2 < limit) {
+                return limit;
+            }
+            double queue = Math.ceil(limit * (1 - (double) rttNoLoad / rtt));
+            double log = Math.max(1, Math.log10(limit));
+            double alpha = 3 * log;
+            double beta = 6 * log;
+            if (queue <= log) {
+                return limit + beta;
+            } else if (queue < alpha) {
+                return limit + log;
+            } else if (queue > beta) {
+                return limit - log;
+            }
+            return limit;
+        }
+
+        @Override
+        public void reset() {
+            rttNoLoad = 0;
+            samples = 0;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.camel.processor;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
@@ -26,7 +27,8 @@ import org.apache.camel.spi.StepIdAware;
 /**
  * Processor to set {@link org.apache.camel.ExchangePattern} on the {@link org.apache.camel.Exchange}.
  */
-public class ExchangePatternProcessor extends BaseProcessorSupport implements IdAware, RouteIdAware, StepIdAware {
+public class ExchangePatternProcessor extends BaseProcessorSupport implements IdAware, RouteIdAware, StepIdAware,
+        FusableProcessor {
 
     private String id;
     private String routeId;
@@ -23,6 +23,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.LogListener;
 import org.apache.camel.spi.MaskingFormatter;
@@ -34,7 +35,8 @@ import org.slf4j.LoggerFactory;
 /**
  * A processor which evaluates an {@link Expression} and logs it.
  */
-public class LogProcessor extends BaseProcessorSupport implements Traceable, IdAware, RouteIdAware, StepIdAware {
+public class LogProcessor extends BaseProcessorSupport implements Traceable, IdAware, RouteIdAware, StepIdAware,
+        FusableProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(LogProcessor.class);
 
@@ -191,6 +191,8 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final int cacheSize;
     private final Map<Processor, Processor> errorHandlers;
     private final boolean shareUnitOfWork;
+    private boolean shareUnmodified;
+    private int parallelWindowSize;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -300,6 +302,38 @@ public class MulticastProcessor extends BaseProcessorSupport
         this.synchronous = synchronous;
     }
 
+    public boolean isShareUnmodified() {
+        return shareUnmodified;
+    }
+
+    /**
+     * Whether the copies share the exchange properties with the original exchange until they are modified
+     * (copy-on-write), instead of copying the properties up front.
+     */
+    public void setShareUnmodified(boolean shareUnmodified) {
+        this.shareUnmodified = shareUnmodified;
+    }
+
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    /**
+     * Limits the number of sub exchanges that are in-flight when using parallel processing. When the window is full
+     * then no further sub exchanges are created until the oldest sub exchange has completed and been aggregated. The
+     * replies are aggregated in order, also in streaming mode, so at most this number of replies are kept in memory.
+     */
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
+    /**
+     * Whether parallel processing is bounded by a window of in-flight sub exchanges
+     */
+    protected boolean isParallelWindow() {
+        return parallelProcessing && parallelWindowSize > 0;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -442,6 +476,7 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
         @Deprecated(since = "4.19.0")
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
@@ -467,11 +502,15 @@ public class MulticastProcessor extends BaseProcessorSupport
             } else {
                 this.mdc = null;
             }
-            if (capacity > 0) {
+            // with a parallel window the replies are always aggregated in order, which bounds the number
+            // of completed replies waiting to be aggregated to the window size
+            boolean ordered = !isStreaming() || isParallelWindow();
+            int size = isParallelWindow() ? parallelWindowSize : capacity;
+            if (size > 0) {
                 this.completion
-                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock, capacity);
+                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, ordered, lock, size);
             } else {
-                this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, ordered, lock);
             }
         }
 
@@ -506,6 +545,36 @@ public class MulticastProcessor extends BaseProcessorSupport
                     lock.unlock();
                 }
             }
+            if (isParallelWindow()) {
+                resume();
+            }
+        }
+
+        /**
+         * Whether the window of in-flight sub exchanges is full (sent but not yet aggregated)
+         */
+        protected boolean isWindowFull() {
+            return nbExchangeSent.get() - nbAggregated.get() >= parallelWindowSize;
+        }
+
+        /**
+         * Pauses sending further sub exchanges until the window has room again.
+         *
+         * @return true if paused, false if the window has room and sending should continue
+         */
+        protected boolean pause() {
+            paused.set(true);
+            // re-check as sub exchanges may have been aggregated in the meantime
+            return isWindowFull() || !paused.compareAndSet(true, false);
+        }
+
+        /**
+         * Resumes sending further sub exchanges if paused and the window has room again
+         */
+        protected void resume() {
+            if (paused.get() && !done.get() && !isWindowFull() && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
         }
 
         protected void timeout() {
@@ -664,8 +733,11 @@ public class MulticastProcessor extends BaseProcessorSupport
                     }
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
+                // unless the window is full, then we continue when the oldest pair has been aggregated
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (!isParallelWindow() || !isWindowFull() || !pause()) {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1027,7 +1099,7 @@ public class MulticastProcessor extends BaseProcessorSupport
         int index = 0;
         for (Processor processor : processors) {
             // copy exchange, and do not share the unit of work
-            Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+            Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false, shareUnmodified);
             copy.getExchangeExtension().setTransacted(exchange.isTransacted());
             if (isParallelProcessing()) {
                 // do not share JPA EntityManager in parallel mode as it is not thread-safe (CAMEL-22534)
@@ -27,6 +27,10 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.impl.engine.DefaultChannel;
+import org.apache.camel.processor.errorhandler.DeadLetterChannel;
+import org.apache.camel.processor.errorhandler.DefaultErrorHandler;
+import org.apache.camel.processor.errorhandler.RedeliveryErrorHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RouteIdAware;
@@ -42,6 +46,11 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 /**
  * Creates a Pipeline pattern where the output of the previous step is sent as input to the next step, reusing the same
  * message exchanges
+ * <p/>
+ * When pipeline fusion is enabled (see {@link CamelContext#setPipelineFusion(Boolean)}), then the steps that always
+ * complete synchronously are fused when the pipeline is started. A fused step is called directly in the same run of the
+ * pipeline task as the previous step, instead of via the error handler and scheduling the pipeline task again on the
+ * reactive executor.
  */
 public class Pipeline extends BaseProcessorSupport
         implements Navigate<Processor>, Traceable, IdAware, RouteIdAware, StepIdAware {
@@ -53,6 +62,7 @@ public class Pipeline extends BaseProcessorSupport
     private final List<AsyncProcessor> processors;
     private final int size;
     private PooledExchangeTaskFactory taskFactory;
+    private FusedStep[] fusedSteps;
 
     private String id;
     private String routeId;
@@ -88,34 +98,43 @@ public class Pipeline extends BaseProcessorSupport
 
         @Override
         public void run() {
-            boolean stop = exchange.isRouteStop();
-            int num = index;
-            boolean more = num < size;
-            boolean first = num == 0;
-
-            if (!stop && more && (first || continueProcessing(exchange, "so breaking out of pipeline", LOG))) {
-
-                // prepare for next run
-                ExchangeHelper.prepareOutToIn(exchange);
-
-                // get the next processor
-                AsyncProcessor processor = processors.get(index++);
-
-                processor.process(exchange, this);
-            } else {
-                // copyResults is needed in case MEP is OUT and the message is not an OUT message
-                ExchangeHelper.copyResults(exchange, exchange);
-
-                // logging nextExchange as it contains the exchange that might have altered the payload and since
-                // we are logging the completion it will be confusing if we log the original instead
-                // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+            for (;;) {
+                boolean stop = exchange.isRouteStop();
+                int num = index;
+                boolean more = num < size;
+                boolean first = num == 0;
+
+                if (!stop && more && (first || continueProcessing(exchange, "so breaking out of pipeline", LOG))) {
+
+                    // prepare for next run
+                    ExchangeHelper.prepareOutToIn(exchange);
+
+                    // get the next processor
+                    FusedStep fused = fusedSteps != null ? fusedSteps[index] : null;
+                    AsyncProcessor processor = processors.get(index++);
+
+                    if (fused == null) {
+                        processor.process(exchange, this);
+                    } else if (fused.channel.processFused(exchange, fused.errorHandler, this)) {
+                        // the step was fused and processed synchronously, so continue with the next step right away
+                        continue;
+                    }
+                } else {
+                    // copyResults is needed in case MEP is OUT and the message is not an OUT message
+                    ExchangeHelper.copyResults(exchange, exchange);
+
+                    // logging nextExchange as it contains the exchange that might have altered the payload and since
+                    // we are logging the completion it will be confusing if we log the original instead
+                    // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+                    }
+
+                    AsyncCallback cb = callback;
+                    taskFactory.release(this);
+                    reactiveExecutor.schedule(cb);
                 }
-
-                AsyncCallback cb = callback;
-                taskFactory.release(this);
-                reactiveExecutor.schedule(cb);
+                return;
             }
         }
     }
@@ -205,10 +224,64 @@ public class Pipeline extends BaseProcessorSupport
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(taskFactory, processors);
+
+        if (Boolean.TRUE.equals(camelContext.isPipelineFusion())) {
+            fusedSteps = createFusedSteps(processors);
+        }
+    }
+
+    /**
+     * Creates the fused steps, with <tt>null</tt> elements for the steps that cannot be fused.
+     *
+     * @return the fused steps, or <tt>null</tt> if no steps can be fused
+     */
+    private FusedStep[] createFusedSteps(List<AsyncProcessor> processors) throws Exception {
+        FusedStep[] answer = new FusedStep[processors.size()];
+        int count = 0;
+        for (int i = 0; i < answer.length; i++) {
+            if (processors.get(i) instanceof DefaultChannel channel && channel.isFusable()) {
+                Processor errorHandler = channel.getErrorHandler();
+                if (errorHandler == null) {
+                    answer[i] = new FusedStep(channel, null);
+                } else if (isFusable(errorHandler)) {
+                    answer[i] = new FusedStep(channel, (AsyncProcessor) errorHandler);
+                }
+            }
+            if (answer[i] != null) {
+                count++;
+            }
+        }
+        LOG.debug("Fused {} of {} steps in pipeline: {}", count, answer.length, id);
+        return count > 0 ? answer : null;
+    }
+
+    private static boolean isFusable(Processor errorHandler) throws Exception {
+        // only the default error handlers without redelivery, as they handle an exchange that has already failed
+        // without calling the processor again
+        Class<?> type = errorHandler.getClass();
+        if (type == DefaultErrorHandler.class || type == DeadLetterChannel.class) {
+            return !((RedeliveryErrorHandler) errorHandler).determineIfRedeliveryIsEnabled();
+        }
+        return false;
+    }
+
+    /**
+     * A step of the pipeline that is fused, with the error handler to use if the step failed.
+     */
+    private static final class FusedStep {
+
+        private final DefaultChannel channel;
+        private final AsyncProcessor errorHandler;
+
+        FusedStep(DefaultChannel channel, AsyncProcessor errorHandler) {
+            this.channel = channel;
+            this.errorHandler = errorHandler;
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        fusedSteps = null;
         ServiceHelper.stopService(taskFactory, processors);
     }
 
@@ -70,6 +70,7 @@ public class RecipientList extends BaseProcessorSupport implements IdAware, Rout
     private int cacheSize;
     private Processor onPrepare;
     private boolean shareUnitOfWork;
+    private boolean shareUnmodified;
     private ExecutorService executorService;
     private boolean shutdownExecutorService;
     private volatile ExecutorService aggregateExecutorService;
@@ -220,6 +221,7 @@ public class RecipientList extends BaseProcessorSupport implements IdAware, Rout
                 isParallelProcessing(), getExecutorService(), isShutdownExecutorService(), isStreaming(),
                 isStopOnException(), getTimeout(), getOnPrepare(), isShareUnitOfWork(), isParallelAggregate(), getCacheSize());
         recipientListProcessor.setSynchronous(synchronous);
+        recipientListProcessor.setShareUnmodified(shareUnmodified);
         recipientListProcessor.setErrorHandler(errorHandler);
         recipientListProcessor.setAggregateExecutorService(aggregateExecutorService);
         recipientListProcessor.setIgnoreInvalidEndpoints(isIgnoreInvalidEndpoints());
@@ -356,6 +358,14 @@ public class RecipientList extends BaseProcessorSupport implements IdAware, Rout
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public boolean isShareUnmodified() {
+        return shareUnmodified;
+    }
+
+    public void setShareUnmodified(boolean shareUnmodified) {
+        this.shareUnmodified = shareUnmodified;
+    }
+
     public int getCacheSize() {
         return cacheSize;
     }
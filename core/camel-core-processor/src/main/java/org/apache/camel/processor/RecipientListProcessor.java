@@ -293,7 +293,7 @@ public class RecipientListProcessor extends MulticastProcessor {
             int index, Endpoint endpoint, Producer producer,
             Exchange exchange, ExchangePattern pattern, boolean prototypeEndpoint) {
         // copy exchange, and do not share the unit of work
-        Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+        Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false, isShareUnmodified());
         copy.getExchangeExtension().setTransacted(exchange.isTransacted());
         if (isParallelProcessing()) {
             // do not share JPA EntityManager in parallel mode as it is not thread-safe (CAMEL-22534)
@@ -19,6 +19,7 @@ package org.apache.camel.processor;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Traceable;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
@@ -26,7 +27,8 @@ import org.apache.camel.spi.StepIdAware;
 /**
  * A processor which removes one ore more properties from the exchange
  */
-public class RemovePropertiesProcessor extends BaseProcessorSupport implements Traceable, IdAware, RouteIdAware, StepIdAware {
+public class RemovePropertiesProcessor extends BaseProcessorSupport implements Traceable, IdAware, RouteIdAware, StepIdAware,
+        FusableProcessor {
     private String id;
     private String routeId;
     private String stepId;
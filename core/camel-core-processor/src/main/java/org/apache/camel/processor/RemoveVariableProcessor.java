@@ -22,6 +22,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Traceable;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
@@ -33,7 +34,7 @@ import org.apache.camel.util.StringHelper;
  * A processor which removes the variable
  */
 public class RemoveVariableProcessor extends BaseProcessorSupport
-        implements Traceable, IdAware, RouteIdAware, StepIdAware, CamelContextAware {
+        implements Traceable, IdAware, RouteIdAware, StepIdAware, CamelContextAware, FusableProcessor {
     private CamelContext camelContext;
     private String id;
     private String routeId;
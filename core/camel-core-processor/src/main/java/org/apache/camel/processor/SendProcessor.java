@@ -16,18 +16,24 @@
  */
 package org.apache.camel.processor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProducer;
+import org.apache.camel.BatchProducer;
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.DelegateProcessor;
 import org.apache.camel.Endpoint;
 import org.apache.camel.EndpointAware;
 import org.apache.camel.EndpointSending;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.IdAware;
@@ -38,6 +44,7 @@ import org.apache.camel.spi.StepIdAware;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.LazyStartProducer;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.cache.DefaultProducerCache;
 import org.apache.camel.support.service.ServiceHelper;
@@ -195,19 +202,26 @@ public class SendProcessor extends BaseProcessorSupport
 
         // send the exchange to the destination using the producer cache for the non optimized producers
         return producerCache.doInAsyncProducer(destination, exchange, callback,
-                (producer, ex, cb) -> producer.process(ex, doneSync -> {
-                    // restore previous MEP
-                    exchange.setPattern(existingPattern);
-                    // result should be stored in variable instead of message body/headers
-                    if (ExchangeHelper.shouldSetVariableResult(exchange, variableReceive)) {
-                        ExchangeHelper.setVariableFromMessageBodyAndHeaders(exchange, variableReceive,
-                                exchange.getMessage());
-                        exchange.getMessage().setBody(originalBody);
-                        exchange.getMessage().setHeaders(originalHeaders);
+                (producer, ex, cb) -> {
+                    AsyncCallback ac = doneSync -> {
+                        // restore previous MEP
+                        exchange.setPattern(existingPattern);
+                        // result should be stored in variable instead of message body/headers
+                        if (ExchangeHelper.shouldSetVariableResult(exchange, variableReceive)) {
+                            ExchangeHelper.setVariableFromMessageBodyAndHeaders(exchange, variableReceive,
+                                    exchange.getMessage());
+                            exchange.getMessage().setBody(originalBody);
+                            exchange.getMessage().setHeaders(originalHeaders);
+                        }
+                        // signal we are done
+                        cb.done(doneSync);
+                    };
+                    if (sendBatch(producer, ex)) {
+                        ac.done(true);
+                        return true;
                     }
-                    // signal we are done
-                    cb.done(doneSync);
-                }));
+                    return producer.process(ex, ac);
+                });
     }
 
     private boolean sendUsingProducer(
@@ -263,6 +277,11 @@ public class SendProcessor extends BaseProcessorSupport
                 exchange.getMessage().setBody(value);
             }
 
+            if (sendBatch(producer, exchange)) {
+                ac.done(true);
+                return true;
+            }
+
             LOG.debug(">>>> {} {}", destination, exchange);
             boolean sync = producer.process(exchange, ac);
             if (!sync) {
@@ -278,6 +297,89 @@ public class SendProcessor extends BaseProcessorSupport
         return true;
     }
 
+    /**
+     * Sends the grouped exchanges from the message body (such as from the aggregator with the grouped exchange
+     * aggregation strategy) in a single batch, when the producer supports this and batching is enabled. The exchange
+     * fails if any of the grouped exchanges failed.
+     *
+     * @return <tt>true</tt> if the exchanges were sent in a batch, or <tt>false</tt> to send the exchange as usual
+     */
+    private boolean sendBatch(Processor producer, Exchange exchange) {
+        List<Exchange> batch = batchExchanges(exchange);
+        if (batch == null) {
+            return false;
+        }
+        try {
+            BatchProducer batchProducer = resolveBatchProducer(producer);
+            if (batchProducer == null || !batchProducer.isBatchEnabled()) {
+                return false;
+            }
+            LOG.debug(">>>> {} {} (batch of {} exchanges)", destination, exchange, batch.size());
+            batchProducer.sendBatch(exchange, batch);
+        } catch (Exception e) {
+            exchange.setException(e);
+            return true;
+        }
+
+        List<Exception> failures = new ArrayList<>();
+        for (Exchange item : batch) {
+            if (item.getException() != null) {
+                failures.add(item.getException());
+            }
+        }
+        if (!failures.isEmpty()) {
+            CamelExchangeException cause = new CamelExchangeException(
+                    "Failed to send " + failures.size() + " of " + batch.size() + " exchanges in batch", exchange,
+                    failures.get(0));
+            for (int i = 1; i < failures.size(); i++) {
+                cause.addSuppressed(failures.get(i));
+            }
+            exchange.setException(cause);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the grouped exchanges from the message body, such as from the aggregator with the grouped exchange
+     * aggregation strategy.
+     *
+     * @return the exchanges, or <tt>null</tt> if the message body is not a list of exchanges
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Exchange> batchExchanges(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        if (body instanceof List<?> list && !list.isEmpty()) {
+            for (Object o : list) {
+                if (!(o instanceof Exchange)) {
+                    return null;
+                }
+            }
+            return (List<Exchange>) list;
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the {@link BatchProducer} by unwrapping the producer from the wrappers added by Camel (lazy start,
+     * synchronous and async converters). Intercepted or mocked producers are not unwrapped, and are sent the list of
+     * exchanges as a regular message.
+     */
+    private static BatchProducer resolveBatchProducer(Processor producer) throws Exception {
+        Processor target = producer;
+        while (target != null) {
+            if (target instanceof BatchProducer batchProducer) {
+                return batchProducer;
+            } else if (target instanceof LazyStartProducer lazy) {
+                target = lazy.getOrCreateDelegate();
+            } else if (target instanceof DelegateProcessor delegate && !(target instanceof AutoMockInterceptProducer)) {
+                target = delegate.getProcessor();
+            } else {
+                target = null;
+            }
+        }
+        return null;
+    }
+
     public String getVariableSend() {
         return variableSend;
     }
@@ -70,6 +70,7 @@ public class WireTapProcessor extends BaseProcessorSupport
     private ProcessorExchangeFactory processorExchangeFactory;
     private PooledExchangeTaskFactory taskFactory;
     private Processor onPrepare;
+    private boolean shareUnmodified;
 
     public WireTapProcessor(SendDynamicProcessor dynamicSendProcessor, Processor processor, String uri,
                             boolean copy,
@@ -261,7 +262,7 @@ public class WireTapProcessor extends BaseProcessorSupport
 
     private Exchange configureCopyExchange(Exchange exchange) throws IOException {
         // must use a copy as we dont want it to cause side effects of the original exchange
-        Exchange target = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+        Exchange target = processorExchangeFactory.createCorrelatedCopy(exchange, false, shareUnmodified);
         // should not be correlated, but we needed to copy without handover
         target.removeProperty(ExchangePropertyKey.CORRELATION_ID);
         // do not share JPA EntityManager as wire tap runs asynchronously and EM is not thread-safe (CAMEL-22534)
@@ -302,6 +303,18 @@ public class WireTapProcessor extends BaseProcessorSupport
         this.onPrepare = onPrepare;
     }
 
+    public boolean isShareUnmodified() {
+        return shareUnmodified;
+    }
+
+    /**
+     * Whether the tapped exchange shares the exchange properties with the original exchange until they are modified
+     * (copy-on-write), instead of copying the properties up front.
+     */
+    public void setShareUnmodified(boolean shareUnmodified) {
+        this.shareUnmodified = shareUnmodified;
+    }
+
     public String getUri() {
         return uri;
     }
@@ -66,6 +66,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.TimingWheelTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -204,6 +205,38 @@ public class AggregateProcessor extends BaseProcessorSupport
             return discarded.get();
         }
 
+        @Override
+        public long getRepositoryMemorySize() {
+            if (aggregationRepository instanceof SpillToDiskAggregationRepository spill) {
+                return spill.getMemorySize();
+            }
+            return -1;
+        }
+
+        @Override
+        public long getRepositorySpilledCount() {
+            if (aggregationRepository instanceof SpillToDiskAggregationRepository spill) {
+                return spill.getSpilledCount();
+            }
+            return -1;
+        }
+
+        @Override
+        public long getRepositoryTotalSpilled() {
+            if (aggregationRepository instanceof SpillToDiskAggregationRepository spill) {
+                return spill.getTotalSpilled();
+            }
+            return -1;
+        }
+
+        @Override
+        public long getRepositoryTotalLoaded() {
+            if (aggregationRepository instanceof SpillToDiskAggregationRepository spill) {
+                return spill.getTotalLoaded();
+            }
+            return -1;
+        }
+
         @Override
         public void reset() {
             totalIn.set(0);
@@ -216,6 +249,9 @@ public class AggregateProcessor extends BaseProcessorSupport
             completedByBatchConsumer.set(0);
             completedByForce.set(0);
             discarded.set(0);
+            if (aggregationRepository instanceof SpillToDiskAggregationRepository spill) {
+                spill.resetStatistics();
+            }
         }
 
         @Override
@@ -252,6 +288,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private boolean forceCompletionOnStop;
     private boolean completeAllOnStop;
     private long completionTimeoutCheckerInterval = 1000;
+    private boolean completionTimeoutTimingWheel;
 
     private ProducerTemplate deadLetterProducerTemplate;
     private boolean isRecoverableRepository;
@@ -1138,6 +1175,18 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public boolean isCompletionTimeoutTimingWheel() {
+        return completionTimeoutTimingWheel;
+    }
+
+    /**
+     * Whether to use a {@link TimingWheelTimeoutMap} to keep track of the completion timeouts, instead of a
+     * {@link DefaultTimeoutMap} which periodically scans all the aggregated exchanges.
+     */
+    public void setCompletionTimeoutTimingWheel(boolean completionTimeoutTimingWheel) {
+        this.completionTimeoutTimingWheel = completionTimeoutTimingWheel;
+    }
+
     public ExceptionHandler getExceptionHandler() {
         return exceptionHandler;
     }
@@ -1332,7 +1381,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
             super(executor, requestMapPollTimeMillis, optimisticLocking);
-            addListener(this::onEviction);
+            addListener(AggregateProcessor.this::onTimeoutEviction);
         }
 
         @Override
@@ -1348,43 +1397,69 @@ public class AggregateProcessor extends BaseProcessorSupport
                 }
             }
         }
+    }
 
-        private void onEviction(Listener.Type type, String key, String exchangeId) {
-            if (type != Listener.Type.Evict) {
-                return;
-            }
-            log.debug("Completion timeout triggered for correlation key: {}", key);
+    /**
+     * Background task that looks for aggregated exchanges which is triggered by completion timeouts, using a timing
+     * wheel so only the aggregated exchanges which are due are visited.
+     */
+    private final class AggregationTimingWheelTimeoutMap extends TimingWheelTimeoutMap<String, String> {
 
-            boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
-            if (inProgress) {
-                log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
-                return;
-            }
+        private AggregationTimingWheelTimeoutMap(ScheduledExecutorService executor, long tickDurationMillis) {
+            super(executor, tickDurationMillis);
+            addListener(AggregateProcessor.this::onTimeoutEviction);
+        }
 
-            // get the aggregated exchange
-            boolean evictionStolen = false;
-            Exchange answer = aggregationRepository.get(camelContext, key);
-            if (answer == null) {
-                evictionStolen = true;
-            } else {
-                // indicate it was completed by timeout
-                answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+        @Override
+        protected void purge() {
+            // wait for lock to be created
+            if (lock != null) {
+                // must acquire the shared aggregation lock to be able to purge
+                lock.lock();
                 try {
-                    answer = onCompletion(key, answer, answer, true, false);
-                    if (answer != null) {
-                        onSubmitCompletion(key, answer);
-                    }
-                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                    evictionStolen = true;
+                    super.purge();
+                } finally {
+                    lock.unlock();
                 }
             }
+        }
+    }
+
+    private void onTimeoutEviction(TimeoutMap.Listener.Type type, String key, String exchangeId) {
+        if (type != TimeoutMap.Listener.Type.Evict) {
+            return;
+        }
+        LOG.debug("Completion timeout triggered for correlation key: {}", key);
 
-            if (optimisticLocking && evictionStolen) {
-                log.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
-                          + "for exchange with id: {} and correlation id: {}",
-                        exchangeId, key);
+        boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
+        if (inProgress) {
+            LOG.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
+            return;
+        }
+
+        // get the aggregated exchange
+        boolean evictionStolen = false;
+        Exchange answer = aggregationRepository.get(camelContext, key);
+        if (answer == null) {
+            evictionStolen = true;
+        } else {
+            // indicate it was completed by timeout
+            answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+            try {
+                answer = onCompletion(key, answer, answer, true, false);
+                if (answer != null) {
+                    onSubmitCompletion(key, answer);
+                }
+            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                evictionStolen = true;
             }
         }
+
+        if (optimisticLocking && evictionStolen) {
+            LOG.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
+                      + "for exchange with id: {} and correlation id: {}",
+                    exchangeId, key);
+        }
     }
 
     /**
@@ -1693,7 +1768,12 @@ public class AggregateProcessor extends BaseProcessorSupport
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            if (isCompletionTimeoutTimingWheel()) {
+                timeoutMap = new AggregationTimingWheelTimeoutMap(
+                        getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            } else {
+                timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            }
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
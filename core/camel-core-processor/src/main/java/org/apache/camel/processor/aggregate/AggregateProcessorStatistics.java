@@ -71,6 +71,30 @@ public interface AggregateProcessorStatistics {
      */
     long getDiscarded();
 
+    /**
+     * Current size in bytes of the aggregated exchanges kept in memory by the aggregation repository, or -1 if the
+     * aggregation repository does not support this
+     */
+    long getRepositoryMemorySize();
+
+    /**
+     * Current number of aggregated exchanges spilled to disk by the aggregation repository, or -1 if the aggregation
+     * repository does not support this
+     */
+    long getRepositorySpilledCount();
+
+    /**
+     * Total number of aggregated exchanges spilled to disk by the aggregation repository, or -1 if the aggregation
+     * repository does not support this
+     */
+    long getRepositoryTotalSpilled();
+
+    /**
+     * Total number of aggregated exchanges loaded from disk by the aggregation repository, or -1 if the aggregation
+     * repository does not support this
+     */
+    long getRepositoryTotalLoaded();
+
     /**
      * Reset the counters
      */
@@ -0,0 +1,744 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.MessageSizeStrategy;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory based {@link org.apache.camel.spi.AggregationRepository} which keeps the aggregated {@link Exchange}s in
+ * memory up to a given size in bytes, and spills the least recently used {@link Exchange}s to a local append-only log
+ * file when the memory budget is exceeded.
+ * <p/>
+ * The size of each {@link Exchange} is computed using the {@link MessageSizeStrategy} from the {@link CamelContext}.
+ * Spilled {@link Exchange}s are serialized using {@link DefaultExchangeHolder}, and are loaded back into memory when
+ * they are aggregated again. Only {@link Exchange}s which can be serialized without losing information are spilled
+ * (a serializable message body, and header, property and variable values of simple types such as String and numbers,
+ * or any serializable value when allowSerializedHeaders is enabled), and the other {@link Exchange}s are always kept
+ * in memory.
+ * <p/>
+ * Recovery is supported for {@link Exchange}s which have been completed but not yet confirmed, however the spill file
+ * is private to this repository and is deleted when the repository is stopped, which means recovery is only possible
+ * while the application is running. Use a persistent repository such as the LevelDB or JDBC aggregation repository
+ * if the aggregated {@link Exchange}s must survive a restart.
+ */
+@Metadata(label = "bean",
+          description = "A memory based AggregationRepository which keeps the aggregated Exchanges in memory up to a given size,"
+                        + " and spills the least recently used Exchanges to a local file when the memory size is exceeded.",
+          annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
+@Configurer(metadataOnly = true)
+public class SpillToDiskAggregationRepository extends ServiceSupport
+        implements RecoverableAggregationRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillToDiskAggregationRepository.class);
+
+    /**
+     * Keep the default filter in sync with the persistent aggregation repositories.
+     */
+    static final String DEFAULT_DESERIALIZATION_FILTER
+            = "!java.net.**;java.**;org.apache.camel.**;maxdepth=20;maxrefs=10000;maxbytes=10485760;!*";
+
+    // keys in the memory and spilled maps are prefixed, so aggregated and completed exchanges can share the memory budget
+    private static final String GROUP_PREFIX = "g:";
+    private static final String COMPLETED_PREFIX = "c:";
+    // the spill file is compacted when it is larger than this size and more than half of it is no longer in use
+    private static final long COMPACT_MIN_SIZE = 1024 * 1024;
+
+    private CamelContext camelContext;
+    private MessageSizeStrategy messageSizeStrategy;
+
+    @Metadata(description = "The maximum size in bytes of the aggregated exchanges kept in memory, before the least recently"
+                            + " used exchanges are spilled to disk.",
+              defaultValue = "67108864")
+    private long maxMemorySize = 64 * 1024 * 1024;
+    @Metadata(description = "The directory where the spill file is created. Is by default the camel-aggregation directory"
+                            + " in the java temporary directory.")
+    private String spillDirectory;
+    @Metadata(label = "advanced",
+              description = "The size in bytes to use for an exchange when the size of its message body or headers cannot"
+                            + " be computed (such as a POJO message body).",
+              defaultValue = "1024")
+    private long defaultExchangeSize = 1024;
+    @Metadata(label = "advanced", security = "insecure:serialization",
+              description = "Whether headers and exchange properties that are java objects and Serializable should be"
+                            + " included when spilling exchanges to disk.")
+    private boolean allowSerializedHeaders;
+    @Metadata(label = "advanced",
+              description = "Sets a deserialization filter while reading the exchanges spilled to disk."
+                            + " By default the filter denies java.net.** and otherwise allows all java packages and"
+                            + " subpackages and all org.apache.camel packages and subpackages, while the remaining will be"
+                            + " blacklisted and not deserialized. This parameter should be customized if you're using"
+                            + " classes you trust to be deserialized.",
+              defaultValue = DEFAULT_DESERIALIZATION_FILTER)
+    private String deserializationFilter = DEFAULT_DESERIALIZATION_FILTER;
+    @Metadata(description = "Whether or not recovery is enabled", defaultValue = "true")
+    private boolean useRecovery = true;
+    @Metadata(description = "Sets the interval between recovery scans", defaultValue = "5000")
+    private long recoveryInterval = 5000;
+    @Metadata(description = "Sets an optional limit of the number of redelivery attempt of recovered Exchange should be"
+                            + " attempted, before its exhausted. When this limit is hit, then the Exchange is moved to the"
+                            + " dead letter channel.")
+    private int maximumRedeliveries;
+    @Metadata(description = "Sets an optional dead letter channel which exhausted recovered Exchange should be send to.")
+    private String deadLetterUri;
+
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, MemoryEntry> memory = new LinkedHashMap<>();
+    // the exchanges in memory which can be spilled, access ordered so the least recently used are spilled first
+    private final Map<String, MemoryEntry> spillCandidates = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, SpilledEntry> spilled = new HashMap<>();
+    private long memorySize;
+    private Path spillFile;
+    private FileChannel channel;
+    private long spillFileSize;
+    private long garbageSize;
+    private long totalSpilled;
+    private long totalLoaded;
+
+    public SpillToDiskAggregationRepository() {
+    }
+
+    public SpillToDiskAggregationRepository(long maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        lock.lock();
+        try {
+            Exchange answer = removeEntry(GROUP_PREFIX + key);
+            putEntry(GROUP_PREFIX + key, exchange);
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        lock.lock();
+        try {
+            return getEntry(GROUP_PREFIX + key, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        lock.lock();
+        try {
+            removeEntry(GROUP_PREFIX + key);
+            if (useRecovery) {
+                // keep a copy of the completed exchange until its confirmed, so it can be recovered
+                putEntry(COMPLETED_PREFIX + exchange.getExchangeId(), ExchangeHelper.createCopy(exchange, true));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        lock.lock();
+        try {
+            removeEntry(COMPLETED_PREFIX + exchangeId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        return keys(GROUP_PREFIX);
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        Set<String> answer = keys(COMPLETED_PREFIX);
+        LOG.trace("Scanned and found {} exchanges to recover", answer.size());
+        return answer;
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        lock.lock();
+        try {
+            Exchange answer = getEntry(COMPLETED_PREFIX + exchangeId, false);
+            // the completed exchange is kept until its confirmed, so recover a copy
+            return answer != null ? ExchangeHelper.createCopy(answer, true) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Set<String> keys(String prefix) {
+        lock.lock();
+        try {
+            Set<String> answer = new LinkedHashSet<>();
+            for (String key : memory.keySet()) {
+                if (key.startsWith(prefix)) {
+                    answer.add(key.substring(prefix.length()));
+                }
+            }
+            for (String key : spilled.keySet()) {
+                if (key.startsWith(prefix)) {
+                    answer.add(key.substring(prefix.length()));
+                }
+            }
+            // do not allow edits to the set
+            return Collections.unmodifiableSet(answer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Exchange getEntry(String key, boolean promote) {
+        MemoryEntry entry = memory.get(key);
+        if (entry != null) {
+            // mark as recently used
+            spillCandidates.get(key);
+            return entry.exchange;
+        }
+        SpilledEntry spill = spilled.get(key);
+        if (spill == null) {
+            return null;
+        }
+        Exchange answer = load(spill);
+        totalLoaded++;
+        if (promote) {
+            // the exchange is being aggregated again so its hot and should be kept in memory
+            spilled.remove(key);
+            garbageSize += spill.length;
+            putEntry(key, answer);
+            compactIfNeeded();
+        }
+        return answer;
+    }
+
+    private void putEntry(String key, Exchange exchange) {
+        long size = sizeOf(exchange);
+        MemoryEntry entry = new MemoryEntry(exchange, size);
+        memory.put(key, entry);
+        if (isSpillable(exchange)) {
+            spillCandidates.put(key, entry);
+        }
+        memorySize += size;
+        if (memorySize > maxMemorySize) {
+            spill(key);
+        }
+    }
+
+    /**
+     * Removes the entry with the given key.
+     *
+     * @return the exchange if it was held in memory, or <tt>null</tt> if there was no entry or it was spilled to disk
+     */
+    private Exchange removeEntry(String key) {
+        MemoryEntry entry = memory.remove(key);
+        if (entry != null) {
+            spillCandidates.remove(key);
+            memorySize -= entry.size;
+            return entry.exchange;
+        }
+        SpilledEntry spill = spilled.remove(key);
+        if (spill != null) {
+            garbageSize += spill.length;
+            compactIfNeeded();
+        }
+        return null;
+    }
+
+    /**
+     * Spills the least recently used exchanges until the memory size is within the budget. The most recently used
+     * exchange is never spilled, as it is about to be aggregated again. Only the exchanges which can be spilled are
+     * candidates, and an exchange which fails to be serialized is no longer a candidate until it is added again, so
+     * the exchanges kept in memory are not looked at again on every add.
+     */
+    private void spill(String current) {
+        Iterator<Map.Entry<String, MemoryEntry>> it = spillCandidates.entrySet().iterator();
+        while (memorySize > maxMemorySize && it.hasNext()) {
+            Map.Entry<String, MemoryEntry> entry = it.next();
+            if (entry.getKey().equals(current)) {
+                continue;
+            }
+            // the exchange is either spilled or kept in memory, so its no longer a candidate
+            it.remove();
+            Exchange exchange = entry.getValue().exchange;
+            byte[] data;
+            try {
+                data = serialize(exchange);
+            } catch (Exception e) {
+                LOG.debug("Cannot spill exchange: {} to disk due to: {}. The exchange is kept in memory.",
+                        exchange.getExchangeId(), e.getMessage(), e);
+                continue;
+            }
+            long position = append(data);
+            spilled.put(entry.getKey(),
+                    new SpilledEntry(position, data.length, exchange.getFromEndpoint(), exchange.getFromRouteId()));
+            memory.remove(entry.getKey());
+            memorySize -= entry.getValue().size;
+            totalSpilled++;
+        }
+    }
+
+    private boolean isSpillable(Exchange exchange) {
+        Message in = exchange.getIn();
+        Message message = exchange.getMessage();
+        if (!isSpillable(in) || message != in && !isSpillable(message)) {
+            return false;
+        }
+        return isSpillable(exchange.getAllProperties()) && (!exchange.hasVariables() || isSpillable(exchange.getVariables()));
+    }
+
+    private boolean isSpillable(Message message) {
+        Object body = message.getBody();
+        return (body == null || body instanceof Serializable) && isSpillable(message.getHeaders());
+    }
+
+    private boolean isSpillable(Map<String, Object> map) {
+        for (Object value : map.values()) {
+            if (value != null && !isSpillableValue(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSpillableValue(Object value) {
+        // values which DefaultExchangeHolder converts or excludes would be lost when the exchange is loaded again,
+        // such as the StringBuffer used by the StringAggregationStrategy
+        if (value instanceof CharSequence) {
+            return value instanceof String;
+        }
+        if (value instanceof Number || value instanceof Character || value instanceof Boolean || value instanceof Date) {
+            return true;
+        }
+        return allowSerializedHeaders && value instanceof Serializable;
+    }
+
+    private long sizeOf(Exchange exchange) {
+        Message message = exchange.getMessage();
+        long answer = sizeOf(message);
+        if (message != exchange.getIn()) {
+            answer += sizeOf(exchange.getIn());
+        }
+        return answer;
+    }
+
+    private long sizeOf(Message message) {
+        long body = messageSizeStrategy.computeBodySize(message);
+        long headers = messageSizeStrategy.computeHeadersSize(message);
+        if (body < 0 || headers < 0) {
+            return Math.max(0, body) + Math.max(0, headers) + defaultExchangeSize;
+        }
+        return body + headers;
+    }
+
+    private byte[] serialize(Exchange exchange) throws IOException {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders, true);
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+             ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+            oos.flush();
+            return bos.toByteArray();
+        }
+    }
+
+    private Exchange load(SpilledEntry spill) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(spill.length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, spill.position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of spill file: " + spillFile);
+                }
+            }
+            DefaultExchangeHolder holder;
+            ClassLoader classLoader = camelContext.getApplicationContextClassLoader();
+            try (ObjectInputStream ois
+                    = new ClassLoadingAwareObjectInputStream(classLoader, new ByteArrayInputStream(buffer.array()))) {
+                ois.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+                holder = (DefaultExchangeHolder) ois.readObject();
+            }
+            Exchange answer = new DefaultExchange(camelContext);
+            DefaultExchangeHolder.unmarshal(answer, holder);
+            answer.getExchangeExtension().setFromEndpoint(spill.fromEndpoint);
+            answer.getExchangeExtension().setFromRouteId(spill.fromRouteId);
+            return answer;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error loading exchange from spill file: " + spillFile, e);
+        }
+    }
+
+    private long append(byte[] data) {
+        long position = spillFileSize;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error spilling exchange to spill file: " + spillFile, e);
+        }
+        spillFileSize += data.length;
+        return position;
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (spilled.isEmpty()) {
+                if (spillFileSize > 0) {
+                    channel.truncate(0);
+                    spillFileSize = 0;
+                    garbageSize = 0;
+                }
+            } else if (spillFileSize > COMPACT_MIN_SIZE && garbageSize > spillFileSize / 2) {
+                compact();
+            }
+        } catch (IOException e) {
+            LOG.warn("Error compacting spill file: {}. This exception is ignored.", spillFile, e);
+        }
+    }
+
+    private void compact() throws IOException {
+        LOG.debug("Compacting spill file: {} with {} of {} bytes no longer in use", spillFile, garbageSize, spillFileSize);
+        Path file = createSpillFile();
+        FileChannel target = openSpillFile(file);
+        try {
+            long position = 0;
+            for (Map.Entry<String, SpilledEntry> entry : spilled.entrySet()) {
+                SpilledEntry spill = entry.getValue();
+                long done = 0;
+                while (done < spill.length) {
+                    done += channel.transferTo(spill.position + done, spill.length - done, target);
+                }
+                entry.setValue(new SpilledEntry(position, spill.length, spill.fromEndpoint, spill.fromRouteId));
+                position += spill.length;
+            }
+            channel.close();
+            channel = target;
+            spillFile = file;
+            spillFileSize = position;
+            garbageSize = 0;
+        } catch (IOException e) {
+            target.close();
+            throw e;
+        }
+    }
+
+    private Path createSpillFile() throws IOException {
+        Path dir = Paths.get(spillDirectory);
+        Files.createDirectories(dir);
+        return Files.createTempFile(dir, "aggregation-", ".spill");
+    }
+
+    private static FileChannel openSpillFile(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    /**
+     * Current size in bytes of the exchanges kept in memory
+     */
+    public long getMemorySize() {
+        lock.lock();
+        try {
+            return memorySize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current number of exchanges kept in memory
+     */
+    public int getMemoryCount() {
+        lock.lock();
+        try {
+            return memory.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current number of exchanges spilled to disk
+     */
+    public int getSpilledCount() {
+        lock.lock();
+        try {
+            return spilled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current size in bytes of the spill file
+     */
+    public long getSpillFileSize() {
+        lock.lock();
+        try {
+            return spillFileSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Total number of exchanges spilled to disk
+     */
+    public long getTotalSpilled() {
+        lock.lock();
+        try {
+            return totalSpilled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Total number of exchanges loaded from disk
+     */
+    public long getTotalLoaded() {
+        lock.lock();
+        try {
+            return totalLoaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reset the counters
+     */
+    public void resetStatistics() {
+        lock.lock();
+        try {
+            totalSpilled = 0;
+            totalLoaded = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    /**
+     * The maximum size in bytes of the aggregated exchanges kept in memory, before the least recently used exchanges
+     * are spilled to disk.
+     */
+    public void setMaxMemorySize(long maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * The directory where the spill file is created. Is by default the camel-aggregation directory in the java
+     * temporary directory.
+     */
+    public void setSpillDirectory(String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    public long getDefaultExchangeSize() {
+        return defaultExchangeSize;
+    }
+
+    /**
+     * The size in bytes to use for an exchange when the size of its message body or headers cannot be computed (such
+     * as a POJO message body).
+     */
+    public void setDefaultExchangeSize(long defaultExchangeSize) {
+        this.defaultExchangeSize = defaultExchangeSize;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    /**
+     * Whether headers and exchange properties that are java objects and Serializable should be included when spilling
+     * exchanges to disk.
+     */
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter while reading the exchanges spilled to disk.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryInterval() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+        if (maxMemorySize < 0) {
+            throw new IllegalArgumentException("MaxMemorySize must be zero or positive, was: " + maxMemorySize);
+        }
+        if (maximumRedeliveries < 0) {
+            throw new IllegalArgumentException("Option maximumRedeliveries must be a positive number, was: "
+                                               + maximumRedeliveries);
+        }
+        messageSizeStrategy = camelContext.getMessageSizeStrategy();
+        if (spillDirectory == null) {
+            spillDirectory = Paths.get(System.getProperty("java.io.tmpdir"), "camel-aggregation").toString();
+        }
+        lock.lock();
+        try {
+            spillFile = createSpillFile();
+            channel = openSpillFile(spillFile);
+        } finally {
+            lock.unlock();
+        }
+        LOG.debug("Spilling aggregated exchanges exceeding {} bytes of memory to file: {}", maxMemorySize, spillFile);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lock.lock();
+        try {
+            memory.clear();
+            spillCandidates.clear();
+            spilled.clear();
+            memorySize = 0;
+            spillFileSize = 0;
+            garbageSize = 0;
+            if (channel != null) {
+                // the spill file is deleted on close
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record MemoryEntry(Exchange exchange, long size) {
+    }
+
+    private record SpilledEntry(long position, int length, Endpoint fromEndpoint, String fromRouteId) {
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reifier;
+
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.model.AdaptiveThrottleDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.AdaptiveThrottler;
+
+public class AdaptiveThrottleReifier extends ProcessorReifier<AdaptiveThrottleDefinition> {
+
+    public AdaptiveThrottleReifier(Route route, ProcessorDefinition<?> definition) {
+        super(route, (AdaptiveThrottleDefinition) definition);
+    }
+
+    @Override
+    public Processor createProcessor() throws Exception {
+        String algorithm = parseString(definition.getAlgorithm());
+        int initialLimit = parseInt(definition.getInitialLimit(), 20);
+        int minLimit = parseInt(definition.getMinLimit(), 1);
+        int maxLimit = parseInt(definition.getMaxLimit(), 1000);
+        int maxQueueSize = parseInt(definition.getMaxQueueSize(), 0);
+        long queueTimeout = parseDuration(definition.getQueueTimeout(), 10000);
+        Double backoffRatio = parse(Double.class, definition.getBackoffRatio());
+
+        AdaptiveThrottler answer = new AdaptiveThrottler(
+                algorithm, initialLimit, minLimit, maxLimit, maxQueueSize, queueTimeout,
+                backoffRatio != null ? backoffRatio : 0.9);
+        answer.setDisabled(isDisabled(camelContext, definition));
+        return answer;
+    }
+}
@@ -217,6 +217,7 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (completionTimeoutCheckerInterval != null) {
             answer.setCompletionTimeoutCheckerInterval(completionTimeoutCheckerInterval);
         }
+        answer.setCompletionTimeoutTimingWheel(parseBoolean(definition.getCompletionTimeoutTimingWheel(), false));
         return answer;
     }
 
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reifier;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.StartupListener;
+import org.apache.camel.processor.Pipeline;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Processor} which creates the processors of a route lazy, on the first message processed by the route. This
+ * is used for lazy routes (see {@link org.apache.camel.spi.RouteController#setLazyRoutes(String)}) to avoid creating
+ * the processors of routes that are rarely used.
+ * <p/>
+ * The processors can also be created in the background after Camel has been started (warm up), for lazy routes that
+ * are expected to be used.
+ */
+final class LazyRouteProcessor extends AsyncProcessorSupport implements Navigate<Processor>, StartupListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyRouteProcessor.class);
+
+    private final RouteReifier reifier;
+    private final Route route;
+    private final boolean warmUp;
+    private final AtomicBoolean warmUpScheduled = new AtomicBoolean();
+    private volatile Pipeline pipeline;
+    private volatile Pipeline delegate;
+
+    LazyRouteProcessor(RouteReifier reifier, Route route, boolean warmUp) {
+        this.reifier = reifier;
+        this.route = route;
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        Pipeline target;
+        try {
+            target = getOrCreateProcessor();
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return target.process(exchange, callback);
+    }
+
+    private Pipeline getOrCreateProcessor() throws Exception {
+        Pipeline answer = delegate;
+        if (answer == null) {
+            lock.lock();
+            try {
+                answer = delegate;
+                if (answer == null) {
+                    answer = createProcessor();
+                    delegate = answer;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return answer;
+    }
+
+    private Pipeline createProcessor() throws Exception {
+        StopWatch watch = new StopWatch();
+
+        List<Processor> processors = reifier.createOutputs(route);
+        if (processors.isEmpty()) {
+            throw new IllegalStateException("Route " + route.getRouteId() + " has no output processors");
+        }
+        Pipeline answer = new Pipeline(route.getCamelContext(), processors);
+        answer.setRouteId(route.getRouteId());
+        try {
+            // the processors can now be navigated from the route
+            pipeline = answer;
+            reifier.prepareErrorHandlerAware(route);
+            // the processors are created after the route has been started, so they must be started now
+            if (isRunAllowed()) {
+                ServiceHelper.startService(answer);
+            } else {
+                ServiceHelper.initService(answer);
+            }
+        } catch (Exception e) {
+            pipeline = null;
+            throw e;
+        }
+        // the route model is no longer needed
+        route.clearRouteModel();
+
+        LOG.debug("Created processors for lazy route: {} took: {}", route.getRouteId(),
+                TimeUtils.printDuration(watch.taken(), true));
+        return answer;
+    }
+
+    @Override
+    public List<Processor> next() {
+        Pipeline answer = pipeline;
+        return answer != null ? answer.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        Pipeline answer = pipeline;
+        return answer != null && answer.hasNext();
+    }
+
+    @Override
+    public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) {
+        if (alreadyStarted) {
+            // the route is started after camel context
+            scheduleWarmUp(context);
+        }
+    }
+
+    @Override
+    public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) {
+        scheduleWarmUp(context);
+    }
+
+    private void scheduleWarmUp(CamelContext context) {
+        if (delegate == null && warmUpScheduled.compareAndSet(false, true)) {
+            try {
+                getWarmUpExecutor(context).execute(() -> {
+                    try {
+                        getOrCreateProcessor();
+                    } catch (Exception e) {
+                        // the processors are attempted created again on the first message processed
+                        LOG.warn("Error warming up lazy route: {} due to: {}. This exception is ignored.",
+                                route.getRouteId(), e.getMessage(), e);
+                    } finally {
+                        warmUpScheduled.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // camel context is shutting down
+                warmUpScheduled.set(false);
+                LOG.debug("Cannot warm up lazy route: {} as the thread pool is shutdown", route.getRouteId());
+            }
+        }
+    }
+
+    /**
+     * Gets the thread pool shared by the lazy routes of camel context for warming up, which has a thread per CPU, so
+     * warming up many lazy routes does not create as many threads. The thread pool is shutdown with camel context.
+     */
+    private static ExecutorService getWarmUpExecutor(CamelContext context) {
+        synchronized (WarmUpExecutor.class) {
+            WarmUpExecutor answer = context.getCamelContextExtension().getContextPlugin(WarmUpExecutor.class);
+            if (answer == null || answer.executorService().isShutdown()) {
+                ExecutorService executorService = context.getExecutorServiceManager().newFixedThreadPool(
+                        LazyRouteProcessor.class, "LazyRouteWarmUp", Runtime.getRuntime().availableProcessors());
+                answer = new WarmUpExecutor(executorService);
+                context.getCamelContextExtension().addContextPlugin(WarmUpExecutor.class, answer);
+            }
+            return answer.executorService();
+        }
+    }
+
+    private record WarmUpExecutor(ExecutorService executorService) {
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (delegate != null) {
+            ServiceHelper.startService(delegate);
+        } else if (warmUp) {
+            // warm up when camel context has been started
+            route.getCamelContext().addStartupListener(this);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(delegate);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        ServiceHelper.stopAndShutdownService(delegate);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyRoute[" + route.getRouteId() + "]";
+    }
+}
@@ -63,6 +63,7 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         boolean isParallelProcessing = parseBoolean(definition.getParallelProcessing(), false);
         boolean isSynchronous = parseBoolean(definition.getSynchronous(), false);
         boolean isShareUnitOfWork = parseBoolean(definition.getShareUnitOfWork(), false);
+        boolean isShareUnmodified = parseBoolean(definition.getShareUnmodified(), false);
         boolean isStreaming = parseBoolean(definition.getStreaming(), false);
         boolean isStopOnException = parseBoolean(definition.getStopOnException(), false);
         boolean isParallelAggregate = parseBoolean(definition.getParallelAggregate(), false);
@@ -83,6 +84,7 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, prepare, isShareUnitOfWork, isParallelAggregate, 0);
         answer.setSynchronous(isSynchronous);
+        answer.setShareUnmodified(isShareUnmodified);
         return answer;
     }
 
@@ -35,6 +35,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.StartupStep;
 import org.apache.camel.model.A2ASubTaskDefinition;
+import org.apache.camel.model.AdaptiveThrottleDefinition;
 import org.apache.camel.model.AggregateDefinition;
 import org.apache.camel.model.AggregationStrategyAwareDefinition;
 import org.apache.camel.model.BeanDefinition;
@@ -208,6 +209,8 @@ public abstract class ProcessorReifier<T extends ProcessorDefinition<?>> extends
 
         if (definition instanceof A2ASubTaskDefinition) {
             return new A2ASubTaskReifier(route, definition);
+        } else if (definition instanceof AdaptiveThrottleDefinition) {
+            return new AdaptiveThrottleReifier(route, definition);
         } else if (definition instanceof AggregateDefinition) {
             return new AggregateReifier(route, definition);
         } else if (definition instanceof BeanDefinition) {
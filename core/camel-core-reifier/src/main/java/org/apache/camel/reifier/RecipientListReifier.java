@@ -49,6 +49,7 @@ public class RecipientListReifier extends ProcessorReifier<RecipientListDefiniti
         boolean isStreaming = parseBoolean(definition.getStreaming(), false);
         boolean isParallelAggregate = parseBoolean(definition.getParallelAggregate(), false);
         boolean isShareUnitOfWork = parseBoolean(definition.getShareUnitOfWork(), false);
+        boolean isShareUnmodified = parseBoolean(definition.getShareUnmodified(), false);
         boolean isStopOnException = parseBoolean(definition.getStopOnException(), false);
         boolean isIgnoreInvalidEndpoints = parseBoolean(definition.getIgnoreInvalidEndpoints(), false);
 
@@ -66,6 +67,7 @@ public class RecipientListReifier extends ProcessorReifier<RecipientListDefiniti
         answer.setSynchronous(isSynchronous);
         answer.setStreaming(isStreaming);
         answer.setShareUnitOfWork(isShareUnitOfWork);
+        answer.setShareUnmodified(isShareUnmodified);
         answer.setStopOnException(isStopOnException);
         answer.setIgnoreInvalidEndpoints(isIgnoreInvalidEndpoints);
         answer.setAllowedSchemes(parseString(definition.getAllowedSchemes()));
@@ -39,7 +39,11 @@ import org.apache.camel.ServiceStatus;
 import org.apache.camel.ShutdownRoute;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.StartupStep;
+import org.apache.camel.model.InterceptDefinition;
+import org.apache.camel.model.InterceptSendToEndpointDefinition;
 import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.OnCompletionDefinition;
+import org.apache.camel.model.OnExceptionDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ProcessorDefinitionHelper;
 import org.apache.camel.model.PropertyDefinition;
@@ -59,6 +63,7 @@ import org.apache.camel.spi.RoutePolicy;
 import org.apache.camel.spi.RoutePolicyFactory;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggerHelper;
+import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -225,36 +230,20 @@ public class RouteReifier extends ProcessorReifier<RouteDefinition> {
                     definition.getRouteId(), source, definition.toString(), at, cause);
         }
 
-        List<ProcessorDefinition<?>> list = new ArrayList<>(definition.getOutputs());
-        for (ProcessorDefinition<?> output : list) {
-            try {
-                ProcessorReifier<?> reifier = ProcessorReifier.reifier(route, output);
-
-                // ensure node has id assigned
-                String outputId
-                        = output.idOrCreate(camelContext.getCamelContextExtension().getContextPlugin(NodeIdFactory.class));
-                String eip = reifier.getClass().getSimpleName().replace("Reifier", "");
-                StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder()
-                        .beginStep(ProcessorReifier.class, outputId, "Create " + eip + " Processor");
-
-                reifier.addRoutes();
-
-                camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
-            } catch (Exception e) {
-                // location on route is stored on input
-                String source = LoggerHelper
-                        .getLineNumberLoggerName(definition.getInput() != null ? definition.getInput().getLocation() : null);
-                throw new FailedToCreateRouteException(
-                        definition.getRouteId(), source, definition.toString(), output.toString(), e);
+        // lazy routes create their processors on the first message processed
+        boolean lazy = isLazyRoute(id);
+        List<Processor> eventDrivenProcessors;
+        if (lazy) {
+            LOG.debug("Lazy route: {} will create processors on first use", id);
+            eventDrivenProcessors = List.of(new LazyRouteProcessor(this, route, isLazyRouteWarmUp(id)));
+        } else {
+            // now lets turn all the event driven consumer processors into a single route
+            eventDrivenProcessors = createOutputs(route);
+            if (eventDrivenProcessors.isEmpty()) {
+                return null;
             }
         }
 
-        // now lets turn all the event driven consumer processors into a single route
-        List<Processor> eventDrivenProcessors = route.getEventDrivenProcessors();
-        if (eventDrivenProcessors.isEmpty()) {
-            return null;
-        }
-
         // Set route properties
         Map<String, Object> routeProperties = computeRouteProperties();
 
@@ -385,13 +374,10 @@ public class RouteReifier extends ProcessorReifier<RouteDefinition> {
         // inject the route error handler for processors that are error handler aware
         // this needs to be done here at the end because the route may be transactional and have a transaction error handler
         // automatic be configured which some EIPs like Multicast/RecipientList needs to be using for special fine-grained error handling
-        ErrorHandlerFactory builder = route.getErrorHandlerFactory();
-        Processor errorHandler = ((ModelCamelContext) camelContext).getModelReifierFactory().createErrorHandler(route,
-                builder, null);
-        prepareErrorHandlerAware(route, errorHandler);
+        prepareErrorHandlerAware(route);
 
-        // only during startup phase
-        if (camelContext.getStatus().ordinal() < ServiceStatus.Started.ordinal()) {
+        // only during startup phase (lazy routes need the model until the processors are created)
+        if (!lazy && camelContext.getStatus().ordinal() < ServiceStatus.Started.ordinal()) {
             // okay route has been created from the model, then the model is no longer needed, and we can de-reference
             camelContext.getCamelContextExtension().addBootstrap(route::clearRouteModel);
         }
@@ -419,6 +405,78 @@ public class RouteReifier extends ProcessorReifier<RouteDefinition> {
         return route;
     }
 
+    /**
+     * Creates the processors from the outputs of the route
+     *
+     * @return the event driven processors of the route
+     */
+    List<Processor> createOutputs(Route route) throws Exception {
+        // clear any processors from a previous attempt (lazy routes)
+        route.getEventDrivenProcessors().clear();
+
+        List<ProcessorDefinition<?>> list = new ArrayList<>(definition.getOutputs());
+        for (ProcessorDefinition<?> output : list) {
+            try {
+                ProcessorReifier<?> reifier = ProcessorReifier.reifier(route, output);
+
+                // ensure node has id assigned
+                String outputId
+                        = output.idOrCreate(camelContext.getCamelContextExtension().getContextPlugin(NodeIdFactory.class));
+                String eip = reifier.getClass().getSimpleName().replace("Reifier", "");
+                StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder()
+                        .beginStep(ProcessorReifier.class, outputId, "Create " + eip + " Processor");
+
+                reifier.addRoutes();
+
+                camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+            } catch (Exception e) {
+                // location on route is stored on input
+                String source = LoggerHelper
+                        .getLineNumberLoggerName(definition.getInput() != null ? definition.getInput().getLocation() : null);
+                throw new FailedToCreateRouteException(
+                        definition.getRouteId(), source, definition.toString(), output.toString(), e);
+            }
+        }
+        return route.getEventDrivenProcessors();
+    }
+
+    /**
+     * Whether the route should be lazy, where the processors are created on the first message processed by the route
+     */
+    protected boolean isLazyRoute(String routeId) {
+        String pattern = camelContext.getRouteController().getLazyRoutes();
+        if (pattern == null || !PatternHelper.matchPatterns(routeId, pattern.split(","))) {
+            return false;
+        }
+        // routes which configure the route itself (such as route scoped error handling) cannot be lazy
+        for (ProcessorDefinition<?> output : definition.getOutputs()) {
+            if (output instanceof OnExceptionDefinition || output instanceof OnCompletionDefinition
+                    || output instanceof InterceptDefinition || output instanceof InterceptSendToEndpointDefinition) {
+                LOG.debug("Route: {} cannot be lazy because it has {}", routeId, output.getShortName());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the processors of the lazy route should be created in the background after Camel has been started
+     */
+    protected boolean isLazyRouteWarmUp(String routeId) {
+        String pattern = camelContext.getRouteController().getLazyRoutesWarmUp();
+        return pattern != null && PatternHelper.matchPatterns(routeId, pattern.split(","));
+    }
+
+    /**
+     * Injects the route error handler for processors that are error handler aware
+     */
+    void prepareErrorHandlerAware(Route route) throws Exception {
+        ErrorHandlerFactory builder = route.getErrorHandlerFactory();
+        Processor errorHandler = ((ModelCamelContext) camelContext).getModelReifierFactory().createErrorHandler(route,
+                builder, null);
+        prepareErrorHandlerAware(route, errorHandler);
+    }
+
     private void prepareErrorHandlerAware(Route route, Processor errorHandler) {
         List<Processor> processors = route.filter("*");
         for (Processor p : processors) {
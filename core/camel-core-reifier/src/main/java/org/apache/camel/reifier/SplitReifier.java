@@ -88,6 +88,15 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
             answer.setGroup(group);
         }
 
+        int parallelWindowSize = parseInt(definition.getParallelWindowSize(), 0);
+        if (parallelWindowSize < 0) {
+            throw new IllegalArgumentException(
+                    "parallelWindowSize must not be negative, but was: " + parallelWindowSize);
+        }
+        if (parallelWindowSize > 0) {
+            answer.setParallelWindowSize(parallelWindowSize);
+        }
+
         configureErrorThreshold(answer, isStopOnException);
         configureWatermark(answer);
 
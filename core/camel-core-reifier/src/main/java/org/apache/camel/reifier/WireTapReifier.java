@@ -111,6 +111,7 @@ public class WireTapReifier extends ToDynamicReifier<WireTapDefinition<?>> {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
         }
         answer.setOnPrepare(prepare);
+        answer.setShareUnmodified(parseBoolean(definition.getShareUnmodified(), false));
         return answer;
     }
 
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.Map;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.Headers;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.MessageSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanMethodInvokerTest extends ContextTestSupport {
+
+    private final MyBean myBean = new MyBean();
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry answer = super.createCamelRegistry();
+        answer.bind("myBean", myBean);
+        return answer;
+    }
+
+    @Test
+    public void testLookup() throws Throwable {
+        BeanMethodInvoker invoker = BeanMethodInvoker.lookup(MyBean.class.getMethod("hello", String.class));
+        assertNotNull(invoker);
+        assertSame(invoker, BeanMethodInvoker.lookup(MyBean.class.getMethod("hello", String.class)));
+        assertEquals("Hello World", invoker.invoke(myBean, new Object[] { "World" }));
+
+        // each method has its own class, which is a nestmate of the bean class
+        BeanMethodInvoker other = BeanMethodInvoker.lookup(MyBean.class.getMethod("kaboom", String.class));
+        assertNotSame(invoker.getClass(), other.getClass());
+        assertSame(MyBean.class.getNestHost(), invoker.getClass().getNestHost());
+        assertSame(MyBean.class.getClassLoader(), invoker.getClass().getClassLoader());
+
+        // also for beans in other packages
+        Message message = new DefaultMessage(context);
+        message.setBody("Hello World");
+        invoker = BeanMethodInvoker.lookup(MessageSupport.class.getMethod("getBody"));
+        assertNotNull(invoker);
+        assertSame(MessageSupport.class, invoker.getClass().getNestHost());
+        assertEquals("Hello World", invoker.invoke(message, new Object[0]));
+
+        // static methods and methods with many parameters use reflection
+        assertNull(BeanMethodInvoker.lookup(MyBean.class.getMethod("staticHello", String.class)));
+        assertNull(BeanMethodInvoker.lookup(
+                MyBean.class.getMethod("many", String.class, String.class, String.class, String.class)));
+    }
+
+    @Test
+    public void testBody() {
+        assertEquals("Hello World", template.requestBody("direct:body", "World"));
+    }
+
+    @Test
+    public void testBodyAndHeaders() {
+        assertEquals("Hello World from Camel",
+                template.requestBodyAndHeader("direct:headers", "World", "from", "Camel"));
+    }
+
+    @Test
+    public void testExchange() {
+        assertEquals("Hello World", template.requestBody("direct:exchange", "World"));
+    }
+
+    @Test
+    public void testPrimitive() {
+        assertEquals(6, template.requestBodyAndHeader("direct:primitive", "3", "times", 2));
+    }
+
+    @Test
+    public void testVoid() {
+        template.sendBody("direct:void", "World");
+        assertEquals("World", myBean.last);
+    }
+
+    @Test
+    public void testStatic() {
+        assertEquals("Hello World", template.requestBody("direct:static", "World"));
+    }
+
+    @Test
+    public void testException() {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:kaboom", "World"));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("Forced World", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testNullPrimitive() {
+        // null cannot be passed to a primitive parameter, which fails the same way as when using reflection
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:primitive", "3"));
+        assertInstanceOf(RuntimeExchangeException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:body").bean("myBean", "hello");
+                from("direct:headers").bean("myBean", "helloFrom");
+                from("direct:exchange").bean("myBean", "helloExchange");
+                from("direct:primitive").bean("myBean", "times");
+                from("direct:void").bean("myBean", "remember");
+                from("direct:static").bean(MyBean.class, "staticHello");
+                from("direct:kaboom").bean("myBean", "kaboom");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        private volatile String last;
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public String helloFrom(String name, @Headers Map<String, Object> headers) {
+            return "Hello " + name + " from " + headers.get("from");
+        }
+
+        public String helloExchange(Exchange exchange) {
+            return "Hello " + exchange.getMessage().getBody(String.class);
+        }
+
+        public int times(int number, @Header("times") int times) {
+            return number * times;
+        }
+
+        public void remember(String name) {
+            this.last = name;
+        }
+
+        public String kaboom(String name) {
+            throw new IllegalArgumentException("Forced " + name);
+        }
+
+        public static String staticHello(String name) {
+            return "Hello " + name;
+        }
+
+        public String many(String a, String b, String c, String d) {
+            return a + b + c + d;
+        }
+    }
+}
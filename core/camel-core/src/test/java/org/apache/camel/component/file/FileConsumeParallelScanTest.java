@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToStartRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumeParallelScanTest extends ContextTestSupport {
+
+    private static final String FILE_QUERY = "?initialDelay=0&delay=10&recursive=true&parallelScanThreads=4";
+
+    @Test
+    public void testParallelScan() throws Exception {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 4; j++) {
+                String name = "dir" + i + "/sub" + j + "/file" + i + j + ".txt";
+                template.sendBodyAndHeader(fileUri(), "Hello " + i + j, Exchange.FILE_NAME, name);
+                expected.add("Hello " + i + j);
+            }
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        // the last file in the poll completes the batch
+        mock.message(19).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(19).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(20);
+
+        context.getRouteController().startRoute("parallel");
+
+        assertMockEndpointsSatisfied();
+
+        Set<String> bodies = new HashSet<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            bodies.add(exchange.getMessage().getBody(String.class));
+        }
+        assertEquals(expected, bodies);
+    }
+
+    @Test
+    public void testParallelScanMaxMessagesPerPoll() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "dir" + i + "/file" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:limit");
+        mock.expectedMessageCount(10);
+
+        context.getRouteController().startRoute("limit");
+
+        assertMockEndpointsSatisfied();
+
+        // each poll is limited to 3 files
+        int index = 0;
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            int batchIndex = exchange.getProperty(Exchange.BATCH_INDEX, int.class);
+            assertTrue(batchIndex < 3, "Batch index should be less than 3 but was " + batchIndex);
+            if (exchange.getProperty(Exchange.BATCH_COMPLETE, boolean.class)) {
+                index++;
+            }
+        }
+        assertTrue(index >= 4, "Should be at least 4 polls");
+    }
+
+    @Test
+    public void testParallelScanWithSortBy() {
+        Exception e = assertThrows(FailedToStartRouteException.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri(FILE_QUERY + "&sortBy=file:name")).to("mock:sorted");
+            }
+        }));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri(FILE_QUERY)).routeId("parallel").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri(FILE_QUERY + "&maxMessagesPerPoll=3")).routeId("limit").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:limit");
+            }
+        };
+    }
+}
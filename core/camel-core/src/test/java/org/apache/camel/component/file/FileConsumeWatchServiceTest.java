@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumeWatchServiceTest extends ContextTestSupport {
+
+    private static final String FILE_QUERY
+            = "?initialDelay=0&delay=10&recursive=true&useWatchService=true&watchServiceRescanDelay=600000";
+
+    private final AtomicInteger skipChecks = new AtomicInteger();
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry jndi = super.createCamelRegistry();
+        jndi.bind("skipFilter", (GenericFileFilter<Object>) file -> {
+            if (file.getFileNameOnly().startsWith("skip")) {
+                skipChecks.incrementAndGet();
+                return false;
+            }
+            return true;
+        });
+        return jndi;
+    }
+
+    @Test
+    public void testWatchService() throws Exception {
+        // existing files are picked up by the initial listing of the directories
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+        context.getRouteController().startRoute("watch");
+        assertMockEndpointsSatisfied();
+
+        // new files are picked up from the notifications
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("Bye World", "Hi World");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri(), "Hi World", Exchange.FILE_NAME, "sub/hi.txt");
+        assertMockEndpointsSatisfied();
+
+        // and the files are moved as usual
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertFalse(Files.exists(testFile("bye.txt")));
+            assertTrue(Files.exists(testFile(".camel/bye.txt")));
+            assertTrue(Files.exists(testFile("sub/.camel/hi.txt")));
+        });
+    }
+
+    @Test
+    public void testWatchServiceDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedBodiesReceived("Hello World");
+        context.getRouteController().startRoute("done");
+
+        // the file is not picked up until the done file is written
+        template.sendBodyAndHeader(fileUri("done"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        mock.setAssertPeriod(100);
+        mock.expectedMessageCount(0);
+        mock.assertIsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("Hello World");
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "hello.done");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchServiceReadLockNotAcquired() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:lock");
+        mock.expectedBodiesReceived("Hello World");
+        context.getRouteController().startRoute("lock");
+
+        // the file is not picked up while another consumer has the read lock
+        Files.createDirectories(testDirectory("lock"));
+        Files.writeString(testFile("lock/hello.txt" + FileComponent.DEFAULT_LOCK_FILE_POSTFIX), "");
+        template.sendBodyAndHeader(fileUri("lock"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        mock.setAssertPeriod(100);
+        mock.expectedMessageCount(0);
+        mock.assertIsSatisfied();
+
+        // and is picked up when the lock is released, without being notified again
+        mock.reset();
+        mock.expectedBodiesReceived("Hello World");
+        Files.delete(testFile("lock/hello.txt" + FileComponent.DEFAULT_LOCK_FILE_POSTFIX));
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchServiceReadLockNotAcquiredOnRescan() throws Exception {
+        // the file is found by the initial listing of the directories while another consumer has the read lock
+        Files.createDirectories(testDirectory("lock/sub"));
+        Files.writeString(testFile("lock/sub/hello.txt" + FileComponent.DEFAULT_LOCK_FILE_POSTFIX), "");
+        template.sendBodyAndHeader(fileUri("lock"), "Hello World", Exchange.FILE_NAME, "sub/hello.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:lock");
+        mock.setAssertPeriod(100);
+        mock.expectedMessageCount(0);
+        context.getRouteController().startRoute("lock");
+        mock.assertIsSatisfied();
+
+        // and is picked up when the lock is released, without waiting for the next rescan
+        mock.reset();
+        mock.expectedBodiesReceived("Hello World");
+        Files.delete(testFile("lock/sub/hello.txt" + FileComponent.DEFAULT_LOCK_FILE_POSTFIX));
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchServiceFilteredFileNotCheckedAgain() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:filter");
+        mock.expectedBodiesReceived("Hello World");
+        context.getRouteController().startRoute("filter");
+
+        template.sendBodyAndHeader(fileUri("filter"), "Bye World", Exchange.FILE_NAME, "skip.txt");
+        template.sendBodyAndHeader(fileUri("filter"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        assertMockEndpointsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> skipChecks.get() > 0);
+
+        // the filtered file is only checked when notified, and not again on every poll
+        Thread.sleep(100);
+        int checks = skipChecks.get();
+        Thread.sleep(300);
+        assertEquals(checks, skipChecks.get());
+        assertTrue(Files.exists(testFile("filter/skip.txt")));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri(FILE_QUERY)).routeId("watch").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("done" + FILE_QUERY + "&doneFileName=${file:name.noext}.done")).routeId("done")
+                        .autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:done");
+
+                from(fileUri("lock" + FILE_QUERY + "&readLock=markerFile&readLockDeleteOrphanLockFiles=false"))
+                        .routeId("lock").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:lock");
+
+                from(fileUri("filter" + FILE_QUERY + "&filter=#skipFilter")).routeId("filter").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:filter");
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FileProducerZeroCopyTest extends ContextTestSupport {
+
+    private Path source;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        source = testFile("source/hello.txt");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, "Hello World");
+    }
+
+    @Test
+    public void testFileBody() throws Exception {
+        template.sendBodyAndHeader(fileUri("out"), source.toFile(), Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("out/hello.txt"), "Hello World");
+        assertFalse(Files.isSameFile(source, testFile("out/hello.txt")));
+        assertEquals(11, getZeroCopyBytes("out"));
+    }
+
+    @Test
+    public void testFileBodyAppend() throws Exception {
+        String uri = fileUri("append?fileExist=Append&appendChars=\\n");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("append/hello.txt"), "Hello World\nHello World\n");
+        assertEquals(22, getZeroCopyBytes("append?fileExist=Append&appendChars=\\n"));
+    }
+
+    @Test
+    public void testFileInputStreamBody() throws Exception {
+        try (FileInputStream fis = new FileInputStream(source.toFile())) {
+            template.sendBodyAndHeader(fileUri("stream"), fis, Exchange.FILE_NAME, "hello.txt");
+        }
+
+        assertFileExists(testFile("stream/hello.txt"), "Hello World");
+        assertEquals(11, getZeroCopyBytes("stream"));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void testFifoInputStreamBody() throws Exception {
+        Path fifo = testFile("source/fifo");
+        assumeTrue(new ProcessBuilder("mkfifo", fifo.toString()).start().waitFor() == 0, "mkfifo is not available");
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                Files.writeString(fifo, "Hello World");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // the size of a FIFO is not known, so it is read as a stream
+        try (FileInputStream fis = new FileInputStream(fifo.toFile())) {
+            template.sendBodyAndHeader(fileUri("fifo"), fis, Exchange.FILE_NAME, "hello.txt");
+        }
+        writer.join();
+
+        assertFileExists(testFile("fifo/hello.txt"), "Hello World");
+        assertEquals(0, getZeroCopyBytes("fifo"));
+    }
+
+    @Test
+    public void testHardLink() throws Exception {
+        // an existing file is replaced by the link
+        template.sendBodyAndHeader(fileUri("link"), "Bye World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("link?hardLink=true"), source.toFile(), Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("link/hello.txt"), "Hello World");
+        assertTrue(Files.isSameFile(source, testFile("link/hello.txt")));
+        assertEquals(11, getZeroCopyBytes("link?hardLink=true"));
+    }
+
+    private long getZeroCopyBytes(String path) {
+        return context.getEndpoint(fileUri(path), FileEndpoint.class).getZeroCopyBytes();
+    }
+}
@@ -16,13 +16,21 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.AsyncProcessorSupport;
 import org.junit.jupiter.api.Test;
 
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -93,6 +101,59 @@ class ThreadPerTaskSedaConsumerTest extends ContextTestSupport {
                                  + "The CountDownLatch count likely does not match the coordinator thread count.");
     }
 
+    @Test
+    void testConcurrencyLimitHeldUntilAsyncProcessingDone() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:async");
+        mock.expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:async?virtualThreadPerTask=true&concurrentConsumers=2", "Message " + i);
+        }
+
+        // only 2 exchanges are in-flight as they are not done yet, and the rest are kept on the queue
+        SedaEndpoint seda = context.getEndpoint("seda:async?virtualThreadPerTask=true&concurrentConsumers=2", SedaEndpoint.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> callbacks.size() == 2);
+        assertEquals(2, seda.getInflightTasks());
+        assertEquals(3, seda.getCurrentQueueSize());
+
+        // let the messages wait a bit on the queue, and then complete them
+        Thread.sleep(200);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> {
+            AsyncCallback callback = callbacks.poll();
+            if (callback != null) {
+                callback.done(false);
+            }
+            return mock.getReceivedCounter() == 5;
+        });
+
+        mock.assertIsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> seda.getInflightTasks() == 0);
+        assertTrue(seda.getMaxQueueWaitTime() >= 200, "Max queue wait time was " + seda.getMaxQueueWaitTime());
+        assertTrue(seda.getMeanQueueWaitTime() > 0, "Mean queue wait time was " + seda.getMeanQueueWaitTime());
+        assertEquals(0, seda.getPinnedThreadCount());
+    }
+
+    @Test
+    void testEnqueueTimeNotTrackedAfterStopped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:switch");
+        mock.expectedMessageCount(2);
+        mock.allMessages().exchangeProperty(SedaConstants.ENQUEUE_TIME).isNull();
+
+        template.sendBody("seda:switch", "Hello World");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mock.getReceivedCounter() == 1);
+
+        // a regular consumer takes over the queue, so the enqueue time is no longer tracked
+        context.getRouteController().stopRoute("threadPerTask");
+        context.getRouteController().startRoute("regular");
+        SedaEndpoint seda = context.getEndpoint("seda:switch", SedaEndpoint.class);
+        assertFalse(seda.getQueueReference().isTrackEnqueueTime());
+
+        template.sendBody("seda:switch", "Bye World");
+        mock.assertIsSatisfied();
+    }
+
+    private final Queue<AsyncCallback> callbacks = new ConcurrentLinkedQueue<>();
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -109,6 +170,23 @@ class ThreadPerTaskSedaConsumerTest extends ContextTestSupport {
                 from("seda:throughput?virtualThreadPerTask=true")
                         .to("log:throughput")
                         .to("mock:throughput");
+
+                from("seda:switch?virtualThreadPerTask=true").routeId("threadPerTask")
+                        .to("mock:switch");
+
+                from("seda:switch").routeId("regular").autoStartup(false)
+                        .to("mock:switch");
+
+                // async processor which is completed by the test
+                from("seda:async?virtualThreadPerTask=true&concurrentConsumers=2")
+                        .process(new AsyncProcessorSupport() {
+                            @Override
+                            public boolean process(Exchange exchange, AsyncCallback callback) {
+                                callbacks.add(callback);
+                                return false;
+                            }
+                        })
+                        .to("mock:async");
             }
         };
     }
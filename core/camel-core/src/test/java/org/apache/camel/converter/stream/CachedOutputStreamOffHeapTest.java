@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setOffHeapArenaSize(4 * SEGMENT_SIZE);
+        context.getStreamCachingStrategy().setOffHeapSegmentSize(SEGMENT_SIZE);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        context.start();
+
+        exchange = createExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        String data = data(150);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+
+        // not spooled to disk
+        assertEquals(0, spoolFiles());
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(3 * SEGMENT_SIZE, statistics.getOffHeapArenaUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(ByteBufferInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(150, cache.length());
+        assertEquals(data, read((InputStream) cache));
+        // can be read again after reset
+        cache.reset();
+        assertEquals(data, read((InputStream) cache));
+
+        // copies share the segments
+        cache.reset();
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals(data, bos.toString(StandardCharsets.UTF_8));
+        assertEquals(3 * SEGMENT_SIZE, statistics.getOffHeapArenaUsed());
+
+        // the segments are released when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getOffHeapArenaUsed());
+        assertThrows(IOException.class, () -> ((InputStream) copy).read());
+        cos.close();
+    }
+
+    @Test
+    public void testSkipAndMark() throws Exception {
+        String data = data(200);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        for (byte b : data.getBytes(StandardCharsets.UTF_8)) {
+            cos.write(b);
+        }
+        InputStream is = cos.getInputStream();
+        assertEquals(100, is.skip(100));
+        is.mark(0);
+        assertEquals(data.substring(100), read(is));
+        is.reset();
+        assertEquals(data.charAt(100), is.read());
+        assertEquals(99, is.available());
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    @Test
+    public void testSpoolToDiskWhenArenaExhausted() throws Exception {
+        CachedOutputStream first = new CachedOutputStream(exchange);
+        first.write(data(150).getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, spoolFiles());
+
+        // the arena only has one segment left
+        Exchange other = createExchange();
+        String data = data(100);
+        CachedOutputStream second = new CachedOutputStream(other);
+        second.write(data.getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, spoolFiles());
+
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(1, statistics.getOffHeapArenaExhaustedCounter());
+        // the segment reserved by the second stream is released when spooled
+        assertEquals(3 * SEGMENT_SIZE, statistics.getOffHeapArenaUsed());
+
+        StreamCache cache = second.newStreamCache();
+        assertFalse(cache.inMemory());
+        assertEquals(data, read((InputStream) cache));
+
+        other.getUnitOfWork().done(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, spoolFiles());
+        assertEquals(0, statistics.getOffHeapArenaUsed());
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        InputStream is = new BufferedInputStream(new ByteArrayInputStream(data(100).getBytes(StandardCharsets.UTF_8)));
+        exchange.getIn().setBody(is);
+        StreamCache cache = context.getStreamCachingStrategy().cache(exchange);
+        assertInstanceOf(ByteBufferInputStreamCache.class, cache);
+
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(1, statistics.getCacheOffHeapCounter());
+        assertEquals(100, statistics.getCacheOffHeapSize());
+        assertEquals(0, statistics.getCacheMemoryCounter());
+        assertEquals(0, statistics.getCacheSpoolCounter());
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    private Exchange createExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.getExchangeExtension().setUnitOfWork(uow);
+        return answer;
+    }
+
+    private int spoolFiles() {
+        String[] files = testDirectory().toFile().list();
+        return files != null ? files.length : 0;
+    }
+
+    private static String data(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+
+    private static String read(InputStream is) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buf = new byte[7];
+        int n;
+        while ((n = is.read(buf)) != -1) {
+            bos.write(buf, 0, n);
+        }
+        return bos.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -366,6 +366,38 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals(2, copy.getVariables().size());
     }
 
+    @Test
+    public void testLazyCopyExchangeWithProperties() {
+        exchange.setProperty("beer", "Carlsberg");
+        exchange.setProperty("wine", "Barolo");
+
+        Exchange copy = exchange.getExchangeExtension().lazyCopy();
+        Exchange copy2 = exchange.getExchangeExtension().lazyCopy();
+        assertEquals("Carlsberg", copy.getProperty("beer"));
+        assertEquals("Barolo", copy2.getProperty("wine"));
+
+        // modifying the copy must not affect the other exchanges
+        copy.setProperty("beer", "Heineken");
+        copy.removeProperty("wine");
+        assertEquals("Heineken", copy.getProperty("beer"));
+        assertNull(copy.getProperty("wine"));
+        assertEquals("Carlsberg", exchange.getProperty("beer"));
+        assertEquals("Barolo", exchange.getProperty("wine"));
+        assertEquals("Carlsberg", copy2.getProperty("beer"));
+        assertEquals("Barolo", copy2.getProperty("wine"));
+
+        // modifying the original must not affect the copies
+        exchange.setProperty("beer", "Tuborg");
+        exchange.getProperties().put("cider", "Somersby");
+        assertEquals("Carlsberg", copy2.getProperty("beer"));
+        assertNull(copy2.getProperty("cider"));
+
+        copy2.removeProperties("*");
+        assertFalse(copy2.hasProperties());
+        assertEquals("Tuborg", exchange.getProperty("beer"));
+        assertEquals("Somersby", exchange.getProperty("cider"));
+    }
+
     @Test
     public void testInType() {
         exchange.setIn(new MyMessage(context));
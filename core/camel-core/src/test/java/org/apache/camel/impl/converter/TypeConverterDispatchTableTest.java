@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverterExists;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterDispatchTableTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = new DefaultCamelContext(false);
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testFastPath() {
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        statistics.reset();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(123, context.getTypeConverter().convertTo(int.class, "123"));
+            assertEquals(Long.valueOf(456), context.getTypeConverter().convertTo(Long.class, "456"));
+            assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8),
+                    context.getTypeConverter().convertTo(byte[].class, "Hello"));
+        }
+
+        // the first conversion of each pair looks up the type converter
+        assertEquals(30, statistics.getHitCounter());
+        assertEquals(27, statistics.getFastHitCounter());
+    }
+
+    @Test
+    public void testFastPathFailure() {
+        assertEquals(1, context.getTypeConverter().convertTo(int.class, "1"));
+        assertEquals(2, context.getTypeConverter().convertTo(int.class, "2"));
+        assertThrows(TypeConversionException.class, () -> context.getTypeConverter().convertTo(int.class, "foo"));
+        assertEquals(3, context.getTypeConverter().convertTo(int.class, "3"));
+    }
+
+    @Test
+    public void testReplacedTypeConverter() {
+        assertEquals(123, context.getTypeConverter().convertTo(Integer.class, "123"));
+        assertEquals(123, context.getTypeConverter().convertTo(Integer.class, "123"));
+
+        context.getTypeConverterRegistry().setTypeConverterExists(TypeConverterExists.Override);
+        context.getTypeConverterRegistry().addTypeConverter(Integer.class, String.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return (T) Integer.valueOf(42);
+            }
+        });
+
+        // the replaced type converter must be used instead of the one in the dispatch table
+        assertEquals(42, context.getTypeConverter().convertTo(Integer.class, "123"));
+        assertEquals(42, context.getTypeConverter().convertTo(Integer.class, "123"));
+    }
+
+    @Test
+    public void testFastPathCannotConvert() {
+        AtomicInteger calls = new AtomicInteger();
+        context.getTypeConverterRegistry().setTypeConverterExists(TypeConverterExists.Override);
+        context.getTypeConverterRegistry().addTypeConverter(Integer.class, String.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                calls.incrementAndGet();
+                return "none".equals(value) ? null : (T) Integer.valueOf((String) value);
+            }
+        });
+        assertEquals(1, context.getTypeConverter().convertTo(Integer.class, "1"));
+        assertEquals(2, context.getTypeConverter().convertTo(Integer.class, "2"));
+
+        // the type converter in the dispatch table is not called again by the lookup of the cached and super type
+        // converters when it cannot convert the value (but may be found again by the assignable lookup)
+        calls.set(0);
+        assertNull(context.getTypeConverter().tryConvertTo(Integer.class, "none"));
+        assertTrue(calls.get() <= 2, "The type converter was called " + calls.get() + " times");
+    }
+
+}
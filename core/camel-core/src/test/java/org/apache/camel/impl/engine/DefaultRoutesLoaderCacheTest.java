@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.RoutesBuilderLoaderSupport;
+import org.apache.camel.xml.LwModelHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultRoutesLoaderCacheTest {
+
+    private static final String ROUTE = """
+            # a route
+            - from:
+                uri: direct:start
+                steps:
+                  - to: %s
+            """;
+
+    @TempDir
+    Path cacheDir;
+
+    private final AtomicInteger yamlCounter = new AtomicInteger();
+    private final AtomicInteger xmlCounter = new AtomicInteger();
+
+    @Test
+    public void testRoutesCache() throws Exception {
+        Resource resource = ResourceHelper.fromString("myroute.yaml", ROUTE.formatted("mock:result"));
+
+        // first time the routes are parsed and cached
+        runRoute(resource, "mock:result");
+        assertEquals(1, yamlCounter.get());
+        assertEquals(0, xmlCounter.get());
+        assertTrue(Files.exists(cacheDir.resolve(DefaultRoutesLoader.ROUTES_CACHE_FILE)));
+
+        // then the routes are loaded from the cache
+        runRoute(resource, "mock:result");
+        runRoute(resource, "mock:result");
+        assertEquals(1, yamlCounter.get());
+        assertEquals(2, xmlCounter.get());
+
+        // the routes are parsed again when changed
+        Resource changed = ResourceHelper.fromString("myroute.yaml", ROUTE.formatted("mock:changed"));
+        runRoute(changed, "mock:changed");
+        assertEquals(2, yamlCounter.get());
+        assertEquals(2, xmlCounter.get());
+        runRoute(changed, "mock:changed");
+        assertEquals(2, yamlCounter.get());
+        assertEquals(3, xmlCounter.get());
+    }
+
+    @Test
+    public void testRoutesCacheNotRoutesOnly() throws Exception {
+        Resource resource = ResourceHelper.fromString("myroute.yaml", "- beans:\n    - name: foo\n"
+                                                                      + ROUTE.formatted("mock:result"));
+
+        runRoute(resource, "mock:result");
+        runRoute(resource, "mock:result");
+        assertEquals(2, yamlCounter.get());
+        assertEquals(0, xmlCounter.get());
+    }
+
+    private void runRoute(Resource resource, String mock) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.getRegistry().bind(DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + "yaml", new MyYamlLoader());
+        context.getRegistry().bind(DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + "xml", new MyXmlLoader());
+        DefaultRoutesLoader loader = new DefaultRoutesLoader(context);
+        loader.setRoutesCacheDir(cacheDir.toString());
+        context.getCamelContextExtension().addContextPlugin(RoutesLoader.class, loader);
+        try {
+            loader.loadRoutes(resource);
+            context.start();
+
+            MockEndpoint result = context.getEndpoint(mock, MockEndpoint.class);
+            result.expectedBodiesReceived("Hello World");
+            context.createProducerTemplate().sendBody("direct:start", "Hello World");
+            result.assertIsSatisfied();
+        } finally {
+            context.stop();
+        }
+    }
+
+    /**
+     * Loads a simplified YAML route (from uri and to uri)
+     */
+    private class MyYamlLoader extends RoutesBuilderLoaderSupport {
+
+        private final Pattern pattern = Pattern.compile("uri: (\\S+).*- to: (\\S+)", Pattern.DOTALL);
+
+        @Override
+        public String getSupportedExtension() {
+            return "yaml";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            yamlCounter.incrementAndGet();
+            String text;
+            try (InputStream is = resource.getInputStream()) {
+                text = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Matcher matcher = pattern.matcher(text);
+            assertTrue(matcher.find());
+            RouteBuilder builder = new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from(matcher.group(1)).to(matcher.group(2));
+                }
+            };
+            builder.setResource(resource);
+            return builder;
+        }
+    }
+
+    private class MyXmlLoader extends RoutesBuilderLoaderSupport {
+
+        @Override
+        public String getSupportedExtension() {
+            return "xml";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            xmlCounter.incrementAndGet();
+            RoutesDefinition routes;
+            try (InputStream is = resource.getInputStream()) {
+                routes = LwModelHelper.loadRoutesDefinition(is);
+            }
+            RouteBuilder builder = new RouteBuilder() {
+                @Override
+                public void configure() {
+                    for (RouteDefinition route : routes.getRoutes()) {
+                        getRouteCollection().route(route);
+                    }
+                }
+            };
+            builder.setResource(resource);
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setParallelism(2);
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        WorkStealingReactiveExecutor executor = assertInstanceOf(WorkStealingReactiveExecutor.class,
+                context.getCamelContextExtension().getReactiveExecutor());
+        assertEquals(2, executor.getParallelism());
+        assertTrue(executor.getCreatedWorkers() > 0);
+    }
+
+    @Test
+    public void testRequestReply() {
+        Object out = template.requestBody("direct:start", "World");
+        assertEquals("Bye World", out);
+    }
+
+    @Test
+    public void testScheduleRunsOnWorkerThread() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> name = new AtomicReference<>();
+
+        context.getCamelContextExtension().getReactiveExecutor().schedule(() -> {
+            name.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotNull(name.get());
+        assertTrue(name.get().contains("ReactiveWorker"), "Should run on worker thread: " + name.get());
+    }
+
+    @Test
+    public void testScheduleSyncStaysOnCurrentThread() {
+        String caller = Thread.currentThread().getName();
+        AtomicReference<String> name = new AtomicReference<>();
+
+        // work scheduled from a synchronous task must stay on the same thread
+        context.getCamelContextExtension().getReactiveExecutor().scheduleSync(
+                () -> context.getCamelContextExtension().getReactiveExecutor()
+                        .schedule(() -> name.set(Thread.currentThread().getName())));
+
+        assertEquals(caller, name.get());
+        assertNotEquals("", caller);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .to("seda:foo?waitForTaskToComplete=Always")
+                        .to("mock:result");
+
+                from("seda:foo?concurrentConsumers=2")
+                        .transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
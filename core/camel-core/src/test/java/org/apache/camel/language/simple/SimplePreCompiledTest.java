@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultClassResolver;
+import org.apache.camel.language.csimple.CSimpleCodeGenerator;
+import org.apache.camel.language.csimple.CSimpleSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.language.csimple.CSimpleHelper.isEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SimplePreCompiledTest extends ContextTestSupport {
+
+    private static final AtomicInteger PREDICATE_COUNTER = new AtomicInteger();
+    private static final AtomicInteger EXPRESSION_COUNTER = new AtomicInteger();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setClassResolver(new DefaultClassResolver(context) {
+            @Override
+            public InputStream loadResourceAsStream(String uri) {
+                if (SimpleLanguage.PRE_COMPILED_FILE.equals(uri)) {
+                    String text = "# compiled expressions\n"
+                                  + GoldPredicate.class.getName() + "\n"
+                                  + BodyExpression.class.getName() + "\n";
+                    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+                }
+                return super.loadResourceAsStream(uri);
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testPreCompiled() throws Exception {
+        PREDICATE_COUNTER.set(0);
+        EXPRESSION_COUNTER.set(0);
+
+        getMockEndpoint("mock:gold").expectedBodiesReceived(10);
+        getMockEndpoint("mock:gold").expectedHeaderReceived("total", 10);
+        getMockEndpoint("mock:other").expectedBodiesReceived(5);
+        getMockEndpoint("mock:other").expectedHeaderReceived("total", "5 items");
+
+        template.sendBodyAndHeader("direct:start", 10, "level", "gold");
+        template.sendBodyAndHeader("direct:start", 5, "level", "silver");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(2, PREDICATE_COUNTER.get());
+        assertEquals(1, EXPRESSION_COUNTER.get());
+    }
+
+    @Test
+    public void testGenerateSimple() {
+        CSimpleCodeGenerator generator = new CSimpleCodeGenerator();
+        generator.setCamelContext(context);
+
+        assertNotNull(generator.generateSimplePredicate("org.foo.Gold", "${header.level} == 'gold'"));
+        assertNotNull(generator.generateSimplePredicate("org.foo.Plus", "${header.level} == 'a+b'"));
+        assertNotNull(generator.generateSimpleExpression("org.foo.Body", "${body}"));
+
+        // not same behavior as simple
+        assertNull(generator.generateSimpleExpression("org.foo.Hello", "Hello ${body}"));
+        assertNull(generator.generateSimpleExpression("org.foo.Name", "${body.name}"));
+        assertNull(generator.generateSimplePredicate("org.foo.Name", "${body.name} == 'Camel'"));
+        assertNull(generator.generateSimplePredicate("org.foo.Greater", "${body} > 5"));
+        assertNull(generator.generateSimplePredicate("org.foo.Regex", "${header.level} regex 'g.*'"));
+        assertNull(generator.generateSimplePredicate("org.foo.AndOr",
+                "${header.level} == 'gold' || ${body} == 5 && ${body} != 10"));
+        assertNull(generator.generateSimpleExpression("org.foo.Date", "${date:now}"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .choice()
+                        .when(simple("${header.level} == 'gold'"))
+                            .setHeader("total", simple("${body}"))
+                            .to("mock:gold")
+                        .otherwise()
+                            .setHeader("total", simple("${body} items"))
+                            .to("mock:other");
+            }
+        };
+    }
+
+    public static class GoldPredicate extends CSimpleSupport {
+
+        @Override
+        public boolean isPredicate() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return "${header.level} == 'gold'";
+        }
+
+        @Override
+        public Object evaluate(CamelContext context, Exchange exchange, Message message, Object body) {
+            PREDICATE_COUNTER.incrementAndGet();
+            return isEqualTo(exchange, message.getHeader("level"), "gold");
+        }
+    }
+
+    public static class BodyExpression extends CSimpleSupport {
+
+        @Override
+        public boolean isPredicate() {
+            return false;
+        }
+
+        @Override
+        public String getText() {
+            return "${body}";
+        }
+
+        @Override
+        public Object evaluate(CamelContext context, Exchange exchange, Message message, Object body) {
+            EXPRESSION_COUNTER.incrementAndGet();
+            return body;
+        }
+    }
+}
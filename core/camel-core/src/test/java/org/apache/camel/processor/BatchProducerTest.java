@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.BatchProducer;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedExchangeAggregationStrategy;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultProducer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchProducerTest extends ContextTestSupport {
+
+    private final List<List<Object>> batches = new ArrayList<>();
+    private final List<Object> singles = new ArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.addEndpoint("batch://foo", new MyBatchEndpoint("batch://foo", true, true));
+        context.addEndpoint("batch://bar", new MyBatchEndpoint("batch://bar", false, true));
+        context.addEndpoint("batch://cached", new MyBatchEndpoint("batch://cached", true, false));
+        return context;
+    }
+
+    @Test
+    public void testSendBatch() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "A");
+        template.sendBody("direct:start", "B");
+        template.sendBody("direct:start", "C");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("A", "B", "C"), batches.get(0));
+        assertEquals(0, singles.size());
+
+        // the per item results are set on the grouped exchanges
+        List<?> grouped = getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(3, grouped.size());
+        Exchange first = (Exchange) grouped.get(0);
+        assertEquals("Sent A", first.getMessage().getBody());
+        assertNull(first.getException());
+    }
+
+    @Test
+    public void testSendBatchFailed() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+        getMockEndpoint("mock:failed").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "A");
+        template.sendBody("direct:start", "Kaboom");
+        template.sendBody("direct:start", "Kaboom");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(1, batches.size());
+
+        // the exchange fails when any of the grouped exchanges failed
+        Exchange failed = getMockEndpoint("mock:failed").getReceivedExchanges().get(0);
+        Exception cause = failed.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+        assertInstanceOf(CamelExchangeException.class, cause);
+        assertTrue(cause.getMessage().startsWith("Failed to send 2 of 3 exchanges in batch"));
+        assertInstanceOf(IllegalArgumentException.class, cause.getCause());
+        assertEquals(1, cause.getSuppressed().length);
+
+        List<?> grouped = failed.getMessage().getBody(List.class);
+        assertEquals("Sent A", ((Exchange) grouped.get(0)).getMessage().getBody());
+        assertNull(((Exchange) grouped.get(0)).getException());
+        assertInstanceOf(IllegalArgumentException.class, ((Exchange) grouped.get(1)).getException());
+    }
+
+    @Test
+    public void testBatchNotEnabled() throws Exception {
+        getMockEndpoint("mock:bar").expectedMessageCount(1);
+
+        template.sendBody("direct:bar", "A");
+        template.sendBody("direct:bar", "B");
+        template.sendBody("direct:bar", "C");
+
+        assertMockEndpointsSatisfied();
+
+        // the list of exchanges is sent as the message body
+        assertEquals(0, batches.size());
+        assertEquals(1, singles.size());
+        assertInstanceOf(List.class, singles.get(0));
+    }
+
+    @Test
+    public void testSendBatchUsingProducerCache() throws Exception {
+        getMockEndpoint("mock:cached").expectedMessageCount(1);
+
+        template.sendBody("direct:cached", "A");
+        template.sendBody("direct:cached", "B");
+        template.sendBody("direct:cached", "C");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("A", "B", "C"), batches.get(0));
+        assertEquals(0, singles.size());
+    }
+
+    @Test
+    public void testSendSingle() throws Exception {
+        template.sendBody("batch:foo", "Hello World");
+
+        assertEquals(0, batches.size());
+        assertEquals(List.of("Hello World"), singles);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                onException(CamelExchangeException.class).handled(true).to("mock:failed");
+
+                from("direct:start")
+                        .aggregate(constant(true), new GroupedExchangeAggregationStrategy()).completionSize(3)
+                        .to("batch:foo")
+                        .to("mock:result");
+
+                from("direct:bar")
+                        .aggregate(constant(true), new GroupedExchangeAggregationStrategy()).completionSize(3)
+                        .to("batch:bar")
+                        .to("mock:bar");
+
+                from("direct:cached")
+                        .aggregate(constant(true), new GroupedExchangeAggregationStrategy()).completionSize(3)
+                        .to("batch:cached")
+                        .to("mock:cached");
+            }
+        };
+    }
+
+    private class MyBatchEndpoint extends DefaultEndpoint {
+
+        private final boolean batchEnabled;
+        private final boolean singletonProducer;
+
+        MyBatchEndpoint(String endpointUri, boolean batchEnabled, boolean singletonProducer) {
+            super(endpointUri, null);
+            this.batchEnabled = batchEnabled;
+            this.singletonProducer = singletonProducer;
+        }
+
+        @Override
+        public boolean isSingletonProducer() {
+            return singletonProducer;
+        }
+
+        @Override
+        public Producer createProducer() {
+            return new MyBatchProducer(this, batchEnabled);
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) {
+            throw new UnsupportedOperationException("Consumer not supported");
+        }
+    }
+
+    private class MyBatchProducer extends DefaultProducer implements BatchProducer {
+
+        private final boolean batchEnabled;
+
+        MyBatchProducer(Endpoint endpoint, boolean batchEnabled) {
+            super(endpoint);
+            this.batchEnabled = batchEnabled;
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            singles.add(exchange.getMessage().getBody());
+        }
+
+        @Override
+        public boolean isBatchEnabled() {
+            return batchEnabled;
+        }
+
+        @Override
+        public void sendBatch(Exchange exchange, List<Exchange> exchanges) {
+            List<Object> bodies = new ArrayList<>();
+            for (Exchange item : exchanges) {
+                Object body = item.getMessage().getBody();
+                bodies.add(body);
+                if ("Kaboom".equals(body)) {
+                    item.setException(new IllegalArgumentException("Forced"));
+                } else {
+                    item.getMessage().setBody("Sent " + body);
+                }
+            }
+            batches.add(bodies);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest {
+
+    @Test
+    public void testNewKeysNotLookedUp() {
+        AtomicInteger lookups = new AtomicInteger();
+        MemoryIdempotentRepository memory = new MemoryIdempotentRepository() {
+            @Override
+            public boolean contains(String key) {
+                lookups.incrementAndGet();
+                return super.contains(key);
+            }
+        };
+        memory.start();
+        memory.add("existing");
+
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(memory);
+        repo.start();
+
+        assertTrue(repo.contains("existing"));
+        assertEquals(1, lookups.get());
+
+        assertFalse(repo.contains("new"));
+        assertEquals(1, lookups.get());
+        assertEquals(1, repo.getFilteredCount());
+
+        assertTrue(repo.add("new"));
+        assertFalse(repo.add("new"));
+        assertTrue(repo.contains("new"));
+        assertEquals(2, lookups.get());
+
+        // keys are not removed from the filter so the repository is looked up
+        assertTrue(repo.remove("new"));
+        assertFalse(repo.contains("new"));
+        assertEquals(3, lookups.get());
+        assertEquals(1, repo.getFalsePositiveCount());
+
+        repo.clear();
+        assertFalse(repo.contains("existing"));
+        assertEquals(3, lookups.get());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testFilterGrows() {
+        MemoryIdempotentRepository memory = new MemoryIdempotentRepository();
+        memory.setCacheSize(100000);
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(memory);
+        // much fewer keys than will be added
+        repo.setExpectedKeys(1000);
+        repo.setFalsePositiveProbability(0.01);
+        repo.start();
+
+        for (int i = 0; i < 50000; i++) {
+            repo.add("key-" + i);
+        }
+        for (int i = 0; i < 50000; i++) {
+            assertTrue(repo.contains("key-" + i));
+        }
+        for (int i = 0; i < 50000; i++) {
+            repo.contains("other-" + i);
+        }
+
+        // keys which the filter reported as possibly added before are not counted
+        assertTrue(repo.getFilterSize() > 49000 && repo.getFilterSize() <= 50000, "Filter size: " + repo.getFilterSize());
+        assertTrue(repo.getFalsePositiveRate() < 0.01, "False positive rate: " + repo.getFalsePositiveRate());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testRepositoryMustBeBrowsable() {
+        IdempotentRepository other = new NotBrowsableRepository();
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(other);
+
+        assertThrows(IllegalArgumentException.class, repo::start);
+    }
+
+    @Test
+    public void testWarmUp() {
+        NotBrowsableRepository other = new NotBrowsableRepository();
+        other.add("existing");
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(other);
+        repo.setWarmUpDuration(200);
+        repo.start();
+
+        // every key is looked up while warming up
+        assertTrue(repo.isWarmingUp());
+        assertTrue(repo.contains("existing"));
+        assertFalse(repo.contains("new"));
+        assertEquals(2, other.lookups.get());
+        assertEquals(0, repo.getFilteredCount());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !repo.isWarmingUp());
+
+        // and the keys found while warming up are in the filter
+        assertTrue(repo.contains("existing"));
+        assertFalse(repo.contains("new"));
+        assertEquals(3, other.lookups.get());
+        assertEquals(1, repo.getFilteredCount());
+
+        repo.stop();
+    }
+
+    private static class NotBrowsableRepository extends ServiceSupport implements IdempotentRepository {
+
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public boolean add(String key) {
+            return keys.add(key);
+        }
+
+        @Override
+        public boolean contains(String key) {
+            lookups.incrementAndGet();
+            return keys.contains(key);
+        }
+
+        @Override
+        public boolean remove(String key) {
+            return keys.remove(key);
+        }
+
+        @Override
+        public boolean confirm(String key) {
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            keys.clear();
+        }
+    }
+}
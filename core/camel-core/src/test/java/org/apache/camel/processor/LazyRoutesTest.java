@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LazyRoutesTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setLazyRoutes("lazy*,hot");
+        context.getRouteController().setLazyRoutesWarmUp("hot");
+        return context;
+    }
+
+    @Test
+    public void testLazyRoute() throws Exception {
+        // the processors of the lazy route has not been created
+        assertNull(context.hasEndpoint("mock://lazy"));
+        assertEquals(0, context.getRoute("lazy").filter("lazyTo").size());
+        // but the route is started
+        assertEquals("Started", context.getRouteController().getRouteStatus("lazy").name());
+
+        // routes that are not lazy
+        assertNotNull(context.hasEndpoint("mock://eager"));
+        assertNotNull(context.hasEndpoint("mock://error"));
+
+        getMockEndpoint("mock:lazy").expectedBodiesReceived("Hello World", "Bye World");
+        template.sendBody("direct:lazy", "Hello World");
+        template.sendBody("direct:lazy", "Bye World");
+        assertMockEndpointsSatisfied();
+
+        // and the processors can be found from the route
+        assertEquals(1, context.getRoute("lazy").filter("lazyTo").size());
+    }
+
+    @Test
+    public void testLazyRouteWarmUp() {
+        // the processors of the hot route is created in the background
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertNotNull(context.hasEndpoint("mock://hot")));
+    }
+
+    @Test
+    public void testLazyRouteErrorHandler() throws Exception {
+        getMockEndpoint("mock:dead").expectedBodiesReceived("Kaboom");
+
+        template.sendBody("direct:lazyKaboom", "Kaboom");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLazyRouteRestart() throws Exception {
+        getMockEndpoint("mock:lazy").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:lazy", "Hello World");
+        context.getRouteController().stopRoute("lazy");
+        context.getRouteController().startRoute("lazy");
+        template.sendBody("direct:lazy", "Bye World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                errorHandler(deadLetterChannel("mock:dead"));
+
+                from("direct:lazy").routeId("lazy")
+                        .to("mock:lazy").id("lazyTo");
+
+                from("direct:hot").routeId("hot")
+                        .to("mock:hot");
+
+                from("direct:lazyKaboom").routeId("lazyKaboom")
+                        .throwException(new IllegalArgumentException("Forced"));
+
+                from("direct:eager").routeId("eager")
+                        .to("mock:eager");
+
+                from("direct:lazyError").routeId("lazyError")
+                        .onException(IllegalArgumentException.class).handled(true).to("mock:error").end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
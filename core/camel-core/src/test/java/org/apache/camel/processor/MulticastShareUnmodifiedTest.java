@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class MulticastShareUnmodifiedTest extends ContextTestSupport {
+
+    @Test
+    public void testShareUnmodified() throws Exception {
+        getMockEndpoint("mock:a").expectedPropertyReceived("beer", "Heineken");
+        getMockEndpoint("mock:a").expectedPropertyReceived("wine", "Barolo");
+        getMockEndpoint("mock:b").expectedPropertyReceived("beer", "Carlsberg");
+        getMockEndpoint("mock:b").message(0).exchangeProperty("cider").isNull();
+        getMockEndpoint("mock:c").expectedPropertyReceived("beer", "Carlsberg");
+        getMockEndpoint("mock:c").expectedPropertyReceived("cider", "Somersby");
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:result").expectedPropertyReceived("beer", "Carlsberg");
+        getMockEndpoint("mock:result").message(0).exchangeProperty("cider").isNull();
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testShareUnmodifiedParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:parallel");
+        mock.expectedMessageCount(100 * 10);
+        mock.allMessages().exchangeProperty("beer").isEqualTo("Carlsberg");
+        mock.allMessages().exchangeProperty("changed").isNull();
+        getMockEndpoint("mock:parallel-result").expectedMessageCount(100);
+        getMockEndpoint("mock:parallel-result").allMessages().exchangeProperty("changed").isNull();
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:parallel", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .setProperty("beer", constant("Carlsberg"))
+                        .setProperty("wine", constant("Barolo"))
+                        .multicast(AggregationStrategies.useOriginal()).shareUnmodified()
+                            .to("direct:a", "direct:b", "direct:c")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:a").setProperty("beer", constant("Heineken")).to("mock:a");
+                from("direct:b").to("mock:b");
+                from("direct:c").setProperty("cider", constant("Somersby")).to("mock:c");
+
+                from("direct:parallel")
+                        .setProperty("beer", constant("Carlsberg"))
+                        .multicast(AggregationStrategies.useOriginal()).shareUnmodified().parallelProcessing()
+                            .to("direct:x", "direct:y", "direct:x", "direct:y", "direct:x",
+                                    "direct:y", "direct:x", "direct:y", "direct:x", "direct:y")
+                        .end()
+                        .to("mock:parallel-result");
+
+                // one branch reads the shared properties while the other modifies its own copy
+                from("direct:x").to("mock:parallel");
+                from("direct:y").to("mock:parallel").setProperty("changed", constant(true));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.errorhandler.RedeliveryErrorHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelineFusionTest extends ContextTestSupport {
+
+    private final AtomicBoolean viaErrorHandler = new AtomicBoolean();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setPipelineFusion(true);
+        context.setMessageHistory(true);
+        return context;
+    }
+
+    @Test
+    public void testFused() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+        mock.expectedHeaderReceived("foo", "123");
+        mock.expectedHeaderReceived("bar", "456");
+
+        template.sendBody("direct:start", "World");
+
+        assertMockEndpointsSatisfied();
+
+        // the fused steps are not called via the error handler
+        assertFalse(viaErrorHandler.get());
+
+        // but the message history of the steps is kept
+        List<MessageHistory> list = mock.getReceivedExchanges().get(0).getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotNull(list);
+        assertEquals(5, list.size());
+        assertEquals("foo", list.get(0).getNode().getId());
+        assertEquals("check", list.get(2).getNode().getId());
+    }
+
+    @Test
+    public void testFusedFailureHandledByErrorHandler() throws Exception {
+        getMockEndpoint("mock:error").expectedBodiesReceived("Kaboom");
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        template.sendBody("direct:fail", "Kaboom");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testNotFusedWithRedelivery() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        Exception e = template.send("direct:redelivery", ex -> ex.getMessage().setBody("Kaboom")).getException();
+        assertNotNull(e);
+
+        assertMockEndpointsSatisfied();
+
+        // redelivery is done by the error handler
+        assertTrue(viaErrorHandler.get());
+        assertEquals(3, attempts.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                onException(IllegalArgumentException.class).handled(true).to("mock:error");
+
+                from("direct:start")
+                        .setHeader("foo", constant("123")).id("foo")
+                        .setHeader("bar", constant("456"))
+                        .process(e -> checkStack()).id("check")
+                        .transform(simple("Hello ${body}"))
+                        .to("mock:result");
+
+                from("direct:fail")
+                        .setHeader("foo", constant("123"))
+                        .process(e -> {
+                            throw new IllegalArgumentException("Forced");
+                        })
+                        .to("mock:result");
+
+                from("direct:redelivery")
+                        .errorHandler(defaultErrorHandler().maximumRedeliveries(2).redeliveryDelay(0))
+                        .process(e -> {
+                            attempts.incrementAndGet();
+                            checkStack();
+                            throw new IllegalStateException("Forced");
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private void checkStack() {
+        for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+            if (element.getClassName().startsWith(RedeliveryErrorHandler.class.getName())) {
+                viaErrorHandler.set(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupConcurrencyTest extends ContextTestSupport {
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(3);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setStartupStepRecorder(new BacklogStartupStepRecorder());
+        context.getRouteController().setStartupConcurrency(4);
+        context.addComponent("slow", new SlowComponent());
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupConcurrency() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // the routes without startup order are started concurrently (each waits for the others)
+        assertEquals(0, latch.getCount());
+
+        // but ordering is kept between the groups
+        assertEquals(5, started.size());
+        assertEquals("first", started.get(0));
+        assertEquals("last", started.get(4));
+
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(6, order.size());
+        assertEquals("first", order.get(0).getRoute().getId());
+        assertEquals("a", order.get(1).getRoute().getId());
+        assertEquals("b", order.get(2).getRoute().getId());
+        assertEquals("c", order.get(3).getRoute().getId());
+        assertEquals("start", order.get(4).getRoute().getId());
+        assertEquals("last", order.get(5).getRoute().getId());
+
+        // and the routes are added to camel context in startup order
+        assertEquals("first", context.getRoutes().get(0).getId());
+        assertEquals("last", context.getRoutes().get(5).getId());
+
+        // per route steps are recorded as child of the group
+        Map<String, StartupStep> steps = new HashMap<>();
+        context.getCamelContextExtension().getStartupStepRecorder().steps()
+                .filter(s -> "Start Route".equals(s.getDescription()))
+                .forEach(s -> steps.put(s.getName(), s));
+        assertEquals(6, steps.size());
+        StartupStep group = context.getCamelContextExtension().getStartupStepRecorder().steps()
+                .filter(s -> "Start Routes".equals(s.getDescription()))
+                .findFirst().orElseThrow();
+        assertEquals(group.getId(), steps.get("a").getParentId());
+        assertEquals(group.getId(), steps.get("c").getParentId());
+        assertEquals(group.getLevel() + 1, steps.get("b").getLevel());
+        assertTrue(steps.get("first").getParentId() != group.getId());
+
+        // and the steps begun while starting a route concurrently are children of the route
+        List<StartupStep> consumerSteps = context.getCamelContextExtension().getStartupStepRecorder().steps()
+                .filter(s -> "Start Consumer".equals(s.getDescription()))
+                .toList();
+        assertEquals(3, consumerSteps.size());
+        for (StartupStep step : consumerSteps) {
+            assertEquals(steps.get(step.getName()).getId(), step.getParentId());
+            assertEquals(steps.get(step.getName()).getLevel() + 1, step.getLevel());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("slow:first").routeId("first").startupOrder(1).to("log:first");
+                from("slow:last").routeId("last").startupOrder(2000).to("log:last");
+
+                from("slow:a").routeId("a").to("log:a");
+                from("slow:b").routeId("b").to("log:b");
+                from("slow:c").routeId("c").to("log:c");
+                from("direct:start").routeId("start").to("mock:result");
+            }
+        };
+    }
+
+    private class SlowComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) {
+            return new SlowEndpoint(uri, this, remaining);
+        }
+    }
+
+    private class SlowEndpoint extends DefaultEndpoint {
+
+        private final String name;
+
+        SlowEndpoint(String uri, SlowComponent component, String name) {
+            super(uri, component);
+            this.name = name;
+        }
+
+        @Override
+        public Producer createProducer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) {
+            return new DefaultConsumer(this, processor) {
+                @Override
+                protected void doStart() throws Exception {
+                    super.doStart();
+                    if (!"first".equals(name) && !"last".equals(name)) {
+                        StartupStepRecorder recorder
+                                = getCamelContext().getCamelContextExtension().getStartupStepRecorder();
+                        recorder.endStep(recorder.beginStep(Consumer.class, name, "Start Consumer"));
+                        // wait for the other routes which are started concurrently
+                        latch.countDown();
+                        assertTrue(latch.await(10, TimeUnit.SECONDS), "Routes should be started concurrently");
+                    }
+                    started.add(name);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedFileIdempotentRepositoryTest extends ContextTestSupport {
+
+    private SegmentedFileIdempotentRepository repo;
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.contains("2"));
+        assertTrue(repo.contains("3"));
+        assertFalse(repo.contains("4"));
+        assertEquals(3, repo.getSize());
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repo.add("key-" + i));
+        }
+        assertTrue(repo.remove("key-5"));
+        assertFalse(repo.remove("key-5"));
+        assertFalse(repo.add("key-6"));
+
+        repo.stop();
+        repo.start();
+
+        assertEquals(999, repo.getSize());
+        assertFalse(repo.contains("key-5"));
+        for (int i = 0; i < 1000; i++) {
+            if (i != 5) {
+                assertTrue(repo.contains("key-" + i), "key-" + i);
+            }
+        }
+    }
+
+    @Test
+    public void testInterruptedThread() throws Exception {
+        assertTrue(repo.add("1"));
+
+        // an interrupted thread closes the file channel of the segment
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(RuntimeCamelException.class, () -> repo.contains("1"));
+        } finally {
+            Thread.interrupted();
+        }
+
+        // which is opened again for the other operations
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.add("2"));
+        assertTrue(repo.contains("2"));
+
+        repo.stop();
+        repo.start();
+        assertEquals(2, repo.getSize());
+        assertTrue(repo.contains("2"));
+    }
+
+    @Test
+    public void testRebuildIndexAfterCrash() throws Exception {
+        File dir = testDirectory("crash").toFile();
+        SegmentedFileIdempotentRepository crashed = new SegmentedFileIdempotentRepository(dir);
+        crashed.setMaxSegmentSize(1024);
+        crashed.start();
+        for (int i = 0; i < 500; i++) {
+            crashed.add("key-" + i);
+        }
+        crashed.remove("key-7");
+        // not stopped so the index is not marked clean
+
+        // simulate a partially written record at the end of the log
+        Path last;
+        try (Stream<Path> files = Files.list(dir.toPath())) {
+            last = files.filter(p -> p.toString().endsWith(".log")).sorted().reduce((a, b) -> b).get();
+        }
+        long size = Files.size(last);
+        try (FileOutputStream fos = new FileOutputStream(last.toFile(), true)) {
+            fos.write(new byte[] { 1, 0, 0, 0, 20, 'k', 'e' });
+        }
+
+        SegmentedFileIdempotentRepository recovered = new SegmentedFileIdempotentRepository(dir);
+        recovered.setMaxSegmentSize(1024);
+        recovered.start();
+        try {
+            assertEquals(size, Files.size(last));
+            assertEquals(499, recovered.getSize());
+            assertEquals(501, recovered.getRecords());
+            assertFalse(recovered.contains("key-7"));
+            assertTrue(recovered.contains("key-0"));
+            assertTrue(recovered.contains("key-499"));
+            // can continue appending after the truncated record
+            assertTrue(recovered.add("key-500"));
+            assertTrue(recovered.contains("key-500"));
+        } finally {
+            recovered.stop();
+        }
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        File dir = testDirectory("compaction").toFile();
+        SegmentedFileIdempotentRepository compacted = new SegmentedFileIdempotentRepository(dir);
+        compacted.setMaxSegmentSize(1024);
+        // small index to also resize the index
+        compacted.setIndexCapacity(16);
+        compacted.setCompactionThreshold(0);
+        compacted.start();
+        try {
+            for (int i = 0; i < 2000; i++) {
+                compacted.add("key-" + i);
+            }
+            for (int i = 0; i < 2000; i += 2) {
+                compacted.remove("key-" + i);
+            }
+            int segments = compacted.getSegments();
+            assertEquals(3000, compacted.getRecords());
+
+            compacted.compact();
+
+            assertEquals(1, compacted.getCompactionCounter());
+            assertTrue(compacted.getSegments() < segments);
+            assertEquals(1000, compacted.getSize());
+            assertTrue(compacted.getRecords() < 3000);
+            for (int i = 0; i < 2000; i++) {
+                assertEquals(i % 2 == 1, compacted.contains("key-" + i), "key-" + i);
+            }
+
+            // the compacted segments must rebuild to the same keys
+            compacted.stop();
+            Files.delete(dir.toPath().resolve("index.idx"));
+            compacted.start();
+            assertEquals(1000, compacted.getSize());
+            for (int i = 0; i < 2000; i++) {
+                assertEquals(i % 2 == 1, compacted.contains("key-" + i), "key-" + i);
+            }
+        } finally {
+            compacted.stop();
+        }
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        repo.add("foo");
+        repo.add("bar");
+        assertTrue(repo.contains("foo"));
+
+        repo.clear();
+
+        assertFalse(repo.contains("foo"));
+        assertFalse(repo.contains("bar"));
+        assertEquals(0, repo.getSize());
+        assertTrue(repo.add("foo"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        repo = new SegmentedFileIdempotentRepository(testDirectory("store").toFile());
+
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelWindowTest extends ContextTestSupport {
+
+    private static final int WINDOW = 5;
+    private static final int SIZE = 200;
+
+    private final AtomicInteger pulled = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxAhead = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    public void testParallelWindow() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                expected.append(",");
+            }
+            expected.append(i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:start", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxAhead.get() <= WINDOW, "Should not split ahead of the window, was: " + maxAhead.get());
+        assertTrue(maxInFlight.get() <= WINDOW, "Should not process more than the window, was: " + maxInFlight.get());
+        assertTrue(maxInFlight.get() > 1, "Should process in parallel");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body(), new OrderedStrategy()).streaming().parallelProcessing().parallelWindowSize(WINDOW)
+                            .process(e -> {
+                                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                                inFlight.decrementAndGet();
+                            })
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private final class CountingIterator implements Iterator<Integer> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < SIZE;
+        }
+
+        @Override
+        public Integer next() {
+            maxAhead.accumulateAndGet(pulled.incrementAndGet() - aggregated.get(), Math::max);
+            return index++;
+        }
+    }
+
+    private final class OrderedStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String body = oldExchange.getIn().getBody(String.class);
+            oldExchange.getIn().setBody(body + "," + newExchange.getIn().getBody(String.class));
+            return oldExchange;
+        }
+    }
+}
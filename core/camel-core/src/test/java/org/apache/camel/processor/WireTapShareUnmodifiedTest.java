@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+public class WireTapShareUnmodifiedTest extends ContextTestSupport {
+
+    @Test
+    public void testShareUnmodified() throws Exception {
+        getMockEndpoint("mock:tap").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:tap").expectedPropertyReceived("beer", "Heineken");
+        getMockEndpoint("mock:tap").expectedPropertyReceived("wine", "Barolo");
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:result").expectedPropertyReceived("beer", "Tuborg");
+        getMockEndpoint("mock:result").expectedPropertyReceived("wine", "Barolo");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .setProperty("beer", constant("Carlsberg"))
+                        .setProperty("wine", constant("Barolo"))
+                        .wireTap("direct:tap").shareUnmodified()
+                        .setProperty("beer", constant("Tuborg"))
+                        .to("mock:result");
+
+                from("direct:tap").setProperty("beer", constant("Heineken")).to("mock:tap");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test to verify that aggregate by timeout works with the timing wheel.
+ */
+public class AggregateTimeoutTimingWheelTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateTimeoutTimingWheel() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceivedInAnyOrder("Message 7", "Message 8", "Message 9");
+        result.setResultMinimumWaitTime(400);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("direct:start", "Message " + i, "id", i % 3);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        AggregateProcessor ap = context.getProcessor("aggregate", AggregateProcessor.class);
+        assertTrue(ap.isCompletionTimeoutTimingWheel());
+        assertEquals(3, ap.getStatistics().getCompletedByTimeout());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new UseLatestAggregationStrategy()).id("aggregate")
+                        .completionTimeout(500).completionTimeoutCheckerInterval(50).completionTimeoutTimingWheel()
+                        .to("mock:result");
+            }
+        };
+    }
+}
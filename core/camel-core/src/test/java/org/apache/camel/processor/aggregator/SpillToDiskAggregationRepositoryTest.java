@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.SpillToDiskAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpillToDiskAggregationRepositoryTest extends ContextTestSupport {
+
+    @TempDir
+    Path spillDir;
+
+    private SpillToDiskAggregationRepository repo;
+
+    @Test
+    public void testSpillAndLoad() throws Exception {
+        SpillToDiskAggregationRepository repo = createRepository(10);
+        try {
+            Exchange a = createExchange("Hello");
+            a.getIn().setHeader("foo", 123);
+            repo.add(context, "a", a);
+            assertEquals(0, repo.getSpilledCount());
+
+            Exchange b = createExchange("World");
+            repo.add(context, "b", b);
+            // the least recently used exchange is spilled
+            assertEquals(1, repo.getSpilledCount());
+            assertEquals(1, repo.getTotalSpilled());
+            assertEquals(5, repo.getMemorySize());
+            assertEquals(2, repo.getKeys().size());
+
+            Exchange loaded = repo.get(context, "a");
+            assertNotNull(loaded);
+            assertEquals("Hello", loaded.getIn().getBody());
+            assertEquals(123, loaded.getIn().getHeader("foo"));
+            assertEquals(a.getExchangeId(), loaded.getExchangeId());
+            assertEquals(1, repo.getTotalLoaded());
+            // and the other exchange is spilled instead
+            assertEquals(1, repo.getSpilledCount());
+            assertSame(loaded, repo.get(context, "a"));
+
+            repo.remove(context, "a", loaded);
+            repo.remove(context, "b", repo.get(context, "b"));
+            assertEquals(0, repo.getKeys().size());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testRecover() throws Exception {
+        SpillToDiskAggregationRepository repo = createRepository(10);
+        try {
+            Exchange a = createExchange("Hello");
+            repo.add(context, "a", a);
+            repo.remove(context, "a", a);
+            // make the completed exchange spill to disk
+            repo.add(context, "b", createExchange("Big World"));
+            assertEquals(1, repo.getSpilledCount());
+
+            assertEquals(1, repo.scan(context).size());
+            assertTrue(repo.scan(context).contains(a.getExchangeId()));
+
+            Exchange recovered = repo.recover(context, a.getExchangeId());
+            assertNotNull(recovered);
+            assertEquals("Hello", recovered.getIn().getBody());
+            assertEquals(a.getExchangeId(), recovered.getExchangeId());
+
+            repo.confirm(context, a.getExchangeId());
+            assertEquals(0, repo.scan(context).size());
+            assertNull(repo.recover(context, a.getExchangeId()));
+            assertEquals(0, repo.getSpilledCount());
+            assertEquals(0, repo.getSpillFileSize());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testNotSerializableKeptInMemory() throws Exception {
+        SpillToDiskAggregationRepository repo = createRepository(10);
+        try {
+            Object body = new Object();
+            repo.add(context, "a", createExchange(body));
+            // the string buffer would be converted to a string
+            Exchange b = createExchange("World");
+            b.setProperty("buffer", new StringBuffer("Hello"));
+            repo.add(context, "b", b);
+            repo.add(context, "c", createExchange("Camel"));
+            assertEquals(0, repo.getSpilledCount());
+            assertSame(body, repo.get(context, "a").getIn().getBody());
+            assertSame(b, repo.get(context, "b"));
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSpilled() throws Exception {
+        SpillToDiskAggregationRepository repo = createRepository(15);
+        try {
+            Exchange x = createExchange("Hi");
+            x.setProperty("buffer", new StringBuffer("Hello"));
+            repo.add(context, "x", x);
+            repo.add(context, "a", createExchange("Hello"));
+            repo.add(context, "b", createExchange("World"));
+            repo.get(context, "a");
+            repo.add(context, "c", createExchange("Camel"));
+            // the exchange which cannot be spilled is skipped, and the most recently used is kept in memory
+            assertEquals(1, repo.getSpilledCount());
+            assertNotNull(repo.get(context, "a"));
+            assertEquals(0, repo.getTotalLoaded());
+            assertNotNull(repo.get(context, "b"));
+            assertEquals(1, repo.getTotalLoaded());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceivedInAnyOrder("A1+A2+A3", "B1+B2+B3", "C1+C2+C3", "D1+D2+D3");
+
+        for (int i = 1; i <= 3; i++) {
+            for (String id : new String[] { "A", "B", "C", "D" }) {
+                template.sendBodyAndHeader("direct:start", id + i, "id", id);
+            }
+        }
+
+        assertMockEndpointsSatisfied();
+
+        AggregateProcessor processor = context.getProcessor("aggregate", AggregateProcessor.class);
+        assertTrue(processor.getStatistics().getRepositoryTotalSpilled() > 0);
+        assertTrue(processor.getStatistics().getRepositoryTotalLoaded() > 0);
+        assertEquals(0, repo.getKeys().size());
+
+        // the completed exchanges are confirmed
+        await().atMost(1, TimeUnit.SECONDS).until(() -> repo.scan(context).isEmpty());
+        assertEquals(0, processor.getStatistics().getRepositorySpilledCount());
+        assertEquals(0, processor.getStatistics().getRepositoryMemorySize());
+    }
+
+    private SpillToDiskAggregationRepository createRepository(long maxMemorySize) {
+        SpillToDiskAggregationRepository answer = new SpillToDiskAggregationRepository(maxMemorySize);
+        answer.setCamelContext(context);
+        answer.setSpillDirectory(spillDir.toString());
+        answer.start();
+        return answer;
+    }
+
+    private Exchange createExchange(Object body) {
+        Exchange answer = new DefaultExchange(context);
+        answer.getIn().setBody(body);
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        repo = new SpillToDiskAggregationRepository(10);
+        repo.setSpillDirectory(spillDir.toString());
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(repo)
+                        .completionSize(3).id("aggregate")
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.AdaptiveThrottler;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveThrottlerTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testRejectAboveLimit() throws Exception {
+        AdaptiveThrottler throttler = context.getProcessor("reject", AdaptiveThrottler.class);
+        assertEquals(2, throttler.getCurrentLimit());
+
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        Future<Object> f1 = template.asyncRequestBody("direct:reject", "A");
+        Future<Object> f2 = template.asyncRequestBody("direct:reject", "B");
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(2, throttler.getInflight()));
+
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:reject", "C"));
+        assertInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+        assertEquals(1, throttler.getRejectedCount());
+
+        latch.countDown();
+        f1.get(5, TimeUnit.SECONDS);
+        f2.get(5, TimeUnit.SECONDS);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, throttler.getInflight());
+    }
+
+    @Test
+    public void testQueueAboveLimit() throws Exception {
+        AdaptiveThrottler throttler = context.getProcessor("queue", AdaptiveThrottler.class);
+
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        Future<Object> f1 = template.asyncRequestBody("direct:queue", "A");
+        Future<Object> f2 = template.asyncRequestBody("direct:queue", "B");
+        Future<Object> f3 = template.asyncRequestBody("direct:queue", "C");
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1, throttler.getQueueSize()));
+        assertEquals(2, throttler.getInflight());
+
+        latch.countDown();
+        f1.get(5, TimeUnit.SECONDS);
+        f2.get(5, TimeUnit.SECONDS);
+        f3.get(5, TimeUnit.SECONDS);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, throttler.getQueueSize());
+        assertEquals(0, throttler.getRejectedCount());
+    }
+
+    @Test
+    public void testBackoffOnFailure() {
+        AdaptiveThrottler throttler = context.getProcessor("failure", AdaptiveThrottler.class);
+        assertEquals(50, throttler.getCurrentLimit());
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:failure", "Kaboom"));
+        }
+
+        // 50 * 0.5^10 is below the min limit
+        assertEquals(5, throttler.getCurrentLimit());
+    }
+
+    @Test
+    public void testIncreaseLimit() {
+        AdaptiveThrottler throttler = context.getProcessor("vegas", AdaptiveThrottler.class);
+        assertEquals(1, throttler.getCurrentLimit());
+
+        // the round-trip time is stable so the limit is increased
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:vegas", "Hello");
+        }
+
+        assertTrue(throttler.getCurrentLimit() > 1, "Limit should be increased: " + throttler.getCurrentLimit());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:reject")
+                        .adaptiveThrottle().initialLimit(2).maxLimit(2).id("reject")
+                        .process(e -> latch.await(10, TimeUnit.SECONDS))
+                        .to("mock:result");
+
+                from("direct:queue")
+                        .adaptiveThrottle().initialLimit(2).maxLimit(2).maxQueueSize(5).id("queue")
+                        .process(e -> latch.await(10, TimeUnit.SECONDS))
+                        .to("mock:result");
+
+                from("direct:failure")
+                        .adaptiveThrottle().initialLimit(50).minLimit(5).backoffRatio(0.5).id("failure")
+                        .throwException(new IllegalArgumentException("Forced"));
+
+                from("direct:vegas")
+                        .adaptiveThrottle().algorithm("vegas").initialLimit(1).id("vegas")
+                        .delay(5)
+                        .to("mock:vegas");
+            }
+        };
+    }
+}
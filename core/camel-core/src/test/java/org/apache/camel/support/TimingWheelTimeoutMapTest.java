@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.TimeoutMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TimingWheelTimeoutMapTest {
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final List<String> evicted = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private TimingWheelTimeoutMap<String, Integer> createMap(long tickDuration) {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, tickDuration) {
+            @Override
+            protected long currentTime() {
+                return clock.get();
+            }
+        };
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.add(key);
+            }
+        });
+        return map;
+    }
+
+    private void advance(TimingWheelTimeoutMap<String, Integer> map, long millis) {
+        clock.addAndGet(millis);
+        map.purge();
+    }
+
+    @Test
+    public void testPurge() {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 50);
+        map.start();
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testGetRemove() {
+        TimingWheelTimeoutMap<String, Integer> map = createMap(100);
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+        assertEquals(123, map.get("A"));
+
+        assertEquals(123, map.remove("A"));
+        assertNull(map.get("A"));
+        assertEquals(0, map.size());
+
+        advance(map, 1000);
+        assertEquals(0, evicted.size());
+    }
+
+    @Test
+    public void testExpiredInCorrectOrder() {
+        TimingWheelTimeoutMap<String, Integer> map = createMap(100);
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 30);
+        map.put("C", 3, 40);
+        map.put("D", 4, 20);
+        map.put("E", 5, 45);
+        // is not expired
+        map.put("F", 6, 800);
+
+        advance(map, 99);
+        assertEquals(0, evicted.size());
+
+        advance(map, 1);
+        assertEquals(List.of("D", "B", "C", "E", "A"), evicted);
+        assertEquals(1, map.size());
+
+        advance(map, 600);
+        assertEquals(1, map.size());
+        advance(map, 100);
+        assertEquals(0, map.size());
+        assertEquals("F", evicted.get(5));
+    }
+
+    @Test
+    public void testNotEvictedBeforeTimeout() {
+        TimingWheelTimeoutMap<String, Integer> map = createMap(10);
+
+        // timeouts on the different levels of the wheel, and beyond the range of the wheel
+        long[] timeouts = { 5, 640, 650, 41_000, 2_700_000, 170_000_000, 200_000_000 };
+        for (int i = 0; i < timeouts.length; i++) {
+            map.put("K" + i, i, timeouts[i]);
+        }
+
+        long elapsed = 0;
+        for (int i = 0; i < timeouts.length; i++) {
+            // just before the timeout
+            long delta = timeouts[i] - 1 - elapsed;
+            advance(map, delta);
+            elapsed += delta;
+            assertEquals(i, evicted.size(), "Entry K" + i + " evicted too early");
+            // and then on the tick after the timeout
+            delta = (timeouts[i] + 9) / 10 * 10 - elapsed;
+            advance(map, delta);
+            elapsed += delta;
+            assertEquals(i + 1, evicted.size(), "Entry K" + i + " not evicted");
+            assertEquals("K" + i, evicted.get(i));
+        }
+    }
+
+    @Test
+    public void testGetRefreshesTimeout() {
+        TimingWheelTimeoutMap<String, Integer> map = createMap(100);
+
+        map.put("A", 1, 500);
+        advance(map, 400);
+        assertEquals(1, map.get("A"));
+        advance(map, 400);
+        assertEquals(0, evicted.size());
+        advance(map, 200);
+        assertEquals(List.of("A"), evicted);
+    }
+
+    @Test
+    public void testPutReplacesTimeout() {
+        TimingWheelTimeoutMap<String, Integer> map = createMap(100);
+
+        map.put("A", 1, 200);
+        assertEquals(1, map.put("A", 2, 1000));
+        assertEquals(2, map.putIfAbsent("A", 3, 100));
+        assertEquals(1, map.size());
+
+        advance(map, 500);
+        assertEquals(0, evicted.size());
+        advance(map, 500);
+        assertEquals(List.of("A"), evicted);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testStop() {
+        TimingWheelTimeoutMap<String, Integer> map = createMap(100);
+        map.start();
+        map.put("A", 1, 500);
+        assertEquals(1, map.size());
+
+        map.stop();
+        assertEquals(0, map.size());
+
+        advance(map, 1000);
+        assertEquals(0, evicted.size());
+    }
+
+}
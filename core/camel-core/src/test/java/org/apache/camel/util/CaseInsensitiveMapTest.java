@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -690,6 +691,102 @@ public class CaseInsensitiveMapTest {
         }
     }
 
+    @Test
+    public void testKnownKeyLookup() {
+        CaseInsensitiveMap.registerKnownKeys(List.of("CamelCharsetName", "CamelExchangeId", "breadcrumbId"));
+
+        Map<String, Object> map = new CaseInsensitiveMap();
+        map.put("CamelCharsetName", "UTF-8");
+        map.put(new String("breadcrumbid"), "123");
+
+        // lookup using the well-known constant, and using other string instances and cases
+        assertEquals("UTF-8", map.get("CamelCharsetName"));
+        assertEquals("UTF-8", map.get(new String("CamelCharsetName")));
+        assertEquals("UTF-8", map.get("camelcharsetname"));
+        assertEquals("123", map.get("breadcrumbId"));
+        assertEquals("123", map.get("BREADCRUMBID"));
+        assertNull(map.get("CamelExchangeId"));
+
+        assertEquals("UTF-8", map.remove("CamelCharsetName"));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("camelCharsetName"));
+    }
+
+    @Test
+    public void testCopyConstructorFromCaseInsensitiveMap() {
+        CaseInsensitiveMap map = new CaseInsensitiveMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("Key" + i, i);
+        }
+
+        CaseInsensitiveMap copy = new CaseInsensitiveMap(map);
+        assertEquals(20, copy.size());
+        assertEquals(map, copy);
+        assertEquals(5, copy.get("KEY5"));
+
+        // the copy must be independent of the original
+        copy.put("key5", "changed");
+        copy.put("Extra", "extra");
+        copy.remove("Key6");
+        assertEquals(5, map.get("Key5"));
+        assertEquals(6, map.get("Key6"));
+        assertFalse(map.containsKey("Extra"));
+        assertEquals("changed", copy.get("Key5"));
+        assertEquals(20, copy.size());
+
+        // copy a map which has removed entries
+        map.remove("Key0");
+        map.remove("Key10");
+        CaseInsensitiveMap compacted = new CaseInsensitiveMap(map);
+        assertEquals(18, compacted.size());
+        assertEquals(map, compacted);
+        assertNull(compacted.get("key0"));
+        assertEquals(19, compacted.get("key19"));
+        Iterator<String> it = compacted.keySet().iterator();
+        assertEquals("Key1", it.next());
+
+        compacted.put("Key0", 0);
+        assertEquals(19, compacted.size());
+        assertEquals(0, compacted.get("KEY0"));
+    }
+
+    @Test
+    public void testPutAllFromCaseInsensitiveMap() {
+        CaseInsensitiveMap map = new CaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", "cake");
+        map.put("Baz", "beer");
+        map.remove("Bar");
+
+        CaseInsensitiveMap target = new CaseInsensitiveMap();
+        target.put("FOO", "wine");
+        target.put("Other", "cola");
+        target.putAll(map);
+
+        assertEquals(3, target.size());
+        assertEquals("cheese", target.get("foo"));
+        assertEquals("beer", target.get("BAZ"));
+        assertEquals("cola", target.get("other"));
+        assertNull(target.get("bar"));
+        // the existing key case is kept
+        assertTrue(target.keySet().contains("FOO"));
+    }
+
+    @Test
+    public void testForEach() {
+        Map<String, Object> map = new CaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", "cake");
+        map.put("Baz", "beer");
+        map.remove("bar");
+
+        Map<String, Object> visited = new LinkedHashMap<>();
+        map.forEach(visited::put);
+        assertEquals(2, visited.size());
+        assertEquals(List.of("Foo", "Baz"), new ArrayList<>(visited.keySet()));
+        assertEquals("beer", visited.get("Baz"));
+    }
+
     @Disabled("Manual test")
     @Test
     public void testCopyMapWithCamelHeadersTest() throws Exception {
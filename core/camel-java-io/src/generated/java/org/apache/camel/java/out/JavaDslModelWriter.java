@@ -48,6 +48,13 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteA2ASubTaskDefinition(sb, def);
         return sb.toString();
     }
+    public String writeAdaptiveThrottleDefinition(AdaptiveThrottleDefinition def) {
+        resetState();
+        StringBuilder sb = new StringBuilder();
+        beginStep(sb, "adaptiveThrottle", def);
+        doWriteAdaptiveThrottleDefinition(sb, def);
+        return sb.toString();
+    }
     public String writeAggregateDefinition(AggregateDefinition def) {
         resetState();
         StringBuilder sb = new StringBuilder();
@@ -1729,6 +1736,16 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "failIfNoTaskContext", def.getFailIfNoTaskContext(), "false");
         doWriteOutputs(sb, def.getOutputs(), this::doWriteProcessorDefinitionRef);
     }
+    protected void doWriteAdaptiveThrottleDefinition(StringBuilder sb, AdaptiveThrottleDefinition def) {
+        doWriteProcessorDefinitionAttributes(sb, def);
+        doWriteAttribute(sb, "algorithm", def.getAlgorithm(), "gradient");
+        doWriteAttribute(sb, "initialLimit", def.getInitialLimit(), "20");
+        doWriteAttribute(sb, "minLimit", def.getMinLimit(), "1");
+        doWriteAttribute(sb, "maxLimit", def.getMaxLimit(), "1000");
+        doWriteAttribute(sb, "maxQueueSize", def.getMaxQueueSize(), "0");
+        doWriteAttribute(sb, "queueTimeout", def.getQueueTimeout(), "10000");
+        doWriteAttribute(sb, "backoffRatio", def.getBackoffRatio(), "0.9");
+    }
     protected void doWriteAggregateDefinition(StringBuilder sb, AggregateDefinition def) {
         doWriteProcessorDefinitionAttributes(sb, def);
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
@@ -1745,6 +1762,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "completionInterval", def.getCompletionInterval(), null);
         doWriteAttribute(sb, "completionTimeout", def.getCompletionTimeout(), null);
         doWriteAttribute(sb, "completionTimeoutCheckerInterval", def.getCompletionTimeoutCheckerInterval(), "1000");
+        doWriteAttribute(sb, "completionTimeoutTimingWheel", def.getCompletionTimeoutTimingWheel(), null);
         doWriteAttribute(sb, "completionFromBatchConsumer", def.getCompletionFromBatchConsumer(), null);
         doWriteAttribute(sb, "completionOnNewCorrelationGroup", def.getCompletionOnNewCorrelationGroup(), null);
         doWriteAttribute(sb, "eagerCheckCompletion", def.getEagerCheckCompletion(), null);
@@ -2106,6 +2124,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(sb, "shareUnmodified", def.getShareUnmodified(), null);
         doWriteOutputs(sb, def.getOutputs(), this::doWriteProcessorDefinitionRef);
     }
     protected void doWriteOnCompletionDefinition(StringBuilder sb, OnCompletionDefinition def) {
@@ -2256,6 +2275,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "cacheSize", def.getCacheSize(), null);
         doWriteAttribute(sb, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(sb, "shareUnmodified", def.getShareUnmodified(), null);
         doWriteAttribute(sb, "allowedSchemes", def.getAllowedSchemes(), null);
         doWriteExpressionNodeElements(sb, def);
     }
@@ -2526,6 +2546,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(sb, "synchronous", def.getSynchronous(), null);
         doWriteAttribute(sb, "streaming", def.getStreaming(), null);
+        doWriteAttribute(sb, "parallelWindowSize", def.getParallelWindowSize(), null);
         doWriteAttribute(sb, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(sb, "timeout", def.getTimeout(), "0");
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
@@ -2731,6 +2752,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
     protected void doWriteWireTapDefinition(StringBuilder sb, WireTapDefinition<?> def) {
         doWriteToDynamicDefinitionAttributes(sb, def);
         doWriteAttribute(sb, "copy", def.getCopy(), "true");
+        doWriteAttribute(sb, "shareUnmodified", def.getShareUnmodified(), null);
         doWriteAttribute(sb, "dynamicUri", def.getDynamicUri(), "true");
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
@@ -4036,6 +4058,11 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
                     doWriteA2ASubTaskDefinition(sb, (A2ASubTaskDefinition) v);
                     endStep(sb, "a2aSubTask", v);
                 }
+                case "AdaptiveThrottleDefinition" -> {
+                    beginStep(sb, "adaptiveThrottle", v);
+                    doWriteAdaptiveThrottleDefinition(sb, (AdaptiveThrottleDefinition) v);
+                    endStep(sb, "adaptiveThrottle", v);
+                }
                 case "AggregateDefinition" -> {
                     AggregateDefinition _d = (AggregateDefinition) v;
                     handledAttributes.clear();
@@ -5167,6 +5194,11 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
                     doWriteA2ASubTaskDefinition(sb, (A2ASubTaskDefinition) v);
                     endStep(sb, "a2aSubTask", v);
                 }
+                case "AdaptiveThrottleDefinition" -> {
+                    beginStep(sb, "adaptiveThrottle", v);
+                    doWriteAdaptiveThrottleDefinition(sb, (AdaptiveThrottleDefinition) v);
+                    endStep(sb, "adaptiveThrottle", v);
+                }
                 case "AggregateDefinition" -> {
                     AggregateDefinition _d = (AggregateDefinition) v;
                     handledAttributes.clear();
@@ -80,6 +80,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("JmxManagementRegisterRoutesCreateByTemplate", boolean.class);
         map.put("JmxManagementStatisticsLevel", org.apache.camel.ManagementStatisticsLevel.class);
         map.put("JmxUpdateRouteEnabled", boolean.class);
+        map.put("LazyRoutes", String.class);
+        map.put("LazyRoutesWarmUp", String.class);
         map.put("LoadHealthChecks", boolean.class);
         map.put("LoadStatisticsEnabled", boolean.class);
         map.put("LoadTypeConverters", boolean.class);
@@ -95,12 +97,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("MessageSizeEnabled", boolean.class);
         map.put("Modeline", boolean.class);
         map.put("Name", java.lang.String.class);
+        map.put("PipelineFusion", boolean.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorParallelism", int.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
         map.put("RoutesBuilders", java.util.List.class);
+        map.put("RoutesCacheDir", java.lang.String.class);
         map.put("RoutesCollectorEnabled", boolean.class);
         map.put("RoutesCollectorIgnoreLoadingError", boolean.class);
         map.put("RoutesExcludePattern", java.lang.String.class);
@@ -111,6 +117,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("RoutesReloadPattern", java.lang.String.class);
         map.put("RoutesReloadRemoveAllRoutes", boolean.class);
         map.put("RoutesReloadRestartDuration", boolean.class);
+        map.put("RouteStartupConcurrency", int.class);
         map.put("ShutdownLogInflightExchangesOnTimeout", boolean.class);
         map.put("ShutdownNowOnTimeout", boolean.class);
         map.put("ShutdownRoutesInReverseOrder", boolean.class);
@@ -130,6 +137,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingBufferSize", int.class);
         map.put("StreamCachingDenyClasses", java.lang.String.class);
         map.put("StreamCachingEnabled", boolean.class);
+        map.put("StreamCachingOffHeapArenaSize", long.class);
+        map.put("StreamCachingOffHeapSegmentSize", int.class);
         map.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
@@ -273,6 +282,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "jmxManagementStatisticsLevel": target.setJmxManagementStatisticsLevel(property(camelContext, org.apache.camel.ManagementStatisticsLevel.class, value)); return true;
         case "jmxupdaterouteenabled":
         case "jmxUpdateRouteEnabled": target.setJmxUpdateRouteEnabled(property(camelContext, boolean.class, value)); return true;
+        case "lazyroutes":
+        case "lazyRoutes": target.setLazyRoutes(property(camelContext, String.class, value)); return true;
+        case "lazyrouteswarmup":
+        case "lazyRoutesWarmUp": target.setLazyRoutesWarmUp(property(camelContext, String.class, value)); return true;
         case "loadhealthchecks":
         case "loadHealthChecks": target.setLoadHealthChecks(property(camelContext, boolean.class, value)); return true;
         case "loadstatisticsenabled":
@@ -301,9 +314,15 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageSizeEnabled": target.setMessageSizeEnabled(property(camelContext, boolean.class, value)); return true;
         case "modeline": target.setModeline(property(camelContext, boolean.class, value)); return true;
         case "name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipelinefusion":
+        case "pipelineFusion": target.setPipelineFusion(property(camelContext, boolean.class, value)); return true;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": target.setReactiveExecutorParallelism(property(camelContext, int.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -312,6 +331,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
         case "routesBuilders": target.setRoutesBuilders(property(camelContext, java.util.List.class, value)); return true;
+        case "routescachedir":
+        case "routesCacheDir": target.setRoutesCacheDir(property(camelContext, java.lang.String.class, value)); return true;
         case "routescollectorenabled":
         case "routesCollectorEnabled": target.setRoutesCollectorEnabled(property(camelContext, boolean.class, value)); return true;
         case "routescollectorignoreloadingerror":
@@ -332,6 +353,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": target.setRoutesReloadRemoveAllRoutes(property(camelContext, boolean.class, value)); return true;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": target.setRoutesReloadRestartDuration(property(camelContext, boolean.class, value)); return true;
+        case "routestartupconcurrency":
+        case "routeStartupConcurrency": target.setRouteStartupConcurrency(property(camelContext, int.class, value)); return true;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": target.setShutdownLogInflightExchangesOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdownnowontimeout":
@@ -370,6 +393,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": target.setStreamCachingDenyClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingenabled":
         case "streamCachingEnabled": target.setStreamCachingEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheaparenasize":
+        case "streamCachingOffHeapArenaSize": target.setStreamCachingOffHeapArenaSize(property(camelContext, long.class, value)); return true;
+        case "streamcachingoffheapsegmentsize":
+        case "streamCachingOffHeapSegmentSize": target.setStreamCachingOffHeapSegmentSize(property(camelContext, int.class, value)); return true;
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
@@ -539,6 +566,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "jmxManagementStatisticsLevel": return org.apache.camel.ManagementStatisticsLevel.class;
         case "jmxupdaterouteenabled":
         case "jmxUpdateRouteEnabled": return boolean.class;
+        case "lazyroutes":
+        case "lazyRoutes": return String.class;
+        case "lazyrouteswarmup":
+        case "lazyRoutesWarmUp": return String.class;
         case "loadhealthchecks":
         case "loadHealthChecks": return boolean.class;
         case "loadstatisticsenabled":
@@ -567,9 +598,15 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageSizeEnabled": return boolean.class;
         case "modeline": return boolean.class;
         case "name": return java.lang.String.class;
+        case "pipelinefusion":
+        case "pipelineFusion": return boolean.class;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return int.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -578,6 +615,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
         case "routesBuilders": return java.util.List.class;
+        case "routescachedir":
+        case "routesCacheDir": return java.lang.String.class;
         case "routescollectorenabled":
         case "routesCollectorEnabled": return boolean.class;
         case "routescollectorignoreloadingerror":
@@ -598,6 +637,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return boolean.class;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return boolean.class;
+        case "routestartupconcurrency":
+        case "routeStartupConcurrency": return int.class;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return boolean.class;
         case "shutdownnowontimeout":
@@ -636,6 +677,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": return java.lang.String.class;
         case "streamcachingenabled":
         case "streamCachingEnabled": return boolean.class;
+        case "streamcachingoffheaparenasize":
+        case "streamCachingOffHeapArenaSize": return long.class;
+        case "streamcachingoffheapsegmentsize":
+        case "streamCachingOffHeapSegmentSize": return int.class;
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
@@ -801,6 +846,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "jmxManagementStatisticsLevel": return target.getJmxManagementStatisticsLevel();
         case "jmxupdaterouteenabled":
         case "jmxUpdateRouteEnabled": return target.isJmxUpdateRouteEnabled();
+        case "lazyroutes":
+        case "lazyRoutes": return target.getLazyRoutes();
+        case "lazyrouteswarmup":
+        case "lazyRoutesWarmUp": return target.getLazyRoutesWarmUp();
         case "loadhealthchecks":
         case "loadHealthChecks": return target.isLoadHealthChecks();
         case "loadstatisticsenabled":
@@ -829,9 +878,15 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageSizeEnabled": return target.isMessageSizeEnabled();
         case "modeline": return target.isModeline();
         case "name": return target.getName();
+        case "pipelinefusion":
+        case "pipelineFusion": return target.isPipelineFusion();
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return target.getReactiveExecutorParallelism();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -840,6 +895,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
         case "routesBuilders": return target.getRoutesBuilders();
+        case "routescachedir":
+        case "routesCacheDir": return target.getRoutesCacheDir();
         case "routescollectorenabled":
         case "routesCollectorEnabled": return target.isRoutesCollectorEnabled();
         case "routescollectorignoreloadingerror":
@@ -860,6 +917,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return target.isRoutesReloadRemoveAllRoutes();
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return target.isRoutesReloadRestartDuration();
+        case "routestartupconcurrency":
+        case "routeStartupConcurrency": return target.getRouteStartupConcurrency();
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return target.isShutdownLogInflightExchangesOnTimeout();
         case "shutdownnowontimeout":
@@ -898,6 +957,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": return target.getStreamCachingDenyClasses();
         case "streamcachingenabled":
         case "streamCachingEnabled": return target.isStreamCachingEnabled();
+        case "streamcachingoffheaparenasize":
+        case "streamCachingOffHeapArenaSize": return target.getStreamCachingOffHeapArenaSize();
+        case "streamcachingoffheapsegmentsize":
+        case "streamCachingOffHeapSegmentSize": return target.getStreamCachingOffHeapSegmentSize();
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
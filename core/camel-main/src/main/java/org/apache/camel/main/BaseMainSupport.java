@@ -939,8 +939,9 @@ public abstract class BaseMainSupport extends BaseService {
             cs.setWorkDir(mainConfigurationProperties.getCompileWorkDir());
         }
 
-        RoutesLoader loader = new DefaultRoutesLoader();
+        DefaultRoutesLoader loader = new DefaultRoutesLoader();
         loader.setIgnoreLoadingError(mainConfigurationProperties.isRoutesCollectorIgnoreLoadingError());
+        loader.setRoutesCacheDir(mainConfigurationProperties.getRoutesCacheDir());
         ecc.addContextPlugin(RoutesLoader.class, loader);
     }
 
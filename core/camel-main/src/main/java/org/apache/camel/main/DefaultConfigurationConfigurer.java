@@ -42,6 +42,7 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -156,6 +157,15 @@ public final class DefaultConfigurationConfigurer {
         ecc.getStartupStepRecorder().setStartupRecorderDuration(config.getStartupRecorderDuration());
         ecc.getStartupStepRecorder().setRecordingDir(config.getStartupRecorderDir());
         ecc.getStartupStepRecorder().setRecordingProfile(config.getStartupRecorderProfile());
+        if (config.getRouteStartupConcurrency() > 0) {
+            camelContext.getRouteController().setStartupConcurrency(config.getRouteStartupConcurrency());
+        }
+        if (config.getLazyRoutes() != null) {
+            camelContext.getRouteController().setLazyRoutes(config.getLazyRoutes());
+        }
+        if (config.getLazyRoutesWarmUp() != null) {
+            camelContext.getRouteController().setLazyRoutesWarmUp(config.getLazyRoutesWarmUp());
+        }
 
         PluginHelper.getBeanPostProcessor(ecc).setEnabled(config.isBeanPostProcessorEnabled());
         final BeanIntrospection beanIntrospection = PluginHelper.getBeanIntrospection(ecc);
@@ -177,6 +187,12 @@ public final class DefaultConfigurationConfigurer {
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("workStealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor re = new WorkStealingReactiveExecutor();
+            re.setParallelism(config.getReactiveExecutorParallelism());
+            ecc.setReactiveExecutor(re);
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -219,6 +235,8 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setOffHeapArenaSize(config.getStreamCachingOffHeapArenaSize());
+        camelContext.getStreamCachingStrategy().setOffHeapSegmentSize(config.getStreamCachingOffHeapSegmentSize());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -354,6 +372,7 @@ public final class DefaultConfigurationConfigurer {
 
         camelContext.setMessageHistory(config.isMessageHistory());
         camelContext.setSourceLocationEnabled(config.isSourceLocationEnabled());
+        camelContext.setPipelineFusion(config.isPipelineFusion());
 
         camelContext.setTracing(config.isTracing());
         camelContext.setTracingStandby(config.isTracingStandby());
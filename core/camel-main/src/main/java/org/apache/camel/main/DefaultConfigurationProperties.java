@@ -78,6 +78,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolRules;
     private int streamCachingBufferSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
+    private long streamCachingOffHeapArenaSize;
+    @Metadata(defaultValue = "65536")
+    private int streamCachingOffHeapSegmentSize = 64 * 1024;
     private boolean streamCachingStatisticsEnabled;
     private boolean messageSizeEnabled;
     private boolean typeConverterStatisticsEnabled;
@@ -88,6 +91,7 @@ public abstract class DefaultConfigurationProperties<T> {
     @Metadata(defaultValue = "%-4.4s [%-12.12s] [%-33.33s]")
     private String tracingLoggingFormat;
     private boolean sourceLocationEnabled;
+    private boolean pipelineFusion;
     private boolean messageHistory;
     private boolean logMask;
     private boolean logExhaustedMessageBody;
@@ -129,6 +133,14 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean routesCollectorIgnoreLoadingError;
     @Metadata(label = "advanced")
     private String compileWorkDir;
+    @Metadata(label = "advanced")
+    private String routesCacheDir;
+    @Metadata(label = "advanced")
+    private int routeStartupConcurrency;
+    @Metadata(label = "advanced")
+    private String lazyRoutes;
+    @Metadata(label = "advanced")
+    private String lazyRoutesWarmUp;
     private String javaRoutesIncludePattern;
     private String javaRoutesExcludePattern;
     private String routesIncludePattern = "classpath:camel/*,classpath:camel-template/*,classpath:camel-rest/*";
@@ -148,6 +160,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,workStealing")
+    private String reactiveExecutor = "default";
+    @Metadata(label = "advanced")
+    private int reactiveExecutorParallelism;
     @Metadata(enums = "xml,yaml,json,png")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -662,6 +678,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingRemoveSpoolDirectoryWhenStopping = streamCachingRemoveSpoolDirectoryWhenStopping;
     }
 
+    public long getStreamCachingOffHeapArenaSize() {
+        return streamCachingOffHeapArenaSize;
+    }
+
+    /**
+     * Sets the size in bytes of the off-heap memory arena to use for stream caches that are over the spool threshold,
+     * before they are spooled to disk. The arena is allocated as direct memory, and streams are only spooled to disk when
+     * the arena has no free segments. This requires spooling to be enabled. The default size is 0 which means the
+     * off-heap arena is not in use.
+     */
+    public void setStreamCachingOffHeapArenaSize(long streamCachingOffHeapArenaSize) {
+        this.streamCachingOffHeapArenaSize = streamCachingOffHeapArenaSize;
+    }
+
+    public int getStreamCachingOffHeapSegmentSize() {
+        return streamCachingOffHeapSegmentSize;
+    }
+
+    /**
+     * Sets the size in bytes of each segment of the stream caching off-heap arena. The default size is 64kb.
+     */
+    public void setStreamCachingOffHeapSegmentSize(int streamCachingOffHeapSegmentSize) {
+        this.streamCachingOffHeapSegmentSize = streamCachingOffHeapSegmentSize;
+    }
+
     public boolean isStreamCachingStatisticsEnabled() {
         return streamCachingStatisticsEnabled;
     }
@@ -793,6 +834,23 @@ public abstract class DefaultConfigurationProperties<T> {
         this.sourceLocationEnabled = sourceLocationEnabled;
     }
 
+    public boolean isPipelineFusion() {
+        return pipelineFusion;
+    }
+
+    /**
+     * Whether to fuse the synchronous steps of the pipelines in the routes.
+     *
+     * When enabled, then a pipeline calls the steps that always complete synchronously (such as setHeader, setBody,
+     * transform, and custom processors) directly in the current thread, one after the other, instead of routing the
+     * exchange through the error handler and the reactive executor for every step. The message history, tracing and JMX
+     * statistics of the steps are kept. Steps that are intercepted, or use redelivery, transactions or debugging are not
+     * fused.
+     */
+    public void setPipelineFusion(boolean pipelineFusion) {
+        this.pipelineFusion = pipelineFusion;
+    }
+
     public boolean isLogMask() {
         return logMask;
     }
@@ -1313,6 +1371,61 @@ public abstract class DefaultConfigurationProperties<T> {
         this.compileWorkDir = compileWorkDir;
     }
 
+    public String getRoutesCacheDir() {
+        return routesCacheDir;
+    }
+
+    /**
+     * Directory to store a cache of the routes parsed from YAML files. On the next startup the routes are loaded from
+     * the cache for the YAML files which has not been changed, which is faster than parsing the YAML files. Only YAML
+     * files which only contain routes are cached, and this requires camel-xml-io-dsl on the classpath.
+     */
+    public void setRoutesCacheDir(String routesCacheDir) {
+        this.routesCacheDir = routesCacheDir;
+    }
+
+    public int getRouteStartupConcurrency() {
+        return routeStartupConcurrency;
+    }
+
+    /**
+     * Maximum number of routes to start concurrently, which can speed up startup when there are many routes with
+     * consumers that connect to remote systems. Routes that do not have an explicit startupOrder are warmed up and have
+     * their consumers started concurrently, while routes with an explicit startupOrder are still started one by one in
+     * their order. The default is 0 which means routes are started one by one.
+     */
+    public void setRouteStartupConcurrency(int routeStartupConcurrency) {
+        this.routeStartupConcurrency = routeStartupConcurrency;
+    }
+
+    public String getLazyRoutes() {
+        return lazyRoutes;
+    }
+
+    /**
+     * Pattern for filtering routes (by route id) which are lazy, where the processors of the route are created on the
+     * first message processed by the route, instead of when the route is created. This reduces startup time and memory
+     * usage when there are many routes which are rarely used, such as routes consuming from direct endpoints. Multiple
+     * patterns can be separated by comma, and * matches all routes. Routes with route scoped error handling
+     * (onException), onCompletion or interceptors are not lazy.
+     */
+    public void setLazyRoutes(String lazyRoutes) {
+        this.lazyRoutes = lazyRoutes;
+    }
+
+    public String getLazyRoutesWarmUp() {
+        return lazyRoutesWarmUp;
+    }
+
+    /**
+     * Pattern for filtering lazy routes (by route id) which are warmed up, where the processors of the route are created
+     * in the background after Camel has been started, so the first message processed by these routes is not delayed.
+     * Multiple patterns can be separated by comma, and * matches all lazy routes.
+     */
+    public void setLazyRoutesWarmUp(String lazyRoutesWarmUp) {
+        this.lazyRoutesWarmUp = lazyRoutesWarmUp;
+    }
+
     public String getJavaRoutesIncludePattern() {
         return javaRoutesIncludePattern;
     }
@@ -1554,6 +1667,33 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor to use for running the asynchronous routing engine. The default executor runs
+     * the reactive work on the thread that scheduled the work. The workStealing executor balances the reactive work
+     * across a pool of worker threads (one per CPU core by default), where idle workers steal pending work from busy
+     * workers. This can be used when a few threads (such as the I/O threads of asynchronous components) are doing all
+     * the routing work.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorParallelism() {
+        return reactiveExecutorParallelism;
+    }
+
+    /**
+     * Number of worker threads used by the workStealing reactive executor. The default is the number of available
+     * processors.
+     */
+    public void setReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -2147,6 +2287,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the size in bytes of the off-heap memory arena to use for stream caches that are over the spool threshold,
+     * before they are spooled to disk. The arena is allocated as direct memory, and streams are only spooled to disk when
+     * the arena has no free segments. This requires spooling to be enabled. The default size is 0 which means the
+     * off-heap arena is not in use.
+     */
+    public T withStreamCachingOffHeapArenaSize(long streamCachingOffHeapArenaSize) {
+        this.streamCachingOffHeapArenaSize = streamCachingOffHeapArenaSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets the size in bytes of each segment of the stream caching off-heap arena. The default size is 64kb.
+     */
+    public T withStreamCachingOffHeapSegmentSize(int streamCachingOffHeapSegmentSize) {
+        this.streamCachingOffHeapSegmentSize = streamCachingOffHeapSegmentSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether stream caching statistics is enabled.
      */
@@ -2231,6 +2390,20 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to fuse the synchronous steps of the pipelines in the routes.
+     *
+     * When enabled, then a pipeline calls the steps that always complete synchronously (such as setHeader, setBody,
+     * transform, and custom processors) directly in the current thread, one after the other, instead of routing the
+     * exchange through the error handler and the reactive executor for every step. The message history, tracing and JMX
+     * statistics of the steps are kept. Steps that are intercepted, or use redelivery, transactions or debugging are not
+     * fused.
+     */
+    public T withPipelineFusion(boolean pipelineFusion) {
+        this.pipelineFusion = pipelineFusion;
+        return (T) this;
+    }
+
     /**
      * Sets whether log mask is enabled or not.
      *
@@ -2653,6 +2826,49 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Directory to store a cache of the routes parsed from YAML files. On the next startup the routes are loaded from
+     * the cache for the YAML files which has not been changed, which is faster than parsing the YAML files. Only YAML
+     * files which only contain routes are cached, and this requires camel-xml-io-dsl on the classpath.
+     */
+    public T withRoutesCacheDir(String routesCacheDir) {
+        this.routesCacheDir = routesCacheDir;
+        return (T) this;
+    }
+
+    /**
+     * Maximum number of routes to start concurrently, which can speed up startup when there are many routes with
+     * consumers that connect to remote systems. Routes that do not have an explicit startupOrder are warmed up and have
+     * their consumers started concurrently, while routes with an explicit startupOrder are still started one by one in
+     * their order. The default is 0 which means routes are started one by one.
+     */
+    public T withRouteStartupConcurrency(int routeStartupConcurrency) {
+        this.routeStartupConcurrency = routeStartupConcurrency;
+        return (T) this;
+    }
+
+    /**
+     * Pattern for filtering routes (by route id) which are lazy, where the processors of the route are created on the
+     * first message processed by the route, instead of when the route is created. This reduces startup time and memory
+     * usage when there are many routes which are rarely used, such as routes consuming from direct endpoints. Multiple
+     * patterns can be separated by comma, and * matches all routes. Routes with route scoped error handling
+     * (onException), onCompletion or interceptors are not lazy.
+     */
+    public T withLazyRoutes(String lazyRoutes) {
+        this.lazyRoutes = lazyRoutes;
+        return (T) this;
+    }
+
+    /**
+     * Pattern for filtering lazy routes (by route id) which are warmed up, where the processors of the route are created
+     * in the background after Camel has been started, so the first message processed by these routes is not delayed.
+     * Multiple patterns can be separated by comma, and * matches all lazy routes.
+     */
+    public T withLazyRoutesWarmUp(String lazyRoutesWarmUp) {
+        this.lazyRoutesWarmUp = lazyRoutesWarmUp;
+        return (T) this;
+    }
+
     /**
      * Used for inclusive filtering component scanning of RouteBuilder classes with @Component annotation. The exclusive
      * filtering takes precedence over inclusive filtering. The pattern is using Ant-path style pattern.
@@ -2803,6 +3019,26 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which reactive executor to use for running the asynchronous routing engine. The default executor runs
+     * the reactive work on the thread that scheduled the work. The workStealing executor balances the reactive work
+     * across a pool of worker threads (one per CPU core by default), where idle workers steal pending work from busy
+     * workers.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Number of worker threads used by the workStealing reactive executor. The default is the number of available
+     * processors.
+     */
+    public T withReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML, YAML, or Java DSL into the log. This is intended for trouble shooting or to assist during
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+
+public interface ManagedAdaptiveThrottlerMBean extends ManagedProcessorMBean {
+
+    @ManagedAttribute(description = "The algorithm used for adjusting the concurrency limit")
+    String getAlgorithm();
+
+    @ManagedAttribute(description = "The current concurrency limit")
+    int getCurrentLimit();
+
+    @ManagedAttribute(description = "The initial concurrency limit")
+    int getInitialLimit();
+
+    @ManagedAttribute(description = "The lowest concurrency limit")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "The highest concurrency limit")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Number of messages currently being processed (holding a permit)")
+    int getInflight();
+
+    @ManagedAttribute(description = "Number of messages currently waiting in the queue for a permit")
+    int getQueueSize();
+
+    @ManagedAttribute(description = "The maximum number of messages that can wait in the queue for a permit")
+    int getMaxQueueSize();
+
+    @ManagedAttribute(description = "The maximum time in millis a message can wait in the queue for a permit")
+    long getQueueTimeout();
+
+    @ManagedAttribute(description = "The ratio the concurrency limit is multiplied with when a message failed")
+    double getBackoffRatio();
+
+    @ManagedAttribute(description = "Number of messages rejected because the concurrency limit was exceeded")
+    long getRejectedCount();
+
+}
@@ -141,6 +141,22 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Total number of exchanged discarded")
     long getDiscarded();
 
+    @ManagedAttribute(description = "Current size in bytes of the aggregated exchanges kept in memory"
+                                    + " by the aggregation repository (-1 if not supported)")
+    long getRepositoryMemorySize();
+
+    @ManagedAttribute(description = "Current number of aggregated exchanges spilled to disk"
+                                    + " by the aggregation repository (-1 if not supported)")
+    long getRepositorySpilledCount();
+
+    @ManagedAttribute(description = "Total number of aggregated exchanges spilled to disk"
+                                    + " by the aggregation repository (-1 if not supported)")
+    long getRepositoryTotalSpilled();
+
+    @ManagedAttribute(description = "Total number of aggregated exchanges loaded from disk"
+                                    + " by the aggregation repository (-1 if not supported)")
+    long getRepositoryTotalLoaded();
+
     @ManagedOperation(description = " Reset the statistics counters")
     void resetStatistics();
 
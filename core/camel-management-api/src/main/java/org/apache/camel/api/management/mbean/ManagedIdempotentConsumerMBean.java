@@ -42,6 +42,15 @@ public interface ManagedIdempotentConsumerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Current count of duplicate Messages")
     long getDuplicateMessageCount();
 
+    @ManagedAttribute(description = "Number of lookups in the idempotent repository avoided by a bloom filter (when using BloomFilterIdempotentRepository)")
+    long getFilteredLookupCount();
+
+    @ManagedAttribute(description = "Number of lookups in the idempotent repository for new keys the bloom filter reported as possibly added (when using BloomFilterIdempotentRepository)")
+    long getFalsePositiveCount();
+
+    @ManagedAttribute(description = "The observed ratio of new keys the bloom filter reported as possibly added (when using BloomFilterIdempotentRepository)")
+    double getFalsePositiveRate();
+
     @ManagedOperation(description = "Reset the current count of duplicate Messages")
     void resetDuplicateMessageCount();
 
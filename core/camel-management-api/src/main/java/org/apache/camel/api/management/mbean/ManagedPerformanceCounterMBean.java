@@ -96,21 +96,27 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     /**
      * @since 4.22
      */
-    @ManagedAttribute(description = "50th percentile (median) of recent processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    @ManagedAttribute(description = "50th percentile (median) of processing times since last reset [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
     long getProcessingTimeP50();
 
     /**
      * @since 4.22
      */
-    @ManagedAttribute(description = "95th percentile of recent processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    @ManagedAttribute(description = "95th percentile of processing times since last reset [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
     long getProcessingTimeP95();
 
     /**
      * @since 4.22
      */
-    @ManagedAttribute(description = "99th percentile of recent processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    @ManagedAttribute(description = "99th percentile of processing times since last reset [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
     long getProcessingTimeP99();
 
+    /**
+     * @since 4.22
+     */
+    @ManagedAttribute(description = "99.9th percentile of processing times since last reset [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    long getProcessingTimeP999();
+
     @ManagedAttribute(description = "Throughput (messages per second)")
     String getThroughput();
 
@@ -83,6 +83,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     boolean isAnySpoolRules();
 
+    @ManagedAttribute(description = "Size in bytes of the off-heap arena used before spooling to disk")
+    long getOffHeapArenaSize();
+
+    @ManagedAttribute(description = "Size in bytes of each segment of the off-heap arena")
+    int getOffHeapSegmentSize();
+
     @ManagedAttribute(description = "Number of in-memory StreamCache created")
     long getCacheMemoryCounter();
 
@@ -101,6 +107,21 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of off-heap StreamCache created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
+    @ManagedAttribute(description = "Number of bytes of the off-heap arena currently in use")
+    long getOffHeapArenaUsed();
+
+    @ManagedAttribute(description = "Number of times the off-heap arena was exhausted and spooled to disk instead")
+    long getOffHeapArenaExhaustedCounter();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
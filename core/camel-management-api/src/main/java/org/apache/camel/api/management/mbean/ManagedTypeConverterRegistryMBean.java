@@ -30,6 +30,9 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion hits (successful conversions)")
     long getHitCounter();
 
+    @ManagedAttribute(description = "Number of type conversion hits which used the fast path for common conversions between core types")
+    long getFastHitCounter();
+
     @ManagedAttribute(description = "Number of type conversion misses (no suitable type converter)")
     long getMissCounter();
 
@@ -33,6 +33,7 @@ import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.component.bean.BeanProcessor;
 import org.apache.camel.component.log.LogEndpoint;
 import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.management.mbean.ManagedAdaptiveThrottler;
 import org.apache.camel.management.mbean.ManagedAggregateProcessor;
 import org.apache.camel.management.mbean.ManagedBeanProcessor;
 import org.apache.camel.management.mbean.ManagedBrowsableEndpoint;
@@ -121,6 +122,7 @@ import org.apache.camel.model.ProcessDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.RecipientListDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
+import org.apache.camel.processor.AdaptiveThrottler;
 import org.apache.camel.processor.CatchProcessor;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.ClaimCheckProcessor;
@@ -382,6 +384,8 @@ public class DefaultManagementObjectStrategy implements ManagementObjectStrategy
                 answer = new ManagedDoFinally(context, fp, cast(definition));
             } else if (target instanceof Throttler t) {
                 answer = new ManagedThrottler(context, t, definition);
+            } else if (target instanceof AdaptiveThrottler at) {
+                answer = new ManagedAdaptiveThrottler(context, at, definition);
             } else if (target instanceof DynamicRouter dr) {
                 answer = new ManagedDynamicRouter(context, dr, cast(definition));
             } else if (target instanceof RoutingSlip rs) {
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedAdaptiveThrottlerMBean;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.AdaptiveThrottler;
+
+@ManagedResource(description = "Managed Adaptive Throttler")
+public class ManagedAdaptiveThrottler extends ManagedProcessor implements ManagedAdaptiveThrottlerMBean {
+
+    public ManagedAdaptiveThrottler(CamelContext context, AdaptiveThrottler throttler,
+                                    ProcessorDefinition<?> definition) {
+        super(context, throttler, definition);
+    }
+
+    @Override
+    public AdaptiveThrottler getProcessor() {
+        return (AdaptiveThrottler) super.getProcessor();
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return getProcessor().getAlgorithm();
+    }
+
+    @Override
+    public int getCurrentLimit() {
+        return getProcessor().getCurrentLimit();
+    }
+
+    @Override
+    public int getInitialLimit() {
+        return getProcessor().getInitialLimit();
+    }
+
+    @Override
+    public int getMinLimit() {
+        return getProcessor().getMinLimit();
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return getProcessor().getMaxLimit();
+    }
+
+    @Override
+    public int getInflight() {
+        return getProcessor().getInflight();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return getProcessor().getQueueSize();
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return getProcessor().getMaxQueueSize();
+    }
+
+    @Override
+    public long getQueueTimeout() {
+        return getProcessor().getQueueTimeout();
+    }
+
+    @Override
+    public double getBackoffRatio() {
+        return getProcessor().getBackoffRatio();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return getProcessor().getRejectedCount();
+    }
+}
@@ -294,6 +294,26 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return getProcessor().getStatistics().getDiscarded();
     }
 
+    @Override
+    public long getRepositoryMemorySize() {
+        return getProcessor().getStatistics().getRepositoryMemorySize();
+    }
+
+    @Override
+    public long getRepositorySpilledCount() {
+        return getProcessor().getStatistics().getRepositorySpilledCount();
+    }
+
+    @Override
+    public long getRepositoryTotalSpilled() {
+        return getProcessor().getStatistics().getRepositoryTotalSpilled();
+    }
+
+    @Override
+    public long getRepositoryTotalLoaded() {
+        return getProcessor().getStatistics().getRepositoryTotalLoaded();
+    }
+
     @Override
     public void resetStatistics() {
         getProcessor().getStatistics().reset();
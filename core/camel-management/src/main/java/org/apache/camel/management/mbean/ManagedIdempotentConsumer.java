@@ -21,6 +21,7 @@ import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedIdempotentConsumerMBean;
 import org.apache.camel.model.IdempotentConsumerDefinition;
 import org.apache.camel.processor.idempotent.IdempotentConsumer;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
 
 @ManagedResource(description = "Managed Idempotent Consumer")
 public class ManagedIdempotentConsumer extends ManagedProcessor implements ManagedIdempotentConsumerMBean {
@@ -75,9 +76,36 @@ public class ManagedIdempotentConsumer extends ManagedProcessor implements Manag
         return getProcessor().getDuplicateMessageCount();
     }
 
+    @Override
+    public long getFilteredLookupCount() {
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository repo) {
+            return repo.getFilteredCount();
+        }
+        return 0;
+    }
+
+    @Override
+    public long getFalsePositiveCount() {
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository repo) {
+            return repo.getFalsePositiveCount();
+        }
+        return 0;
+    }
+
+    @Override
+    public double getFalsePositiveRate() {
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository repo) {
+            return repo.getFalsePositiveRate();
+        }
+        return 0;
+    }
+
     @Override
     public void resetDuplicateMessageCount() {
         getProcessor().resetDuplicateMessageCount();
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository repo) {
+            repo.resetStatistics();
+        }
     }
 
     @Override
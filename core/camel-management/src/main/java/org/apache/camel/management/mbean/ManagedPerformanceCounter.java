@@ -17,7 +17,6 @@
 package org.apache.camel.management.mbean;
 
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 
@@ -36,8 +35,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
-    private static final int PERCENTILE_WINDOW_SIZE = 1024;
-
     private Statistic exchangesCompleted;
     private Statistic exchangesFailed;
     private Statistic exchangesInflight;
@@ -49,7 +46,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic totalProcessingTime;
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
-    private Statistic meanProcessingTime;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -63,10 +59,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private final LoadThroughput thp = new LoadThroughput();
     private volatile boolean statisticsEnabled = true;
 
-    // sliding window ring buffer for percentile computation (Extended statistics only)
-    private long[] percentileWindow;
-    private int percentileIndex;
-    private int percentileCount;
+    // histogram for percentile computation (Extended statistics only)
+    private StatisticHistogram processingTimes;
 
     @Override
     public void init(ManagementStrategy strategy) {
@@ -84,7 +78,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.totalProcessingTime = new StatisticCounter();
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
-        this.meanProcessingTime = new StatisticValue();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -95,9 +88,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     }
 
     public void initExtendedStatistics() {
-        percentileWindow = new long[PERCENTILE_WINDOW_SIZE];
-        percentileIndex = 0;
-        percentileCount = 0;
+        processingTimes = new StatisticHistogram();
     }
 
     @Override
@@ -114,7 +105,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.reset();
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
-        meanProcessingTime.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -126,9 +116,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastExchangeFailureTimestamp.reset();
         lastExchangeFailureExchangeId = null;
         thp.reset();
-        if (percentileWindow != null) {
-            percentileIndex = 0;
-            percentileCount = 0;
+        if (processingTimes != null) {
+            processingTimes.reset();
         }
     }
 
@@ -169,7 +158,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     @Override
     public long getMeanProcessingTime() {
-        return meanProcessingTime.getValue();
+        // computed when read, so the counters are not summed up for every exchange
+        long completed = exchangesCompleted.getValue();
+        return completed > 0 ? totalProcessingTime.getValue() / completed : 0;
     }
 
     @Override
@@ -207,6 +198,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return getPercentile(0.99);
     }
 
+    @Override
+    public long getProcessingTimeP999() {
+        return getPercentile(0.999);
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -333,12 +329,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
 
-        if (percentileWindow != null) {
-            percentileWindow[percentileIndex] = time;
-            percentileIndex = (percentileIndex + 1) % PERCENTILE_WINDOW_SIZE;
-            if (percentileCount < PERCENTILE_WINDOW_SIZE) {
-                percentileCount++;
-            }
+        if (processingTimes != null) {
+            processingTimes.recordValue(time);
         }
 
         long now = System.currentTimeMillis();
@@ -351,14 +343,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
             firstExchangeCompletedExchangeId = exchange.getExchangeId();
         }
         lastExchangeCompletedExchangeId = exchange.getExchangeId();
-
-        // update mean
-        long mean = 0;
-        long completed = exchangesCompleted.getValue();
-        if (completed > 0) {
-            mean = totalProcessingTime.getValue() / completed;
-        }
-        meanProcessingTime.updateValue(mean);
     }
 
     @Override
@@ -387,14 +371,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     }
 
     private long getPercentile(double percentile) {
-        if (percentileWindow == null || percentileCount == 0) {
+        if (processingTimes == null) {
             return -1;
         }
-        long[] snapshot = new long[percentileCount];
-        System.arraycopy(percentileWindow, 0, snapshot, 0, percentileCount);
-        Arrays.sort(snapshot);
-        int index = (int) Math.ceil(percentile * percentileCount) - 1;
-        return snapshot[Math.max(0, index)];
+        long answer = processingTimes.getValueAtPercentile(percentile);
+        // the histogram returns the highest value of the bucket, which should not be higher than the actual maximum
+        return answer > 0 ? Math.min(answer, maxProcessingTime.getValue()) : answer;
     }
 
     @Override
@@ -412,12 +394,13 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" totalProcessingTime=\"%s\"", totalProcessingTime.getValue()));
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
-        sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" meanProcessingTime=\"%s\"", getMeanProcessingTime()));
         sb.append(String.format(" exchangesThroughput=\"%s\"", getThroughput()));
-        if (percentileWindow != null) {
+        if (processingTimes != null) {
             sb.append(String.format(" p50ProcessingTime=\"%s\"", getProcessingTimeP50()));
             sb.append(String.format(" p95ProcessingTime=\"%s\"", getProcessingTimeP95()));
             sb.append(String.format(" p99ProcessingTime=\"%s\"", getProcessingTimeP99()));
+            sb.append(String.format(" p999ProcessingTime=\"%s\"", getProcessingTimeP999()));
         }
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
@@ -465,12 +448,13 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         jo.put("totalProcessingTime", totalProcessingTime.getValue());
         jo.put("lastProcessingTime", lastProcessingTime.getValue());
         jo.put("deltaProcessingTime", deltaProcessingTime.getValue());
-        jo.put("meanProcessingTime", meanProcessingTime.getValue());
+        jo.put("meanProcessingTime", getMeanProcessingTime());
         jo.put("exchangesThroughput", getThroughput());
-        if (percentileWindow != null) {
+        if (processingTimes != null) {
             jo.put("p50ProcessingTime", getProcessingTimeP50());
             jo.put("p95ProcessingTime", getProcessingTimeP95());
             jo.put("p99ProcessingTime", getProcessingTimeP99());
+            jo.put("p999ProcessingTime", getProcessingTimeP999());
         }
         jo.put("idleSince", getIdleSince());
         if (fullStats) {
@@ -168,6 +168,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isAnySpoolRules();
     }
 
+    @Override
+    public long getOffHeapArenaSize() {
+        return streamCachingStrategy.getOffHeapArenaSize();
+    }
+
+    @Override
+    public int getOffHeapSegmentSize() {
+        return streamCachingStrategy.getOffHeapSegmentSize();
+    }
+
     @Override
     public long getCacheMemoryCounter() {
         return streamCachingStrategy.getStatistics().getCacheMemoryCounter();
@@ -198,6 +208,31 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
+    @Override
+    public long getOffHeapArenaUsed() {
+        return streamCachingStrategy.getStatistics().getOffHeapArenaUsed();
+    }
+
+    @Override
+    public long getOffHeapArenaExhaustedCounter() {
+        return streamCachingStrategy.getStatistics().getOffHeapArenaExhaustedCounter();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
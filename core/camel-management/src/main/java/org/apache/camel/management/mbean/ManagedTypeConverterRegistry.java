@@ -54,6 +54,11 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getHitCounter();
     }
 
+    @Override
+    public long getFastHitCounter() {
+        return registry.getStatistics().getFastHitCounter();
+    }
+
     @Override
     public long getMissCounter() {
         return registry.getStatistics().getMissCounter();
@@ -16,30 +16,33 @@
  */
 package org.apache.camel.management.mbean;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * A counter which is cheap to update from many threads concurrently, as the value is only summed up when read.
+ */
 public class StatisticCounter extends Statistic {
 
-    private final AtomicLong value = new AtomicLong();
+    private final LongAdder value = new LongAdder();
 
     @Override
     public void updateValue(long newValue) {
-        value.getAndAdd(newValue);
+        value.add(newValue);
     }
 
     @Override
     public long getValue() {
-        return value.get();
+        return value.sum();
     }
 
     @Override
     public String toString() {
-        return Long.toString(value.get());
+        return Long.toString(value.sum());
     }
 
     @Override
     public void reset() {
-        value.set(0);
+        value.reset();
     }
 
     @Override
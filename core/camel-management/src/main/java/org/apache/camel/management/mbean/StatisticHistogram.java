@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of values (such as processing times) used for computing percentiles.
+ * <p/>
+ * The values are counted in buckets in the same way as a HDR histogram: values below 128 have their own bucket, and
+ * larger values share buckets with a relative error of less than 1/64 (1.6%). Each bucket is a {@link LongAdder} which
+ * is created when the first value is recorded in the bucket, so recording a value is cheap from many threads
+ * concurrently, and the percentiles are only computed when read.
+ */
+public class StatisticHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT << 1;
+    // values above 2^31 millis (about 24 days) are recorded as the highest value
+    private static final long HIGHEST_VALUE = (1L << 31) - 1;
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(bucketIndex(HIGHEST_VALUE) + 1);
+
+    /**
+     * Records the value
+     */
+    public void recordValue(long value) {
+        int index = bucketIndex(Math.min(Math.max(value, 0), HIGHEST_VALUE));
+        LongAdder bucket = buckets.get(index);
+        if (bucket == null) {
+            bucket = new LongAdder();
+            if (!buckets.compareAndSet(index, null, bucket)) {
+                bucket = buckets.get(index);
+            }
+        }
+        bucket.increment();
+    }
+
+    /**
+     * Number of recorded values
+     */
+    public long getCount() {
+        long answer = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                answer += bucket.sum();
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the value at the given percentile, such as 0.99 for the 99th percentile.
+     *
+     * @param  percentile the percentile (between 0 and 1)
+     * @return            the highest value in the same bucket as the value at the percentile, or <tt>-1</tt> if no
+     *                    values have been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        // take a snapshot of the counts so the percentile is computed from a consistent total
+        int length = buckets.length();
+        long[] counts = new long[length];
+        long total = 0;
+        for (int i = 0; i < length; i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                counts[i] = bucket.sum();
+                total += counts[i];
+            }
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += counts[i];
+            if (sum >= rank) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return highestEquivalentValue(length - 1);
+    }
+
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                bucket.reset();
+            }
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // each power of two above the sub buckets is divided into half the number of sub buckets
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) ((index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
@@ -24,7 +24,8 @@ public class StatisticValue extends Statistic {
 
     @Override
     public void updateValue(long newValue) {
-        value.set(newValue);
+        // lazy set as the value is only read by management tools
+        value.lazySet(newValue);
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedAdaptiveThrottlerTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageAdaptiveThrottler() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "mythrottler");
+
+        assertEquals("vegas", mbeanServer.getAttribute(on, "Algorithm"));
+        assertEquals(10, mbeanServer.getAttribute(on, "CurrentLimit"));
+        assertEquals(10, mbeanServer.getAttribute(on, "InitialLimit"));
+        assertEquals(100, mbeanServer.getAttribute(on, "MaxLimit"));
+        assertEquals(0, mbeanServer.getAttribute(on, "Inflight"));
+        assertEquals(0, mbeanServer.getAttribute(on, "QueueSize"));
+        assertEquals(5, mbeanServer.getAttribute(on, "MaxQueueSize"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "RejectedCount"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .adaptiveThrottle().algorithm("vegas").initialLimit(10).maxLimit(100).maxQueueSize(5)
+                        .id("mythrottler")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedBloomFilterIdempotentConsumerTest extends ManagementTestSupport {
+
+    @Test
+    public void testFilterStatistics() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> names = mbeanServer.queryNames(new ObjectName("org.apache.camel" + ":type=processors,*"), null);
+        ObjectName on = null;
+        for (ObjectName name : names) {
+            if (name.toString().contains("idempotentConsumer")) {
+                on = name;
+                break;
+            }
+        }
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "four", "messageId", "4");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        mock.assertIsSatisfied();
+
+        // the new keys 1, 2 and 3 are not looked up in the memory repository
+        assertEquals(3L, mbeanServer.getAttribute(on, "FilteredLookupCount"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "FalsePositiveCount"));
+        assertEquals(0d, mbeanServer.getAttribute(on, "FalsePositiveRate"));
+        assertEquals(2L, mbeanServer.getAttribute(on, "DuplicateMessageCount"));
+
+        mbeanServer.invoke(on, "resetDuplicateMessageCount", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "FilteredLookupCount"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                IdempotentRepository memory = MemoryIdempotentRepository.memoryIdempotentRepository();
+                // key 4 was added before so should be loaded into the filter
+                memory.add("4");
+
+                from("direct:start")
+                        .idempotentConsumer(header("messageId"),
+                                BloomFilterIdempotentRepository.bloomFilterIdempotentRepository(memory))
+                        .eager(false)
+                        .to("mock:result");
+            }
+        };
+    }
+}
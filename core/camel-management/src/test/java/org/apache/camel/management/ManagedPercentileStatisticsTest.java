@@ -59,12 +59,16 @@ public class ManagedPercentileStatisticsTest extends ManagementTestSupport {
         Long p50 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP50");
         Long p95 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP95");
         Long p99 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP99");
+        Long p999 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP999");
+        Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
 
         assertTrue(p50 >= 0, "p50 should be >= 0, was: " + p50);
         assertTrue(p95 >= 0, "p95 should be >= 0, was: " + p95);
         assertTrue(p99 >= 0, "p99 should be >= 0, was: " + p99);
         assertTrue(p50 <= p95, "p50 should be <= p95, was p50=" + p50 + " p95=" + p95);
         assertTrue(p95 <= p99, "p95 should be <= p99, was p95=" + p95 + " p99=" + p99);
+        assertTrue(p99 <= p999, "p99 should be <= p999, was p99=" + p99 + " p999=" + p999);
+        assertTrue(p999 <= max, "p999 should be <= max, was p999=" + p999 + " max=" + max);
     }
 
     @Test
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(-1, histogram.getValueAtPercentile(0.5));
+    }
+
+    @Test
+    public void testExactSmallValues() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordValue(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getValueAtPercentile(0.0));
+        assertEquals(50, histogram.getValueAtPercentile(0.5));
+        assertEquals(99, histogram.getValueAtPercentile(0.99));
+        assertEquals(100, histogram.getValueAtPercentile(0.999));
+        assertEquals(100, histogram.getValueAtPercentile(1.0));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(-1, histogram.getValueAtPercentile(0.5));
+    }
+
+    @Test
+    public void testRelativeError() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        for (long value = 1; value < 10_000_000; value = value * 3 + 1) {
+            histogram.reset();
+            histogram.recordValue(value);
+            long answer = histogram.getValueAtPercentile(0.5);
+            assertTrue(answer >= value, "value " + value + " was " + answer);
+            assertTrue(answer - value <= value / 64, "value " + value + " was " + answer);
+        }
+    }
+
+    @Test
+    public void testBucketIndex() {
+        long last = -1;
+        for (int index = 0; index < 2000; index++) {
+            long highest = StatisticHistogram.highestEquivalentValue(index);
+            // the buckets are contiguous
+            assertEquals(index, StatisticHistogram.bucketIndex(last + 1));
+            assertEquals(index, StatisticHistogram.bucketIndex(highest));
+            last = highest;
+        }
+    }
+
+    @Test
+    public void testHighAndNegativeValues() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        histogram.recordValue(-5);
+        histogram.recordValue(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(0.5));
+        assertTrue(histogram.getValueAtPercentile(1.0) >= Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        StatisticHistogram histogram = new StatisticHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.recordValue(i % 1000);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(400_000, histogram.getCount());
+        long p50 = histogram.getValueAtPercentile(0.5);
+        assertTrue(p50 >= 499 && p50 <= 507, "p50 was " + p50);
+        long p999 = histogram.getValueAtPercentile(0.999);
+        assertTrue(p999 >= 998 && p999 <= 1007, "p999 was " + p999);
+    }
+}
@@ -0,0 +1,66 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.support.processor.idempotent;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class BloomFilterIdempotentRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository target = (org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "expectedkeys":
+        case "expectedKeys": target.setExpectedKeys(property(camelContext, long.class, value)); return true;
+        case "falsepositiveprobability":
+        case "falsePositiveProbability": target.setFalsePositiveProbability(property(camelContext, double.class, value)); return true;
+        case "repository": target.setRepository(property(camelContext, org.apache.camel.spi.IdempotentRepository.class, value)); return true;
+        case "warmupduration":
+        case "warmUpDuration": target.setWarmUpDuration(property(camelContext, long.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "expectedkeys":
+        case "expectedKeys": return long.class;
+        case "falsepositiveprobability":
+        case "falsePositiveProbability": return double.class;
+        case "repository": return org.apache.camel.spi.IdempotentRepository.class;
+        case "warmupduration":
+        case "warmUpDuration": return long.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository target = (org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "expectedkeys":
+        case "expectedKeys": return target.getExpectedKeys();
+        case "falsepositiveprobability":
+        case "falsePositiveProbability": return target.getFalsePositiveProbability();
+        case "repository": return target.getRepository();
+        case "warmupduration":
+        case "warmUpDuration": return target.getWarmUpDuration();
+        default: return null;
+        }
+    }
+}
+
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for data cached in segments of the off-heap arena of the stream caching.
+ * <p/>
+ * The stream reads directly from read-only views of the segments, and copies of this stream share the same segments.
+ * The segments are released back to the arena when the exchanges using the stream cache are completed.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final ByteBuffer[] segments;
+    private final long length;
+    private volatile boolean released;
+    private int index;
+    private long pos;
+    private long mark;
+
+    ByteBufferInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager, ByteBuffer[] segments, long length) {
+        this.tempFileManager = tempFileManager;
+        this.segments = segments;
+        this.length = length;
+        this.tempFileManager.add(this);
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer segment = currentSegment();
+        if (segment == null) {
+            return -1;
+        }
+        pos++;
+        return segment.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len) {
+            ByteBuffer segment = currentSegment();
+            if (segment == null) {
+                break;
+            }
+            int n = Math.min(len - total, segment.remaining());
+            segment.get(b, off + total, n);
+            total += n;
+        }
+        pos += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long target = Math.min(length, pos + Math.max(0, n));
+        long skipped = target - pos;
+        seek(target);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkReleased();
+        return (int) Math.min(Integer.MAX_VALUE, length - pos);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        mark = pos;
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            seek(mark);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        checkReleased();
+        // write from views of the segments so the position of this stream is not changed
+        WritableByteChannel channel = Channels.newChannel(os);
+        for (int i = index; i < segments.length; i++) {
+            ByteBuffer view = segments[i].duplicate();
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        checkReleased();
+        tempFileManager.addExchange(exchange);
+        return new ByteBufferInputStreamCache(tempFileManager, duplicate(segments), length);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+
+    /**
+     * Marks this stream cache as released, as the segments have been released back to the off-heap arena.
+     */
+    void release() {
+        released = true;
+    }
+
+    private ByteBuffer currentSegment() throws IOException {
+        checkReleased();
+        while (index < segments.length) {
+            ByteBuffer segment = segments[index];
+            if (segment.hasRemaining()) {
+                return segment;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private void seek(long target) {
+        long offset = 0;
+        index = segments.length;
+        for (int i = 0; i < segments.length; i++) {
+            ByteBuffer segment = segments[i];
+            int p = (int) Math.max(0, Math.min(segment.limit(), target - offset));
+            segment.position(p);
+            if (p < segment.limit() && i < index) {
+                index = i;
+            }
+            offset += segment.limit();
+        }
+        pos = target;
+    }
+
+    private void checkReleased() throws IOException {
+        if (released) {
+            throw new IOException("The off-heap stream cache has been released");
+        }
+    }
+
+    private static ByteBuffer[] duplicate(ByteBuffer[] segments) {
+        ByteBuffer[] answer = new ByteBuffer[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            answer[i] = segments[i].duplicate().rewind();
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} that writes into segments of the off-heap arena of the {@link StreamCachingStrategy}.
+ * <p/>
+ * The segments must be reserved up front using {@link #reserve(long)}, which allows the {@link CachedOutputStream} to
+ * spool to disk instead when the arena has no free segments.
+ */
+final class CachedByteBufferOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private int index;
+    private long capacity;
+    private long count;
+
+    CachedByteBufferOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Reserves segments from the off-heap arena so the given number of bytes can be written.
+     *
+     * @return <tt>true</tt> if reserved, or <tt>false</tt> if the arena has no free segments
+     */
+    boolean reserve(long len) {
+        while (capacity - count < len) {
+            ByteBuffer segment = strategy.acquireOffHeapSegment();
+            if (segment == null) {
+                return false;
+            }
+            segments.add(segment);
+            capacity += segment.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        nextSegment(1).put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer segment = nextSegment(len);
+            int n = Math.min(len, segment.remaining());
+            segment.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    private ByteBuffer nextSegment(int len) throws IOException {
+        if (capacity - count < len && !reserve(len)) {
+            throw new IOException("The off-heap arena of the stream caching has no free segments");
+        }
+        ByteBuffer segment = segments.get(index);
+        while (!segment.hasRemaining()) {
+            segment = segments.get(++index);
+        }
+        return segment;
+    }
+
+    long size() {
+        return count;
+    }
+
+    /**
+     * Creates read-only views of the written data, which do not copy the data.
+     */
+    ByteBuffer[] views() {
+        ByteBuffer[] answer = new ByteBuffer[Math.min(index + 1, segments.size())];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = segments.get(i).duplicate().flip().asReadOnlyBuffer();
+        }
+        return answer;
+    }
+
+    /**
+     * Releases the segments back to the off-heap arena.
+     */
+    void release() {
+        for (ByteBuffer segment : segments) {
+            strategy.releaseOffHeapSegment(segment);
+        }
+        segments.clear();
+        index = 0;
+        capacity = 0;
+        count = 0;
+    }
+}
@@ -33,6 +33,9 @@ import org.apache.camel.util.IOHelper;
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
  * default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * If the stream caching strategy has an off-heap arena, then the content is first stored in segments of the arena, and
+ * only stored into a File if the arena has no free segments.
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
@@ -75,6 +78,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseOffHeapSegments();
         }
     }
 
@@ -103,31 +107,36 @@ public class CachedOutputStream extends OutputStream {
 
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
-        this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        beforeWrite(len);
         currentStream.write(b, off, len);
     }
 
     @Override
     public void write(byte[] b) throws IOException {
-        this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        beforeWrite(b.length);
         currentStream.write(b);
     }
 
     @Override
     public void write(int b) throws IOException {
-        this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        beforeWrite(1);
         currentStream.write(b);
     }
 
+    private void beforeWrite(int len) throws IOException {
+        this.totalLength += len;
+        if (inMemory) {
+            if (currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+                if (strategy.getOffHeapArenaSize() <= 0 || !pageToOffHeapStream(len)) {
+                    pageToFileStream();
+                }
+            } else if (currentStream instanceof CachedByteBufferOutputStream offHeap && !offHeap.reserve(len)) {
+                // the off-heap arena is exhausted
+                pageToFileStream();
+            }
+        }
+    }
+
     public InputStream getInputStream() throws IOException {
         return (InputStream) newStreamCache();
     }
@@ -146,6 +155,8 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream cachedByteArrayOutputStream) {
                 return cachedByteArrayOutputStream.newInputStreamCache();
+            } else if (currentStream instanceof CachedByteBufferOutputStream) {
+                return tempFileManager.newOffHeapStreamCache();
             } else {
                 throw new IllegalStateException(
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
@@ -156,16 +167,42 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
-    private void pageToFileStream() throws IOException {
+    private boolean pageToOffHeapStream(int len) throws IOException {
         flush();
         CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
+        CachedByteBufferOutputStream out = tempFileManager.createOffHeapOutputStream(strategy);
+        if (out == null) {
+            return false;
+        }
+        if (!out.reserve((long) bout.size() + len)) {
+            // the off-heap arena is exhausted
+            tempFileManager.releaseOffHeapSegments();
+            return false;
+        }
+        bout.writeTo(out);
+        currentStream = out;
+        return true;
+    }
+
+    private void pageToFileStream() throws IOException {
+        flush();
+        OutputStream previous = currentStream;
+        InputStream in;
+        if (previous instanceof CachedByteBufferOutputStream) {
+            in = tempFileManager.newOffHeapStreamCache();
+        } else {
+            in = ((CachedByteArrayOutputStream) previous).newInputStreamCache();
+        }
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy, exchange);
-            IOHelper.copy(bout.newInputStreamCache(), currentStream, strategy.getBufferSize());
+            IOHelper.copy(in, currentStream, strategy.getBufferSize());
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
+            if (previous instanceof CachedByteBufferOutputStream) {
+                tempFileManager.releaseOffHeapSegments();
+            }
         }
     }
 
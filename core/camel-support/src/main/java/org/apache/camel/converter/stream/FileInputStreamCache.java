@@ -206,6 +206,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      *
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
      * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
+     * <p/>
+     * Likewise manages the segments of the off-heap arena for the off-heap stream caches, which are released back to
+     * the arena when all exchanges are done.
      *
      * @see CachedOutputStream
      */
@@ -224,6 +227,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
+        private CachedByteBufferOutputStream offHeapOutputStream;
+        private List<ByteBufferInputStreamCache> offHeapStreamCaches;
 
         /** Only for testing. */
         private TempFileManager(File file, boolean closedOnCompletion) {
@@ -252,6 +257,21 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        /**
+         * Adds a ByteBufferInputStreamCache instance to the closer.
+         */
+        void add(ByteBufferInputStreamCache offHeapStreamCache) {
+            lock.lock();
+            try {
+                if (offHeapStreamCaches == null) {
+                    offHeapStreamCaches = new ArrayList<>(3);
+                }
+                offHeapStreamCaches.add(offHeapStreamCache);
+            } finally {
+                lock.unlock();
+            }
+        }
+
         void addExchange(Exchange exchange) {
             if (closedOnCompletion) {
                 exchangeCounter.incrementAndGet();
@@ -276,6 +296,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                                 LOG.warn("Error deleting temporary cache file: {}. This exception will be ignored.",
                                         tempFile, e);
                             }
+                            releaseOffHeapSegments();
                         }
                     }
 
@@ -355,6 +376,45 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return new FileInputStreamCache(this);
         }
 
+        /**
+         * Creates the output stream for caching in the off-heap arena.
+         *
+         * @return the output stream, or <tt>null</tt> if the exchanges are already done, as the segments would then never
+         *         be released back to the arena
+         */
+        CachedByteBufferOutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) {
+            // should only be called once
+            if (offHeapOutputStream != null) {
+                throw new IllegalStateException("The method 'createOffHeapOutputStream' can only be called once!");
+            }
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                return null;
+            }
+            offHeapOutputStream = new CachedByteBufferOutputStream(strategy);
+            return offHeapOutputStream;
+        }
+
+        ByteBufferInputStreamCache newOffHeapStreamCache() {
+            return new ByteBufferInputStreamCache(this, offHeapOutputStream.views(), offHeapOutputStream.size());
+        }
+
+        void releaseOffHeapSegments() {
+            lock.lock();
+            try {
+                if (offHeapStreamCaches != null) {
+                    for (ByteBufferInputStreamCache offHeapStreamCache : offHeapStreamCaches) {
+                        offHeapStreamCache.release();
+                    }
+                    offHeapStreamCaches.clear();
+                }
+                if (offHeapOutputStream != null) {
+                    offHeapOutputStream.release();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
                 for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
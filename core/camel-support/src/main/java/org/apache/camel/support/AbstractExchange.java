@@ -60,6 +60,8 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
     protected final EnumMap<ExchangePropertyKey, Object> internalProperties;
     protected Map<String, Object> properties;
+    // whether the properties map is shared with other exchanges (lazy copy) and must be copied before modified
+    protected boolean propertiesShared;
     protected Map<String, SafeCopyProperty> safeCopyProperties;
     protected ExchangeVariableRepository variableRepository;
     protected Message in;
@@ -119,8 +121,19 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
         this.unitOfWork = parent.getUnitOfWork();
     }
 
-    @SuppressWarnings("CopyConstructorMissesField")
     protected AbstractExchange(AbstractExchange parent) {
+        this(parent, false);
+    }
+
+    /**
+     * Creates a copy of the parent exchange.
+     *
+     * @param parent           the parent exchange
+     * @param shareUnmodified  whether the properties map should be shared with the parent (copy-on-write) instead of
+     *                         being copied up front
+     */
+    @SuppressWarnings("CopyConstructorMissesField")
+    protected AbstractExchange(AbstractExchange parent, boolean shareUnmodified) {
         this.context = parent.getContext();
         this.pattern = parent.getPattern();
         this.internalProperties = new EnumMap<>(parent.internalProperties);
@@ -151,7 +164,14 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
             this.variableRepository.copyFrom(parent.variableRepository);
         }
         if (parent.hasProperties()) {
-            this.properties = safeCopyProperties(parent.properties);
+            if (shareUnmodified) {
+                // both the parent and this copy must now copy the map before modifying it
+                parent.propertiesShared = true;
+                this.propertiesShared = true;
+                this.properties = parent.properties;
+            } else {
+                this.properties = safeCopyProperties(parent.properties);
+            }
         }
         if (parent.hasSafeCopyProperties()) {
             this.safeCopyProperties = parent.copySafeCopyProperties();
@@ -165,10 +185,19 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
     abstract AbstractExchange newCopy();
 
+    abstract AbstractExchange newLazyCopy();
+
     @Override
     public Exchange copy() {
-        AbstractExchange exchange = newCopy();
+        return copyMessageHistory(newCopy());
+    }
+
+    @Override
+    public Exchange lazyCopy() {
+        return copyMessageHistory(newLazyCopy());
+    }
 
+    private Exchange copyMessageHistory(AbstractExchange exchange) {
         if (getContext().isMessageHistory()) {
             exchange.internalProperties.computeIfPresent(ExchangePropertyKey.MESSAGE_HISTORY,
                     (k, v) -> new CopyOnWriteArrayList<>((List<MessageHistory>) v));
@@ -289,10 +318,18 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
             // avoid the NullPointException
             if (properties == null) {
                 this.properties = new FlatMap<>(4);
+            } else if (propertiesShared) {
+                unshareProperties();
             }
             properties.put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
+            if (propertiesShared) {
+                if (!properties.containsKey(name)) {
+                    return;
+                }
+                unshareProperties();
+            }
             properties.remove(name);
         }
     }
@@ -306,6 +343,12 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
         if (!hasProperties()) {
             return null;
         }
+        if (propertiesShared) {
+            if (!properties.containsKey(name)) {
+                return null;
+            }
+            unshareProperties();
+        }
         return properties.remove(name);
     }
 
@@ -318,7 +361,11 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
+            if (propertiesShared) {
+                // no need to copy the map only to clear it
+                this.properties = null;
+                this.propertiesShared = false;
+            } else if (properties != null) {
                 properties.clear();
             }
             internalProperties.clear();
@@ -343,6 +390,9 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
             if (toBeRemoved != null) {
                 matches = true;
+                if (propertiesShared) {
+                    unshareProperties();
+                }
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
                     properties.clear();
@@ -361,10 +411,35 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
     public Map<String, Object> getProperties() {
         if (properties == null) {
             this.properties = new FlatMap<>(4);
+        } else if (propertiesShared) {
+            // the returned map may be modified by the caller
+            unshareProperties();
         }
         return properties;
     }
 
+    /**
+     * Replaces the properties map that is shared with other exchanges (lazy copy) with a copy owned by this exchange.
+     */
+    private void unshareProperties() {
+        this.properties = new FlatMap<>(properties);
+        this.propertiesShared = false;
+    }
+
+    /**
+     * Releases the properties map which is shared with other exchanges (lazy copy), as it must not be cleared.
+     *
+     * @return true if the properties map was shared and has been released
+     */
+    boolean releaseSharedProperties() {
+        if (propertiesShared) {
+            this.properties = null;
+            this.propertiesShared = false;
+            return true;
+        }
+        return false;
+    }
+
     private Map<String, SafeCopyProperty> copySafeCopyProperties() {
         Map<String, SafeCopyProperty> copy = new FlatMap<>(this.safeCopyProperties.size());
         for (Map.Entry<String, SafeCopyProperty> entry : this.safeCopyProperties.entrySet()) {
@@ -1012,7 +1087,8 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
     @Override
     public void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
+        if (this.properties == null || propertiesShared) {
+            this.propertiesShared = false;
             this.properties = new FlatMap<>(4);
         } else {
             this.properties.clear();
@@ -59,6 +59,11 @@ public final class DefaultExchange extends AbstractExchange {
         this.timeInfo = parent.getClock();
     }
 
+    DefaultExchange(AbstractExchange parent, boolean shareUnmodified) {
+        super(parent, shareUnmodified);
+        this.timeInfo = parent.getClock();
+    }
+
     @Override
     public Clock getClock() {
         return timeInfo;
@@ -69,6 +74,11 @@ public final class DefaultExchange extends AbstractExchange {
         return new DefaultExchange(this);
     }
 
+    @Override
+    AbstractExchange newLazyCopy() {
+        return new DefaultExchange(this, true);
+    }
+
     public static DefaultExchange newFromEndpoint(Endpoint fromEndpoint) {
         return newFromEndpoint(fromEndpoint, fromEndpoint.getExchangePattern());
     }
@@ -66,6 +66,11 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
         return new DefaultExchange(this);
     }
 
+    @Override
+    AbstractExchange newLazyCopy() {
+        return new DefaultExchange(this, true);
+    }
+
     public boolean isAutoRelease() {
         return autoRelease;
     }
@@ -84,8 +89,8 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
             // by unsetting (setting to 0) we also flag that this exchange is done and needs to be reset to use again
             clock.unset();
 
-            // Reuse properties map if it's not too large
-            if (this.properties != null) {
+            // Reuse properties map if it's not too large (and not shared with lazy copies of this exchange)
+            if (!releaseSharedProperties() && this.properties != null) {
                 if (this.properties.size() > 50) {
                     // Too big, discard and recreate smaller map next time
                     this.properties = null;
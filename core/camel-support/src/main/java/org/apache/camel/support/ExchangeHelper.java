@@ -298,10 +298,29 @@ public final class ExchangeHelper {
      * @param useSameMessageId whether to use same message id on the copy message.
      */
     public static Exchange createCorrelatedCopy(Exchange exchange, boolean handover, boolean useSameMessageId) {
+        return createCorrelatedCopy(exchange, handover, useSameMessageId, false);
+    }
+
+    /**
+     * Creates a new instance and copies from the current message exchange so that it can be forwarded to another
+     * destination as a new instance. Unlike regular copy this operation will not share the same
+     * {@link org.apache.camel.spi.UnitOfWork} so its should be used for async messaging, where the original and copied
+     * exchange are independent.
+     *
+     * @param exchange         original copy of the exchange
+     * @param handover         whether the on completion callbacks should be handed over to the new copy.
+     * @param useSameMessageId whether to use same message id on the copy message.
+     * @param shareUnmodified  whether the copy should share the exchange properties with the original exchange until
+     *                         either of them modifies the properties (copy-on-write).
+     * @see                    org.apache.camel.ExchangeExtension#lazyCopy()
+     */
+    public static Exchange createCorrelatedCopy(
+            Exchange exchange, boolean handover, boolean useSameMessageId, boolean shareUnmodified) {
         String id = exchange.getExchangeId();
 
         // make sure to do a safe copy as the correlated copy can be routed independently of the source.
-        Exchange copy = exchange.copy();
+        // a lazy copy is also safe as the shared properties are copied before either exchange modifies them
+        Exchange copy = shareUnmodified ? exchange.getExchangeExtension().lazyCopy() : exchange.copy();
         // do not reuse message id on copy
         if (!useSameMessageId) {
             if (copy.hasOut()) {
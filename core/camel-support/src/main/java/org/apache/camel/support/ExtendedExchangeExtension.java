@@ -426,4 +426,9 @@ public class ExtendedExchangeExtension implements ExchangeExtension {
         answer.setPattern(exchange.pattern);
         return answer;
     }
+
+    @Override
+    public Exchange lazyCopy() {
+        return exchange.lazyCopy();
+    }
 }
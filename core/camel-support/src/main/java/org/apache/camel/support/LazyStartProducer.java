@@ -37,6 +37,24 @@ public final class LazyStartProducer extends DefaultAsyncProducer implements Del
 
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        AsyncProducer producer;
+        try {
+            producer = getOrCreateDelegate();
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return producer.process(exchange, callback);
+    }
+
+    /**
+     * Gets the delegated producer, which is created and started if not already done.
+     *
+     * @return           the delegated producer
+     * @throws Exception is thrown if error creating or starting the delegated producer
+     */
+    public AsyncProducer getOrCreateDelegate() throws Exception {
         try {
             // create and start producer lazy
             if (delegate == null) {
@@ -56,11 +74,9 @@ public final class LazyStartProducer extends DefaultAsyncProducer implements Del
         } catch (Exception e) {
             // error creating or starting delegated failed, so allow to re-create on next call
             delegate = null;
-            exchange.setException(e);
-            callback.done(true);
-            return true;
+            throw e;
         }
-        return delegate.process(exchange, callback);
+        return delegate;
     }
 
     @Override
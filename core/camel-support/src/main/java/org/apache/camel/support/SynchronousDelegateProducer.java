@@ -16,8 +16,10 @@
  */
 package org.apache.camel.support;
 
+import org.apache.camel.DelegateProcessor;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -30,7 +32,7 @@ import org.apache.camel.support.service.ServiceSupport;
  * This delegate allows the component developers easily to support their existing asynchronous producer to behave
  * synchronously by wrapping their producer in this synchronous delegate.
  */
-public class SynchronousDelegateProducer extends ServiceSupport implements Producer {
+public class SynchronousDelegateProducer extends ServiceSupport implements Producer, DelegateProcessor {
 
     private final Producer producer;
 
@@ -48,6 +50,11 @@ public class SynchronousDelegateProducer extends ServiceSupport implements Produ
         producer.process(exchange);
     }
 
+    @Override
+    public Processor getProcessor() {
+        return producer;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         ServiceHelper.buildService(producer);
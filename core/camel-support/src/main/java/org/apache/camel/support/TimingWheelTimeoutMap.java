@@ -0,0 +1,461 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparingLong;
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} which keeps track of the timeouts using a hierarchical timing wheel.
+ * <p/>
+ * The {@link DefaultTimeoutMap} scans all the entries under a lock to find the expired entries, which becomes costly
+ * when the map holds many entries. This implementation instead places each entry in a bucket of a timing wheel
+ * according to its expire time, so adding, refreshing and removing an entry is done in constant time, and each tick
+ * only visits the entries of the buckets that are due. The wheel has 4 levels of 64 buckets, where each level covers
+ * 64 times the duration of the level below, and each bucket is guarded by its own lock.
+ * <p/>
+ * The entries are evicted on the first tick after their timeout, which means the timeout is an approximation with the
+ * granularity of the tick duration, similar to the purge poll time of the {@link DefaultTimeoutMap}.
+ * <p/>
+ * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used to schedule
+ * a background task which advances the timing wheel. You must also invoke {@link #start()} to startup the timeout map,
+ * before its ready to be used. And you must invoke {@link #stop()} to stop the map when no longer in use.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final ConcurrentMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Bucket<K, V>[][] wheel = new Bucket[LEVELS][WHEEL_SIZE];
+    private final ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+    private final long tickDuration;
+    // only the thread holding the tick lock can advance the current tick
+    private final Lock tickLock = new ReentrantLock();
+    // initialized on first use, so currentTime() is not called before a subclass is constructed
+    private volatile long currentTick = -1;
+
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long tickDurationMillis) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        if (tickDurationMillis <= 0) {
+            throw new IllegalArgumentException("TickDuration must be a positive value, was: " + tickDurationMillis);
+        }
+        this.executor = executor;
+        this.tickDuration = tickDurationMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[level][i] = new Bucket<>();
+            }
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        // refresh the expire time as the entry is in use
+        node.expireTime = currentTime() + node.timeout;
+        if (unlink(node)) {
+            schedule(node);
+        }
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value, long timeoutMillis) {
+        Node<K, V> node = new Node<>(key, value, timeoutMillis, currentTime() + timeoutMillis);
+        Node<K, V> old = map.put(key, node);
+        if (old != null) {
+            cancel(old);
+        }
+        schedule(node);
+        emitEvent(Put, key, value);
+        return old != null ? old.value : null;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        Node<K, V> node = new Node<>(key, value, timeoutMillis, currentTime() + timeoutMillis);
+        Node<K, V> existing = map.putIfAbsent(key, node);
+        if (existing != null) {
+            return existing.value;
+        }
+        schedule(node);
+        emitEvent(Put, key, value);
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = map.remove(key);
+        if (node == null) {
+            return null;
+        }
+        cancel(node);
+        emitEvent(Remove, key, node.value);
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * The timer task which advances the timing wheel
+     */
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        try {
+            purge();
+        } catch (Exception t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    /**
+     * Advances the timing wheel up to the current time, and evicts the entries which have timed out.
+     */
+    protected void purge() {
+        List<Node<K, V>> expired = new ArrayList<>();
+        tickLock.lock();
+        try {
+            long targetTick = currentTime() / tickDuration;
+            while (currentTick() < targetTick) {
+                long tick = currentTick + 1;
+                currentTick = tick;
+                // move the entries from the higher levels which are due within the next round of the lower levels
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((tick & ((1L << (level * WHEEL_BITS)) - 1)) == 0) {
+                        cascade(wheel[level][(int) (tick >>> (level * WHEEL_BITS)) & WHEEL_MASK], tick, expired);
+                    }
+                }
+                cascade(wheel[0][(int) tick & WHEEL_MASK], tick, expired);
+            }
+        } finally {
+            tickLock.unlock();
+        }
+        // sort according to the expired time so we got the first expired first
+        expired.sort(comparingLong(n -> n.expireTime));
+        for (Node<K, V> node : expired) {
+            log.debug("Evicting inactive entry ID: {}", node.key);
+            emitEvent(Evict, node.key, node.value);
+        }
+    }
+
+    private void cascade(Bucket<K, V> bucket, long tick, List<Node<K, V>> expired) {
+        Node<K, V> node = bucket.detachAll();
+        while (node != null) {
+            Node<K, V> next = node.next;
+            node.next = null;
+            node.prev = null;
+            if (!node.removed) {
+                if (deadlineOf(node) <= tick && checkValidForEviction(node)) {
+                    if (map.remove(node.key, node)) {
+                        node.removed = true;
+                        expired.add(node);
+                    }
+                } else {
+                    schedule(node);
+                }
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * A hook to allow derivations to avoid evicting the current entry, which is then checked again on the next tick.
+     */
+    protected boolean isValidForEviction(TimeoutMapEntry<K, V> entry) {
+        return true;
+    }
+
+    private boolean checkValidForEviction(Node<K, V> node) {
+        TimeoutMapEntry<K, V> entry = new TimeoutMapEntry<>(node.key, node.value, node.timeout);
+        entry.setExpireTime(node.expireTime);
+        if (isValidForEviction(entry)) {
+            return true;
+        }
+        node.expireTime = (currentTick() + 1) * tickDuration;
+        return false;
+    }
+
+    /**
+     * The tick where the node is due, which is rounded up so the node is not evicted before its timeout
+     */
+    private long deadlineOf(Node<K, V> node) {
+        long expireTime = node.expireTime;
+        return expireTime / tickDuration + (expireTime % tickDuration == 0 ? 0 : 1);
+    }
+
+    /**
+     * Places the node in the bucket where its deadline falls in, which is the lowest level where the deadline is within
+     * one round of the wheel.
+     */
+    private void schedule(Node<K, V> node) {
+        long tick = currentTick();
+        // entries that are already due are evicted on the next tick
+        long deadline = Math.max(deadlineOf(node), tick + 1);
+        Bucket<K, V> bucket = null;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * WHEEL_BITS;
+            if ((deadline >>> shift) - (tick >>> shift) < WHEEL_SIZE) {
+                bucket = wheel[level][(int) (deadline >>> shift) & WHEEL_MASK];
+                break;
+            }
+        }
+        if (bucket == null) {
+            // beyond the range of the wheel, so park in the last bucket of the top level and schedule again from there
+            int shift = (LEVELS - 1) * WHEEL_BITS;
+            bucket = wheel[LEVELS - 1][(int) ((tick >>> shift) + WHEEL_MASK) & WHEEL_MASK];
+        }
+        bucket.add(node);
+        // the node may have been removed concurrently while it was not linked to any bucket
+        if (node.removed) {
+            unlink(node);
+        } else if (tick != currentTick && unlink(node)) {
+            // the wheel has moved in the meantime, so the bucket may already have been visited
+            schedule(node);
+        }
+    }
+
+    private void cancel(Node<K, V> node) {
+        node.removed = true;
+        unlink(node);
+    }
+
+    /**
+     * Unlinks the node from its current bucket.
+     *
+     * @return <tt>true</tt> if unlinked, or <tt>false</tt> if the node was not in a bucket (such as while the wheel is
+     *         moving the node to another bucket)
+     */
+    private boolean unlink(Node<K, V> node) {
+        while (true) {
+            Bucket<K, V> bucket = node.bucket;
+            if (bucket == null) {
+                return false;
+            }
+            if (bucket.remove(node)) {
+                return true;
+            }
+        }
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Exception t) {
+                // Ignore
+            }
+        }
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private long currentTick() {
+        long tick = currentTick;
+        if (tick < 0) {
+            tickLock.lock();
+            try {
+                tick = currentTick;
+                if (tick < 0) {
+                    tick = currentTime() / tickDuration;
+                    currentTick = tick;
+                }
+            } finally {
+                tickLock.unlock();
+            }
+        }
+        return tick;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        future = executor.scheduleWithFixedDelay(this::purgeTask, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        tickLock.lock();
+        try {
+            map.clear();
+            for (Bucket<K, V>[] buckets : wheel) {
+                for (Bucket<K, V> bucket : buckets) {
+                    Node<K, V> node = bucket.detachAll();
+                    while (node != null) {
+                        Node<K, V> next = node.next;
+                        node.next = null;
+                        node.prev = null;
+                        node = next;
+                    }
+                }
+            }
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long timeout;
+        private volatile long expireTime;
+        private volatile boolean removed;
+        // guarded by the lock of the bucket
+        private volatile Bucket<K, V> bucket;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long timeout, long expireTime) {
+            this.key = key;
+            this.value = value;
+            this.timeout = timeout;
+            this.expireTime = expireTime;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes guarded by its own lock.
+     */
+    private static final class Bucket<K, V> {
+        private final Lock lock = new ReentrantLock();
+        private Node<K, V> head;
+
+        void add(Node<K, V> node) {
+            lock.lock();
+            try {
+                node.prev = null;
+                node.next = head;
+                if (head != null) {
+                    head.prev = node;
+                }
+                head = node;
+                node.bucket = this;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(Node<K, V> node) {
+            lock.lock();
+            try {
+                if (node.bucket != this) {
+                    // moved to another bucket in the meantime
+                    return false;
+                }
+                if (node.prev != null) {
+                    node.prev.next = node.next;
+                } else {
+                    head = node.next;
+                }
+                if (node.next != null) {
+                    node.next.prev = node.prev;
+                }
+                node.prev = null;
+                node.next = null;
+                node.bucket = null;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Node<K, V> detachAll() {
+            lock.lock();
+            try {
+                Node<K, V> answer = head;
+                head = null;
+                for (Node<K, V> node = answer; node != null; node = node.next) {
+                    node.bucket = null;
+                }
+                return answer;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import org.apache.camel.DisabledAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
@@ -40,7 +41,7 @@ import org.apache.camel.util.ObjectHelper;
  * If the conversion fails an {@link org.apache.camel.InvalidPayloadException} is thrown.
  */
 public class ConvertBodyProcessor extends ServiceSupport
-        implements AsyncProcessor, IdAware, RouteIdAware, StepIdAware, DisabledAware {
+        implements AsyncProcessor, IdAware, RouteIdAware, StepIdAware, DisabledAware, FusableProcessor {
     private String id;
     private String routeId;
     private String stepId;
@@ -26,6 +26,7 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
 import org.apache.camel.NoSuchHeaderOrPropertyException;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
@@ -38,7 +39,7 @@ import org.apache.camel.util.ObjectHelper;
  * A processor which converts the message header to be of the given type
  */
 public class ConvertHeaderProcessor extends ServiceSupport
-        implements AsyncProcessor, IdAware, RouteIdAware, StepIdAware, DisabledAware {
+        implements AsyncProcessor, IdAware, RouteIdAware, StepIdAware, DisabledAware, FusableProcessor {
 
     private String id;
     private String routeId;
@@ -27,6 +27,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.NoSuchVariableException;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
@@ -42,7 +43,8 @@ import org.apache.camel.util.StringHelper;
  * A processor which converts the variable to be of the given type
  */
 public class ConvertVariableProcessor extends ServiceSupport
-        implements AsyncProcessor, IdAware, RouteIdAware, StepIdAware, CamelContextAware, DisabledAware {
+        implements AsyncProcessor, IdAware, RouteIdAware, StepIdAware, CamelContextAware, DisabledAware,
+        FusableProcessor {
 
     private CamelContext camelContext;
     private VariableRepositoryFactory factory;
@@ -26,6 +26,7 @@ import org.apache.camel.DisabledAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
+import org.apache.camel.spi.FusableProcessor;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -42,7 +43,8 @@ import org.apache.camel.support.service.ServiceSupport;
  * @see DelegateProcessor
  */
 public class DelegateSyncProcessor extends ServiceSupport
-        implements org.apache.camel.DelegateProcessor, AsyncProcessor, Navigate<Processor>, DisabledAware {
+        implements org.apache.camel.DelegateProcessor, AsyncProcessor, Navigate<Processor>, DisabledAware,
+        FusableProcessor {
     protected final Processor processor;
     private boolean disabled;
 
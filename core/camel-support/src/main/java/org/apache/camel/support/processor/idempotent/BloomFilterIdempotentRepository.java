@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.BrowsableIdempotentRepository;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link IdempotentRepository} which uses a bloom filter in front of another {@link IdempotentRepository}.
+ * <p/>
+ * When the filter reports that a key has never been added, then {@link #contains(String)} returns <tt>false</tt>
+ * without looking up the key in the repository. This avoids a round trip to a remote repository (such as a database)
+ * for new keys, which is the most common case for an idempotent consumer in non-eager mode. Adding, removing and
+ * confirming keys are always done in the repository.
+ * <p/>
+ * The filter is loaded with the keys from the repository when started, which requires the repository to be a
+ * {@link BrowsableIdempotentRepository}. Otherwise the filter starts empty, and is warmed up during the
+ * {@link #setWarmUpDuration(long)}, where every key is looked up in the repository (and the keys found are added to the
+ * filter). This is only safe when the keys in the repository expire within the warm up duration, as the other keys
+ * which were in the repository when started would not be detected as duplicates afterwards. The filter grows
+ * automatically when more keys than expected are added.
+ * <p/>
+ * <b>Important:</b> The repository must not be shared with other applications which add keys to it, as such keys are
+ * not in the filter, and would not be detected as duplicates.
+ */
+@Metadata(label = "bean",
+          description = "An idempotent repository which uses a bloom filter in front of another idempotent repository,"
+                        + " to avoid looking up new keys in the other repository.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder filteredCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+    private final LongAdder lookupCount = new LongAdder();
+    private volatile ScalableBloomFilter filter;
+    private volatile boolean warmingUp;
+    private long warmUpEnd;
+    private CamelContext camelContext;
+
+    @Metadata(description = "The idempotent repository to store the keys. Should be able to browse its keys, otherwise the"
+                            + " warmUpDuration must be set.",
+              required = true)
+    private IdempotentRepository repository;
+    @Metadata(description = "The expected number of keys. The filter grows automatically when more keys are added.",
+              defaultValue = "1000000")
+    private long expectedKeys = 1000000;
+    @Metadata(description = "The probability (between 0 and 1) of the filter reporting a new key as possibly added,"
+                            + " which requires a lookup in the idempotent repository.",
+              defaultValue = "0.01")
+    private double falsePositiveProbability = 0.01d;
+    @Metadata(description = "The duration in millis to look up every key in the idempotent repository after starting,"
+                            + " when the repository cannot browse its keys to load the filter. This is only safe when"
+                            + " the keys in the repository expire within this duration.")
+    private long warmUpDuration;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Creates a new repository using a bloom filter in front of the given repository.
+     *
+     * @param repository the repository to store the keys
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(IdempotentRepository repository) {
+        return new BloomFilterIdempotentRepository(repository);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        lock.readLock().lock();
+        try {
+            // add to the filter first, so any key in the repository is also in the filter
+            filter.put(key);
+            return repository.add(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        lock.readLock().lock();
+        try {
+            filter.put(key);
+            return repository.add(exchange, key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        if (isWarmingUp()) {
+            return warmUp(key, repository.contains(key));
+        }
+        return mightContain(key) && lookup(repository.contains(key));
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        if (isWarmingUp()) {
+            return warmUp(key, repository.contains(exchange, key));
+        }
+        return mightContain(key) && lookup(repository.contains(exchange, key));
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        // keys cannot be removed from the filter, which only causes a lookup if the key is checked again
+        return repository.remove(key);
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        return repository.remove(exchange, key);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return repository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return repository.confirm(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            repository.clear();
+            filter = new ScalableBloomFilter(expectedKeys, falsePositiveProbability);
+            // the repository is empty so the filter has all the keys
+            warmingUp = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public IdempotentRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * The idempotent repository to store the keys. Should be able to browse its keys, otherwise the warm up duration
+     * must be set.
+     */
+    public void setRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * The expected number of keys. The filter grows automatically when more keys are added, but the filter uses less
+     * memory and is faster when sized correctly.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    @ManagedAttribute(description = "The desired false positive probability of the filter")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * The probability (between 0 and 1) of the filter reporting a new key as possibly added, which requires a lookup
+     * in the idempotent repository.
+     * <p/>
+     * The default is 0.01 (1%).
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @ManagedAttribute(description = "The duration in millis to look up every key after starting")
+    public long getWarmUpDuration() {
+        return warmUpDuration;
+    }
+
+    /**
+     * The duration in millis to look up every key in the idempotent repository after starting, when the repository is
+     * not a {@link BrowsableIdempotentRepository} which can load the filter. The keys found are added to the filter.
+     * <p/>
+     * This is only safe when the keys in the repository expire within this duration (such as a cache with a time to
+     * live), as the keys which were in the repository when started, but are not looked up during the warm up, are not
+     * in the filter and would not be detected as duplicates afterwards.
+     */
+    public void setWarmUpDuration(long warmUpDuration) {
+        this.warmUpDuration = warmUpDuration;
+    }
+
+    @ManagedAttribute(description = "Whether the filter is being warmed up, where every key is looked up")
+    public boolean isWarmingUp() {
+        if (warmingUp && System.nanoTime() - warmUpEnd >= 0) {
+            warmingUp = false;
+            LOG.debug("Warmed up bloom filter with {} keys from idempotent repository: {}", getFilterSize(), repository);
+        }
+        return warmingUp;
+    }
+
+    @ManagedAttribute(description = "Number of keys added to the filter")
+    public long getFilterSize() {
+        ScalableBloomFilter current = filter;
+        return current != null ? current.size() : 0;
+    }
+
+    @ManagedAttribute(description = "Size of the filter in bytes")
+    public long getFilterBytes() {
+        ScalableBloomFilter current = filter;
+        return current != null ? current.bits() / 8 : 0;
+    }
+
+    @ManagedAttribute(description = "Number of lookups in the idempotent repository avoided by the filter")
+    public long getFilteredCount() {
+        return filteredCount.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups in the idempotent repository done as the filter reported the key as possibly added")
+    public long getLookupCount() {
+        return lookupCount.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups in the idempotent repository where the key was not added")
+    public long getFalsePositiveCount() {
+        return falsePositiveCount.sum();
+    }
+
+    /**
+     * The observed ratio of new keys which the filter reported as possibly added.
+     */
+    @ManagedAttribute(description = "The observed ratio of new keys which the filter reported as possibly added")
+    public double getFalsePositiveRate() {
+        long falsePositives = falsePositiveCount.sum();
+        long negatives = falsePositives + filteredCount.sum();
+        return negatives > 0 ? (double) falsePositives / negatives : 0d;
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        filteredCount.reset();
+        lookupCount.reset();
+        falsePositiveCount.reset();
+    }
+
+    private boolean mightContain(String key) {
+        if (filter.mightContain(key)) {
+            lookupCount.increment();
+            return true;
+        }
+        filteredCount.increment();
+        return false;
+    }
+
+    private boolean warmUp(String key, boolean found) {
+        lookupCount.increment();
+        if (found) {
+            lock.readLock().lock();
+            try {
+                filter.put(key);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return found;
+    }
+
+    private boolean lookup(boolean found) {
+        if (!found) {
+            falsePositiveCount.increment();
+        }
+        return found;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(repository, "repository", this);
+        if (!(repository instanceof BrowsableIdempotentRepository) && warmUpDuration <= 0) {
+            throw new IllegalArgumentException(
+                    "The repository must be a BrowsableIdempotentRepository to load the bloom filter,"
+                                               + " or the warmUpDuration must be set, was: " + repository);
+        }
+        CamelContextAware.trySetCamelContext(repository, camelContext);
+        ServiceHelper.startService(repository);
+
+        ScalableBloomFilter answer = new ScalableBloomFilter(expectedKeys, falsePositiveProbability);
+        if (repository instanceof BrowsableIdempotentRepository browsable) {
+            browsable.forEachKey(answer::put);
+            filter = answer;
+            LOG.debug("Loaded {} keys into bloom filter from idempotent repository: {}", answer.size(), repository);
+        } else {
+            filter = answer;
+            warmUpEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(warmUpDuration);
+            warmingUp = true;
+            LOG.debug("Warming up bloom filter for {} millis from idempotent repository: {}", warmUpDuration, repository);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(repository);
+        warmingUp = false;
+        filter = null;
+    }
+}
@@ -25,11 +25,13 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.BrowsableIdempotentRepository;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.Metadata;
@@ -59,7 +61,7 @@ import org.slf4j.LoggerFactory;
           annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
 @Configurer(metadataOnly = true)
 @ManagedResource(description = "File based idempotent repository")
-public class FileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+public class FileIdempotentRepository extends ServiceSupport implements BrowsableIdempotentRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileIdempotentRepository.class);
     private static final String STORE_DELIMITER = "\n";
@@ -224,6 +226,26 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         }
     }
 
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        cacheAndStoreLock.lock();
+        try {
+            // the file store contains all the keys (the 1st-level cache only the most used)
+            if (fileStore == null || !fileStore.exists()) {
+                return;
+            }
+            try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
+                while (scanner.hasNext()) {
+                    action.accept(scanner.next());
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
     public File getFileStore() {
         return fileStore;
     }
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A hash index stored in a memory mapped file, used by {@link SegmentedFileIdempotentRepository}.
+ * <p/>
+ * The index is an open addressing hash table (linear probing) of 16 byte slots, each holding the 64-bit hash of a key
+ * and the location of the record in the log where the key is stored. As only the hash is kept in the index, then a
+ * lookup must verify the key against the log. The table is mapped in chunks of 1gb so it can grow beyond 2gb, and the
+ * operating system decides how much of it is kept in memory.
+ * <p/>
+ * The index is not written in a crash safe manner; instead the header is marked as clean on shutdown, and an index
+ * which was not closed cleanly must be rebuilt from the log.
+ * <p/>
+ * This class is not thread safe.
+ */
+final class MappedHashIndex {
+
+    /**
+     * Verifies whether the record at the given location in the log is for the key being looked up.
+     */
+    @FunctionalInterface
+    interface LocationMatcher {
+        boolean matches(long location) throws IOException;
+    }
+
+    private static final long MAGIC = 0x43414d454c494458L;
+    private static final int VERSION = 1;
+
+    // header layout
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CLEAN_OFFSET = 12;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int SIZE_OFFSET = 24;
+    private static final int USED_OFFSET = 32;
+    private static final int RECORDS_OFFSET = 40;
+    private static final int LOG_END_OFFSET = 48;
+
+    private static final int SLOT_SIZE = 16;
+    private static final int CHUNK_SHIFT = 26;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final long REMOVED = -1L;
+    private static final double MAX_LOAD_FACTOR = 0.75d;
+
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] chunks;
+    private final long capacity;
+    private final long mask;
+    private long size;
+    private long used;
+
+    private MappedHashIndex(Path file, FileChannel channel, long capacity) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        int count = (int) ((capacity + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long slots = Math.min(capacity - ((long) i << CHUNK_SHIFT), 1L << CHUNK_SHIFT);
+            long position = HEADER_SIZE + ((long) i << CHUNK_SHIFT) * SLOT_SIZE;
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, slots * SLOT_SIZE);
+        }
+    }
+
+    /**
+     * Opens an existing index, or creates a new empty index if the file does not exist or is not a valid index.
+     *
+     * @param file        the index file
+     * @param minCapacity the capacity (number of slots) to use if a new index is created
+     */
+    static MappedHashIndex open(Path file, long minCapacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() >= HEADER_SIZE) {
+                ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE);
+                while (buf.hasRemaining() && channel.read(buf, buf.position()) >= 0) {
+                    // read fully
+                }
+                long capacity = buf.getLong(CAPACITY_OFFSET);
+                if (buf.getLong(MAGIC_OFFSET) == MAGIC && buf.getInt(VERSION_OFFSET) == VERSION
+                        && Long.bitCount(capacity) == 1 && channel.size() >= HEADER_SIZE + capacity * SLOT_SIZE) {
+                    MappedHashIndex answer = new MappedHashIndex(file, channel, capacity);
+                    answer.size = buf.getLong(SIZE_OFFSET);
+                    answer.used = buf.getLong(USED_OFFSET);
+                    return answer;
+                }
+            }
+            // not a valid index so start from scratch
+            channel.truncate(0);
+            return create(file, channel, minCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new empty index, replacing any existing file.
+     *
+     * @param file        the index file
+     * @param minCapacity the minimum capacity (number of slots)
+     */
+    static MappedHashIndex create(Path file, long minCapacity) throws IOException {
+        Files.deleteIfExists(file);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return create(file, channel, minCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static MappedHashIndex create(Path file, FileChannel channel, long minCapacity) throws IOException {
+        long capacity = Long.highestOneBit(Math.max(16, minCapacity) - 1) << 1;
+        // mapping beyond the end of the file extends the file (which is sparse and filled with zeros)
+        MappedHashIndex answer = new MappedHashIndex(file, channel, capacity);
+        answer.header.putLong(MAGIC_OFFSET, MAGIC);
+        answer.header.putInt(VERSION_OFFSET, VERSION);
+        answer.header.putLong(CAPACITY_OFFSET, capacity);
+        answer.header.putInt(CLEAN_OFFSET, 0);
+        return answer;
+    }
+
+    /**
+     * Computes the 64-bit hash of the given key (never 0 as 0 is used for empty slots).
+     */
+    static long hash(byte[] key) {
+        long h = 0x9E3779B97F4A7C15L ^ key.length;
+        int i = 0;
+        for (; i + 8 <= key.length; i += 8) {
+            h ^= mix((long) LONG_HANDLE.get(key, i));
+            h = Long.rotateLeft(h, 27) * 5 + 0x52DCE729;
+        }
+        long tail = 0;
+        for (int shift = 0; i < key.length; i++, shift += 8) {
+            tail |= (key[i] & 0xFFL) << shift;
+        }
+        h ^= mix(tail);
+        // finalize (fmix64 from murmur3)
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    private static long mix(long k) {
+        k *= 0x87C37B91114253D5L;
+        k = Long.rotateLeft(k, 31);
+        return k * 0x4CF5AD432745937FL;
+    }
+
+    /**
+     * Looks up the slot for the key with the given hash.
+     *
+     * @param  hash    the hash of the key
+     * @param  matcher to verify the key at a location with the same hash
+     * @return         the slot (zero or positive) if found, otherwise <tt>-(insertion slot) - 1</tt> where the insertion
+     *                 slot is where the key can be inserted using {@link #insert(long, long, long)}
+     */
+    long lookup(long hash, LocationMatcher matcher) throws IOException {
+        long slot = hash & mask;
+        long free = -1;
+        for (long i = 0; i < capacity; i++) {
+            long stored = hashAt(slot);
+            if (stored == 0) {
+                return -(free >= 0 ? free : slot) - 1;
+            }
+            long location = locationAt(slot);
+            if (location == REMOVED) {
+                if (free < 0) {
+                    free = slot;
+                }
+            } else if (stored == hash && matcher.matches(location)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -free - 1;
+    }
+
+    /**
+     * Finds the slot which points to the given location.
+     *
+     * @return the slot, or <tt>-1</tt> if no slot points to the location (the record is no longer live)
+     */
+    long find(long hash, long location) {
+        long slot = hash & mask;
+        for (long i = 0; i < capacity; i++) {
+            long stored = hashAt(slot);
+            if (stored == 0) {
+                return -1;
+            }
+            if (stored == hash && locationAt(slot) == location) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a new key at the insertion slot returned from {@link #lookup(long, LocationMatcher)}.
+     */
+    void insert(long slot, long hash, long location) {
+        MappedByteBuffer chunk = chunk(slot);
+        int offset = offset(slot);
+        if (chunk.getLong(offset) == 0) {
+            used++;
+        }
+        chunk.putLong(offset, hash);
+        chunk.putLong(offset + 8, location);
+        size++;
+    }
+
+    /**
+     * Updates the location of the key in the given slot.
+     */
+    void update(long slot, long location) {
+        chunk(slot).putLong(offset(slot) + 8, location);
+    }
+
+    /**
+     * Removes the key in the given slot.
+     */
+    void remove(long slot) {
+        chunk(slot).putLong(offset(slot) + 8, REMOVED);
+        size--;
+    }
+
+    /**
+     * Number of keys in the index
+     */
+    long size() {
+        return size;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Whether the index should be resized (incl removed slots which are still occupying slots)
+     */
+    boolean isFull() {
+        return used >= capacity * MAX_LOAD_FACTOR;
+    }
+
+    /**
+     * Creates a new index with the live keys from this index, and closes this index.
+     * <p/>
+     * The capacity is doubled unless the index is mostly occupied by removed slots.
+     */
+    MappedHashIndex resize() throws IOException {
+        long newCapacity = size * 2 >= capacity * MAX_LOAD_FACTOR ? capacity * 2 : capacity;
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        MappedHashIndex answer = create(tmp, newCapacity);
+        try {
+            for (long slot = 0; slot < capacity; slot++) {
+                long hash = hashAt(slot);
+                long location = locationAt(slot);
+                if (hash != 0 && location != REMOVED) {
+                    answer.insert(-answer.lookup(hash, l -> false) - 1, hash, location);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            answer.close();
+            throw e;
+        }
+        // the new index is still mapped after it has been moved
+        answer.file = file;
+        close();
+        return answer;
+    }
+
+    boolean isClean() {
+        return header.getInt(CLEAN_OFFSET) == 1;
+    }
+
+    /**
+     * The number of records in the log, stored when the index was marked as clean.
+     */
+    long getRecords() {
+        return header.getLong(RECORDS_OFFSET);
+    }
+
+    /**
+     * The location of the end of the log, stored when the index was marked as clean.
+     */
+    long getLogEnd() {
+        return header.getLong(LOG_END_OFFSET);
+    }
+
+    /**
+     * Writes the index to disk and marks the index as clean (in sync with the log).
+     *
+     * @param records the number of records in the log
+     * @param logEnd  the location of the end of the log
+     */
+    void markClean(long records, long logEnd) {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.putLong(SIZE_OFFSET, size);
+        header.putLong(USED_OFFSET, used);
+        header.putLong(RECORDS_OFFSET, records);
+        header.putLong(LOG_END_OFFSET, logEnd);
+        header.putInt(CLEAN_OFFSET, 1);
+        header.force();
+    }
+
+    /**
+     * Marks the index as being modified, so it must be rebuilt if not marked clean before the next restart.
+     */
+    void markDirty() {
+        header.putInt(CLEAN_OFFSET, 0);
+        header.force();
+    }
+
+    void close() throws IOException {
+        // the mapped buffers are released when garbage collected
+        channel.close();
+    }
+
+    private MappedByteBuffer chunk(long slot) {
+        return chunks[(int) (slot >>> CHUNK_SHIFT)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & CHUNK_MASK) * SLOT_SIZE;
+    }
+
+    private long hashAt(long slot) {
+        return chunk(slot).getLong(offset(slot));
+    }
+
+    private long locationAt(long slot) {
+        return chunk(slot).getLong(offset(slot) + 8);
+    }
+}
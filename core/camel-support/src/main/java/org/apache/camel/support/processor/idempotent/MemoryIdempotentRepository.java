@@ -16,14 +16,18 @@
  */
 package org.apache.camel.support.processor.idempotent;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.BrowsableIdempotentRepository;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.Metadata;
@@ -43,7 +47,7 @@ import org.apache.camel.support.service.ServiceSupport;
           annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
 @Configurer(metadataOnly = true)
 @ManagedResource(description = "Memory based idempotent repository")
-public class MemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+public class MemoryIdempotentRepository extends ServiceSupport implements BrowsableIdempotentRepository {
 
     private static final int MAX_CACHE_SIZE = 1000;
 
@@ -162,6 +166,18 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
         }
     }
 
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        List<String> keys;
+        cacheAndStoreLock.lock();
+        try {
+            keys = new ArrayList<>(cache.keySet());
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+        keys.forEach(action);
+    }
+
     public Map<String, Object> getCache() {
         return cache;
     }
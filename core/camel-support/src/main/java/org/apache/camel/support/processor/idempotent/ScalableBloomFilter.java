@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe scalable bloom filter, used by {@link BloomFilterIdempotentRepository}.
+ * <p/>
+ * The filter starts with a single bloom filter sized for the expected number of keys. When the filter is full, then a
+ * new filter with twice the capacity and half the false positive probability is added, so the total false positive
+ * probability stays below the desired probability regardless of the number of keys.
+ */
+final class ScalableBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final double TIGHTENING_RATIO = 0.5d;
+
+    private final long expectedKeys;
+    private final double falsePositiveProbability;
+    private final LongAdder size = new LongAdder();
+    private volatile Layer[] layers;
+
+    ScalableBloomFilter(long expectedKeys, double falsePositiveProbability) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("expectedKeys must be greater than 0, was: " + expectedKeys);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "falsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveProbability = falsePositiveProbability;
+        // the probabilities of the layers is a geometric series which sums up to the desired probability
+        this.layers = new Layer[] { new Layer(0, expectedKeys, falsePositiveProbability * (1 - TIGHTENING_RATIO)) };
+    }
+
+    /**
+     * Whether the key may be in the filter (false positives are possible), or is definitely not in the filter.
+     */
+    boolean mightContain(String key) {
+        return mightContain(layers, hash(key));
+    }
+
+    /**
+     * Adds the key to the filter.
+     */
+    void put(String key) {
+        long hash = hash(key);
+        Layer[] current = layers;
+        if (mightContain(current, hash)) {
+            return;
+        }
+        Layer last = current[current.length - 1];
+        if (last.count.sum() >= last.capacity) {
+            last = grow(current);
+        }
+        last.put(hash);
+        last.count.increment();
+        size.increment();
+    }
+
+    /**
+     * Number of keys added to the filter (excluding keys which were reported as already in the filter)
+     */
+    long size() {
+        return size.sum();
+    }
+
+    int layers() {
+        return layers.length;
+    }
+
+    /**
+     * The total size of the filters in bits
+     */
+    long bits() {
+        long answer = 0;
+        for (Layer layer : layers) {
+            answer += layer.numBits;
+        }
+        return answer;
+    }
+
+    private synchronized Layer grow(Layer[] current) {
+        Layer[] latest = layers;
+        if (latest != current) {
+            // another thread has already added a layer
+            return latest[latest.length - 1];
+        }
+        Layer last = current[current.length - 1];
+        Layer[] answer = new Layer[current.length + 1];
+        System.arraycopy(current, 0, answer, 0, current.length);
+        answer[current.length] = new Layer(current.length, last.capacity * 2, last.probability * TIGHTENING_RATIO);
+        layers = answer;
+        return answer[current.length];
+    }
+
+    private static boolean mightContain(Layer[] layers, long hash) {
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long hash(String key) {
+        return MappedHashIndex.hash(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return "ScalableBloomFilter[expectedKeys=" + expectedKeys + ", falsePositiveProbability=" + falsePositiveProbability
+               + ", size=" + size() + ", layers=" + layers() + "]";
+    }
+
+    private static final class Layer {
+        private final long seed;
+        private final long capacity;
+        private final double probability;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLongArray bits;
+        private final LongAdder count = new LongAdder();
+
+        Layer(int index, long capacity, double probability) {
+            // each layer uses different bits for the same key
+            this.seed = index * 0x9E3779B97F4A7C15L;
+            this.capacity = capacity;
+            this.probability = probability;
+            // optimal number of bits and hash functions for the given capacity and probability
+            long m = (long) Math.ceil(-capacity * Math.log(probability) / (LN2 * LN2));
+            long words = Math.max(1, (m + 63) >>> 6);
+            if (words > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Bloom filter too large for capacity: " + capacity);
+            }
+            this.numBits = words << 6;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * LN2));
+            this.bits = new AtomicLongArray((int) words);
+        }
+
+        boolean mightContain(long hash) {
+            long h1 = mix(hash ^ seed);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash) {
+            long h1 = mix(hash ^ seed);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = bits.get(index);
+                while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+                    word = bits.get(index);
+                }
+            }
+        }
+
+        private static long mix(long h) {
+            // fmix64 from murmur3
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB9FE1A85EC53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,881 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.BrowsableIdempotentRepository;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A log-structured file based implementation of {@link org.apache.camel.spi.IdempotentRepository}.
+ * <p/>
+ * The keys are appended to a log which is split into segment files in the given directory. Removing a key appends a
+ * remove record to the log, so the segment files are never rewritten in place. Each record is protected by a checksum,
+ * and when {@link #isSync()} is enabled (default) the record is forced to disk before {@link #add(String)} returns,
+ * so acknowledged keys survive a crash. A partially written record at the end of the log (from a crash) is truncated
+ * when the repository is started.
+ * <p/>
+ * Lookups use a memory mapped hash index (stored in the same directory) which maps the hash of each key to its
+ * location in the log, so {@link #contains(String)} does not scan the log regardless of the number of keys, and the
+ * memory used is managed by the operating system instead of the JVM heap. The index is rebuilt from the log if the
+ * repository was not stopped cleanly.
+ * <p/>
+ * When the log contains more obsolete records (removed keys) than given by {@link #getCompactionThreshold()}, then the
+ * older segments are compacted in the background, by copying the live keys to new segments and deleting the old
+ * segments.
+ * <p/>
+ * Compared to {@link FileIdempotentRepository} there is no maximum capacity, and no oldest entries are dropped.
+ */
+@Metadata(label = "bean",
+          description = "A log-structured file based idempotent repository. Uses append-only segment files with a memory mapped hash index"
+                        + " for fast lookup of any number of keys, and compacts the segments in the background.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Log-structured file based idempotent repository")
+public class SegmentedFileIdempotentRepository extends ServiceSupport
+        implements BrowsableIdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedFileIdempotentRepository.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final String INDEX_FILE = "index.idx";
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // type (1 byte) + key length (4 bytes) + checksum (4 bytes)
+    private static final int RECORD_OVERHEAD = 9;
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final NavigableMap<Integer, Segment> segments = new TreeMap<>();
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private MappedHashIndex index;
+    private Segment active;
+    private int activeId;
+    private long activeSize;
+    private long records;
+    private long generation;
+    private volatile long compactionCounter;
+
+    @Metadata(description = "The directory for the segment files and index of the repository", required = true)
+    private File directory;
+    @Metadata(description = "The maximum size in bytes of a segment file, before a new segment file is started. The default value is 64mb",
+              defaultValue = "" + 64 * 1024 * 1024L)
+    private long maxSegmentSize = 64 * 1024 * 1024L;
+    @Metadata(description = "Whether to force each added or removed key to disk before returning. Turning this off improves"
+                            + " performance, but keys added right before a crash of the operating system may be lost.",
+              defaultValue = "true")
+    private boolean sync = true;
+    @Metadata(description = "The initial number of slots in the hash index. The index grows automatically, but setting a capacity"
+                            + " above the expected number of keys avoids resizing the index.",
+              defaultValue = "1048576")
+    private long indexCapacity = 1024 * 1024;
+    @Metadata(description = "The ratio (between 0 and 1) of obsolete records in the log that triggers compaction of the segments."
+                            + " Use 0 to turn off compaction.",
+              defaultValue = "0.5")
+    private double compactionThreshold = 0.5d;
+
+    public SegmentedFileIdempotentRepository() {
+    }
+
+    public SegmentedFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new log-structured file based repository.
+     *
+     * @param directory the directory for the segment files and index
+     */
+    public static IdempotentRepository segmentedFileIdempotentRepository(File directory) {
+        return new SegmentedFileIdempotentRepository(directory);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = MappedHashIndex.hash(data);
+        boolean rolled;
+        lock.writeLock().lock();
+        try {
+            long slot = index.lookup(hash, l -> matches(l, data));
+            if (slot >= 0) {
+                return false;
+            }
+            int id = activeId;
+            // append to the log before updating the index, so the key is durable when acknowledged
+            long location = append(ADD, data);
+            index.insert(-slot - 1, hash, location);
+            if (index.isFull()) {
+                LOG.debug("Resizing hash index with capacity: {} in idempotent repository: {}", index.capacity(), directory);
+                index = index.resize();
+            }
+            rolled = id != activeId;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (rolled) {
+            compactIfNeeded();
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = MappedHashIndex.hash(data);
+        lock.readLock().lock();
+        try {
+            return index.lookup(hash, l -> matches(l, data)) >= 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = MappedHashIndex.hash(data);
+        lock.writeLock().lock();
+        try {
+            long slot = index.lookup(hash, l -> matches(l, data));
+            if (slot < 0) {
+                return false;
+            }
+            append(REMOVE, data);
+            index.remove(slot);
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            for (Map.Entry<Integer, Segment> entry : segments.entrySet()) {
+                entry.getValue().close();
+                Files.deleteIfExists(segmentFile(entry.getKey()));
+            }
+            segments.clear();
+            records = 0;
+            openActiveSegment(1);
+            long capacity = index.capacity();
+            index.close();
+            index = MappedHashIndex.create(indexFile(), capacity);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        lock.readLock().lock();
+        try {
+            for (int id : segments.keySet()) {
+                readSegment(id, (type, key, offset) -> {
+                    // only the records which the index points to are live
+                    if (type == ADD && index.find(MappedHashIndex.hash(key), location(id, offset)) >= 0) {
+                        action.accept(new String(key, StandardCharsets.UTF_8));
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the segments (except the segment currently being appended to), by copying the live keys to new segments
+     * and deleting the old segments. This is done automatically in the background when the number of obsolete records
+     * hits the compaction threshold.
+     */
+    @ManagedOperation(description = "Compacts the segments by removing obsolete records")
+    public void compact() {
+        if (compacting.compareAndSet(false, true)) {
+            try {
+                doCompact();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory for the segment files and index of the repository
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory path for the store")
+    public String getDirectoryPath() {
+        return directory.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum size in bytes of a segment file")
+    public long getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of a segment file, before a new segment file is started.
+     * <p/>
+     * The default is 64mb.
+     */
+    public void setMaxSegmentSize(long maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @ManagedAttribute(description = "Whether to force each added or removed key to disk before returning")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force each added or removed key to disk before returning. Turning this off improves performance, but
+     * keys added right before a crash of the operating system may be lost.
+     * <p/>
+     * The default is true.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public long getIndexCapacity() {
+        return indexCapacity;
+    }
+
+    /**
+     * Sets the initial number of slots in the hash index. The index grows automatically (which requires copying the
+     * index), but setting a capacity above the expected number of keys avoids resizing the index.
+     * <p/>
+     * The default is 1048576.
+     */
+    public void setIndexCapacity(long indexCapacity) {
+        this.indexCapacity = indexCapacity;
+    }
+
+    @ManagedAttribute(description = "The ratio of obsolete records in the log that triggers compaction")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the ratio (between 0 and 1) of obsolete records in the log that triggers compaction of the segments. Use 0
+     * to turn off compaction.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the store")
+    public long getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of records in the log (incl obsolete records)")
+    public long getRecords() {
+        lock.readLock().lock();
+        try {
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of segment files")
+    public int getSegments() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of compactions performed")
+    public long getCompactionCounter() {
+        return compactionCounter;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+        if (maxSegmentSize <= 0 || maxSegmentSize > OFFSET_MASK) {
+            throw new IllegalArgumentException("maxSegmentSize must be between 1 and " + OFFSET_MASK + ", was: " + maxSegmentSize);
+        }
+
+        Path dir = directory.toPath();
+        Files.createDirectories(dir);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(COMPACT_SUFFIX)) {
+                    // left over from a compaction which did not complete
+                    Files.delete(file);
+                } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                    int id = Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    segments.put(id, new Segment(id, channel));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            openActiveSegment(1);
+        } else {
+            activeId = segments.lastKey();
+            active = segments.get(activeId);
+            activeSize = active.channel.size();
+        }
+
+        index = MappedHashIndex.open(indexFile(), indexCapacity);
+        if (index.isClean() && index.getLogEnd() == location(activeId, activeSize)) {
+            records = index.getRecords();
+            LOG.debug("Loaded index with {} keys from idempotent repository: {}", index.size(), directory);
+        } else {
+            long capacity = Math.max(indexCapacity, index.capacity());
+            index.close();
+            index = MappedHashIndex.create(indexFile(), capacity);
+            rebuildIndex();
+        }
+        index.markDirty();
+
+        compacting.set(false);
+        if (camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "SegmentedFileIdempotentRepositoryCompaction");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                index.markClean(records, location(activeId, activeSize));
+                index.close();
+                index = null;
+            }
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            active = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index by reading the log, and truncates any corrupt or partially written records.
+     */
+    protected void rebuildIndex() throws IOException {
+        LOG.info("Rebuilding index from segment files in idempotent repository: {}", directory);
+        records = 0;
+        for (Map.Entry<Integer, Segment> entry : segments.entrySet()) {
+            int id = entry.getKey();
+            FileChannel channel = entry.getValue().channel;
+            long end = readSegment(id, (type, key, offset) -> {
+                records++;
+                long hash = MappedHashIndex.hash(key);
+                long slot = index.lookup(hash, l -> matches(l, key));
+                if (type == ADD) {
+                    if (slot >= 0) {
+                        index.update(slot, location(id, offset));
+                    } else {
+                        index.insert(-slot - 1, hash, location(id, offset));
+                        if (index.isFull()) {
+                            index = index.resize();
+                        }
+                    }
+                } else if (slot >= 0) {
+                    index.remove(slot);
+                }
+            });
+            if (end < channel.size()) {
+                LOG.warn("Truncating segment file: {} at {} bytes due to corrupt or partially written record",
+                        segmentFile(id), end);
+                channel.truncate(end);
+                channel.force(true);
+            }
+        }
+        activeSize = active.channel.size();
+        LOG.info("Rebuilt index with {} keys from {} records in idempotent repository: {}", index.size(), records,
+                directory);
+    }
+
+    private void compactIfNeeded() {
+        boolean needed;
+        lock.readLock().lock();
+        try {
+            needed = compactionThreshold > 0 && records > 0 && segments.size() > 1
+                    && records - index.size() >= records * compactionThreshold;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (needed && compacting.compareAndSet(false, true)) {
+            Runnable task = () -> {
+                try {
+                    doCompact();
+                } catch (Exception e) {
+                    LOG.warn("Error compacting idempotent repository: {} due to: {}. This exception is ignored.",
+                            directory, e.getMessage(), e);
+                } finally {
+                    compacting.set(false);
+                }
+            };
+            if (executorService != null) {
+                executorService.submit(task);
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Compacts the segments before the active segment.
+     * <p/>
+     * The segments are processed in order, and the live records of a group of segments are copied to a new segment
+     * which replaces the first segment of the group, after which the other segments of the group are deleted. If this
+     * is interrupted by a crash, then the log is still consistent, as the remaining segments of the group contain all
+     * their original records, and any key which is only in the compacted segment was live at the end of the group.
+     */
+    protected void doCompact() throws IOException {
+        List<Integer> inputs;
+        long gen;
+        lock.readLock().lock();
+        try {
+            if (!isRunAllowed()) {
+                return;
+            }
+            inputs = new ArrayList<>(segments.headMap(activeId, false).keySet());
+            gen = generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (inputs.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Compacting {} segments in idempotent repository: {}", inputs.size(), directory);
+        Compaction compaction = null;
+        try {
+            for (int id : inputs) {
+                if (compaction == null) {
+                    compaction = new Compaction(id);
+                }
+                compaction.copyLiveRecords(id);
+                if (compaction.size >= maxSegmentSize) {
+                    if (!install(compaction, gen)) {
+                        return;
+                    }
+                    compaction = null;
+                }
+            }
+            if (compaction != null && !install(compaction, gen)) {
+                return;
+            }
+            compaction = null;
+        } finally {
+            if (compaction != null) {
+                compaction.discard();
+            }
+        }
+        compactionCounter++;
+        LOG.debug("Compacted segments in idempotent repository: {} ({} keys in {} records)", directory, getSize(),
+                getRecords());
+    }
+
+    private boolean install(Compaction compaction, long gen) throws IOException {
+        compaction.flush();
+        lock.writeLock().lock();
+        try {
+            if (!isRunAllowed() || gen != generation) {
+                compaction.discard();
+                return false;
+            }
+            Files.move(compaction.file, segmentFile(compaction.target), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            Segment old = segments.put(compaction.target, new Segment(compaction.target, compaction.channel));
+            if (old != null) {
+                old.close();
+            }
+            long[] moves = compaction.moves;
+            for (int i = 0; i < compaction.moveCount; i += 3) {
+                // the key may have been removed (or removed and added again) while compacting
+                long slot = index.find(moves[i], moves[i + 1]);
+                if (slot >= 0) {
+                    index.update(slot, moves[i + 2]);
+                }
+            }
+            for (int id : compaction.inputs) {
+                if (id != compaction.target) {
+                    Segment removed = segments.remove(id);
+                    if (removed != null) {
+                        removed.close();
+                    }
+                    Files.deleteIfExists(segmentFile(id));
+                }
+            }
+            records += compaction.written - compaction.read;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the active segment, starting a new segment first if the active segment is full.
+     *
+     * @return the location of the record
+     */
+    private long append(byte type, byte[] key) throws IOException {
+        if (activeSize >= maxSegmentSize) {
+            openActiveSegment(activeId + 1);
+        }
+        ByteBuffer buf = ByteBuffer.allocate(RECORD_OVERHEAD + key.length);
+        buf.put(type).putInt(key.length).put(key).putInt(checksum(type, key));
+        buf.flip();
+        long offset = activeSize;
+        while (buf.hasRemaining()) {
+            active.write(buf, offset + buf.position());
+        }
+        if (sync) {
+            active.force();
+        }
+        activeSize += buf.limit();
+        records++;
+        return location(activeId, offset);
+    }
+
+    private void openActiveSegment(int id) throws IOException {
+        activeId = id;
+        active = new Segment(
+                id, FileChannel.open(segmentFile(id), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE));
+        activeSize = active.channel.size();
+        segments.put(id, active);
+    }
+
+    /**
+     * Whether the record at the given location is for the given key
+     */
+    private boolean matches(long location, byte[] key) throws IOException {
+        Segment segment = segments.get((int) (location >>> OFFSET_BITS));
+        if (segment == null) {
+            return false;
+        }
+        long position = (location & OFFSET_MASK) + 1;
+        ByteBuffer buf = ByteBuffer.allocate(4 + key.length);
+        while (buf.hasRemaining()) {
+            if (segment.read(buf, position + buf.position()) < 0) {
+                return false;
+            }
+        }
+        if (buf.getInt(0) != key.length) {
+            return false;
+        }
+        return Arrays.equals(buf.array(), 4, buf.limit(), key, 0, key.length);
+    }
+
+    /**
+     * Reads the valid records of the segment.
+     *
+     * @return the offset after the last valid record
+     */
+    private long readSegment(int id, RecordHandler handler) throws IOException {
+        Path file = segmentFile(id);
+        long length = Files.size(file);
+        long offset = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            while (offset < length) {
+                byte type = in.readByte();
+                int size = in.readInt();
+                if ((type != ADD && type != REMOVE) || size < 0 || size > length - offset - RECORD_OVERHEAD) {
+                    break;
+                }
+                byte[] key = new byte[size];
+                in.readFully(key);
+                if (in.readInt() != checksum(type, key)) {
+                    break;
+                }
+                handler.onRecord(type, key, offset);
+                offset += RECORD_OVERHEAD + size;
+            }
+        } catch (EOFException e) {
+            // partially written record
+        }
+        return offset;
+    }
+
+    private Path segmentFile(int id) {
+        return directory.toPath().resolve(String.format("%010d", id) + SEGMENT_SUFFIX);
+    }
+
+    private Path indexFile() {
+        return directory.toPath().resolve(INDEX_FILE);
+    }
+
+    private static long location(int segment, long offset) {
+        return (long) segment << OFFSET_BITS | offset;
+    }
+
+    private static int checksum(byte type, byte[] key) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(key.length >>> 24);
+        crc.update(key.length >>> 16);
+        crc.update(key.length >>> 8);
+        crc.update(key.length);
+        crc.update(key);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A segment file. When a thread is interrupted while reading or writing a file channel, then the channel is closed
+     * for all the threads, so the segment file is then opened again. The operation of the interrupted thread fails, and
+     * the operations of the other threads are retried.
+     */
+    private final class Segment {
+        private final int id;
+        private volatile FileChannel channel;
+
+        Segment(int id, FileChannel channel) {
+            this.id = id;
+            this.channel = channel;
+        }
+
+        int read(ByteBuffer buf, long position) throws IOException {
+            try {
+                return channel.read(buf, position);
+            } catch (ClosedChannelException e) {
+                return reopen(e).read(buf, position);
+            }
+        }
+
+        int write(ByteBuffer buf, long position) throws IOException {
+            try {
+                return channel.write(buf, position);
+            } catch (ClosedChannelException e) {
+                return reopen(e).write(buf, position);
+            }
+        }
+
+        void force() throws IOException {
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                reopen(e).force(false);
+            }
+        }
+
+        /**
+         * Opens the segment file again, unless already opened again by another thread. This is only called while
+         * holding the read or write lock, so the segment is not closed on purpose meanwhile.
+         */
+        private synchronized FileChannel reopen(ClosedChannelException cause) throws IOException {
+            if (!channel.isOpen()) {
+                LOG.debug("Opening segment file: {} again as it was closed by an interrupted thread", segmentFile(id));
+                channel = FileChannel.open(segmentFile(id), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            if (cause instanceof ClosedByInterruptException) {
+                throw cause;
+            }
+            return channel;
+        }
+
+        void close() {
+            IOHelper.close(channel);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void onRecord(byte type, byte[] key, long offset) throws IOException;
+    }
+
+    /**
+     * The live records of a group of segments being copied to a new segment.
+     */
+    private final class Compaction {
+        private final int target;
+        private final Path file;
+        private final FileChannel channel;
+        private final OutputStream out;
+        private final List<Integer> inputs = new ArrayList<>();
+        // triples of key hash, old location and new location
+        private long[] moves = new long[3 * 1024];
+        private int moveCount;
+        private long size;
+        private long read;
+        private long written;
+
+        Compaction(int target) throws IOException {
+            this.target = target;
+            this.file = directory.toPath().resolve(String.format("%010d", target) + COMPACT_SUFFIX);
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        }
+
+        void copyLiveRecords(int id) throws IOException {
+            inputs.add(id);
+            readSegment(id, (type, key, offset) -> {
+                read++;
+                if (type != ADD) {
+                    return;
+                }
+                long hash = MappedHashIndex.hash(key);
+                long location = location(id, offset);
+                boolean live;
+                lock.readLock().lock();
+                try {
+                    live = index != null && index.find(hash, location) >= 0;
+                } finally {
+                    lock.readLock().unlock();
+                }
+                if (live) {
+                    if (moveCount == moves.length) {
+                        moves = Arrays.copyOf(moves, moves.length * 2);
+                    }
+                    moves[moveCount++] = hash;
+                    moves[moveCount++] = location;
+                    moves[moveCount++] = location(target, size);
+                    out.write(type);
+                    out.write(key.length >>> 24);
+                    out.write(key.length >>> 16);
+                    out.write(key.length >>> 8);
+                    out.write(key.length);
+                    out.write(key);
+                    int crc = checksum(type, key);
+                    out.write(crc >>> 24);
+                    out.write(crc >>> 16);
+                    out.write(crc >>> 8);
+                    out.write(crc);
+                    size += RECORD_OVERHEAD + key.length;
+                    written++;
+                }
+            });
+        }
+
+        void flush() throws IOException {
+            out.flush();
+            channel.force(true);
+        }
+
+        void discard() throws IOException {
+            IOHelper.close(channel);
+            Files.deleteIfExists(file);
+        }
+    }
+}
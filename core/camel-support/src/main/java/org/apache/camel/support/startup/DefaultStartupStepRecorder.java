@@ -19,6 +19,8 @@ package org.apache.camel.support.startup;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.StartupStep;
 import org.apache.camel.spi.StartupStepRecorder;
@@ -77,8 +79,12 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     };
 
+    private final Lock lock = new ReentrantLock();
     private final AtomicInteger stepCounter = new AtomicInteger();
     private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // the steps begun with a parent by the current thread (such as when starting routes concurrently), which are the
+    // parents of the steps this thread begins without a parent, instead of the current steps shared by all threads
+    private final ThreadLocal<Deque<StartupStep>> threadSteps = new ThreadLocal<>();
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -160,17 +166,54 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
+        Deque<StartupStep> steps = threadSteps.get();
+        if (steps != null) {
+            return beginStep(steps.peekFirst(), type, name, description);
+        }
         if (enabled) {
-            int level = currentSteps.size() - 1;
-            if (maxDepth != -1 && level >= maxDepth) {
-                return DISABLED_STEP;
+            lock.lock();
+            try {
+                int level = currentSteps.size() - 1;
+                if (maxDepth != -1 && level >= maxDepth) {
+                    return DISABLED_STEP;
+                }
+                int id = stepCounter.incrementAndGet();
+                Integer parent = currentSteps.peekFirst();
+                int pid = parent != null ? parent : 0;
+                StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
+                onBeginStep(step);
+                currentSteps.offerFirst(id);
+                return step;
+            } finally {
+                lock.unlock();
             }
-            int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
-            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
+        } else {
+            return DISABLED_STEP;
+        }
+    }
+
+    @Override
+    public StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled) {
+            StartupStep step = DISABLED_STEP;
+            if (parent != null && parent != DISABLED_STEP && (maxDepth == -1 || parent.getLevel() + 1 < maxDepth)) {
+                lock.lock();
+                try {
+                    int id = stepCounter.incrementAndGet();
+                    step = createStartupStep(type.getSimpleName(), name, description, id, parent.getId(),
+                            parent.getLevel() + 1);
+                    onBeginStep(step);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            // the step is not added to the current steps as other threads may begin steps meanwhile
+            Deque<StartupStep> steps = threadSteps.get();
+            if (steps == null) {
+                steps = new ArrayDeque<>();
+                threadSteps.set(steps);
+            }
+            steps.offerFirst(step);
             return step;
         } else {
             return DISABLED_STEP;
@@ -178,10 +221,23 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     }
 
     public void endStep(StartupStep step) {
+        Deque<StartupStep> steps = threadSteps.get();
+        if (steps != null) {
+            steps.removeFirstOccurrence(step);
+            if (steps.isEmpty()) {
+                threadSteps.remove();
+            }
+        }
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
-            step.endStep();
-            onEndStep(step);
+            lock.lock();
+            try {
+                // remove the step (which is usually the first)
+                currentSteps.removeFirstOccurrence(step.getId());
+                step.endStep();
+                onEndStep(step);
+            } finally {
+                lock.unlock();
+            }
         }
     }
 
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * A map that uses case insensitive keys, but preserves the original key cases.
@@ -38,6 +39,10 @@ import java.util.Set;
  * {@code put}, {@code containsKey} and {@code remove} operations without allocating temporary strings. Entries are
  * stored in insertion order.
  * <p/>
+ * The case-insensitive hash of each key is stored alongside the entry, so resizing and copying a map (such as when
+ * copying the headers of a message) does not need to rehash the keys. The hashes of the registered well-known keys are
+ * precomputed, and are used when looking up with the same (interned) string constant.
+ * <p/>
  * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
  * Camel routing engine.
  */
@@ -54,6 +59,10 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     private static volatile String[] knownEntries;
     private static volatile int[] knownChainNext;
     private static volatile int knownMask;
+    // Static lookup table (by identity) of the precomputed case-insensitive hashes of the well-known keys.
+    private static volatile int[] knownExactTable;
+    private static volatile int[] knownExactChainNext;
+    private static volatile int[] knownHashes;
 
     /**
      * Registers a set of well-known header key strings for deduplication. When a key passed to {@link #put} matches one
@@ -68,22 +77,52 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         int mask = tableSize - 1;
         int[] tbl = new int[tableSize];
         Arrays.fill(tbl, EMPTY);
+        int[] exactTbl = new int[tableSize];
+        Arrays.fill(exactTbl, EMPTY);
         String[] entries = keys.toArray(new String[0]);
         int[] chain = new int[entries.length];
+        int[] exactChain = new int[entries.length];
+        int[] hashes = new int[entries.length];
 
         for (int i = 0; i < entries.length; i++) {
-            int b = caseInsensitiveHash(entries[i]) & mask;
+            hashes[i] = caseInsensitiveHash(entries[i]);
+            int b = hashes[i] & mask;
             chain[i] = tbl[b];
             tbl[b] = i;
+            b = entries[i].hashCode() & mask;
+            exactChain[i] = exactTbl[b];
+            exactTbl[b] = i;
         }
 
         knownEntries = entries;
         knownChainNext = chain;
+        knownExactChainNext = exactChain;
+        knownHashes = hashes;
         knownMask = mask;
-        // assign table last — readers check knownTable != null as the gate
+        // assign tables last — readers check knownTable/knownExactTable != null as the gate
+        knownExactTable = exactTbl;
         knownTable = tbl;
     }
 
+    /**
+     * Computes the case-insensitive hash of the key, using the precomputed hash if the key is one of the registered
+     * well-known keys (same string instance).
+     */
+    private static int hashOf(String key) {
+        int[] tbl = knownExactTable;
+        if (tbl != null) {
+            // the string hash code is cached by the string, so this lookup is cheap
+            int idx = tbl[key.hashCode() & knownMask];
+            while (idx != EMPTY) {
+                if (knownEntries[idx] == key) {
+                    return knownHashes[idx];
+                }
+                idx = knownExactChainNext[idx];
+            }
+        }
+        return caseInsensitiveHash(key);
+    }
+
     private static String deduplicateKey(String key, int hash) {
         int[] tbl = knownTable;
         if (tbl == null) {
@@ -103,6 +142,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     private transient String[] keys;
     private transient Object[] values;
     private transient int[] chainNext;
+    private transient int[] hashes;
 
     private transient int size;
     private transient int usedSlots;
@@ -113,8 +153,37 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     }
 
     public CaseInsensitiveMap(Map<? extends String, ?> map) {
-        init(tableSizeFor(Math.max((int) (map.size() / LOAD_FACTOR) + 1, DEFAULT_CAPACITY)));
-        putAll(map);
+        if (map instanceof CaseInsensitiveMap other) {
+            copyFrom(other);
+        } else {
+            init(tableSizeFor(Math.max((int) (map.size() / LOAD_FACTOR) + 1, DEFAULT_CAPACITY)));
+            // do not call the overridable put methods from the constructor
+            for (Entry<? extends String, ?> entry : map.entrySet()) {
+                doPut(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void copyFrom(CaseInsensitiveMap other) {
+        if (other.size == other.usedSlots) {
+            // no removed entries so the hash table can be copied as-is
+            table = other.table.clone();
+            keys = other.keys.clone();
+            values = other.values.clone();
+            chainNext = other.chainNext.clone();
+            hashes = other.hashes.clone();
+            size = other.size;
+            usedSlots = other.usedSlots;
+            threshold = other.threshold;
+        } else {
+            // compact the entries using the stored hashes
+            init(tableSizeFor(Math.max((int) (other.size / LOAD_FACTOR) + 1, DEFAULT_CAPACITY)));
+            for (int i = 0; i < other.usedSlots; i++) {
+                if (other.keys[i] != null) {
+                    addEntry(other.keys[i], other.values[i], other.hashes[i]);
+                }
+            }
+        }
     }
 
     private void init(int tableCapacity) {
@@ -124,6 +193,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         keys = new String[entryCapacity];
         values = new Object[entryCapacity];
         chainNext = new int[entryCapacity];
+        hashes = new int[entryCapacity];
         size = 0;
         usedSlots = 0;
         threshold = (int) (tableCapacity * LOAD_FACTOR);
@@ -155,20 +225,13 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     }
 
     private int findIndex(String key) {
-        int idx = table[caseInsensitiveHash(key) & (table.length - 1)];
-        while (idx != EMPTY) {
-            if (keys[idx].equalsIgnoreCase(key)) {
-                return idx;
-            }
-            idx = chainNext[idx];
-        }
-        return EMPTY;
+        return findIndex(key, hashOf(key));
     }
 
     private int findIndex(String key, int hash) {
         int idx = table[hash & (table.length - 1)];
         while (idx != EMPTY) {
-            if (keys[idx].equalsIgnoreCase(key)) {
+            if (hashes[idx] == hash && keys[idx].equalsIgnoreCase(key)) {
                 return idx;
             }
             idx = chainNext[idx];
@@ -199,7 +262,11 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
 
     @Override
     public Object put(String key, Object value) {
-        int hash = caseInsensitiveHash(key);
+        return doPut(key, value);
+    }
+
+    private Object doPut(String key, Object value) {
+        int hash = hashOf(key);
         key = deduplicateKey(key, hash);
         int idx = findIndex(key, hash);
         if (idx != EMPTY) {
@@ -207,6 +274,11 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
             values[idx] = value;
             return old;
         }
+        addEntry(key, value, hash);
+        return null;
+    }
+
+    private void addEntry(String key, Object value, int hash) {
         if (size >= threshold) {
             resize(table.length * 2);
             // table length changed, but hash is still valid
@@ -216,25 +288,26 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
             keys = Arrays.copyOf(keys, newCap);
             values = Arrays.copyOf(values, newCap);
             chainNext = Arrays.copyOf(chainNext, newCap);
+            hashes = Arrays.copyOf(hashes, newCap);
         }
         int slot = usedSlots++;
         keys[slot] = key;
         values[slot] = value;
+        hashes[slot] = hash;
         int b = hash & (table.length - 1);
         chainNext[slot] = table[b];
         table[b] = slot;
         size++;
-        return null;
     }
 
     @Override
     public Object remove(Object key) {
-        int hash = caseInsensitiveHash((String) key);
+        int hash = hashOf((String) key);
         int b = hash & (table.length - 1);
         int prev = EMPTY;
         int cur = table[b];
         while (cur != EMPTY) {
-            if (keys[cur].equalsIgnoreCase((String) key)) {
+            if (hashes[cur] == hash && keys[cur].equalsIgnoreCase((String) key)) {
                 Object old = values[cur];
                 if (prev == EMPTY) {
                     table[b] = chainNext[cur];
@@ -253,8 +326,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     }
 
     private void removeByIndex(int idx) {
-        String key = keys[idx];
-        int b = caseInsensitiveHash(key) & (table.length - 1);
+        int b = hashes[idx] & (table.length - 1);
         int prev = EMPTY;
         int cur = table[b];
         while (cur != EMPTY) {
@@ -281,13 +353,15 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         String[] newKeys = new String[entryCap];
         Object[] newValues = new Object[entryCap];
         int[] newChainNext = new int[entryCap];
+        int[] newHashes = new int[entryCap];
 
         int newSlot = 0;
         for (int i = 0; i < usedSlots; i++) {
             if (keys[i] != null) {
                 newKeys[newSlot] = keys[i];
                 newValues[newSlot] = values[i];
-                int b = caseInsensitiveHash(keys[i]) & (newTableCapacity - 1);
+                newHashes[newSlot] = hashes[i];
+                int b = hashes[i] & (newTableCapacity - 1);
                 newChainNext[newSlot] = newTable[b];
                 newTable[b] = newSlot;
                 newSlot++;
@@ -298,6 +372,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         keys = newKeys;
         values = newValues;
         chainNext = newChainNext;
+        hashes = newHashes;
         usedSlots = newSlot;
         threshold = (int) (newTableCapacity * LOAD_FACTOR);
     }
@@ -323,8 +398,34 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
 
     @Override
     public void putAll(Map<? extends String, ?> m) {
-        for (Entry<? extends String, ?> entry : m.entrySet()) {
-            put(entry.getKey(), entry.getValue());
+        if (m instanceof CaseInsensitiveMap other) {
+            // use the stored hashes (and avoid creating map entries)
+            for (int i = 0; i < other.usedSlots; i++) {
+                String key = other.keys[i];
+                if (key != null) {
+                    int hash = other.hashes[i];
+                    int idx = findIndex(key, hash);
+                    if (idx != EMPTY) {
+                        values[idx] = other.values[i];
+                    } else {
+                        addEntry(key, other.values[i], hash);
+                    }
+                }
+            }
+        } else {
+            for (Entry<? extends String, ?> entry : m.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < usedSlots; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], values[i]);
+            }
         }
     }
 
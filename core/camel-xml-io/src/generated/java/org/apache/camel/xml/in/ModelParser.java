@@ -79,6 +79,18 @@ public class ModelParser extends BaseParser {
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, outputDefinitionElementHandler(), noValueHandler());
     }
+    protected AdaptiveThrottleDefinition doParseAdaptiveThrottleDefinition() throws IOException, XmlPullParserException {
+        return doParse(new AdaptiveThrottleDefinition(), (def, key, val) -> switch (key) {
+                case "algorithm": def.setAlgorithm(val); yield true;
+                case "backoffRatio": def.setBackoffRatio(val); yield true;
+                case "initialLimit": def.setInitialLimit(val); yield true;
+                case "maxLimit": def.setMaxLimit(val); yield true;
+                case "maxQueueSize": def.setMaxQueueSize(val); yield true;
+                case "minLimit": def.setMinLimit(val); yield true;
+                case "queueTimeout": def.setQueueTimeout(val); yield true;
+                default: yield processorDefinitionAttributeHandler().accept(def, key, val);
+            }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
+    }
     protected <T extends OutputDefinition> ElementHandler<T> outputDefinitionElementHandler() {
         return (def, key) -> {
             ProcessorDefinition v = doParseProcessorDefinitionRef(key);
@@ -128,6 +140,7 @@ public class ModelParser extends BaseParser {
                 case "completionSize": def.setCompletionSize(val); yield true;
                 case "completionTimeout": def.setCompletionTimeout(val); yield true;
                 case "completionTimeoutCheckerInterval": def.setCompletionTimeoutCheckerInterval(val); yield true;
+                case "completionTimeoutTimingWheel": def.setCompletionTimeoutTimingWheel(val); yield true;
                 case "discardOnAggregationFailure": def.setDiscardOnAggregationFailure(val); yield true;
                 case "discardOnCompletionTimeout": def.setDiscardOnCompletionTimeout(val); yield true;
                 case "eagerCheckCompletion": def.setEagerCheckCompletion(val); yield true;
@@ -571,6 +584,7 @@ public class ModelParser extends BaseParser {
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); yield true;
+                case "shareUnmodified": def.setShareUnmodified(val); yield true;
                 case "stopOnException": def.setStopOnException(val); yield true;
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
@@ -740,6 +754,7 @@ public class ModelParser extends BaseParser {
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); yield true;
+                case "shareUnmodified": def.setShareUnmodified(val); yield true;
                 case "stopOnException": def.setStopOnException(val); yield true;
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
@@ -1155,6 +1170,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
+                case "parallelWindowSize": def.setParallelWindowSize(val); yield true;
                 case "resumeStrategy": def.setResumeStrategy(val); yield true;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); yield true;
                 case "stopOnException": def.setStopOnException(val); yield true;
@@ -1382,6 +1398,7 @@ public class ModelParser extends BaseParser {
                 case "dynamicUri": def.setDynamicUri(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
+                case "shareUnmodified": def.setShareUnmodified(val); yield true;
                 default: yield toDynamicDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -2752,6 +2769,7 @@ public class ModelParser extends BaseParser {
     protected ProcessorDefinition doParseProcessorDefinitionRef(String key) throws IOException, XmlPullParserException {
         switch (key) {
             case "a2aSubTask": return doParseA2ASubTaskDefinition();
+            case "adaptiveThrottle": return doParseAdaptiveThrottleDefinition();
             case "aggregate": return doParseAggregateDefinition();
             case "bean": return doParseBeanDefinition();
             case "doCatch": return doParseCatchDefinition();
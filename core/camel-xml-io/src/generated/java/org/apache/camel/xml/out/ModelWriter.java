@@ -56,6 +56,9 @@ public class ModelWriter extends BaseWriter {
     public void writeA2ASubTaskDefinition(A2ASubTaskDefinition def) throws IOException {
         doWriteA2ASubTaskDefinition("a2aSubTask", def);
     }
+    public void writeAdaptiveThrottleDefinition(AdaptiveThrottleDefinition def) throws IOException {
+        doWriteAdaptiveThrottleDefinition("adaptiveThrottle", def);
+    }
     public void writeAggregateDefinition(AggregateDefinition def) throws IOException {
         doWriteAggregateDefinition("aggregate", def);
     }
@@ -785,6 +788,18 @@ public class ModelWriter extends BaseWriter {
         doWriteList(null, null, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         endElement(name);
     }
+    protected void doWriteAdaptiveThrottleDefinition(String name, AdaptiveThrottleDefinition def) throws IOException {
+        startElement(name);
+        doWriteProcessorDefinitionAttributes(def);
+        doWriteAttribute("algorithm", def.getAlgorithm(), "gradient");
+        doWriteAttribute("initialLimit", def.getInitialLimit(), "20");
+        doWriteAttribute("minLimit", def.getMinLimit(), "1");
+        doWriteAttribute("maxLimit", def.getMaxLimit(), "1000");
+        doWriteAttribute("maxQueueSize", def.getMaxQueueSize(), "0");
+        doWriteAttribute("queueTimeout", def.getQueueTimeout(), "10000");
+        doWriteAttribute("backoffRatio", def.getBackoffRatio(), "0.9");
+        endElement(name);
+    }
     protected void doWriteAggregateDefinition(String name, AggregateDefinition def) throws IOException {
         startElement(name);
         doWriteProcessorDefinitionAttributes(def);
@@ -802,6 +817,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionInterval", def.getCompletionInterval(), null);
         doWriteAttribute("completionTimeout", def.getCompletionTimeout(), null);
         doWriteAttribute("completionTimeoutCheckerInterval", def.getCompletionTimeoutCheckerInterval(), "1000");
+        doWriteAttribute("completionTimeoutTimingWheel", def.getCompletionTimeoutTimingWheel(), null);
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer(), null);
         doWriteAttribute("completionOnNewCorrelationGroup", def.getCompletionOnNewCorrelationGroup(), null);
         doWriteAttribute("eagerCheckCompletion", def.getEagerCheckCompletion(), null);
@@ -1239,6 +1255,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute("shareUnmodified", def.getShareUnmodified(), null);
         doWriteList(null, null, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         endElement(name);
     }
@@ -1431,6 +1448,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("cacheSize", def.getCacheSize(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute("shareUnmodified", def.getShareUnmodified(), null);
         doWriteAttribute("allowedSchemes", def.getAllowedSchemes(), null);
         doWriteExpressionNodeElements(def);
         endElement(name);
@@ -1775,6 +1793,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
         doWriteAttribute("streaming", def.getStreaming(), null);
+        doWriteAttribute("parallelWindowSize", def.getParallelWindowSize(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
         doWriteAttribute("executorService", def.getExecutorService(), null);
@@ -2024,6 +2043,7 @@ public class ModelWriter extends BaseWriter {
         startElement(name);
         doWriteToDynamicDefinitionAttributes(def);
         doWriteAttribute("copy", def.getCopy(), "true");
+        doWriteAttribute("shareUnmodified", def.getShareUnmodified(), null);
         doWriteAttribute("dynamicUri", def.getDynamicUri(), "true");
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
@@ -3610,6 +3630,7 @@ public class ModelWriter extends BaseWriter {
         if (v != null) {
             switch (v.getClass().getSimpleName()) {
                 case "A2ASubTaskDefinition" -> doWriteA2ASubTaskDefinition("a2aSubTask", (A2ASubTaskDefinition) v);
+                case "AdaptiveThrottleDefinition" -> doWriteAdaptiveThrottleDefinition("adaptiveThrottle", (AdaptiveThrottleDefinition) v);
                 case "AggregateDefinition" -> doWriteAggregateDefinition("aggregate", (AggregateDefinition) v);
                 case "BeanDefinition" -> doWriteBeanDefinition("bean", (BeanDefinition) v);
                 case "CatchDefinition" -> doWriteCatchDefinition("doCatch", (CatchDefinition) v);
@@ -3718,6 +3739,7 @@ public class ModelWriter extends BaseWriter {
         if (v != null) {
             switch (v.getClass().getSimpleName()) {
                 case "A2ASubTaskDefinition" -> doWriteA2ASubTaskDefinition("a2aSubTask", (A2ASubTaskDefinition) v);
+                case "AdaptiveThrottleDefinition" -> doWriteAdaptiveThrottleDefinition("adaptiveThrottle", (AdaptiveThrottleDefinition) v);
                 case "AggregateDefinition" -> doWriteAggregateDefinition("aggregate", (AggregateDefinition) v);
                 case "BeanDefinition" -> doWriteBeanDefinition("bean", (BeanDefinition) v);
                 case "CatchDefinition" -> doWriteCatchDefinition("doCatch", (CatchDefinition) v);
@@ -31,8 +31,10 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Expression;
 import org.apache.camel.NamedNode;
+import org.apache.camel.RoutesBuilder;
 import org.apache.camel.builder.EndpointConsumerBuilder;
 import org.apache.camel.builder.EndpointProducerBuilder;
+import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.model.BasicExpressionNode;
 import org.apache.camel.model.BeanFactoryDefinition;
 import org.apache.camel.model.DataFormatDefinition;
@@ -235,6 +237,32 @@ public class LwModelToXMLDumper implements ModelToXMLDumper {
         return buffer.toString();
     }
 
+    @Override
+    public String dumpRoutesBuilderAsXml(CamelContext context, RoutesBuilder builder) throws Exception {
+        if (!(builder instanceof RouteBuilder rb) || context.isDebugging()) {
+            // the source locations are dumped when debugging, which cannot be loaded again
+            return null;
+        }
+        RoutesDefinition routes = rb.configureRoutes(context);
+        if (routes.getRoutes().isEmpty()
+                || !routes.getIntercepts().isEmpty() || !routes.getInterceptFroms().isEmpty()
+                || !routes.getInterceptSendTos().isEmpty() || !routes.getOnExceptions().isEmpty()
+                || !routes.getOnCompletions().isEmpty() || !rb.getBeans().isEmpty()
+                || !rb.getRestCollection().getRests().isEmpty()
+                || !rb.getRouteTemplateCollection().getRouteTemplates().isEmpty()
+                || !rb.getTemplatedRouteCollection().getTemplatedRoutes().isEmpty()) {
+            return null;
+        }
+        for (RouteDefinition route : routes.getRoutes()) {
+            if (Boolean.TRUE.equals(route.isTemplate()) || Boolean.TRUE.equals(route.isRest())) {
+                return null;
+            }
+        }
+        RoutesDefinition answer = new RoutesDefinition();
+        answer.setRoutes(routes.getRoutes());
+        return dumpModelAsXml(context, answer, false, false, false);
+    }
+
     /**
      * Extract all XML namespaces from the expressions in the route
      *
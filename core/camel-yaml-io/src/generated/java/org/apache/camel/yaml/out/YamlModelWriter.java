@@ -49,6 +49,9 @@ public class YamlModelWriter extends YamlModelWriterSupport {
     public JsonObject writeA2ASubTaskDefinition(A2ASubTaskDefinition def) {
         return wrapNode("a2aSubTask", doWriteA2ASubTaskDefinition(def));
     }
+    public JsonObject writeAdaptiveThrottleDefinition(AdaptiveThrottleDefinition def) {
+        return wrapNode("adaptiveThrottle", doWriteAdaptiveThrottleDefinition(def));
+    }
     public JsonObject writeAggregateDefinition(AggregateDefinition def) {
         return wrapNode("aggregate", doWriteAggregateDefinition(def));
     }
@@ -778,6 +781,18 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteOutputs(jo, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         return jo;
     }
+    protected JsonObject doWriteAdaptiveThrottleDefinition(AdaptiveThrottleDefinition def) {
+        JsonObject jo = new JsonObject();
+        doWriteProcessorDefinitionAttributes(jo, def);
+        doWriteAttribute(jo, "algorithm", def.getAlgorithm(), "gradient");
+        doWriteAttribute(jo, "initialLimit", def.getInitialLimit(), "20");
+        doWriteAttribute(jo, "minLimit", def.getMinLimit(), "1");
+        doWriteAttribute(jo, "maxLimit", def.getMaxLimit(), "1000");
+        doWriteAttribute(jo, "maxQueueSize", def.getMaxQueueSize(), "0");
+        doWriteAttribute(jo, "queueTimeout", def.getQueueTimeout(), "10000");
+        doWriteAttribute(jo, "backoffRatio", def.getBackoffRatio(), "0.9");
+        return jo;
+    }
     protected JsonObject doWriteAggregateDefinition(AggregateDefinition def) {
         JsonObject jo = new JsonObject();
         doWriteProcessorDefinitionAttributes(jo, def);
@@ -795,6 +810,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "completionInterval", def.getCompletionInterval(), null);
         doWriteAttribute(jo, "completionTimeout", def.getCompletionTimeout(), null);
         doWriteAttribute(jo, "completionTimeoutCheckerInterval", def.getCompletionTimeoutCheckerInterval(), "1000");
+        doWriteAttribute(jo, "completionTimeoutTimingWheel", def.getCompletionTimeoutTimingWheel(), null);
         doWriteAttribute(jo, "completionFromBatchConsumer", def.getCompletionFromBatchConsumer(), null);
         doWriteAttribute(jo, "completionOnNewCorrelationGroup", def.getCompletionOnNewCorrelationGroup(), null);
         doWriteAttribute(jo, "eagerCheckCompletion", def.getEagerCheckCompletion(), null);
@@ -1234,6 +1250,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(jo, "shareUnmodified", def.getShareUnmodified(), null);
         doWriteOutputs(jo, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         return jo;
     }
@@ -1426,6 +1443,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "cacheSize", def.getCacheSize(), null);
         doWriteAttribute(jo, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(jo, "shareUnmodified", def.getShareUnmodified(), null);
         doWriteAttribute(jo, "allowedSchemes", def.getAllowedSchemes(), null);
         doWriteExpressionNodeElements(jo, def);
         return jo;
@@ -1771,6 +1789,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(jo, "synchronous", def.getSynchronous(), null);
         doWriteAttribute(jo, "streaming", def.getStreaming(), null);
+        doWriteAttribute(jo, "parallelWindowSize", def.getParallelWindowSize(), null);
         doWriteAttribute(jo, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(jo, "timeout", def.getTimeout(), "0");
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
@@ -2020,6 +2039,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         JsonObject jo = new JsonObject();
         doWriteToDynamicDefinitionAttributes(jo, def);
         doWriteAttribute(jo, "copy", def.getCopy(), "true");
+        doWriteAttribute(jo, "shareUnmodified", def.getShareUnmodified(), null);
         doWriteAttribute(jo, "dynamicUri", def.getDynamicUri(), "true");
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
@@ -3618,6 +3638,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         if (v != null) {
             return switch (v.getClass().getSimpleName()) {
                 case "A2ASubTaskDefinition" -> wrapNode("a2aSubTask", doWriteA2ASubTaskDefinition((A2ASubTaskDefinition) v));
+                case "AdaptiveThrottleDefinition" -> wrapNode("adaptiveThrottle", doWriteAdaptiveThrottleDefinition((AdaptiveThrottleDefinition) v));
                 case "AggregateDefinition" -> wrapNode("aggregate", doWriteAggregateDefinition((AggregateDefinition) v));
                 case "BeanDefinition" -> wrapNode("bean", doWriteBeanDefinition((BeanDefinition) v));
                 case "CatchDefinition" -> wrapNode("doCatch", doWriteCatchDefinition((CatchDefinition) v));
@@ -3730,6 +3751,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         if (v != null) {
             return switch (v.getClass().getSimpleName()) {
                 case "A2ASubTaskDefinition" -> wrapNode("a2aSubTask", doWriteA2ASubTaskDefinition((A2ASubTaskDefinition) v));
+                case "AdaptiveThrottleDefinition" -> wrapNode("adaptiveThrottle", doWriteAdaptiveThrottleDefinition((AdaptiveThrottleDefinition) v));
                 case "AggregateDefinition" -> wrapNode("aggregate", doWriteAggregateDefinition((AggregateDefinition) v));
                 case "BeanDefinition" -> wrapNode("bean", doWriteBeanDefinition((BeanDefinition) v));
                 case "CatchDefinition" -> wrapNode("doCatch", doWriteCatchDefinition((CatchDefinition) v));
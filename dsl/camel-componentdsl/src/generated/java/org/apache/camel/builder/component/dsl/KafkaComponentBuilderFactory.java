@@ -780,6 +780,56 @@ public interface KafkaComponentBuilderFactory {
         }
     
         
+        /**
+         * In parallel processing mode (see parallelProcessingThreads), then this
+         * option is specifying the ordering to keep when processing the records
+         * in parallel. With key, then the records with the same key in a
+         * partition are processed in order, and records with different keys are
+         * processed in parallel. With partition, then the records of a partition
+         * are processed in order, and the records of different partitions are
+         * processed in parallel.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer
+         * 
+         * @param parallelProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingOrdering(java.lang.String parallelProcessingOrdering) {
+            doSetProperty("parallelProcessingOrdering", parallelProcessingOrdering);
+            return this;
+        }
+    
+        
+        /**
+         * Number of worker threads to process the records from each poll in
+         * parallel, while keeping the ordering per key or per partition (see
+         * parallelProcessingOrdering). This allows processing with more
+         * concurrency than the number of partitions of the topic. The default is
+         * 0, which processes the records one by one on the consumer thread. The
+         * worker threads are shared by all the consumers (see consumersCount).
+         * The next poll happens when all the records of the current poll have
+         * been processed, so increase maxPollRecords to keep the worker threads
+         * busy. The offsets are committed up to the last record of each
+         * partition, where the record and all records before are processed. This
+         * cannot be used together with batching or allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingThreads(int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
+    
+        
         /**
          * The class name of the partition assignment strategy that the client
          * will use to distribute partition ownership amongst consumer instances
@@ -1872,6 +1922,28 @@ public interface KafkaComponentBuilderFactory {
         }
     
         
+        /**
+         * Whether to send a list of exchanges (such as the grouped exchanges
+         * from the aggregator) as a record for each exchange, and wait for all
+         * of them to be acknowledged. The record metadata is set on each of the
+         * exchanges, and the exchange with the list fails if any of the records
+         * could not be sent. When using transactions, then the records are sent
+         * in the transaction of the exchange with the list.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batchGroupedExchanges(boolean batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
+    
+        
         /**
          * Whether the producer should store the RecordMetadata results from
          * sending to Kafka. The results are stored in a List containing the
@@ -2667,6 +2739,8 @@ public interface KafkaComponentBuilderFactory {
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Integer) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
             case "offsetRepository": getOrCreateConfiguration((KafkaComponent) component).setOffsetRepository((org.apache.camel.spi.StateRepository) value); return true;
+            case "parallelProcessingOrdering": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingOrdering((java.lang.String) value); return true;
+            case "parallelProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingThreads((int) value); return true;
             case "partitionAssignor": getOrCreateConfiguration((KafkaComponent) component).setPartitionAssignor((java.lang.String) value); return true;
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
@@ -2719,6 +2793,7 @@ public interface KafkaComponentBuilderFactory {
             case "workerPool": getOrCreateConfiguration((KafkaComponent) component).setWorkerPool((java.util.concurrent.ExecutorService) value); return true;
             case "workerPoolCoreSize": getOrCreateConfiguration((KafkaComponent) component).setWorkerPoolCoreSize((java.lang.Integer) value); return true;
             case "workerPoolMaxSize": getOrCreateConfiguration((KafkaComponent) component).setWorkerPoolMaxSize((java.lang.Integer) value); return true;
+            case "batchGroupedExchanges": getOrCreateConfiguration((KafkaComponent) component).setBatchGroupedExchanges((boolean) value); return true;
             case "recordMetadata": getOrCreateConfiguration((KafkaComponent) component).setRecordMetadata((boolean) value); return true;
             case "autowiredEnabled": ((KafkaComponent) component).setAutowiredEnabled((boolean) value); return true;
             case "kafkaClientFactory": ((KafkaComponent) component).setKafkaClientFactory((org.apache.camel.component.kafka.KafkaClientFactory) value); return true;
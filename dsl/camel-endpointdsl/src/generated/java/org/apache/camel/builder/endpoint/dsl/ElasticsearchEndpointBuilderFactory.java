@@ -508,6 +508,42 @@ public interface ElasticsearchEndpointBuilderFactory {
             return (ElasticsearchEndpointBuilder) this;
         }
 
+        /**
+         * Whether to index a list of exchanges (such as the grouped exchanges
+         * from the aggregator) with one bulk request. The id of the indexed
+         * document is set on each of the exchanges, and the exchange with the
+         * list fails if any of the documents failed to be indexed.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder batchGroupedExchanges(boolean batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
+        /**
+         * Whether to index a list of exchanges (such as the grouped exchanges
+         * from the aggregator) with one bulk request. The id of the indexed
+         * document is set on each of the exchanges, and the exchange with the
+         * list fails if any of the documents failed to be indexed.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder batchGroupedExchanges(String batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
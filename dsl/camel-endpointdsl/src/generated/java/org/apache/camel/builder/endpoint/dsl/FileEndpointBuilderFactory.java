@@ -2323,6 +2323,56 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Number of threads used for polling the directories in parallel. When
+         * enabled, the directory and its sub directories (when recursive) are
+         * listed in parallel, and the files are processed as they are found,
+         * instead of gathering all the files before processing. This can reduce
+         * the time before the first file is processed when polling directories
+         * with many files, such as on network file systems. The files are not
+         * sorted, so the sorter, sortBy and shuffle options cannot be used. The
+         * filter, antFilter, filterDirectory, filterFile and idempotentKey
+         * options are evaluated concurrently by the fork-join threads listing
+         * the directories, so a custom filter or expression must be thread-safe.
+         * The default is 0 which means the directories are polled by the
+         * consumer thread.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelScanThreads(int parallelScanThreads) {
+            doSetProperty("parallelScanThreads", parallelScanThreads);
+            return this;
+        }
+        /**
+         * Number of threads used for polling the directories in parallel. When
+         * enabled, the directory and its sub directories (when recursive) are
+         * listed in parallel, and the files are processed as they are found,
+         * instead of gathering all the files before processing. This can reduce
+         * the time before the first file is processed when polling directories
+         * with many files, such as on network file systems. The files are not
+         * sorted, so the sorter, sortBy and shuffle options cannot be used. The
+         * filter, antFilter, filterDirectory, filterFile and idempotentKey
+         * options are evaluated concurrently by the fork-join threads listing
+         * the directories, so a custom filter or expression must be thread-safe.
+         * The default is 0 which means the directories are polled by the
+         * consumer thread.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelScanThreads(String parallelScanThreads) {
+            doSetProperty("parallelScanThreads", parallelScanThreads);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -2509,6 +2559,86 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to use the file system java.nio.file.WatchService to be
+         * notified about new and changed files, instead of listing the
+         * directories on every poll. The consumer then only picks up the files
+         * it has been notified about (and processes them with the same options
+         * such as read lock, move, idempotent and done files), and lists the
+         * directories periodically (see watchServiceRescanDelay) as a safety
+         * net, for files the notifications did not cover. This reduces the IO on
+         * large directories, but not the latency, as the files are still picked
+         * up by the next poll.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(boolean useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * Whether to use the file system java.nio.file.WatchService to be
+         * notified about new and changed files, instead of listing the
+         * directories on every poll. The consumer then only picks up the files
+         * it has been notified about (and processes them with the same options
+         * such as read lock, move, idempotent and done files), and lists the
+         * directories periodically (see watchServiceRescanDelay) as a safety
+         * net, for files the notifications did not cover. This reduces the IO on
+         * large directories, but not the latency, as the files are still picked
+         * up by the next poll.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(String useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * Milliseconds between listing the directories when using
+         * useWatchService=true, as a safety net for files the file system
+         * notifications did not cover.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchServiceRescanDelay the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceRescanDelay(long watchServiceRescanDelay) {
+            doSetProperty("watchServiceRescanDelay", watchServiceRescanDelay);
+            return this;
+        }
+        /**
+         * Milliseconds between listing the directories when using
+         * useWatchService=true, as a safety net for files the file system
+         * notifications did not cover.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchServiceRescanDelay the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceRescanDelay(String watchServiceRescanDelay) {
+            doSetProperty("watchServiceRescanDelay", watchServiceRescanDelay);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -3283,6 +3413,48 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("forceWrites", forceWrites);
             return this;
         }
+        /**
+         * Whether to write a file based message body by creating a hard link to
+         * the source file, instead of copying the content of the file. The
+         * source and the target files then share the same content, so any later
+         * change to one of the files is visible in the other file. If the hard
+         * link cannot be created (such as when the files are on different file
+         * systems) then the content is copied. This option is not in use when
+         * appending to existing files, or when the chmod option is set.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param hardLink the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder hardLink(boolean hardLink) {
+            doSetProperty("hardLink", hardLink);
+            return this;
+        }
+        /**
+         * Whether to write a file based message body by creating a hard link to
+         * the source file, instead of copying the content of the file. The
+         * source and the target files then share the same content, so any later
+         * change to one of the files is visible in the other file. If the hard
+         * link cannot be created (such as when the files are on different file
+         * systems) then the content is copied. This option is not in use when
+         * appending to existing files, or when the chmod option is set.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param hardLink the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder hardLink(String hardLink) {
+            doSetProperty("hardLink", hardLink);
+            return this;
+        }
         /**
          * Will keep the last modified timestamp from the source file (if any).
          * Will use the FileConstants.FILE_LAST_MODIFIED header to located the
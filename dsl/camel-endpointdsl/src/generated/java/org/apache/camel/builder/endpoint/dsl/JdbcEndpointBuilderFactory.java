@@ -388,6 +388,42 @@ public interface JdbcEndpointBuilderFactory {
             return (JdbcEndpointBuilder) this;
         }
 
+        /**
+         * Whether to execute a list of exchanges (such as the grouped exchanges
+         * from the aggregator) as one JDBC batch. The update count is set on
+         * each of the exchanges, and the exchange with the list fails if any of
+         * the statements failed.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedJdbcEndpointBuilder batchGroupedExchanges(boolean batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
+        /**
+         * Whether to execute a list of exchanges (such as the grouped exchanges
+         * from the aggregator) as one JDBC batch. The update count is set on
+         * each of the exchanges, and the exchange with the list fails if any of
+         * the statements failed.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedJdbcEndpointBuilder batchGroupedExchanges(String batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
@@ -1177,6 +1177,77 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("offsetRepository", offsetRepository);
             return this;
         }
+        /**
+         * In parallel processing mode (see parallelProcessingThreads), then this
+         * option is specifying the ordering to keep when processing the records
+         * in parallel. With key, then the records with the same key in a
+         * partition are processed in order, and records with different keys are
+         * processed in parallel. With partition, then the records of a partition
+         * are processed in order, and the records of different partitions are
+         * processed in parallel.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: key
+         * Group: consumer
+         * 
+         * @param parallelProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder parallelProcessingOrdering(String parallelProcessingOrdering) {
+            doSetProperty("parallelProcessingOrdering", parallelProcessingOrdering);
+            return this;
+        }
+        /**
+         * Number of worker threads to process the records from each poll in
+         * parallel, while keeping the ordering per key or per partition (see
+         * parallelProcessingOrdering). This allows processing with more
+         * concurrency than the number of partitions of the topic. The default is
+         * 0, which processes the records one by one on the consumer thread. The
+         * worker threads are shared by all the consumers (see consumersCount).
+         * The next poll happens when all the records of the current poll have
+         * been processed, so increase maxPollRecords to keep the worker threads
+         * busy. The offsets are committed up to the last record of each
+         * partition, where the record and all records before are processed. This
+         * cannot be used together with batching or allowManualCommit.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder parallelProcessingThreads(int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
+        /**
+         * Number of worker threads to process the records from each poll in
+         * parallel, while keeping the ordering per key or per partition (see
+         * parallelProcessingOrdering). This allows processing with more
+         * concurrency than the number of partitions of the topic. The default is
+         * 0, which processes the records one by one on the consumer thread. The
+         * worker threads are shared by all the consumers (see consumersCount).
+         * The next poll happens when all the records of the current poll have
+         * been processed, so increase maxPollRecords to keep the worker threads
+         * busy. The offsets are committed up to the last record of each
+         * partition, where the record and all records before are processed. This
+         * cannot be used together with batching or allowManualCommit.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder parallelProcessingThreads(String parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
         /**
          * The class name of the partition assignment strategy that the client
          * will use to distribute partition ownership amongst consumer instances
@@ -4525,6 +4596,46 @@ public interface KafkaEndpointBuilderFactory {
             return (KafkaEndpointProducerBuilder) this;
         }
 
+        /**
+         * Whether to send a list of exchanges (such as the grouped exchanges
+         * from the aggregator) as a record for each exchange, and wait for all
+         * of them to be acknowledged. The record metadata is set on each of the
+         * exchanges, and the exchange with the list fails if any of the records
+         * could not be sent. When using transactions, then the records are sent
+         * in the transaction of the exchange with the list.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointProducerBuilder batchGroupedExchanges(boolean batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
+        /**
+         * Whether to send a list of exchanges (such as the grouped exchanges
+         * from the aggregator) as a record for each exchange, and wait for all
+         * of them to be acknowledged. The record metadata is set on each of the
+         * exchanges, and the exchange with the list fails if any of the records
+         * could not be sent. When using transactions, then the records are sent
+         * in the transaction of the exchange with the list.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointProducerBuilder batchGroupedExchanges(String batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
@@ -1979,6 +1979,42 @@ public interface MongoDbEndpointBuilderFactory {
             return (MongoDbEndpointProducerBuilder) this;
         }
 
+        /**
+         * Whether to insert a list of exchanges (such as the grouped exchanges
+         * from the aggregator) with one unordered insertMany. The id of the
+         * inserted document is set on each of the exchanges, and the exchange
+         * with the list fails if any of the documents failed to be inserted.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder batchGroupedExchanges(boolean batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
+        /**
+         * Whether to insert a list of exchanges (such as the grouped exchanges
+         * from the aggregator) with one unordered insertMany. The id of the
+         * inserted document is set on each of the exchanges, and the exchange
+         * with the list fails if any of the documents failed to be inserted.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param batchGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder batchGroupedExchanges(String batchGroupedExchanges) {
+            doSetProperty("batchGroupedExchanges", batchGroupedExchanges);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
@@ -313,6 +313,44 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("multipleConsumers", multipleConsumers);
             return this;
         }
+        /**
+         * Whether to detect when the virtual threads used by
+         * virtualThreadPerTask are pinned to their carrier thread while
+         * blocking. The detection uses the JDK Flight Recorder (JDK 21) and the
+         * number of pinned threads is available as a JMX attribute on the
+         * endpoint.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param pinnedThreadDetection the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder pinnedThreadDetection(boolean pinnedThreadDetection) {
+            doSetProperty("pinnedThreadDetection", pinnedThreadDetection);
+            return this;
+        }
+        /**
+         * Whether to detect when the virtual threads used by
+         * virtualThreadPerTask are pinned to their carrier thread while
+         * blocking. The detection uses the JDK Flight Recorder (JDK 21) and the
+         * number of pinned threads is available as a JMX attribute on the
+         * endpoint.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param pinnedThreadDetection the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder pinnedThreadDetection(String pinnedThreadDetection) {
+            doSetProperty("pinnedThreadDetection", pinnedThreadDetection);
+            return this;
+        }
         /**
          * The timeout (in milliseconds) used when polling. When a timeout
          * occurs, the consumer can check whether it is allowed to continue
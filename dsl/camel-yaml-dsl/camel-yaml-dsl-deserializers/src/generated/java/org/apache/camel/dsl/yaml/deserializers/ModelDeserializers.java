@@ -12,6 +12,7 @@ import org.apache.camel.dsl.yaml.common.YamlDeserializerBase;
 import org.apache.camel.dsl.yaml.common.YamlDeserializerEndpointAwareBase;
 import org.apache.camel.dsl.yaml.common.YamlDeserializerSupport;
 import org.apache.camel.model.A2ASubTaskDefinition;
+import org.apache.camel.model.AdaptiveThrottleDefinition;
 import org.apache.camel.model.AggregateDefinition;
 import org.apache.camel.model.BeanDefinition;
 import org.apache.camel.model.BeanFactoryDefinition;
@@ -412,6 +413,105 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = "adaptiveThrottle",
+            types = org.apache.camel.model.AdaptiveThrottleDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            displayName = "Adaptive Throttle",
+            description = "Limits the number of concurrent messages with a limit that is adjusted automatically from the observed round-trip time and error rate to avoid overloading downstream systems",
+            deprecated = false,
+            properties = {
+                    @YamlProperty(name = "algorithm", type = "enum:gradient,vegas", defaultValue = "gradient", description = "The algorithm used for adjusting the concurrency limit. gradient compares the round-trip time with a long-term average (inspired by Gradient2). vegas estimates the queue in the downstream system from the minimum round-trip time (inspired by TCP Vegas).", displayName = "Algorithm"),
+                    @YamlProperty(name = "backoffRatio", type = "number", defaultValue = "0.9", description = "The ratio the concurrency limit is multiplied with when a message failed, to back off when the error rate increases. Must be between 0 and 1.", displayName = "Backoff Ratio"),
+                    @YamlProperty(name = "description", type = "string", description = "The description for this node", displayName = "Description"),
+                    @YamlProperty(name = "disabled", type = "boolean", defaultValue = "false", description = "Whether to disable this EIP from the route during build time. Once an EIP has been disabled then it cannot be enabled later at runtime.", displayName = "Disabled"),
+                    @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
+                    @YamlProperty(name = "initialLimit", type = "number", defaultValue = "20", description = "The concurrency limit to start with.", displayName = "Initial Limit"),
+                    @YamlProperty(name = "maxLimit", type = "number", defaultValue = "1000", description = "The highest concurrency limit.", displayName = "Max Limit"),
+                    @YamlProperty(name = "maxQueueSize", type = "number", defaultValue = "0", description = "The maximum number of messages that can wait for a permit when the concurrency limit is exceeded. When the queue is full then the message is rejected with ThrottlerRejectedExecutionException. The default is 0 which means messages are rejected right away.", displayName = "Max Queue Size"),
+                    @YamlProperty(name = "minLimit", type = "number", defaultValue = "1", description = "The lowest concurrency limit.", displayName = "Min Limit"),
+                    @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
+                    @YamlProperty(name = "queueTimeout", type = "string", defaultValue = "10000", description = "The maximum time a message can wait in the queue for a permit before being rejected.", displayName = "Queue Timeout")
+            }
+    )
+    public static class AdaptiveThrottleDefinitionDeserializer extends YamlDeserializerBase<AdaptiveThrottleDefinition> {
+        public AdaptiveThrottleDefinitionDeserializer() {
+            super(AdaptiveThrottleDefinition.class);
+        }
+
+        @Override
+        protected AdaptiveThrottleDefinition newInstance() {
+            return new AdaptiveThrottleDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(AdaptiveThrottleDefinition target, String propertyKey,
+                String propertyName, Node node) {
+            propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
+            switch(propertyKey) {
+                case "algorithm": {
+                    String val = asText(node);
+                    target.setAlgorithm(val);
+                    break;
+                }
+                case "backoffRatio": {
+                    String val = asText(node);
+                    target.setBackoffRatio(val);
+                    break;
+                }
+                case "disabled": {
+                    String val = asText(node);
+                    target.setDisabled(val);
+                    break;
+                }
+                case "initialLimit": {
+                    String val = asText(node);
+                    target.setInitialLimit(val);
+                    break;
+                }
+                case "maxLimit": {
+                    String val = asText(node);
+                    target.setMaxLimit(val);
+                    break;
+                }
+                case "maxQueueSize": {
+                    String val = asText(node);
+                    target.setMaxQueueSize(val);
+                    break;
+                }
+                case "minLimit": {
+                    String val = asText(node);
+                    target.setMinLimit(val);
+                    break;
+                }
+                case "queueTimeout": {
+                    String val = asText(node);
+                    target.setQueueTimeout(val);
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                case "description": {
+                    String val = asText(node);
+                    target.setDescription(val);
+                    break;
+                }
+                case "note": {
+                    String val = asText(node);
+                    target.setNote(val);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = "aggregate",
             types = org.apache.camel.model.AggregateDefinition.class,
@@ -436,6 +536,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "completionTimeout", type = "string", description = "Time that an aggregated exchange should be inactive before its complete (timeout). Cannot be used together with completionInterval.", displayName = "Completion Timeout"),
                     @YamlProperty(name = "completionTimeoutCheckerInterval", type = "string", defaultValue = "1000", description = "Interval in millis for the background task that checks for completion timeouts. Default is 1000 (1 second).", displayName = "Completion Timeout Checker Interval"),
                     @YamlProperty(name = "completionTimeoutExpression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition", description = "Time in millis that an aggregated exchange should be inactive before its complete (timeout), evaluated as an expression allowing dynamic timeout values.", displayName = "Completion Timeout Expression"),
+                    @YamlProperty(name = "completionTimeoutTimingWheel", type = "boolean", defaultValue = "false", description = "Whether to use a hierarchical timing wheel to keep track of the completion timeouts, instead of periodically scanning all the aggregated exchanges. This is recommended when there are many correlation groups in progress. The completionTimeoutCheckerInterval is used as the tick duration of the timing wheel.", displayName = "Completion Timeout Timing Wheel"),
                     @YamlProperty(name = "correlationExpression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition", description = "The expression used to calculate the correlation key to use for aggregation. Exchanges with the same correlation key are aggregated together. If the correlation key cannot be evaluated an Exception is thrown.", displayName = "Correlation Expression"),
                     @YamlProperty(name = "description", type = "string", description = "The description for this node", displayName = "Description"),
                     @YamlProperty(name = "disabled", type = "boolean", defaultValue = "false", description = "Whether to disable this EIP from the route during build time. Once an EIP has been disabled then it cannot be enabled later at runtime.", displayName = "Disabled"),
@@ -550,6 +651,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setCompletionTimeoutExpression(val);
                     break;
                 }
+                case "completionTimeoutTimingWheel": {
+                    String val = asText(node);
+                    target.setCompletionTimeoutTimingWheel(val);
+                    break;
+                }
                 case "correlationExpression": {
                     org.apache.camel.model.ExpressionSubElementDefinition val = asType(node, org.apache.camel.model.ExpressionSubElementDefinition.class);
                     target.setCorrelationExpression(val);
@@ -9962,6 +10068,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", defaultValue = "false", description = "If enabled then sending messages to the multicasts occurs concurrently. The caller thread still waits until all messages are fully processed before it continues.", displayName = "Parallel Processing"),
                     @YamlProperty(name = "shareUnitOfWork", type = "boolean", defaultValue = "false", description = "Shares the unit of work with the parent and each of the multicast exchanges. By default each multicast exchange has its own individual unit of work.", displayName = "Share Unit Of Work"),
+                    @YamlProperty(name = "shareUnmodified", type = "boolean", defaultValue = "false", description = "Whether each of the multicast exchanges share the exchange properties with the parent exchange until either exchange modifies the properties (copy-on-write). By default the properties are copied to each multicast exchange up front.", displayName = "Share Unmodified"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "stopOnException", type = "boolean", defaultValue = "false", description = "If enabled then stops further multicast processing if an exception or failure occurred during processing of an exchange, and the caused exception will be thrown. The default behavior is to not stop but continue processing till the end.", displayName = "Stop On Exception"),
                     @YamlProperty(name = "streaming", type = "boolean", defaultValue = "false", description = "If enabled then Camel will process replies out-of-order, in the order they come back. If disabled, Camel will process replies in the same order as defined by the multicast.", displayName = "Streaming"),
@@ -10029,6 +10136,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setShareUnitOfWork(val);
                     break;
                 }
+                case "shareUnmodified": {
+                    String val = asText(node);
+                    target.setShareUnmodified(val);
+                    break;
+                }
                 case "stopOnException": {
                     String val = asText(node);
                     target.setStopOnException(val);
@@ -13066,6 +13178,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", defaultValue = "false", description = "If enabled then sending messages to the recipients occurs concurrently. Note the caller thread will still wait until all messages has been fully processed, before it continues.", displayName = "Parallel Processing"),
                     @YamlProperty(name = "shareUnitOfWork", type = "boolean", defaultValue = "false", description = "Shares the UnitOfWork with the parent and each of the sub messages. Recipient List will by default not share unit of work between the parent exchange and each recipient exchange. This means each sub exchange has its own individual unit of work.", displayName = "Share Unit Of Work"),
+                    @YamlProperty(name = "shareUnmodified", type = "boolean", defaultValue = "false", description = "Whether each of the recipient exchanges share the exchange properties with the parent exchange until either exchange modifies the properties (copy-on-write). By default the properties are copied to each recipient exchange up front.", displayName = "Share Unmodified"),
                     @YamlProperty(name = "stopOnException", type = "boolean", defaultValue = "false", description = "Stops further processing if an exception or failure occurred during processing of an exchange and the caused exception will be thrown.", displayName = "Stop On Exception"),
                     @YamlProperty(name = "streaming", type = "boolean", defaultValue = "false", description = "If enabled then Camel will process replies out-of-order, eg in the order they come back. If disabled, Camel will process replies in the same order as defined by the recipient list.", displayName = "Streaming"),
                     @YamlProperty(name = "synchronous", type = "boolean", defaultValue = "false", description = "Sets whether synchronous processing should be strictly used. When enabled then the same thread is used to continue routing after the recipient list is complete, even if parallel processing is enabled.", displayName = "Synchronous"),
@@ -13157,6 +13270,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setShareUnitOfWork(val);
                     break;
                 }
+                case "shareUnmodified": {
+                    String val = asText(node);
+                    target.setShareUnmodified(val);
+                    break;
+                }
                 case "stopOnException": {
                     String val = asText(node);
                     target.setStopOnException(val);
@@ -17091,6 +17209,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "onPrepare", type = "string", description = "Reference to a processor for preparing the exchange to be sent. Can be used to deep-clone messages that should be sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", defaultValue = "false", description = "If enabled then processing each split message occurs concurrently. The caller thread still waits until all messages are fully processed before it continues.", displayName = "Parallel Processing"),
+                    @YamlProperty(name = "parallelWindowSize", type = "number", description = "Limits the number of split messages that are in-flight when using parallel processing. The splitter does not split further messages until the oldest in-flight messages have completed, and the replies are aggregated in the same order as the messages was split, also in streaming mode. Combined with streaming this bounds the memory usage when splitting big payloads in parallel.", displayName = "Parallel Window Size"),
                     @YamlProperty(name = "resumeStrategy", type = "string", description = "Sets a ResumeStrategy for resume-from-last-position support. The watermark key must also be configured via watermarkKey(String) .", displayName = "Resume Strategy"),
                     @YamlProperty(name = "shareUnitOfWork", type = "boolean", defaultValue = "false", description = "Shares the unit of work with the parent and each of the split messages. By default each split exchange has its own individual unit of work.", displayName = "Share Unit Of Work"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
@@ -17182,6 +17301,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setParallelProcessing(val);
                     break;
                 }
+                case "parallelWindowSize": {
+                    String val = asText(node);
+                    target.setParallelWindowSize(val);
+                    break;
+                }
                 case "resumeStrategy": {
                     String val = asText(node);
                     target.setResumeStrategy(val);
@@ -20540,6 +20664,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Uses a processor when preparing the exchange to be sent. This can be used to deep-clone messages, or any custom logic needed before the exchange is sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parameters", type = "object"),
+                    @YamlProperty(name = "shareUnmodified", type = "boolean", defaultValue = "false", description = "Whether the copy of the original exchange shares the exchange properties with the original exchange until either exchange modifies the properties (copy-on-write). By default the properties are copied up front.", displayName = "Share Unmodified"),
                     @YamlProperty(name = "uri", type = "string", required = true, description = "The uri of the endpoint to send to. The uri can be dynamic computed using the simple language.", displayName = "Uri"),
                     @YamlProperty(name = "variableReceive", type = "string", description = "To use a variable to store the received message body (only body, not headers). This makes it handy to use variables for user data and to easily control what data to use for sending and receiving.", displayName = "Variable Receive"),
                     @YamlProperty(name = "variableSend", type = "string", description = "To use a variable as the source for the message body to send. This makes it handy to use variables for user data and to easily control what data to use for sending and receiving.", displayName = "Variable Send")
@@ -20616,6 +20741,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setOnPrepare(val);
                     break;
                 }
+                case "shareUnmodified": {
+                    String val = asText(node);
+                    target.setShareUnmodified(val);
+                    break;
+                }
                 case "uri": {
                     String val = asText(node);
                     target.setUri(val);
@@ -21,6 +21,8 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "org.apache.camel.model.A2ASubTaskDefinition": return new ModelDeserializers.A2ASubTaskDefinitionDeserializer();
             case "asn1": return new ModelDeserializers.ASN1DataFormatDeserializer();
             case "org.apache.camel.model.dataformat.ASN1DataFormat": return new ModelDeserializers.ASN1DataFormatDeserializer();
+            case "adaptiveThrottle": return new ModelDeserializers.AdaptiveThrottleDefinitionDeserializer();
+            case "org.apache.camel.model.AdaptiveThrottleDefinition": return new ModelDeserializers.AdaptiveThrottleDefinitionDeserializer();
             case "aggregate": return new ModelDeserializers.AggregateDefinitionDeserializer();
             case "org.apache.camel.model.AggregateDefinition": return new ModelDeserializers.AggregateDefinitionDeserializer();
             case "apiKey": return new ModelDeserializers.ApiKeyDefinitionDeserializer();
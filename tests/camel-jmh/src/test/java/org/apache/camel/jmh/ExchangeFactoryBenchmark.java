@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeExchangeFactory;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.service.ServiceHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares creating and releasing exchanges with the {@link PrototypeExchangeFactory} and the
+ * {@link PooledExchangeFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExchangeFactoryBenchmark {
+
+    @Param({ "prototype", "pooled" })
+    String factory;
+
+    private CamelContext context;
+    private ExchangeFactory exchangeFactory;
+    private Endpoint endpoint;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        if ("pooled".equals(factory)) {
+            context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+        } else {
+            context.getCamelContextExtension().setExchangeFactory(new PrototypeExchangeFactory());
+        }
+        context.start();
+
+        endpoint = context.getEndpoint("direct:start");
+        // create a factory as a consumer would do
+        Consumer consumer = endpoint.createConsumer(exchange -> {
+        });
+        exchangeFactory = context.getCamelContextExtension().getExchangeFactory().newExchangeFactory(consumer);
+        ServiceHelper.startService(exchangeFactory);
+    }
+
+    @TearDown
+    public void teardown() {
+        ServiceHelper.stopService(exchangeFactory);
+        context.stop();
+    }
+
+    @Benchmark
+    public Exchange createAndRelease() {
+        Exchange exchange = exchangeFactory.create(endpoint, false);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        exchange.setProperty("beer", "Carlsberg");
+        exchangeFactory.release(exchange);
+        return exchange;
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.impl.engine.HashMapHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the message headers with the {@link DefaultHeadersMapFactory} (case-insensitive) and the
+ * {@link HashMapHeadersMapFactory} (case-sensitive), when looking up, adding and copying headers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadersMapFactoryBenchmark {
+
+    @Param({ "default", "hashmap" })
+    String factory;
+
+    @Param({ "10" })
+    int headers;
+
+    private CamelContext context;
+    private HeadersMapFactory headersMapFactory;
+    private Map<String, Object> map;
+    private Exchange exchange;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        if ("hashmap".equals(factory)) {
+            context.getCamelContextExtension().setHeadersMapFactory(new HashMapHeadersMapFactory());
+        } else {
+            context.getCamelContextExtension().setHeadersMapFactory(new DefaultHeadersMapFactory());
+        }
+        context.start();
+        headersMapFactory = context.getCamelContextExtension().getHeadersMapFactory();
+
+        map = headersMapFactory.newMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put(Exchange.CONTENT_TYPE, "text/plain");
+        map.put(Exchange.HTTP_RESPONSE_CODE, 200);
+        for (int i = 3; i < headers; i++) {
+            map.put("header" + i, i);
+        }
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeaders(headersMapFactory.newMap(map));
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void getWellKnownHeaders(Blackhole bh) {
+        bh.consume(map.get(Exchange.FILE_NAME));
+        bh.consume(map.get(Exchange.CONTENT_TYPE));
+        bh.consume(map.get(Exchange.HTTP_RESPONSE_CODE));
+    }
+
+    @Benchmark
+    public void getCustomHeaders(Blackhole bh) {
+        bh.consume(map.get("header3"));
+        bh.consume(map.get("header4"));
+        bh.consume(map.get("unknown"));
+    }
+
+    @Benchmark
+    public Map<String, Object> newMapAndPut() {
+        Map<String, Object> answer = headersMapFactory.newMap();
+        answer.put(Exchange.FILE_NAME, "hello.txt");
+        answer.put(Exchange.CONTENT_TYPE, "text/plain");
+        answer.put("foo", "bar");
+        return answer;
+    }
+
+    @Benchmark
+    public Map<String, Object> copyMap() {
+        return headersMapFactory.newMap(map);
+    }
+
+    @Benchmark
+    public Exchange copyExchange() {
+        return exchange.copy();
+    }
+
+    @Benchmark
+    public Exchange copyExchangeAndSetHeader() {
+        Exchange copy = exchange.copy();
+        copy.getMessage().setHeader("foo", "bar");
+        return copy;
+    }
+
+}
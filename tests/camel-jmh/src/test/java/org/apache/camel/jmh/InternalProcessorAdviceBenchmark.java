@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the {@link org.apache.camel.impl.engine.CamelInternalProcessor} advice chain, depending on
+ * which cross-cutting features are turned on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InternalProcessorAdviceBenchmark extends RouteBenchmarkSupport {
+
+    @Param({ "none", "streamCaching", "messageHistory", "backlogTracing", "all" })
+    String advice;
+
+    @Override
+    protected void configureContext(CamelContext context) throws Exception {
+        boolean all = "all".equals(advice);
+        context.setStreamCaching(all || "streamCaching".equals(advice));
+        context.setMessageHistory(all || "messageHistory".equals(advice));
+        context.setBacklogTracing(all || "backlogTracing".equals(advice));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("foo").constant("bar")
+                        .filter(header("foo").isEqualTo("bar"))
+                            .setBody().constant("Bye World")
+                        .end()
+                        .removeHeader("foo");
+            }
+        };
+    }
+
+    @Benchmark
+    public Object route() {
+        return template.requestBody("direct:start", "Hello World");
+    }
+
+}
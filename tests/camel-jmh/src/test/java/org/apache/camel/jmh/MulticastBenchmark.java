@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.MulticastDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link org.apache.camel.processor.MulticastProcessor} which copies the exchange for each branch.
+ * <p/>
+ * The exchange has 10 properties which the branches only read, to measure the cost of copying the properties compared
+ * to sharing them (copy-on-write) with the shareUnmodified option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MulticastBenchmark extends RouteBenchmarkSupport {
+
+    @Param({ "2", "10" })
+    int branches;
+
+    @Param({ "false", "true" })
+    boolean parallel;
+
+    @Param({ "false", "true" })
+    boolean shareUnmodified;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                String[] uris = new String[branches];
+                for (int i = 0; i < branches; i++) {
+                    uris[i] = "direct:branch" + i;
+                    from(uris[i])
+                            .setHeader("branch").constant(i);
+                }
+
+                MulticastDefinition multicast = from("direct:start")
+                        .process(e -> {
+                            for (int i = 0; i < 10; i++) {
+                                e.setProperty("property" + i, i);
+                            }
+                        })
+                        .multicast().parallelProcessing(parallel);
+                if (shareUnmodified) {
+                    multicast.shareUnmodified();
+                }
+                multicast.to(uris).end();
+            }
+        };
+    }
+
+    @Benchmark
+    public Object multicast() {
+        return template.requestBodyAndHeader("direct:start", "Hello World", "foo", "bar");
+    }
+
+}
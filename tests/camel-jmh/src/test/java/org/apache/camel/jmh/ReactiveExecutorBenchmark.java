@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.impl.engine.DefaultReactiveExecutor;
+import org.apache.camel.support.service.ServiceHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures scheduling of tasks (continuations) on the {@link DefaultReactiveExecutor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveExecutorBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int tasks;
+
+    @Param({ "false", "true" })
+    boolean statistics;
+
+    private DefaultReactiveExecutor executor;
+
+    @Setup
+    public void setup() {
+        executor = new DefaultReactiveExecutor();
+        executor.setStatisticsEnabled(statistics);
+        ServiceHelper.startService(executor);
+    }
+
+    @TearDown
+    public void teardown() {
+        ServiceHelper.stopAndShutdownService(executor);
+    }
+
+    @Benchmark
+    public void schedule(Blackhole bh) {
+        executor.scheduleMain(new Continuation(executor, tasks, bh));
+    }
+
+    @Benchmark
+    public void scheduleSync(Blackhole bh) {
+        executor.scheduleSync(new Continuation(executor, tasks, bh));
+    }
+
+    /**
+     * A task that schedules the next task as its continuation, as async processors do when they complete.
+     */
+    private static final class Continuation implements Runnable {
+
+        private final DefaultReactiveExecutor executor;
+        private final int remaining;
+        private final Blackhole bh;
+
+        Continuation(DefaultReactiveExecutor executor, int remaining, Blackhole bh) {
+            this.executor = executor;
+            this.remaining = remaining;
+            this.bh = bh;
+        }
+
+        @Override
+        public void run() {
+            bh.consume(remaining);
+            if (remaining > 1) {
+                executor.schedule(new Continuation(executor, remaining - 1, bh));
+            }
+        }
+    }
+
+}
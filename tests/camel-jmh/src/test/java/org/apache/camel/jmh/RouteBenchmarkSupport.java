@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for benchmarks that send messages through routes using a {@link ProducerTemplate}.
+ */
+public abstract class RouteBenchmarkSupport {
+
+    protected CamelContext context;
+    protected ProducerTemplate template;
+
+    @Setup
+    public void setupCamel() throws Exception {
+        context = new DefaultCamelContext();
+        configureContext(context);
+        context.addRoutes(createRouteBuilder());
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardownCamel() {
+        if (context != null) {
+            context.stop();
+        }
+    }
+
+    /**
+     * Allows to configure the {@link CamelContext} before the routes are added and the context is started.
+     */
+    protected void configureContext(CamelContext context) throws Exception {
+        // noop
+    }
+
+    protected abstract RouteBuilder createRouteBuilder();
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ProducerCache;
+import org.apache.camel.support.cache.DefaultProducerCache;
+import org.apache.camel.support.service.ServiceHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sending to endpoints via {@link org.apache.camel.processor.SendProcessor} (static endpoints) and via the
+ * {@link DefaultProducerCache} (dynamic endpoints).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SendProcessorBenchmark extends RouteBenchmarkSupport {
+
+    @Param({ "10", "1000" })
+    int cacheSize;
+
+    private ProducerCache producerCache;
+    private Endpoint endpoint;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:static")
+                        .to("direct:target");
+
+                from("direct:dynamic")
+                        .toD("direct:${header.target}", cacheSize);
+
+                from("direct:target")
+                        .setBody().constant("Bye World");
+            }
+        };
+    }
+
+    @Override
+    public void setupCamel() throws Exception {
+        super.setupCamel();
+        producerCache = new DefaultProducerCache(this, context, cacheSize);
+        ServiceHelper.startService(producerCache);
+        endpoint = context.getEndpoint("direct:target");
+    }
+
+    @Override
+    public void teardownCamel() {
+        ServiceHelper.stopService(producerCache);
+        super.teardownCamel();
+    }
+
+    @Benchmark
+    public Object staticTo() {
+        return template.requestBody("direct:static", "Hello World");
+    }
+
+    @Benchmark
+    public Object dynamicToD() {
+        return template.requestBodyAndHeader("direct:dynamic", "Hello World", "target", "target");
+    }
+
+    @Benchmark
+    public AsyncProducer producerCacheAcquireRelease() {
+        AsyncProducer producer = producerCache.acquireProducer(endpoint);
+        producerCache.releaseProducer(endpoint, producer);
+        return producer;
+    }
+
+}
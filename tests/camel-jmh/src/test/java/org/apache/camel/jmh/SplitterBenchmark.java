@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link org.apache.camel.processor.Splitter} in its different modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SplitterBenchmark extends RouteBenchmarkSupport {
+
+    @Param({ "10", "1000" })
+    int size;
+
+    @Param({ "false", "true" })
+    boolean streaming;
+
+    private List<String> body;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        body = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            body.add("Line " + i);
+        }
+
+        final AggregationStrategy strategy = AggregationStrategies.groupedBody();
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:split")
+                        .split(body()).streaming(streaming)
+                            .setHeader("part").simple("${exchangeProperty.CamelSplitIndex}")
+                        .end();
+
+                from("direct:aggregate")
+                        .split(body(), strategy).streaming(streaming)
+                            .setHeader("part").simple("${exchangeProperty.CamelSplitIndex}")
+                        .end();
+
+                from("direct:parallel")
+                        .split(body(), strategy).streaming(streaming).parallelProcessing()
+                            .setHeader("part").simple("${exchangeProperty.CamelSplitIndex}")
+                        .end();
+            }
+        };
+    }
+
+    @Benchmark
+    public Object split() {
+        return template.requestBody("direct:split", body);
+    }
+
+    @Benchmark
+    public Object splitAggregate() {
+        return template.requestBody("direct:aggregate", body);
+    }
+
+    @Benchmark
+    public Object splitParallelAggregate() {
+        return template.requestBody("direct:parallel", body);
+    }
+
+}